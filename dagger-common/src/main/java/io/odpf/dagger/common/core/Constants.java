@@ -9,6 +9,13 @@ public class Constants {
     public static final String SCHEMA_REGISTRY_STENCIL_REFRESH_CACHE_DEFAULT = "false";
     public static final String SCHEMA_REGISTRY_STENCIL_TIMEOUT_MS_KEY = "SCHEMA_REGISTRY_STENCIL_TIMEOUT_MS";
     public static final String SCHEMA_REGISTRY_STENCIL_TIMEOUT_MS_DEFAULT = "60000";
+    public static final String SCHEMA_REGISTRY_STENCIL_SNAPSHOT_ENABLE_KEY = "SCHEMA_REGISTRY_STENCIL_SNAPSHOT_ENABLE";
+    public static final boolean SCHEMA_REGISTRY_STENCIL_SNAPSHOT_ENABLE_DEFAULT = false;
+    public static final String SCHEMA_REGISTRY_STENCIL_SNAPSHOT_PATH_KEY = "SCHEMA_REGISTRY_STENCIL_SNAPSHOT_PATH";
+    public static final String SCHEMA_REGISTRY_STENCIL_SNAPSHOT_PATH_DEFAULT = "";
+    public static final String SCHEMA_REGISTRY_STENCIL_SNAPSHOT_CLASSES_KEY = "SCHEMA_REGISTRY_STENCIL_SNAPSHOT_CLASSES";
+    public static final String SCHEMA_REGISTRY_STENCIL_SNAPSHOT_CLASSES_DEFAULT = "";
+    public static final String SCHEMA_REGISTRY_STENCIL_SNAPSHOT_KEY = "SCHEMA_REGISTRY_STENCIL_SNAPSHOT";
 
     public static final String UDF_TELEMETRY_GROUP_KEY = "udf";
     public static final String GAUGE_ASPECT_NAME = "value";
@@ -17,4 +24,23 @@ public class Constants {
     public static final String STREAM_INPUT_SCHEMA_PROTO_CLASS = "INPUT_SCHEMA_PROTO_CLASS";
     public static final String STREAM_INPUT_SCHEMA_TABLE = "INPUT_SCHEMA_TABLE";
     public static final String INPUT_STREAMS = "STREAMS";
+
+    public static final String FLINK_TABLE_PLANNER_KEY = "FLINK_TABLE_PLANNER";
+    public static final String FLINK_TABLE_PLANNER_DEFAULT = "OLD";
+    public static final String FLINK_TABLE_MINI_BATCH_ENABLE_KEY = "FLINK_TABLE_MINI_BATCH_ENABLE";
+    public static final boolean FLINK_TABLE_MINI_BATCH_ENABLE_DEFAULT = false;
+    public static final String FLINK_TABLE_MINI_BATCH_LATENCY_MS_KEY = "FLINK_TABLE_MINI_BATCH_LATENCY_MS";
+    public static final long FLINK_TABLE_MINI_BATCH_LATENCY_MS_DEFAULT = 1000;
+    public static final String FLINK_TABLE_MINI_BATCH_SIZE_KEY = "FLINK_TABLE_MINI_BATCH_SIZE";
+    public static final long FLINK_TABLE_MINI_BATCH_SIZE_DEFAULT = 5000;
+    public static final String FLINK_TABLE_AGG_PHASE_STRATEGY_KEY = "FLINK_TABLE_AGG_PHASE_STRATEGY";
+    public static final String FLINK_TABLE_AGG_PHASE_STRATEGY_DEFAULT = "AUTO";
+    public static final String FLINK_TABLE_DISTINCT_AGG_SPLIT_ENABLE_KEY = "FLINK_TABLE_DISTINCT_AGG_SPLIT_ENABLE";
+    public static final boolean FLINK_TABLE_DISTINCT_AGG_SPLIT_ENABLE_DEFAULT = false;
+
+    public static final String TABLE_EXEC_MINI_BATCH_ENABLED = "table.exec.mini-batch.enabled";
+    public static final String TABLE_EXEC_MINI_BATCH_ALLOW_LATENCY = "table.exec.mini-batch.allow-latency";
+    public static final String TABLE_EXEC_MINI_BATCH_SIZE = "table.exec.mini-batch.size";
+    public static final String TABLE_OPTIMIZER_AGG_PHASE_STRATEGY = "table.optimizer.agg-phase-strategy";
+    public static final String TABLE_OPTIMIZER_DISTINCT_AGG_SPLIT_ENABLED = "table.optimizer.distinct-agg.split.enabled";
 }
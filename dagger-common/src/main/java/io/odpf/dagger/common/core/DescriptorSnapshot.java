@@ -0,0 +1,188 @@
+package io.odpf.dagger.common.core;
+
+import com.google.protobuf.DescriptorProtos;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.odpf.dagger.common.exceptions.DescriptorNotFoundException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A snapshot of proto descriptors by class name, holding their files and the files they import as a
+ * {@link DescriptorProtos.FileDescriptorSet}. It is resolved once when the job is submitted, so descriptors can be
+ * rebuilt from it on the task managers without reaching the schema registry.
+ */
+public class DescriptorSnapshot implements Serializable {
+    private final HashMap<String, String> messageNames;
+    private final byte[] fileDescriptorSet;
+    private transient volatile Map<String, Descriptors.Descriptor> descriptors;
+
+    private DescriptorSnapshot(HashMap<String, String> messageNames, byte[] fileDescriptorSet) {
+        this.messageNames = messageNames;
+        this.fileDescriptorSet = fileDescriptorSet;
+    }
+
+    /**
+     * Create a descriptor snapshot.
+     *
+     * @param descriptors the descriptors by class name
+     * @return the descriptor snapshot
+     */
+    public static DescriptorSnapshot of(Map<String, Descriptors.Descriptor> descriptors) {
+        HashMap<String, String> messageNames = new HashMap<>();
+        Map<String, DescriptorProtos.FileDescriptorProto> files = new LinkedHashMap<>();
+        descriptors.forEach((className, descriptor) -> {
+            messageNames.put(className, descriptor.getFullName());
+            addFile(descriptor.getFile(), files);
+        });
+        byte[] fileDescriptorSet = DescriptorProtos.FileDescriptorSet.newBuilder().addAllFile(files.values()).build().toByteArray();
+        return new DescriptorSnapshot(messageNames, fileDescriptorSet);
+    }
+
+    /**
+     * Decode a descriptor snapshot encoded with {@link #encode()}.
+     *
+     * @param encodedSnapshot the encoded snapshot
+     * @return the descriptor snapshot
+     */
+    public static DescriptorSnapshot decode(String encodedSnapshot) {
+        return fromBytes(Base64.getDecoder().decode(encodedSnapshot));
+    }
+
+    /**
+     * Read a descriptor snapshot serialized with {@link #toBytes()}.
+     *
+     * @param bytes the serialized snapshot
+     * @return the descriptor snapshot
+     */
+    public static DescriptorSnapshot fromBytes(byte[] bytes) {
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            int messageCount = input.readInt();
+            HashMap<String, String> messageNames = new HashMap<>();
+            for (int i = 0; i < messageCount; i++) {
+                messageNames.put(input.readUTF(), input.readUTF());
+            }
+            byte[] fileDescriptorSet = new byte[input.readInt()];
+            input.readFully(fileDescriptorSet);
+            return new DescriptorSnapshot(messageNames, fileDescriptorSet);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Serialize the snapshot.
+     *
+     * @return the serialized snapshot
+     */
+    public byte[] toBytes() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeInt(messageNames.size());
+            for (Map.Entry<String, String> messageName : messageNames.entrySet()) {
+                output.writeUTF(messageName.getKey());
+                output.writeUTF(messageName.getValue());
+            }
+            output.writeInt(fileDescriptorSet.length);
+            output.write(fileDescriptorSet);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Encode the snapshot into a string that can be set in the configuration.
+     *
+     * @return the encoded snapshot
+     */
+    public String encode() {
+        return Base64.getEncoder().encodeToString(toBytes());
+    }
+
+    /**
+     * Gets the descriptors of the snapshot by class name, building them once on first use. Later calls read
+     * them without locking, as they are made for every record.
+     *
+     * @return the descriptors
+     */
+    public Map<String, Descriptors.Descriptor> getDescriptors() {
+        Map<String, Descriptors.Descriptor> builtDescriptors = descriptors;
+        if (builtDescriptors == null) {
+            synchronized (this) {
+                builtDescriptors = descriptors;
+                if (builtDescriptors == null) {
+                    builtDescriptors = Collections.unmodifiableMap(buildDescriptors());
+                    descriptors = builtDescriptors;
+                }
+            }
+        }
+        return builtDescriptors;
+    }
+
+    private Map<String, Descriptors.Descriptor> buildDescriptors() {
+        Map<String, DescriptorProtos.FileDescriptorProto> fileProtos = new HashMap<>();
+        try {
+            DescriptorProtos.FileDescriptorSet.parseFrom(fileDescriptorSet).getFileList()
+                    .forEach(fileProto -> fileProtos.put(fileProto.getName(), fileProto));
+        } catch (InvalidProtocolBufferException e) {
+            throw new DescriptorNotFoundException(e);
+        }
+        Map<String, Descriptors.FileDescriptor> files = new HashMap<>();
+        Map<String, Descriptors.Descriptor> messages = new HashMap<>();
+        for (String fileName : fileProtos.keySet()) {
+            Descriptors.FileDescriptor file = buildFile(fileName, fileProtos, files);
+            file.getMessageTypes().forEach(message -> addMessage(message, messages));
+        }
+        Map<String, Descriptors.Descriptor> descriptorsByClassName = new HashMap<>();
+        messageNames.forEach((className, messageName) -> descriptorsByClassName.put(className, messages.get(messageName)));
+        return descriptorsByClassName;
+    }
+
+    private static Descriptors.FileDescriptor buildFile(String fileName, Map<String, DescriptorProtos.FileDescriptorProto> fileProtos,
+                                                        Map<String, Descriptors.FileDescriptor> files) {
+        Descriptors.FileDescriptor file = files.get(fileName);
+        if (file != null) {
+            return file;
+        }
+        DescriptorProtos.FileDescriptorProto fileProto = fileProtos.get(fileName);
+        if (fileProto == null) {
+            throw new DescriptorNotFoundException("Proto file " + fileName + " not found in descriptor snapshot");
+        }
+        Descriptors.FileDescriptor[] dependencies = new Descriptors.FileDescriptor[fileProto.getDependencyCount()];
+        for (int i = 0; i < dependencies.length; i++) {
+            dependencies[i] = buildFile(fileProto.getDependency(i), fileProtos, files);
+        }
+        try {
+            file = Descriptors.FileDescriptor.buildFrom(fileProto, dependencies);
+        } catch (Descriptors.DescriptorValidationException e) {
+            throw new DescriptorNotFoundException(e);
+        }
+        files.put(fileName, file);
+        return file;
+    }
+
+    private static void addFile(Descriptors.FileDescriptor file, Map<String, DescriptorProtos.FileDescriptorProto> files) {
+        if (files.containsKey(file.getName())) {
+            return;
+        }
+        file.getDependencies().forEach(dependency -> addFile(dependency, files));
+        files.put(file.getName(), file.toProto());
+    }
+
+    private static void addMessage(Descriptors.Descriptor message, Map<String, Descriptors.Descriptor> messages) {
+        messages.put(message.getFullName(), message);
+        message.getNestedTypes().forEach(nested -> addMessage(nested, messages));
+    }
+}
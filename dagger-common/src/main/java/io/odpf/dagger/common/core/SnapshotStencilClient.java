@@ -0,0 +1,49 @@
+package io.odpf.dagger.common.core;
+
+import com.gojek.de.stencil.client.ClassLoadStencilClient;
+import com.gojek.de.stencil.client.StencilClient;
+import com.google.protobuf.Descriptors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.function.Supplier;
+
+/**
+ * The Stencil client serving descriptors from a {@link DescriptorSnapshot}.
+ * Classes missing from the snapshot are looked up on a fallback client, created only on the first miss.
+ */
+public class SnapshotStencilClient extends ClassLoadStencilClient {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SnapshotStencilClient.class.getName());
+
+    private final DescriptorSnapshot descriptorSnapshot;
+    private final transient Supplier<StencilClient> fallbackClientSupplier;
+    private transient StencilClient fallbackClient;
+
+    /**
+     * Instantiates a new Snapshot stencil client.
+     *
+     * @param descriptorSnapshot     the descriptor snapshot
+     * @param fallbackClientSupplier the supplier of the client for classes missing from the snapshot
+     */
+    public SnapshotStencilClient(DescriptorSnapshot descriptorSnapshot, Supplier<StencilClient> fallbackClientSupplier) {
+        this.descriptorSnapshot = descriptorSnapshot;
+        this.fallbackClientSupplier = fallbackClientSupplier;
+    }
+
+    @Override
+    public Descriptors.Descriptor get(String className) {
+        Descriptors.Descriptor descriptor = descriptorSnapshot.getDescriptors().get(className);
+        if (descriptor != null) {
+            return descriptor;
+        }
+        return getFallbackClient(className).get(className);
+    }
+
+    private synchronized StencilClient getFallbackClient(String className) {
+        if (fallbackClient == null) {
+            LOGGER.warn("Descriptor of " + className + " not found in descriptor snapshot, falling back to stencil");
+            fallbackClient = fallbackClientSupplier.get();
+        }
+        return fallbackClient;
+    }
+}
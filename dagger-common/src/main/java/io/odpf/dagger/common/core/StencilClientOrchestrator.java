@@ -4,13 +4,23 @@ import org.apache.flink.configuration.Configuration;
 
 import com.gojek.de.stencil.StencilClientFactory;
 import com.gojek.de.stencil.client.StencilClient;
+import com.google.protobuf.Descriptors;
+import io.odpf.dagger.common.exceptions.DescriptorNotFoundException;
 
+import java.io.File;
+import java.io.IOException;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static io.odpf.dagger.common.core.Constants.*;
@@ -23,6 +33,7 @@ public class StencilClientOrchestrator implements Serializable {
     private Configuration configuration;
     private HashMap<String, String> stencilConfigMap;
     private HashSet<String> stencilUrls;
+    private DescriptorSnapshot descriptorSnapshot;
 
     /**
      * Instantiates a new Stencil client orchestrator.
@@ -33,6 +44,7 @@ public class StencilClientOrchestrator implements Serializable {
         this.configuration = configuration;
         this.stencilConfigMap = createStencilConfigMap(configuration);
         this.stencilUrls = getStencilUrls();
+        this.descriptorSnapshot = loadDescriptorSnapshot(configuration);
     }
 
     private HashMap<String, String> createStencilConfigMap(Configuration config) {
@@ -52,7 +64,7 @@ public class StencilClientOrchestrator implements Serializable {
             return stencilClient;
         }
 
-        stencilClient = initStencilClient(new ArrayList<>(stencilUrls));
+        stencilClient = createStencilClient(new ArrayList<>(stencilUrls));
         return stencilClient;
     }
 
@@ -68,10 +80,49 @@ public class StencilClientOrchestrator implements Serializable {
         }
 
         stencilUrls.addAll(additionalStencilUrls);
-        stencilClient = initStencilClient(new ArrayList<>(stencilUrls));
+        stencilClient = createStencilClient(new ArrayList<>(stencilUrls));
         return stencilClient;
     }
 
+    /**
+     * Resolve the descriptors of the given classes into a snapshot, to be shipped with the job.
+     * Descriptors are always resolved from stencil, never from a previous snapshot.
+     *
+     * @param classNames the proto class names
+     * @return the descriptor snapshot
+     */
+    public DescriptorSnapshot createDescriptorSnapshot(List<String> classNames) {
+        return createDescriptorSnapshot(classNames, new ArrayList<>());
+    }
+
+    /**
+     * Resolve the descriptors of the given classes into a snapshot, also looking them up on additional stencil urls.
+     *
+     * @param classNames            the proto class names
+     * @param additionalStencilUrls the additional stencil urls, such as those of gRPC external sources
+     * @return the descriptor snapshot
+     */
+    public DescriptorSnapshot createDescriptorSnapshot(List<String> classNames, List<String> additionalStencilUrls) {
+        Set<String> urls = new LinkedHashSet<>(stencilUrls);
+        urls.addAll(additionalStencilUrls);
+        StencilClient client = initStencilClient(new ArrayList<>(urls));
+        Map<String, Descriptors.Descriptor> descriptors = new LinkedHashMap<>();
+        for (String className : classNames) {
+            Descriptors.Descriptor descriptor = client.get(className);
+            if (descriptor == null) {
+                throw new DescriptorNotFoundException("Descriptor of " + className + " not found for descriptor snapshot");
+            }
+            descriptors.put(className, descriptor);
+        }
+        return DescriptorSnapshot.of(descriptors);
+    }
+
+    private StencilClient createStencilClient(List<String> urls) {
+        return descriptorSnapshot == null
+                ? initStencilClient(urls)
+                : new SnapshotStencilClient(descriptorSnapshot, () -> initStencilClient(urls));
+    }
+
     private StencilClient initStencilClient(List<String> urls) {
         boolean enableRemoteStencil = configuration.getBoolean(SCHEMA_REGISTRY_STENCIL_ENABLE_KEY, SCHEMA_REGISTRY_STENCIL_ENABLE_DEFAULT);
         return enableRemoteStencil
@@ -79,6 +130,25 @@ public class StencilClientOrchestrator implements Serializable {
                 : StencilClientFactory.getClient();
     }
 
+    private DescriptorSnapshot loadDescriptorSnapshot(Configuration config) {
+        String encodedSnapshot = config.getString(SCHEMA_REGISTRY_STENCIL_SNAPSHOT_KEY, "");
+        if (encodedSnapshot != null && !encodedSnapshot.isEmpty()) {
+            return DescriptorSnapshot.decode(encodedSnapshot);
+        }
+        if (!config.getBoolean(SCHEMA_REGISTRY_STENCIL_SNAPSHOT_ENABLE_KEY, SCHEMA_REGISTRY_STENCIL_SNAPSHOT_ENABLE_DEFAULT)) {
+            return null;
+        }
+        String snapshotPath = config.getString(SCHEMA_REGISTRY_STENCIL_SNAPSHOT_PATH_KEY, SCHEMA_REGISTRY_STENCIL_SNAPSHOT_PATH_DEFAULT);
+        if (snapshotPath == null || snapshotPath.isEmpty() || !new File(snapshotPath).exists()) {
+            return null;
+        }
+        try {
+            return DescriptorSnapshot.fromBytes(Files.readAllBytes(new File(snapshotPath).toPath()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     private HashSet<String> getStencilUrls() {
         stencilUrls = Arrays.stream(configuration.getString(SCHEMA_REGISTRY_STENCIL_URLS_KEY, SCHEMA_REGISTRY_STENCIL_URLS_DEFAULT).split(","))
                 .map(String::trim)
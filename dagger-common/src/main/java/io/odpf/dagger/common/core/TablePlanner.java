@@ -0,0 +1,110 @@
+package io.odpf.dagger.common.core;
+
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
+import org.apache.flink.table.api.EnvironmentSettings;
+import org.apache.flink.table.api.TableConfig;
+import org.apache.flink.table.api.java.StreamTableEnvironment;
+
+import static io.odpf.dagger.common.core.Constants.*;
+
+/**
+ * The planners the SQL of a dagger can run on.
+ */
+public enum TablePlanner {
+    /**
+     * The legacy Flink planner.
+     */
+    OLD {
+        @Override
+        EnvironmentSettings.Builder select(EnvironmentSettings.Builder builder) {
+            return builder.useOldPlanner();
+        }
+
+        @Override
+        public void configure(TableConfig tableConfig, Configuration configuration) {
+        }
+    },
+    /**
+     * The Blink planner, with binary rows, code generated operators and the mini-batch and local-global
+     * aggregation optimisations.
+     */
+    BLINK {
+        @Override
+        EnvironmentSettings.Builder select(EnvironmentSettings.Builder builder) {
+            return builder.useBlinkPlanner();
+        }
+
+        @Override
+        public void configure(TableConfig tableConfig, Configuration configuration) {
+            Configuration tableConfiguration = tableConfig.getConfiguration();
+            if (configuration.getBoolean(FLINK_TABLE_MINI_BATCH_ENABLE_KEY, FLINK_TABLE_MINI_BATCH_ENABLE_DEFAULT)) {
+                tableConfiguration.setString(TABLE_EXEC_MINI_BATCH_ENABLED, "true");
+                tableConfiguration.setString(TABLE_EXEC_MINI_BATCH_ALLOW_LATENCY,
+                        configuration.getLong(FLINK_TABLE_MINI_BATCH_LATENCY_MS_KEY, FLINK_TABLE_MINI_BATCH_LATENCY_MS_DEFAULT) + " ms");
+                tableConfiguration.setLong(TABLE_EXEC_MINI_BATCH_SIZE,
+                        configuration.getLong(FLINK_TABLE_MINI_BATCH_SIZE_KEY, FLINK_TABLE_MINI_BATCH_SIZE_DEFAULT));
+            }
+            tableConfiguration.setString(TABLE_OPTIMIZER_AGG_PHASE_STRATEGY,
+                    configuration.getString(FLINK_TABLE_AGG_PHASE_STRATEGY_KEY, FLINK_TABLE_AGG_PHASE_STRATEGY_DEFAULT).toUpperCase());
+            tableConfiguration.setBoolean(TABLE_OPTIMIZER_DISTINCT_AGG_SPLIT_ENABLED,
+                    configuration.getBoolean(FLINK_TABLE_DISTINCT_AGG_SPLIT_ENABLE_KEY, FLINK_TABLE_DISTINCT_AGG_SPLIT_ENABLE_DEFAULT));
+        }
+    };
+
+    /**
+     * Select the planner on the environment settings.
+     *
+     * @param builder the environment settings builder
+     * @return the environment settings builder
+     */
+    abstract EnvironmentSettings.Builder select(EnvironmentSettings.Builder builder);
+
+    /**
+     * Apply the planner specific table configs, the old planner has none.
+     *
+     * @param tableConfig   the table config
+     * @param configuration the dagger configuration
+     */
+    public abstract void configure(TableConfig tableConfig, Configuration configuration);
+
+    /**
+     * Gets the streaming environment settings of the planner.
+     *
+     * @return the environment settings
+     */
+    public EnvironmentSettings getEnvironmentSettings() {
+        return select(EnvironmentSettings.newInstance()).inStreamingMode().build();
+    }
+
+    /**
+     * Create a configured table environment on this planner.
+     *
+     * @param executionEnvironment the execution environment
+     * @param configuration        the dagger configuration
+     * @return the stream table environment
+     */
+    public StreamTableEnvironment createTableEnvironment(StreamExecutionEnvironment executionEnvironment, Configuration configuration) {
+        StreamTableEnvironment tableEnvironment = StreamTableEnvironment.create(executionEnvironment, getEnvironmentSettings());
+        configure(tableEnvironment.getConfig(), configuration);
+        return tableEnvironment;
+    }
+
+    /**
+     * Get the configured planner, unset names fall back to the old planner.
+     *
+     * @param configuration the dagger configuration
+     * @return the table planner
+     */
+    public static TablePlanner from(Configuration configuration) {
+        String name = configuration.getString(FLINK_TABLE_PLANNER_KEY, FLINK_TABLE_PLANNER_DEFAULT);
+        if (name == null || name.isEmpty()) {
+            return OLD;
+        }
+        try {
+            return valueOf(name.toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException(String.format("'%s' is not a valid table planner, use either %s or %s", name, OLD, BLINK));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package io.odpf.dagger.common.core;
+
+import org.apache.flink.api.common.typeinfo.SqlTimeTypeInfo;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
+import org.apache.flink.table.api.TableSchema;
+
+import java.sql.Timestamp;
+
+/**
+ * The row type of the data stream a table is converted to.
+ * Converting to this type, rather than to the Row class, keeps the field types of the schema, so rows are
+ * serialized field by field between operators instead of falling back to Kryo.
+ */
+public class TableRowType {
+
+    /**
+     * Gets the row type of a table schema, with time attributes materialized as timestamps.
+     *
+     * @param tableSchema the table schema
+     * @return the row type info
+     */
+    public static RowTypeInfo from(TableSchema tableSchema) {
+        TypeInformation<?>[] fieldTypes = tableSchema.getFieldTypes();
+        TypeInformation<?>[] rowFieldTypes = new TypeInformation<?>[fieldTypes.length];
+        for (int index = 0; index < fieldTypes.length; index++) {
+            rowFieldTypes[index] = isTimestamp(fieldTypes[index]) ? Types.SQL_TIMESTAMP : fieldTypes[index];
+        }
+        return new RowTypeInfo(rowFieldTypes, tableSchema.getFieldNames());
+    }
+
+    private static boolean isTimestamp(TypeInformation<?> fieldType) {
+        return fieldType instanceof SqlTimeTypeInfo && Timestamp.class.equals(fieldType.getTypeClass());
+    }
+}
@@ -0,0 +1,69 @@
+package io.odpf.dagger.common.metrics.managers;
+
+import io.odpf.dagger.common.metrics.aspects.Aspects;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Ordinal indexed lookup for metrics registered against enum aspects.
+ * Aspects are almost always enum constants, so the hot path resolves a metric with an array read
+ * and an identity check, falling back to the backing map for anything else.
+ *
+ * @param <T> the metric type
+ */
+class AspectRegistry<T> {
+    private final Map<Aspects, T> fallback;
+    private Aspects[] aspects = new Aspects[0];
+    private Object[] metrics = new Object[0];
+
+    /**
+     * Instantiates a new Aspect registry.
+     *
+     * @param fallback the map used for non enum aspects and as the source of truth
+     */
+    AspectRegistry(Map<Aspects, T> fallback) {
+        this.fallback = fallback;
+    }
+
+    /**
+     * Put metric for aspect.
+     *
+     * @param aspect the aspect
+     * @param metric the metric
+     */
+    void put(Aspects aspect, T metric) {
+        fallback.put(aspect, metric);
+        int index = indexOf(aspect);
+        if (index < 0) {
+            return;
+        }
+        if (index >= aspects.length) {
+            aspects = Arrays.copyOf(aspects, index + 1);
+            metrics = Arrays.copyOf(metrics, index + 1);
+        }
+        if (aspects[index] == null || aspects[index] == aspect) {
+            aspects[index] = aspect;
+            metrics[index] = metric;
+        }
+    }
+
+    /**
+     * Get metric for aspect.
+     *
+     * @param aspect the aspect
+     * @return the metric
+     */
+    @SuppressWarnings("unchecked")
+    T get(Aspects aspect) {
+        int index = indexOf(aspect);
+        if (index >= 0 && index < aspects.length && aspects[index] == aspect) {
+            return (T) metrics[index];
+        }
+        return fallback.get(aspect);
+    }
+
+    private static int indexOf(Aspects aspect) {
+        return aspect instanceof Enum ? ((Enum<?>) aspect).ordinal() : -1;
+    }
+}
@@ -6,14 +6,13 @@ import org.apache.flink.metrics.Counter;
 import org.apache.flink.metrics.MetricGroup;
 
 import java.util.HashMap;
-import java.util.Map;
 
 /**
  * The Counter stats manager.
  */
 public class CounterStatsManager {
     private MetricGroup metricGroup;
-    private Map<Aspects, Counter> counters = new HashMap<>();
+    private AspectRegistry<Counter> counters = new AspectRegistry<>(new HashMap<>());
 
     /**
      * Instantiates a new Counter stats manager.
@@ -63,7 +62,7 @@ public class CounterStatsManager {
      */
     public void register(Aspects aspect, String groupName) {
         if (aspect.getAspectType() == AspectType.Counter) {
-            Counter counter = metricGroup.addGroup(groupName).counter(aspect.getValue());
+            Counter counter = metricGroup.addGroup(groupName).counter(aspect.getValue(), new StripedCounter());
             counters.put(aspect, counter);
         }
     }
@@ -77,7 +76,7 @@ public class CounterStatsManager {
      */
     public void register(Aspects aspect, String groupKey, String groupValue) {
         if (aspect.getAspectType() == AspectType.Counter) {
-            Counter counter = metricGroup.addGroup(groupKey, groupValue).counter(aspect.getValue());
+            Counter counter = metricGroup.addGroup(groupKey, groupValue).counter(aspect.getValue(), new StripedCounter());
             counters.put(aspect, counter);
         }
     }
@@ -81,4 +81,19 @@ public class GaugeStatsManager {
             metricGroup.addGroup(groupKey, groupValue).gauge(gaugeAspectName, (Gauge<Double>) () -> gaugeValue);
         }
     }
+
+    /**
+     * Register a gauge aspect whose value is read on every report.
+     *
+     * @param <T>             the type of the gauge value
+     * @param groupKey        the group key
+     * @param groupValue      the group value
+     * @param gaugeAspectName the gauge aspect name
+     * @param gauge           the gauge
+     */
+    public <T> void registerGauge(String groupKey, String groupValue, String gaugeAspectName, Gauge<T> gauge) {
+        if (enabled) {
+            metricGroup.addGroup(groupKey, groupValue).gauge(gaugeAspectName, gauge);
+        }
+    }
 }
@@ -6,9 +6,9 @@ import org.apache.flink.metrics.Histogram;
 import org.apache.flink.metrics.Meter;
 import org.apache.flink.metrics.MetricGroup;
 
-import com.codahale.metrics.SlidingTimeWindowReservoir;
 import io.odpf.dagger.common.metrics.aspects.AspectType;
 import io.odpf.dagger.common.metrics.aspects.Aspects;
+import io.odpf.dagger.common.metrics.reservoirs.HdrHistogramReservoir;
 
 import java.util.HashMap;
 import java.util.concurrent.TimeUnit;
@@ -20,9 +20,9 @@ import static io.odpf.dagger.common.core.Constants.SLIDING_TIME_WINDOW;
  * The Meter stats manager.
  */
 public class MeterStatsManager {
-    private final HashMap<Aspects, Histogram> histogramMap;
+    private final AspectRegistry<Histogram> histograms;
+    private final AspectRegistry<Meter> meters;
     private Boolean enabled;
-    private HashMap<Aspects, Meter> meterMap;
     private MetricGroup metricGroup;
 
     /**
@@ -34,8 +34,8 @@ public class MeterStatsManager {
     public MeterStatsManager(MetricGroup metricGroup, Boolean enabled) {
         this.metricGroup = metricGroup;
         this.enabled = enabled;
-        histogramMap = new HashMap<>();
-        meterMap = new HashMap<>();
+        histograms = new AspectRegistry<>(new HashMap<>());
+        meters = new AspectRegistry<>(new HashMap<>());
     }
 
     /**
@@ -49,8 +49,8 @@ public class MeterStatsManager {
     public MeterStatsManager(MetricGroup metricGroup, Boolean enabled, HashMap histogramMap, HashMap meterMap) {
         this.metricGroup = metricGroup;
         this.enabled = enabled;
-        this.histogramMap = histogramMap;
-        this.meterMap = meterMap;
+        this.histograms = new AspectRegistry<Histogram>(histogramMap);
+        this.meters = new AspectRegistry<Meter>(meterMap);
     }
 
     /**
@@ -66,7 +66,7 @@ public class MeterStatsManager {
     }
 
     private com.codahale.metrics.Histogram getHistogram() {
-        return new com.codahale.metrics.Histogram(new SlidingTimeWindowReservoir(SLIDING_TIME_WINDOW, TimeUnit.SECONDS));
+        return new com.codahale.metrics.Histogram(new HdrHistogramReservoir(SLIDING_TIME_WINDOW, TimeUnit.SECONDS));
     }
 
     /**
@@ -77,7 +77,7 @@ public class MeterStatsManager {
      */
     public void updateHistogram(Aspects aspects, long value) {
         if (enabled) {
-            histogramMap.get(aspects).update(value);
+            histograms.get(aspects).update(value);
         }
     }
 
@@ -88,7 +88,7 @@ public class MeterStatsManager {
      */
     public void markEvent(Aspects aspect) {
         if (enabled) {
-            meterMap.get(aspect).markEvent();
+            meters.get(aspect).markEvent();
         }
     }
 
@@ -108,10 +108,10 @@ public class MeterStatsManager {
     private void register(MetricGroup group, Aspects[] aspects) {
         for (Aspects aspect : aspects) {
             if (AspectType.Histogram.equals(aspect.getAspectType())) {
-                histogramMap.put(aspect, group.histogram(aspect.getValue(), new DropwizardHistogramWrapper(getHistogram())));
+                histograms.put(aspect, group.histogram(aspect.getValue(), new DropwizardHistogramWrapper(getHistogram())));
             }
             if (AspectType.Metric.equals(aspect.getAspectType())) {
-                meterMap.put(aspect, group.meter(aspect.getValue(), new DropwizardMeterWrapper(new com.codahale.metrics.Meter())));
+                meters.put(aspect, group.meter(aspect.getValue(), new DropwizardMeterWrapper(new com.codahale.metrics.Meter())));
             }
         }
     }
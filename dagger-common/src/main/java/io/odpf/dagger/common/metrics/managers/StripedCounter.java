@@ -0,0 +1,38 @@
+package io.odpf.dagger.common.metrics.managers;
+
+import org.apache.flink.metrics.Counter;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link Counter} backed by a {@link LongAdder}, safe to increment from async callback threads
+ * without contending on a single cache line.
+ */
+public class StripedCounter implements Counter {
+    private final LongAdder adder = new LongAdder();
+
+    @Override
+    public void inc() {
+        adder.increment();
+    }
+
+    @Override
+    public void inc(long n) {
+        adder.add(n);
+    }
+
+    @Override
+    public void dec() {
+        adder.decrement();
+    }
+
+    @Override
+    public void dec(long n) {
+        adder.add(-n);
+    }
+
+    @Override
+    public long getCount() {
+        return adder.sum();
+    }
+}
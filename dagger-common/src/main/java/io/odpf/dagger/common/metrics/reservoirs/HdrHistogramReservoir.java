@@ -0,0 +1,103 @@
+package io.odpf.dagger.common.metrics.reservoirs;
+
+import com.codahale.metrics.Clock;
+import com.codahale.metrics.Reservoir;
+import com.codahale.metrics.Snapshot;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A sliding time window reservoir backed by HdrHistogram.
+ * Unlike {@link com.codahale.metrics.SlidingTimeWindowReservoir} it does not keep every sample,
+ * samples are recorded into a lock free {@link Recorder} and folded into a fixed ring of
+ * interval histograms, so memory is bounded by the value range rather than the event rate.
+ */
+public class HdrHistogramReservoir implements Reservoir {
+    private static final int NUMBER_OF_SIGNIFICANT_VALUE_DIGITS = 2;
+    private static final int DEFAULT_NUMBER_OF_CHUNKS = 10;
+
+    private final Clock clock;
+    private final Recorder recorder;
+    private final Histogram[] chunks;
+    private final long[] chunkStartTimes;
+    private final long chunkDurationNanos;
+    private Histogram recycledIntervalHistogram;
+
+    /**
+     * Instantiates a new Hdr histogram reservoir.
+     *
+     * @param window     the window
+     * @param windowUnit the window unit
+     */
+    public HdrHistogramReservoir(long window, TimeUnit windowUnit) {
+        this(window, windowUnit, DEFAULT_NUMBER_OF_CHUNKS, Clock.defaultClock());
+    }
+
+    /**
+     * Instantiates a new Hdr histogram reservoir with specified chunks and clock.
+     *
+     * @param window         the window
+     * @param windowUnit     the window unit
+     * @param numberOfChunks the number of chunks the window is split into
+     * @param clock          the clock
+     */
+    public HdrHistogramReservoir(long window, TimeUnit windowUnit, int numberOfChunks, Clock clock) {
+        this.clock = clock;
+        this.recorder = new Recorder(NUMBER_OF_SIGNIFICANT_VALUE_DIGITS);
+        this.chunks = new Histogram[numberOfChunks];
+        this.chunkStartTimes = new long[numberOfChunks];
+        this.chunkDurationNanos = Math.max(1, windowUnit.toNanos(window) / numberOfChunks);
+        long now = clock.getTick();
+        for (int index = 0; index < numberOfChunks; index++) {
+            chunks[index] = new Histogram(NUMBER_OF_SIGNIFICANT_VALUE_DIGITS);
+            chunkStartTimes[index] = Long.MIN_VALUE;
+        }
+        chunkStartTimes[chunkIndex(now)] = chunkStart(now);
+    }
+
+    @Override
+    public int size() {
+        return getSnapshot().size();
+    }
+
+    @Override
+    public void update(long value) {
+        recorder.recordValue(Math.max(0, value));
+    }
+
+    @Override
+    public synchronized Snapshot getSnapshot() {
+        long now = clock.getTick();
+        recycledIntervalHistogram = recorder.getIntervalHistogram(recycledIntervalHistogram);
+        currentChunk(now).add(recycledIntervalHistogram);
+
+        Histogram windowHistogram = new Histogram(NUMBER_OF_SIGNIFICANT_VALUE_DIGITS);
+        long windowStart = chunkStart(now) - (chunks.length - 1) * chunkDurationNanos;
+        for (int index = 0; index < chunks.length; index++) {
+            if (chunkStartTimes[index] >= windowStart) {
+                windowHistogram.add(chunks[index]);
+            }
+        }
+        return new HdrHistogramSnapshot(windowHistogram);
+    }
+
+    private Histogram currentChunk(long now) {
+        int index = chunkIndex(now);
+        long start = chunkStart(now);
+        if (chunkStartTimes[index] != start) {
+            chunks[index].reset();
+            chunkStartTimes[index] = start;
+        }
+        return chunks[index];
+    }
+
+    private long chunkStart(long tick) {
+        return tick - Math.floorMod(tick, chunkDurationNanos);
+    }
+
+    private int chunkIndex(long tick) {
+        return (int) Math.floorMod(Math.floorDiv(tick, chunkDurationNanos), (long) chunks.length);
+    }
+}
@@ -0,0 +1,88 @@
+package io.odpf.dagger.common.metrics.reservoirs;
+
+import com.codahale.metrics.Snapshot;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramIterationValue;
+
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The snapshot of a {@link HdrHistogramReservoir}.
+ */
+public class HdrHistogramSnapshot extends Snapshot {
+    private static final double PERCENTILE_SCALE = 100.0;
+
+    private final Histogram histogram;
+
+    /**
+     * Instantiates a new Hdr histogram snapshot.
+     *
+     * @param histogram the histogram
+     */
+    public HdrHistogramSnapshot(Histogram histogram) {
+        this.histogram = histogram;
+    }
+
+    @Override
+    public double getValue(double quantile) {
+        if (quantile < 0.0 || quantile > 1.0 || Double.isNaN(quantile)) {
+            throw new IllegalArgumentException(quantile + " is not in [0..1]");
+        }
+        return histogram.getValueAtPercentile(quantile * PERCENTILE_SCALE);
+    }
+
+    /**
+     * Returns one representative value per recorded bucket rather than every sample.
+     *
+     * @return the values
+     */
+    @Override
+    public long[] getValues() {
+        List<Long> values = new ArrayList<>();
+        for (HistogramIterationValue value : histogram.recordedValues()) {
+            values.add(value.getValueIteratedTo());
+        }
+        return values.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    @Override
+    public int size() {
+        return (int) Math.min(Integer.MAX_VALUE, histogram.getTotalCount());
+    }
+
+    @Override
+    public long getMax() {
+        return histogram.getTotalCount() == 0 ? 0 : histogram.getMaxValue();
+    }
+
+    @Override
+    public double getMean() {
+        return histogram.getTotalCount() == 0 ? 0 : histogram.getMean();
+    }
+
+    @Override
+    public long getMin() {
+        return histogram.getTotalCount() == 0 ? 0 : histogram.getMinValue();
+    }
+
+    @Override
+    public double getStdDev() {
+        return histogram.getTotalCount() == 0 ? 0 : histogram.getStdDeviation();
+    }
+
+    @Override
+    public void dump(OutputStream output) {
+        try (PrintWriter out = new PrintWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8))) {
+            for (HistogramIterationValue value : histogram.recordedValues()) {
+                for (long count = 0; count < value.getCountAtValueIteratedTo(); count++) {
+                    out.printf("%d%n", value.getValueIteratedTo());
+                }
+            }
+        }
+    }
+}
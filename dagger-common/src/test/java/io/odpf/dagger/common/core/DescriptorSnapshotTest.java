@@ -0,0 +1,71 @@
+package io.odpf.dagger.common.core;
+
+import com.google.protobuf.Descriptors;
+import io.odpf.dagger.consumer.TestBookingLogMessage;
+import io.odpf.dagger.consumer.TestBookingStatus;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class DescriptorSnapshotTest {
+
+    @Test
+    public void shouldRebuildDescriptorsWithTheirImportsAfterEncoding() {
+        Map<String, Descriptors.Descriptor> descriptors = new HashMap<>();
+        descriptors.put(TestBookingLogMessage.class.getName(), TestBookingLogMessage.getDescriptor());
+
+        DescriptorSnapshot descriptorSnapshot = DescriptorSnapshot.decode(DescriptorSnapshot.of(descriptors).encode());
+        Descriptors.Descriptor descriptor = descriptorSnapshot.getDescriptors().get(TestBookingLogMessage.class.getName());
+
+        assertEquals(TestBookingLogMessage.getDescriptor().toProto(), descriptor.toProto());
+        assertEquals("google.protobuf.Timestamp", descriptor.findFieldByName("event_timestamp").getMessageType().getFullName());
+    }
+
+    @Test
+    public void shouldRebuildNestedDescriptorsFromBytes() {
+        Map<String, Descriptors.Descriptor> descriptors = new HashMap<>();
+        descriptors.put(TestBookingStatus.class.getName(), TestBookingStatus.getDescriptor());
+
+        DescriptorSnapshot descriptorSnapshot = DescriptorSnapshot.fromBytes(DescriptorSnapshot.of(descriptors).toBytes());
+
+        assertEquals(TestBookingStatus.getDescriptor().getFullName(), descriptorSnapshot.getDescriptors().get(TestBookingStatus.class.getName()).getFullName());
+    }
+
+    @Test
+    public void shouldNotContainClassesOutsideTheSnapshot() {
+        Map<String, Descriptors.Descriptor> descriptors = new HashMap<>();
+        descriptors.put(TestBookingStatus.class.getName(), TestBookingStatus.getDescriptor());
+
+        DescriptorSnapshot descriptorSnapshot = DescriptorSnapshot.decode(DescriptorSnapshot.of(descriptors).encode());
+
+        assertNull(descriptorSnapshot.getDescriptors().get(TestBookingLogMessage.class.getName()));
+    }
+
+    @Test
+    public void shouldBuildDescriptorsOnceForConcurrentReaders() throws Exception {
+        Map<String, Descriptors.Descriptor> descriptors = new HashMap<>();
+        descriptors.put(TestBookingLogMessage.class.getName(), TestBookingLogMessage.getDescriptor());
+        DescriptorSnapshot descriptorSnapshot = DescriptorSnapshot.decode(DescriptorSnapshot.of(descriptors).encode());
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+        List<Future<Map<String, Descriptors.Descriptor>>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executorService.submit(descriptorSnapshot::getDescriptors));
+        }
+        Map<String, Descriptors.Descriptor> builtDescriptors = descriptorSnapshot.getDescriptors();
+        for (Future<Map<String, Descriptors.Descriptor>> future : futures) {
+            assertSame(builtDescriptors, future.get());
+        }
+        executorService.shutdown();
+    }
+}
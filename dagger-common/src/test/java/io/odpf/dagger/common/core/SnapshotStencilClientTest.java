@@ -0,0 +1,61 @@
+package io.odpf.dagger.common.core;
+
+import com.gojek.de.stencil.client.StencilClient;
+import com.google.protobuf.Descriptors;
+import io.odpf.dagger.consumer.TestBookingLogMessage;
+import io.odpf.dagger.consumer.TestBookingStatus;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class SnapshotStencilClientTest {
+    @Mock
+    private StencilClient fallbackClient;
+
+    private DescriptorSnapshot descriptorSnapshot;
+
+    @Before
+    public void setup() {
+        initMocks(this);
+        descriptorSnapshot = DescriptorSnapshot.of(Collections.singletonMap(TestBookingLogMessage.class.getName(), TestBookingLogMessage.getDescriptor()));
+    }
+
+    @Test
+    public void shouldServeDescriptorsFromSnapshotWithoutCreatingFallbackClient() {
+        AtomicInteger fallbackClientsCreated = new AtomicInteger();
+        SnapshotStencilClient stencilClient = new SnapshotStencilClient(descriptorSnapshot, () -> {
+            fallbackClientsCreated.incrementAndGet();
+            return fallbackClient;
+        });
+
+        Descriptors.Descriptor descriptor = stencilClient.get(TestBookingLogMessage.class.getName());
+
+        assertEquals(TestBookingLogMessage.getDescriptor().getFullName(), descriptor.getFullName());
+        assertEquals(0, fallbackClientsCreated.get());
+        verifyZeroInteractions(fallbackClient);
+    }
+
+    @Test
+    public void shouldFallBackForClassesMissingFromSnapshotCreatingFallbackClientOnce() {
+        AtomicInteger fallbackClientsCreated = new AtomicInteger();
+        when(fallbackClient.get(TestBookingStatus.class.getName())).thenReturn(TestBookingStatus.getDescriptor());
+        SnapshotStencilClient stencilClient = new SnapshotStencilClient(descriptorSnapshot, () -> {
+            fallbackClientsCreated.incrementAndGet();
+            return fallbackClient;
+        });
+
+        stencilClient.get(TestBookingStatus.class.getName());
+        Descriptors.Descriptor descriptor = stencilClient.get(TestBookingStatus.class.getName());
+
+        assertEquals(TestBookingStatus.getDescriptor(), descriptor);
+        assertEquals(1, fallbackClientsCreated.get());
+    }
+}
@@ -3,12 +3,16 @@ package io.odpf.dagger.common.core;
 import com.gojek.de.stencil.client.ClassLoadStencilClient;
 import com.gojek.de.stencil.client.MultiURLStencilClient;
 import com.gojek.de.stencil.client.StencilClient;
+import io.odpf.dagger.consumer.TestBookingLogMessage;
 import org.apache.flink.configuration.Configuration;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 
+import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.Field;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -132,4 +136,57 @@ public class StencilClientOrchestratorTest {
         stencilClientField.setAccessible(true);
         stencilClientField.set(null, null);
     }
+
+    @Test
+    public void shouldReturnSnapshotStencilClientIfDescriptorSnapshotConfigured() throws NoSuchFieldException, IllegalAccessException {
+        String encodedSnapshot = DescriptorSnapshot.of(Collections.singletonMap(TestBookingLogMessage.class.getName(), TestBookingLogMessage.getDescriptor())).encode();
+        when(configuration.getString(SCHEMA_REGISTRY_STENCIL_REFRESH_CACHE_KEY, SCHEMA_REGISTRY_STENCIL_REFRESH_CACHE_DEFAULT)).thenReturn(SCHEMA_REGISTRY_STENCIL_REFRESH_CACHE_DEFAULT);
+        when(configuration.getBoolean(SCHEMA_REGISTRY_STENCIL_ENABLE_KEY, SCHEMA_REGISTRY_STENCIL_ENABLE_DEFAULT)).thenReturn(true);
+        when(configuration.getString(SCHEMA_REGISTRY_STENCIL_URLS_KEY, SCHEMA_REGISTRY_STENCIL_URLS_DEFAULT)).thenReturn("http://localhost/latest");
+        when(configuration.getString(SCHEMA_REGISTRY_STENCIL_TIMEOUT_MS_KEY, SCHEMA_REGISTRY_STENCIL_TIMEOUT_MS_DEFAULT)).thenReturn(SCHEMA_REGISTRY_STENCIL_TIMEOUT_MS_DEFAULT);
+        when(configuration.getString(SCHEMA_REGISTRY_STENCIL_SNAPSHOT_KEY, "")).thenReturn(encodedSnapshot);
+        StencilClientOrchestrator stencilClientOrchestrator = new StencilClientOrchestrator(configuration);
+        stencilClient = stencilClientOrchestrator.getStencilClient();
+
+        assertEquals(SnapshotStencilClient.class, stencilClient.getClass());
+        assertEquals(TestBookingLogMessage.getDescriptor().getFullName(), stencilClient.get(TestBookingLogMessage.class.getName()).getFullName());
+        Field stencilClientField = StencilClientOrchestrator.class.getDeclaredField("stencilClient");
+        stencilClientField.setAccessible(true);
+        stencilClientField.set(null, null);
+    }
+
+    @Test
+    public void shouldLoadDescriptorSnapshotFileOnlyWhenSnapshotIsEnabled() throws IOException, NoSuchFieldException, IllegalAccessException {
+        File snapshotFile = File.createTempFile("descriptor-snapshot", ".bin");
+        snapshotFile.deleteOnExit();
+        Files.write(snapshotFile.toPath(), DescriptorSnapshot.of(Collections.singletonMap(TestBookingLogMessage.class.getName(), TestBookingLogMessage.getDescriptor())).toBytes());
+        when(configuration.getString(SCHEMA_REGISTRY_STENCIL_REFRESH_CACHE_KEY, SCHEMA_REGISTRY_STENCIL_REFRESH_CACHE_DEFAULT)).thenReturn(SCHEMA_REGISTRY_STENCIL_REFRESH_CACHE_DEFAULT);
+        when(configuration.getBoolean(SCHEMA_REGISTRY_STENCIL_ENABLE_KEY, SCHEMA_REGISTRY_STENCIL_ENABLE_DEFAULT)).thenReturn(SCHEMA_REGISTRY_STENCIL_ENABLE_DEFAULT);
+        when(configuration.getString(SCHEMA_REGISTRY_STENCIL_URLS_KEY, SCHEMA_REGISTRY_STENCIL_URLS_DEFAULT)).thenReturn(SCHEMA_REGISTRY_STENCIL_URLS_DEFAULT);
+        when(configuration.getString(SCHEMA_REGISTRY_STENCIL_TIMEOUT_MS_KEY, SCHEMA_REGISTRY_STENCIL_TIMEOUT_MS_DEFAULT)).thenReturn(SCHEMA_REGISTRY_STENCIL_TIMEOUT_MS_DEFAULT);
+        when(configuration.getString(SCHEMA_REGISTRY_STENCIL_SNAPSHOT_PATH_KEY, SCHEMA_REGISTRY_STENCIL_SNAPSHOT_PATH_DEFAULT)).thenReturn(snapshotFile.getPath());
+        Field stencilClientField = StencilClientOrchestrator.class.getDeclaredField("stencilClient");
+        stencilClientField.setAccessible(true);
+
+        assertEquals(ClassLoadStencilClient.class, new StencilClientOrchestrator(configuration).getStencilClient().getClass());
+        stencilClientField.set(null, null);
+
+        when(configuration.getBoolean(SCHEMA_REGISTRY_STENCIL_SNAPSHOT_ENABLE_KEY, SCHEMA_REGISTRY_STENCIL_SNAPSHOT_ENABLE_DEFAULT)).thenReturn(true);
+
+        assertEquals(SnapshotStencilClient.class, new StencilClientOrchestrator(configuration).getStencilClient().getClass());
+        stencilClientField.set(null, null);
+    }
+
+    @Test
+    public void shouldCreateDescriptorSnapshotOfGivenClasses() {
+        when(configuration.getString(SCHEMA_REGISTRY_STENCIL_REFRESH_CACHE_KEY, SCHEMA_REGISTRY_STENCIL_REFRESH_CACHE_DEFAULT)).thenReturn(SCHEMA_REGISTRY_STENCIL_REFRESH_CACHE_DEFAULT);
+        when(configuration.getBoolean(SCHEMA_REGISTRY_STENCIL_ENABLE_KEY, SCHEMA_REGISTRY_STENCIL_ENABLE_DEFAULT)).thenReturn(SCHEMA_REGISTRY_STENCIL_ENABLE_DEFAULT);
+        when(configuration.getString(SCHEMA_REGISTRY_STENCIL_URLS_KEY, SCHEMA_REGISTRY_STENCIL_URLS_DEFAULT)).thenReturn(SCHEMA_REGISTRY_STENCIL_URLS_DEFAULT);
+        when(configuration.getString(SCHEMA_REGISTRY_STENCIL_TIMEOUT_MS_KEY, SCHEMA_REGISTRY_STENCIL_TIMEOUT_MS_DEFAULT)).thenReturn(SCHEMA_REGISTRY_STENCIL_TIMEOUT_MS_DEFAULT);
+        StencilClientOrchestrator stencilClientOrchestrator = new StencilClientOrchestrator(configuration);
+
+        DescriptorSnapshot descriptorSnapshot = stencilClientOrchestrator.createDescriptorSnapshot(Collections.singletonList(TestBookingLogMessage.class.getName()));
+
+        assertEquals(TestBookingLogMessage.getDescriptor().toProto(), descriptorSnapshot.getDescriptors().get(TestBookingLogMessage.class.getName()).toProto());
+    }
 }
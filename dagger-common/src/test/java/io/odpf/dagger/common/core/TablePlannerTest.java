@@ -0,0 +1,133 @@
+package io.odpf.dagger.common.core;
+
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
+import org.apache.flink.streaming.api.functions.sink.SinkFunction;
+import org.apache.flink.table.api.Table;
+import org.apache.flink.table.api.TableConfig;
+import org.apache.flink.table.api.java.StreamTableEnvironment;
+import org.apache.flink.types.Row;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TablePlannerTest {
+
+    private Configuration configuration;
+
+    private TableConfig tableConfig;
+
+    @Before
+    public void setup() {
+        configuration = new Configuration();
+        tableConfig = new TableConfig();
+    }
+
+    @Test
+    public void shouldFallBackToOldPlannerWhenNotConfigured() {
+        assertEquals(TablePlanner.OLD, TablePlanner.from(configuration));
+    }
+
+    @Test
+    public void shouldParseConfiguredPlannerIgnoringCase() {
+        configuration.setString("FLINK_TABLE_PLANNER", "blink");
+
+        assertEquals(TablePlanner.BLINK, TablePlanner.from(configuration));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowExceptionForInvalidPlanner() {
+        configuration.setString("FLINK_TABLE_PLANNER", "calcite");
+
+        TablePlanner.from(configuration);
+    }
+
+    @Test
+    public void shouldBuildStreamingEnvironmentSettings() {
+        assertTrue(TablePlanner.OLD.getEnvironmentSettings().isStreamingMode());
+        assertTrue(TablePlanner.BLINK.getEnvironmentSettings().isStreamingMode());
+    }
+
+    @Test
+    public void shouldConfigureMiniBatchAndAggregationForBlink() {
+        configuration.setBoolean("FLINK_TABLE_MINI_BATCH_ENABLE", true);
+        configuration.setLong("FLINK_TABLE_MINI_BATCH_LATENCY_MS", 2000L);
+        configuration.setLong("FLINK_TABLE_MINI_BATCH_SIZE", 10000L);
+        configuration.setString("FLINK_TABLE_AGG_PHASE_STRATEGY", "two_phase");
+        configuration.setBoolean("FLINK_TABLE_DISTINCT_AGG_SPLIT_ENABLE", true);
+
+        TablePlanner.BLINK.configure(tableConfig, configuration);
+
+        Configuration tableConfiguration = tableConfig.getConfiguration();
+        assertEquals("true", tableConfiguration.getString("table.exec.mini-batch.enabled", null));
+        assertEquals("2000 ms", tableConfiguration.getString("table.exec.mini-batch.allow-latency", null));
+        assertEquals(10000L, tableConfiguration.getLong("table.exec.mini-batch.size", 0L));
+        assertEquals("TWO_PHASE", tableConfiguration.getString("table.optimizer.agg-phase-strategy", null));
+        assertTrue(tableConfiguration.getBoolean("table.optimizer.distinct-agg.split.enabled", false));
+    }
+
+    @Test
+    public void shouldNotEnableMiniBatchByDefault() {
+        TablePlanner.BLINK.configure(tableConfig, configuration);
+
+        Configuration tableConfiguration = tableConfig.getConfiguration();
+        assertFalse(tableConfiguration.containsKey("table.exec.mini-batch.enabled"));
+        assertEquals("AUTO", tableConfiguration.getString("table.optimizer.agg-phase-strategy", null));
+    }
+
+    @Test
+    public void shouldPlanAndRunAQueryOnBlink() throws Exception {
+        configuration.setBoolean("FLINK_TABLE_MINI_BATCH_ENABLE", true);
+        configuration.setString("FLINK_TABLE_AGG_PHASE_STRATEGY", "two_phase");
+        StreamExecutionEnvironment executionEnvironment = StreamExecutionEnvironment.getExecutionEnvironment();
+        executionEnvironment.setParallelism(2);
+        StreamTableEnvironment tableEnvironment = TablePlanner.BLINK.createTableEnvironment(executionEnvironment, configuration);
+        tableEnvironment.registerDataStream("booking", executionEnvironment.fromElements(
+                Tuple2.of("customer1", 10L), Tuple2.of("customer2", 5L), Tuple2.of("customer1", 20L)), "customer_id, amount");
+        CollectSink.VALUES.clear();
+
+        Table result = tableEnvironment.sqlQuery("SELECT customer_id, SUM(amount) AS total, COUNT(*) AS bookings FROM booking GROUP BY customer_id");
+        tableEnvironment.toRetractStream(result, Row.class).addSink(new CollectSink()).setParallelism(1);
+        executionEnvironment.execute();
+
+        Map<Object, Row> totals = new HashMap<>();
+        for (Tuple2<Boolean, Row> change : CollectSink.VALUES) {
+            if (change.f0) {
+                totals.put(change.f1.getField(0), change.f1);
+            } else {
+                totals.remove(change.f1.getField(0), change.f1);
+            }
+        }
+        assertEquals(2, totals.size());
+        assertEquals(Row.of("customer1", 30L, 2L), totals.get("customer1"));
+        assertEquals(Row.of("customer2", 5L, 1L), totals.get("customer2"));
+    }
+
+    @Test
+    public void shouldNotSetTableConfigsForOldPlanner() {
+        configuration.setBoolean("FLINK_TABLE_MINI_BATCH_ENABLE", true);
+
+        TablePlanner.OLD.configure(tableConfig, configuration);
+
+        assertTrue(tableConfig.getConfiguration().keySet().isEmpty());
+    }
+
+    private static class CollectSink implements SinkFunction<Tuple2<Boolean, Row>> {
+
+        static final List<Tuple2<Boolean, Row>> VALUES = new ArrayList<>();
+
+        @Override
+        public synchronized void invoke(Tuple2<Boolean, Row> value, Context context) {
+            VALUES.add(value);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package io.odpf.dagger.common.core;
+
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
+import org.apache.flink.table.api.TableSchema;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class TableRowTypeTest {
+
+    @Test
+    public void shouldKeepFieldNamesAndTypesOfSchema() {
+        TypeInformation<?> nestedType = Types.ROW_NAMED(new String[]{"seconds", "nanos"}, Types.LONG, Types.INT);
+        TableSchema tableSchema = TableSchema.builder()
+                .field("order_number", Types.STRING)
+                .field("event_timestamp", nestedType)
+                .field("rowtime", Types.SQL_TIMESTAMP)
+                .build();
+
+        RowTypeInfo rowType = TableRowType.from(tableSchema);
+
+        assertArrayEquals(new String[]{"order_number", "event_timestamp", "rowtime"}, rowType.getFieldNames());
+        assertEquals(Types.STRING, rowType.getTypeAt(0));
+        assertEquals(nestedType, rowType.getTypeAt(1));
+        assertEquals(Types.SQL_TIMESTAMP, rowType.getTypeAt(2));
+    }
+}
@@ -10,6 +10,7 @@ import org.mockito.Mock;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.mockito.MockitoAnnotations.initMocks;
 
@@ -32,27 +33,27 @@ public class CounterStatsManagerTest {
     public void shouldRegisterCounterForCounterAspects() {
         when(metricGroup.addGroup("counterTest")).thenReturn(metricGroup);
         counterStatsManager.registerAspects(TestAspects.values(), "counterTest");
-        verify(metricGroup, times(1)).counter(any(String.class));
+        verify(metricGroup, times(1)).counter(any(String.class), any(StripedCounter.class));
     }
 
     @Test
     public void shouldRegisterCounterForCounterAspectWithGroup() {
         when(metricGroup.addGroup("counterTest")).thenReturn(metricGroup);
         counterStatsManager.register(TestAspects.TEST_ASPECT_THREE, "counterTest");
-        verify(metricGroup, times(1)).counter(any(String.class));
+        verify(metricGroup, times(1)).counter(any(String.class), any(StripedCounter.class));
     }
 
     @Test
     public void shouldRegisterCounterForCounterAspectWithGroupKeyAndValue() {
         when(metricGroup.addGroup("counterTestKey", "counterTestValue")).thenReturn(metricGroup);
         counterStatsManager.register(TestAspects.TEST_ASPECT_THREE, "counterTestKey", "counterTestValue");
-        verify(metricGroup, times(1)).counter(any(String.class));
+        verify(metricGroup, times(1)).counter(any(String.class), any(StripedCounter.class));
     }
 
     @Test
     public void shouldIncreamentCount() {
         when(metricGroup.addGroup("counterTest")).thenReturn(metricGroup);
-        when(metricGroup.counter("test_aspect3")).thenReturn(counter);
+        when(metricGroup.counter(eq("test_aspect3"), any(StripedCounter.class))).thenReturn(counter);
         counterStatsManager.registerAspects(TestAspects.values(), "counterTest");
         counterStatsManager.inc(TestAspects.TEST_ASPECT_THREE);
         counterStatsManager.inc(TestAspects.TEST_ASPECT_THREE);
@@ -63,7 +64,7 @@ public class CounterStatsManagerTest {
     public void shouldUpdateCountAndReturnTheCorrectCountValue() {
         Counter simpleCounter = new SimpleCounter();
         when(metricGroup.addGroup("counterTest")).thenReturn(metricGroup);
-        when(metricGroup.counter("test_aspect3")).thenReturn(simpleCounter);
+        when(metricGroup.counter(eq("test_aspect3"), any(StripedCounter.class))).thenReturn(simpleCounter);
         counterStatsManager.registerAspects(TestAspects.values(), "counterTest");
         counterStatsManager.inc(TestAspects.TEST_ASPECT_THREE);
         counterStatsManager.inc(TestAspects.TEST_ASPECT_THREE);
@@ -71,4 +72,13 @@ public class CounterStatsManagerTest {
         assertEquals(2, count);
     }
 
+    @Test
+    public void shouldRegisterStripedCounters() {
+        when(metricGroup.addGroup("counterTest")).thenReturn(metricGroup);
+        when(metricGroup.counter(eq("test_aspect3"), any(StripedCounter.class))).thenAnswer(invocation -> invocation.getArgument(1));
+        counterStatsManager.registerAspects(TestAspects.values(), "counterTest");
+        counterStatsManager.inc(TestAspects.TEST_ASPECT_THREE);
+        assertEquals(1, counterStatsManager.getCount(TestAspects.TEST_ASPECT_THREE));
+    }
+
 }
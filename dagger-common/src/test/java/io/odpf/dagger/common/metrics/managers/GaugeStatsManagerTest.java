@@ -52,4 +52,12 @@ public class GaugeStatsManagerTest {
         gaugeStatsManager.registerDouble("test_key", "test_value", TestAspects.TEST_ASPECT_ONE.getValue(), 0.01D);
         verify(metricGroup, times(1)).gauge(any(String.class), any(Gauge.class));
     }
+
+    @Test
+    public void shouldRegisterGaugeForSingleAspect() {
+        when(metricGroup.addGroup("test_key", "test_value")).thenReturn(metricGroup);
+        Gauge<Long> gauge = () -> 1L;
+        gaugeStatsManager.registerGauge("test_key", "test_value", TestAspects.TEST_ASPECT_ONE.getValue(), gauge);
+        verify(metricGroup, times(1)).gauge(TestAspects.TEST_ASPECT_ONE.getValue(), gauge);
+    }
 }
@@ -8,10 +8,12 @@ import org.apache.flink.metrics.MetricGroup;
 import io.odpf.dagger.common.metrics.managers.utils.TestAspects;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 
 import java.util.HashMap;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -90,4 +92,25 @@ public class MeterStatsManagerTest {
         verify(meter, times(1)).markEvent();
     }
 
+    @Test
+    public void shouldUpdateRegisteredHistogramAndMeter() {
+        String groupName = "test_groupName";
+        when(metricGroup.addGroup(groupName)).thenReturn(metricGroup);
+        when(metricGroup.histogram(any(String.class), any(Histogram.class))).thenAnswer(invocation -> invocation.getArgument(1));
+        when(metricGroup.meter(any(String.class), any(Meter.class))).thenAnswer(invocation -> invocation.getArgument(1));
+        ArgumentCaptor<Histogram> histogramCaptor = ArgumentCaptor.forClass(Histogram.class);
+        ArgumentCaptor<Meter> meterCaptor = ArgumentCaptor.forClass(Meter.class);
+
+        meterStatsManager.register(groupName, TestAspects.values());
+        meterStatsManager.updateHistogram(TestAspects.TEST_ASPECT_ONE, 100);
+        meterStatsManager.updateHistogram(TestAspects.TEST_ASPECT_ONE, 200);
+        meterStatsManager.markEvent(TestAspects.TEST_ASPECT_TWO);
+
+        verify(metricGroup).histogram(any(String.class), histogramCaptor.capture());
+        verify(metricGroup).meter(any(String.class), meterCaptor.capture());
+        assertEquals(2, histogramCaptor.getValue().getCount());
+        assertEquals(200, histogramCaptor.getValue().getStatistics().getMax());
+        assertEquals(1, meterCaptor.getValue().getCount());
+    }
+
 }
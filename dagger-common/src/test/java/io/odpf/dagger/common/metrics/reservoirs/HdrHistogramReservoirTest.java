@@ -0,0 +1,102 @@
+package io.odpf.dagger.common.metrics.reservoirs;
+
+import com.codahale.metrics.Clock;
+import com.codahale.metrics.Snapshot;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+
+public class HdrHistogramReservoirTest {
+
+    private ManualClock clock;
+    private HdrHistogramReservoir reservoir;
+
+    @Before
+    public void setUp() {
+        clock = new ManualClock();
+        reservoir = new HdrHistogramReservoir(10, TimeUnit.SECONDS, 10, clock);
+    }
+
+    @Test
+    public void shouldReturnEmptySnapshotWhenNothingIsRecorded() {
+        Snapshot snapshot = reservoir.getSnapshot();
+
+        assertEquals(0, snapshot.size());
+        assertEquals(0, snapshot.getMax());
+        assertEquals(0, snapshot.getMin());
+        assertEquals(0.0, snapshot.getMean(), 0.0);
+    }
+
+    @Test
+    public void shouldComputeStatisticsOfRecordedValues() {
+        for (int value = 1; value <= 100; value++) {
+            reservoir.update(value);
+        }
+
+        Snapshot snapshot = reservoir.getSnapshot();
+
+        assertEquals(100, snapshot.size());
+        assertEquals(1, snapshot.getMin());
+        assertEquals(100, snapshot.getMax());
+        assertEquals(50.5, snapshot.getMean(), 0.5);
+        assertEquals(50, snapshot.getMedian(), 1);
+        assertEquals(99, snapshot.get99thPercentile(), 1);
+    }
+
+    @Test
+    public void shouldKeepValuesAcrossSnapshotsWithinTheWindow() {
+        reservoir.update(10);
+        reservoir.getSnapshot();
+        clock.advance(TimeUnit.SECONDS.toNanos(5));
+        reservoir.update(20);
+
+        Snapshot snapshot = reservoir.getSnapshot();
+
+        assertEquals(2, snapshot.size());
+        assertEquals(10, snapshot.getMin());
+        assertEquals(20, snapshot.getMax(), 1);
+    }
+
+    @Test
+    public void shouldDropValuesOlderThanTheWindow() {
+        reservoir.update(10);
+        reservoir.getSnapshot();
+        clock.advance(TimeUnit.SECONDS.toNanos(11));
+        reservoir.update(20);
+
+        Snapshot snapshot = reservoir.getSnapshot();
+
+        assertEquals(1, snapshot.size());
+        assertEquals(20, snapshot.getMin(), 1);
+    }
+
+    @Test
+    public void shouldClampNegativeValuesToZero() {
+        reservoir.update(-5);
+
+        assertEquals(0, reservoir.getSnapshot().getMin());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowExceptionForInvalidQuantile() {
+        reservoir.update(1);
+
+        reservoir.getSnapshot().getValue(1.5);
+    }
+
+    private static class ManualClock extends Clock {
+        private long tick = TimeUnit.SECONDS.toNanos(1000);
+
+        @Override
+        public long getTick() {
+            return tick;
+        }
+
+        void advance(long nanos) {
+            tick += nanos;
+        }
+    }
+}
@@ -1,10 +1,10 @@
 package io.odpf.dagger.core;
 
+import io.odpf.dagger.common.core.TablePlanner;
 import io.odpf.dagger.core.config.ConfigurationProviderFactory;
 import org.apache.flink.client.program.ProgramInvocationException;
 import org.apache.flink.configuration.Configuration;
 import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
-import org.apache.flink.table.api.EnvironmentSettings;
 import org.apache.flink.table.api.java.StreamTableEnvironment;
 
 import java.util.TimeZone;
@@ -25,8 +25,7 @@ public class KafkaProtoSQLProcessor {
             Configuration configuration = new ConfigurationProviderFactory(args).provider().get();
             TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
             StreamExecutionEnvironment executionEnvironment = StreamExecutionEnvironment.getExecutionEnvironment();
-            EnvironmentSettings environmentSettings = EnvironmentSettings.newInstance().useOldPlanner().inStreamingMode().build();
-            StreamTableEnvironment tableEnvironment = StreamTableEnvironment.create(executionEnvironment, environmentSettings);
+            StreamTableEnvironment tableEnvironment = StreamTableEnvironment.create(executionEnvironment, TablePlanner.from(configuration).getEnvironmentSettings());
 
             StreamManager streamManager = new StreamManager(configuration, executionEnvironment, tableEnvironment);
             streamManager
@@ -0,0 +1,149 @@
+package io.odpf.dagger.core;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonSyntaxException;
+import io.odpf.dagger.core.exception.DaggerConfigurationException;
+import io.odpf.dagger.core.metrics.telemetry.TelemetryPublisher;
+import org.apache.flink.configuration.Configuration;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.odpf.dagger.core.metrics.telemetry.TelemetryTypes.OUTPUT_QUERY;
+import static io.odpf.dagger.core.utils.Constants.*;
+
+/**
+ * The SQL queries of a dagger.
+ * By default a dagger runs the single FLINK_SQL_QUERY. When FLINK_SQL_QUERIES is set, it runs each of the listed
+ * queries on the same sources, every query overriding the configurations of the job with its own, such as
+ * its post processors and sink.
+ */
+public class SqlQueries implements TelemetryPublisher {
+    private static final Gson GSON = new Gson();
+    private final List<SqlQuery> queries = new ArrayList<>();
+    private Map<String, List<String>> metrics = new HashMap<>();
+
+    /**
+     * Instantiates a new Sql queries.
+     *
+     * @param configuration the configuration
+     */
+    public SqlQueries(Configuration configuration) {
+        String queriesJson = configuration.getString(FLINK_SQL_QUERIES_KEY, FLINK_SQL_QUERIES_DEFAULT);
+        if (queriesJson == null || queriesJson.trim().isEmpty()) {
+            queries.add(new SqlQuery("", configuration));
+            return;
+        }
+        JsonObject[] queriesConfig;
+        try {
+            queriesConfig = GSON.fromJson(queriesJson, JsonObject[].class);
+        } catch (JsonSyntaxException e) {
+            throw new DaggerConfigurationException("Invalid " + FLINK_SQL_QUERIES_KEY + ": " + e.getMessage());
+        }
+        if (queriesConfig == null || queriesConfig.length == 0) {
+            throw new DaggerConfigurationException(FLINK_SQL_QUERIES_KEY + " requires at least one query");
+        }
+        Set<String> names = new HashSet<>();
+        for (JsonObject queryConfig : queriesConfig) {
+            if (queryConfig == null) {
+                throw new DaggerConfigurationException("Each of " + FLINK_SQL_QUERIES_KEY + " has to be a query");
+            }
+            Configuration queryConfiguration = new Configuration(configuration);
+            for (Map.Entry<String, JsonElement> entry : queryConfig.entrySet()) {
+                JsonElement value = entry.getValue();
+                queryConfiguration.setString(entry.getKey(), value.isJsonPrimitive() ? value.getAsString() : value.toString());
+            }
+            String name = queryConfig.has(FLINK_SQL_QUERY_NAME_KEY) ? queryConfig.get(FLINK_SQL_QUERY_NAME_KEY).getAsString() : "";
+            if (name.isEmpty() || !names.add(name)) {
+                throw new DaggerConfigurationException("Each of " + FLINK_SQL_QUERIES_KEY + " requires a unique " + FLINK_SQL_QUERY_NAME_KEY);
+            }
+            if (!queryConfig.has(FLINK_SQL_QUERY_KEY)) {
+                throw new DaggerConfigurationException("Query " + name + " of " + FLINK_SQL_QUERIES_KEY + " requires " + FLINK_SQL_QUERY_KEY);
+            }
+            queries.add(new SqlQuery(name, queryConfiguration));
+            addMetric(OUTPUT_QUERY.getValue(), name);
+        }
+    }
+
+    /**
+     * Gets queries.
+     *
+     * @return the queries
+     */
+    public List<SqlQuery> getQueries() {
+        return queries;
+    }
+
+    @Override
+    public Map<String, List<String>> getTelemetry() {
+        return metrics;
+    }
+
+    /**
+     * Gets the name of the query a configuration belongs to, empty for the single query of a dagger.
+     *
+     * @param configuration the configuration of the query
+     * @return the query name
+     */
+    public static String getQueryName(Configuration configuration) {
+        String name = configuration.getString(FLINK_SQL_QUERY_NAME_KEY, FLINK_SQL_QUERY_NAME_DEFAULT);
+        return name == null ? "" : name;
+    }
+
+    private void addMetric(String key, String value) {
+        metrics.computeIfAbsent(key, k -> new ArrayList<>()).add(value);
+    }
+
+    /**
+     * A SQL query with the configuration of its post processors and sink.
+     */
+    public static class SqlQuery {
+        private final String name;
+        private final Configuration configuration;
+
+        /**
+         * Instantiates a new Sql query.
+         *
+         * @param name          the name, empty for the single query of a dagger
+         * @param configuration the configuration
+         */
+        public SqlQuery(String name, Configuration configuration) {
+            this.name = name;
+            this.configuration = configuration;
+        }
+
+        /**
+         * Gets name.
+         *
+         * @return the name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Gets configuration.
+         *
+         * @return the configuration
+         */
+        public Configuration getConfiguration() {
+            return configuration;
+        }
+
+        /**
+         * Gets the name of a stage of this query, prefixed by the query name when it has one.
+         *
+         * @param stage the stage
+         * @return the stage name
+         */
+        public String getStageName(String stage) {
+            return name.isEmpty() ? stage : name + "_" + stage;
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package io.odpf.dagger.core;
 
+import com.google.gson.Gson;
+import io.odpf.dagger.common.core.DescriptorSnapshot;
 import io.odpf.dagger.common.core.StencilClientOrchestrator;
+import io.odpf.dagger.common.core.TablePlanner;
+import io.odpf.dagger.common.core.TableRowType;
 import org.apache.flink.api.common.time.Time;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
 import org.apache.flink.configuration.Configuration;
-import org.apache.flink.streaming.api.CheckpointingMode;
 import org.apache.flink.streaming.api.TimeCharacteristic;
 import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.streaming.api.datastream.DataStreamSink;
 import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
 import org.apache.flink.table.api.Table;
 import org.apache.flink.table.api.TableSchema;
@@ -15,26 +20,43 @@ import org.apache.flink.types.Row;
 import io.odpf.dagger.common.udfs.UdfFactory;
 import io.odpf.dagger.common.core.StreamInfo;
 import io.odpf.dagger.core.exception.UDFFactoryClassNotDefinedException;
+import io.odpf.dagger.core.metrics.latency.LatencyTrackingConfig;
+import io.odpf.dagger.core.metrics.serialization.GenericTypeReport;
+import io.odpf.dagger.core.processors.PostProcessorConfig;
 import io.odpf.dagger.core.processors.PostProcessorFactory;
 import io.odpf.dagger.core.processors.PreProcessorConfig;
 import io.odpf.dagger.core.processors.PreProcessorFactory;
+import io.odpf.dagger.core.processors.external.ExternalSourceConfig;
+import io.odpf.dagger.core.processors.external.grpc.GrpcSourceConfig;
 import io.odpf.dagger.core.processors.telemetry.processor.MetricsTelemetryExporter;
 import io.odpf.dagger.core.processors.types.PostProcessor;
 import io.odpf.dagger.core.processors.types.Preprocessor;
 import io.odpf.dagger.core.sink.SinkOrchestrator;
 import io.odpf.dagger.core.source.CustomStreamingTableSource;
+import io.odpf.dagger.core.state.StateBackendConfig;
 import io.odpf.dagger.core.utils.Constants;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import static io.odpf.dagger.common.core.Constants.*;
 import static io.odpf.dagger.core.utils.Constants.*;
 
 /**
  * The Stream manager.
  */
 public class StreamManager {
+    private static final Gson GSON = new Gson();
 
     private Configuration configuration;
     private StencilClientOrchestrator stencilClientOrchestrator;
@@ -42,6 +64,8 @@ public class StreamManager {
     private StreamTableEnvironment tableEnvironment;
     private Streams kafkaStreams;
     private MetricsTelemetryExporter telemetryExporter = new MetricsTelemetryExporter();
+    private LatencyTrackingConfig latencyTrackingConfig;
+    private GenericTypeReport genericTypeReport = new GenericTypeReport();
 
     /**
      * Instantiates a new Stream manager.
@@ -54,6 +78,7 @@ public class StreamManager {
         this.configuration = configuration;
         this.executionEnvironment = executionEnvironment;
         this.tableEnvironment = tableEnvironment;
+        this.latencyTrackingConfig = new LatencyTrackingConfig(configuration);
     }
 
     /**
@@ -62,14 +87,22 @@ public class StreamManager {
      * @return the stream manager
      */
     public StreamManager registerConfigs() {
+        if (configuration.getBoolean(SCHEMA_REGISTRY_STENCIL_SNAPSHOT_ENABLE_KEY, SCHEMA_REGISTRY_STENCIL_SNAPSHOT_ENABLE_DEFAULT)) {
+            registerDescriptorSnapshot();
+        }
         stencilClientOrchestrator = new StencilClientOrchestrator(configuration);
         executionEnvironment.setMaxParallelism(configuration.getInteger(Constants.FLINK_PARALLELISM_MAX_KEY, Constants.FLINK_PARALLELISM_MAX_DEFAULT));
         executionEnvironment.setStreamTimeCharacteristic(TimeCharacteristic.EventTime);
         executionEnvironment.setParallelism(configuration.getInteger(FLINK_PARALLELISM_KEY, FLINK_PARALLELISM_DEFAULT));
         executionEnvironment.getConfig().setAutoWatermarkInterval(configuration.getInteger(FLINK_WATERMARK_INTERVAL_MS_KEY, FLINK_WATERMARK_INTERVAL_MS_DEFAULT));
+        if (configuration.getBoolean(FLINK_OBJECT_REUSE_ENABLE_KEY, FLINK_OBJECT_REUSE_ENABLE_DEFAULT)) {
+            executionEnvironment.getConfig().enableObjectReuse();
+        }
         executionEnvironment.getCheckpointConfig().setTolerableCheckpointFailureNumber(Integer.MAX_VALUE);
         executionEnvironment.enableCheckpointing(configuration.getLong(FLINK_CHECKPOINT_INTERVAL_MS_KEY, FLINK_CHECKPOINT_INTERVAL_MS_DEFAULT));
-        executionEnvironment.getCheckpointConfig().setCheckpointingMode(CheckpointingMode.EXACTLY_ONCE);
+        StateBackendConfig stateBackendConfig = new StateBackendConfig(configuration);
+        stateBackendConfig.apply(executionEnvironment);
+        stateBackendConfig.notifySubscriber(telemetryExporter);
         executionEnvironment.getCheckpointConfig().setCheckpointTimeout(configuration.getLong(FLINK_CHECKPOINT_TIMEOUT_MS_KEY, FLINK_CHECKPOINT_TIMEOUT_MS_DEFAULT));
         executionEnvironment.getCheckpointConfig().setMinPauseBetweenCheckpoints(configuration.getLong(FLINK_CHECKPOINT_MIN_PAUSE_MS_KEY, FLINK_CHECKPOINT_MIN_PAUSE_MS_DEFAULT));
         executionEnvironment.getCheckpointConfig().setMaxConcurrentCheckpoints(configuration.getInteger(FLINK_CHECKPOINT_MAX_CONCURRENT_KEY, FLINK_CHECKPOINT_MAX_CONCURRENT_DEFAULT));
@@ -77,6 +110,7 @@ public class StreamManager {
 
         tableEnvironment.getConfig().setIdleStateRetentionTime(Time.hours(configuration.getInteger(FLINK_RETENTION_MIN_IDLE_STATE_HOUR_KEY, FLINK_RETENTION_MIN_IDLE_STATE_HOUR_DEFAULT)),
                 Time.hours(configuration.getInteger(FLINK_RETENTION_MAX_IDLE_STATE_HOUR_KEY, FLINK_RETENTION_MAX_IDLE_STATE_HOUR_DEFAULT)));
+        TablePlanner.from(configuration).configure(tableEnvironment.getConfig(), configuration);
         return this;
     }
 
@@ -95,8 +129,11 @@ public class StreamManager {
         PreProcessorConfig preProcessorConfig = PreProcessorFactory.parseConfig(configuration);
         kafkaStreams.getStreams().forEach((tableName, kafkaConsumer) -> {
             DataStream<Row> kafkaStream = executionEnvironment.addSource(kafkaConsumer);
+            genericTypeReport.check("source_" + tableName, kafkaStream.getType());
             StreamInfo streamInfo = new StreamInfo(kafkaStream, TableSchema.fromTypeInfo(kafkaStream.getType()).getFieldNames());
+            streamInfo = latencyTrackingConfig.track(streamInfo, "source_" + tableName);
             streamInfo = addPreProcessor(streamInfo, tableName, preProcessorConfig);
+            streamInfo = latencyTrackingConfig.track(streamInfo, "pre_processor_" + tableName);
             CustomStreamingTableSource tableSource = new CustomStreamingTableSource(
                     rowTimeAttributeName,
                     watermarkDelay,
@@ -138,14 +175,23 @@ public class StreamManager {
 
     /**
      * Register output stream manager.
+     * Each of the SQL queries gets its own output stream, post processors and sink, reading from the shared sources.
      *
      * @return the stream manager
      */
     public StreamManager registerOutputStream() {
-        Table table = tableEnvironment.sqlQuery(configuration.getString(Constants.FLINK_SQL_QUERY_KEY, Constants.FLINK_SQL_QUERY_DEFAULT));
-        StreamInfo streamInfo = createStreamInfo(table);
-        streamInfo = addPostProcessor(streamInfo);
-        addSink(streamInfo);
+        SqlQueries sqlQueries = new SqlQueries(configuration);
+        sqlQueries.notifySubscriber(telemetryExporter);
+        for (SqlQueries.SqlQuery sqlQuery : sqlQueries.getQueries()) {
+            Configuration queryConfiguration = sqlQuery.getConfiguration();
+            Table table = tableEnvironment.sqlQuery(queryConfiguration.getString(Constants.FLINK_SQL_QUERY_KEY, Constants.FLINK_SQL_QUERY_DEFAULT));
+            StreamInfo streamInfo = createStreamInfo(table);
+            genericTypeReport.check(sqlQuery.getStageName("sql"), streamInfo.getDataStream().getType());
+            streamInfo = latencyTrackingConfig.track(streamInfo, sqlQuery.getStageName("sql"));
+            streamInfo = addPostProcessor(streamInfo, sqlQuery);
+            addSink(streamInfo, sqlQuery);
+        }
+        genericTypeReport.notifySubscriber(telemetryExporter);
         return this;
     }
 
@@ -165,17 +211,25 @@ public class StreamManager {
      * @return the stream info
      */
     protected StreamInfo createStreamInfo(Table table) {
+        RowTypeInfo rowType = TableRowType.from(table.getSchema());
         DataStream<Row> stream = tableEnvironment
-                .toRetractStream(table, Row.class)
+                .toRetractStream(table, rowType)
                 .filter(value -> value.f0)
-                .map(value -> value.f1);
+                .map(value -> value.f1)
+                .returns(rowType);
         return new StreamInfo(stream, table.getSchema().getFieldNames());
     }
 
-    private StreamInfo addPostProcessor(StreamInfo streamInfo) {
-        List<PostProcessor> postProcessors = PostProcessorFactory.getPostProcessors(configuration, stencilClientOrchestrator, streamInfo.getColumnNames(), telemetryExporter);
+    private StreamInfo addPostProcessor(StreamInfo streamInfo, SqlQueries.SqlQuery sqlQuery) {
+        List<PostProcessor> postProcessors = PostProcessorFactory.getPostProcessors(sqlQuery.getConfiguration(), stencilClientOrchestrator, streamInfo.getColumnNames(), telemetryExporter);
         for (PostProcessor postProcessor : postProcessors) {
-            streamInfo = postProcessor.process(streamInfo);
+            StreamInfo processedStreamInfo = postProcessor.process(streamInfo);
+            if (processedStreamInfo.getDataStream() != streamInfo.getDataStream()) {
+                String stageName = sqlQuery.getStageName(LatencyTrackingConfig.getStageName(postProcessor));
+                genericTypeReport.check(stageName, processedStreamInfo.getDataStream().getType());
+                processedStreamInfo = latencyTrackingConfig.track(processedStreamInfo, stageName);
+            }
+            streamInfo = processedStreamInfo;
         }
         return streamInfo;
     }
@@ -189,10 +243,77 @@ public class StreamManager {
     }
 
 
-    private void addSink(StreamInfo streamInfo) {
+    private void addSink(StreamInfo streamInfo, SqlQueries.SqlQuery sqlQuery) {
+        streamInfo = latencyTrackingConfig.trackAndRemove(streamInfo, sqlQuery.getStageName("sink"));
         SinkOrchestrator sinkOrchestrator = new SinkOrchestrator();
         sinkOrchestrator.addSubscriber(telemetryExporter);
-        streamInfo.getDataStream().addSink(sinkOrchestrator.getSink(configuration, streamInfo.getColumnNames(), stencilClientOrchestrator));
+        DataStreamSink<Row> sink = streamInfo.getDataStream().addSink(sinkOrchestrator.getSink(sqlQuery.getConfiguration(), streamInfo.getColumnNames(), stencilClientOrchestrator));
+        if (!sqlQuery.getName().isEmpty()) {
+            sink.name(sqlQuery.getStageName("sink"));
+        }
+    }
+
+    private void registerDescriptorSnapshot() {
+        List<String> classNames = new ArrayList<>();
+        List<String> stencilUrls = new ArrayList<>();
+        collectSnapshotSources(classNames, stencilUrls);
+        DescriptorSnapshot descriptorSnapshot = new StencilClientOrchestrator(configuration).createDescriptorSnapshot(classNames, stencilUrls);
+        String snapshotPath = configuration.getString(SCHEMA_REGISTRY_STENCIL_SNAPSHOT_PATH_KEY, SCHEMA_REGISTRY_STENCIL_SNAPSHOT_PATH_DEFAULT);
+        if (snapshotPath.isEmpty()) {
+            configuration.setString(SCHEMA_REGISTRY_STENCIL_SNAPSHOT_KEY, descriptorSnapshot.encode());
+            return;
+        }
+        File snapshotFile = new File(snapshotPath);
+        try {
+            if (snapshotFile.getParentFile() != null) {
+                snapshotFile.getParentFile().mkdirs();
+            }
+            Files.write(snapshotFile.toPath(), descriptorSnapshot.toBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void collectSnapshotSources(List<String> snapshotClassNames, List<String> snapshotStencilUrls) {
+        Set<String> classNames = new LinkedHashSet<>();
+        Set<String> stencilUrls = new LinkedHashSet<>();
+        Map[] streamsConfig = GSON.fromJson(configuration.getString(INPUT_STREAMS, ""), Map[].class);
+        for (Map streamConfig : streamsConfig) {
+            classNames.add((String) streamConfig.get(STREAM_INPUT_SCHEMA_PROTO_CLASS));
+        }
+        for (SqlQueries.SqlQuery sqlQuery : new SqlQueries(configuration).getQueries()) {
+            Configuration queryConfiguration = sqlQuery.getConfiguration();
+            classNames.add(queryConfiguration.getString(SINK_KAFKA_PROTO_MESSAGE_KEY, ""));
+            classNames.add(queryConfiguration.getString(SINK_KAFKA_PROTO_KEY, ""));
+            if (queryConfiguration.getBoolean(PROCESSOR_POSTPROCESSOR_ENABLE_KEY, PROCESSOR_POSTPROCESSOR_ENABLE_DEFAULT)) {
+                collectExternalSources(PostProcessorConfig.parse(queryConfiguration.getString(PROCESSOR_POSTPROCESSOR_CONFIG_KEY, "")), classNames, stencilUrls);
+            }
+        }
+        Arrays.stream(configuration.getString(SCHEMA_REGISTRY_STENCIL_SNAPSHOT_CLASSES_KEY, SCHEMA_REGISTRY_STENCIL_SNAPSHOT_CLASSES_DEFAULT).split(","))
+                .map(String::trim)
+                .forEach(classNames::add);
+        classNames.removeIf(className -> className == null || className.isEmpty());
+        stencilUrls.removeIf(stencilUrl -> stencilUrl == null || stencilUrl.isEmpty());
+        snapshotClassNames.addAll(classNames);
+        snapshotStencilUrls.addAll(stencilUrls);
+    }
+
+    private void collectExternalSources(PostProcessorConfig postProcessorConfig, Set<String> classNames, Set<String> stencilUrls) {
+        if (postProcessorConfig == null || !postProcessorConfig.hasExternalSource()) {
+            return;
+        }
+        ExternalSourceConfig externalSource = postProcessorConfig.getExternalSource();
+        externalSource.getHttpConfig().forEach(http -> classNames.add(http.getType()));
+        externalSource.getEsConfig().forEach(es -> classNames.add(es.getType()));
+        externalSource.getPgConfig().forEach(pg -> classNames.add(pg.getType()));
+        for (GrpcSourceConfig grpc : externalSource.getGrpcConfig()) {
+            classNames.add(grpc.getType());
+            classNames.add(grpc.getGrpcRequestProtoSchema());
+            classNames.add(grpc.getGrpcResponseProtoSchema());
+            stencilUrls.addAll(grpc.getGrpcStencilUrl());
+        }
+        externalSource.getLookupConfig().forEach(lookup -> classNames.add(lookup.getProtoClass()));
+        externalSource.getKeyedLookupConfig().forEach(keyedLookup -> classNames.add(keyedLookup.getProtoClass()));
     }
 
     private Streams getKafkaStreams() {
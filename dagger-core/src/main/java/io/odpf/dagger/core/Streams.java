@@ -4,13 +4,11 @@ import com.google.gson.Gson;
 import io.odpf.dagger.common.core.StencilClientOrchestrator;
 import io.odpf.dagger.core.metrics.telemetry.TelemetryPublisher;
 import io.odpf.dagger.core.source.FlinkKafkaConsumerCustom;
+import io.odpf.dagger.core.source.IdleAwareTimestampExtractor;
 import io.odpf.dagger.core.source.ProtoDeserializer;
+import io.odpf.dagger.core.source.filter.ProtoFilter;
 import org.apache.flink.configuration.Configuration;
-import org.apache.flink.streaming.api.functions.timestamps.BoundedOutOfOrdernessTimestampExtractor;
-import org.apache.flink.streaming.api.windowing.time.Time;
-import org.apache.flink.types.Row;
 
-import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -18,7 +16,6 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
-import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 import static io.odpf.dagger.common.core.Constants.*;
@@ -114,23 +111,24 @@ public class Streams implements TelemetryPublisher {
 
         setAdditionalConfigs(kafkaProps);
 
+        String filterExpression = streamConfig.getOrDefault(STREAM_SOURCE_KAFKA_FILTER_KEY, "");
+        ProtoFilter protoFilter = filterExpression.trim().isEmpty() ? null : new ProtoFilter(filterExpression);
         FlinkKafkaConsumerCustom fc = new FlinkKafkaConsumerCustom(Pattern.compile(topicsForStream),
-                new ProtoDeserializer(protoClassName, timestampFieldIndex, rowTimeAttributeName, stencilClientOrchestrator), kafkaProps, configuration);
+                new ProtoDeserializer(protoClassName, timestampFieldIndex, rowTimeAttributeName, stencilClientOrchestrator, isIngestionTimeEnabled(), protoFilter), kafkaProps, configuration);
 
         // https://ci.apache.org/projects/flink/flink-docs-stable/dev/event_timestamps_watermarks.html#timestamps-per-kafka-partition
         if (enablePerPartitionWatermark) {
-            fc.assignTimestampsAndWatermarks(new BoundedOutOfOrdernessTimestampExtractor<Row>(Time.of(watermarkDelay, TimeUnit.MILLISECONDS)) {
-                @Override
-                public long extractTimestamp(Row element) {
-                    int index = element.getArity() - 1;
-                    return ((Timestamp) element.getField(index)).getTime();
-                }
-            });
+            long partitionIdleTimeout = configuration.getLong(FLINK_WATERMARK_PARTITION_IDLE_TIMEOUT_MS_KEY, FLINK_WATERMARK_PARTITION_IDLE_TIMEOUT_MS_DEFAULT);
+            fc.assignTimestampsAndWatermarks(new IdleAwareTimestampExtractor(watermarkDelay, partitionIdleTimeout));
         }
 
         return fc;
     }
 
+    private boolean isIngestionTimeEnabled() {
+        return configuration.getBoolean(METRIC_LATENCY_TRACKING_ENABLE_KEY, METRIC_LATENCY_TRACKING_ENABLE_DEFAULT);
+    }
+
     private void setAdditionalConfigs(Properties kafkaProps) {
         if (configuration.getBoolean(SOURCE_KAFKA_CONSUME_LARGE_MESSAGE_ENABLE_KEY, SOURCE_KAFKA_CONSUME_LARGE_MESSAGE_ENABLE_DEFAULT)) {
             kafkaProps.setProperty(SOURCE_KAFKA_MAX_PARTITION_FETCH_BYTES_KEY, SOURCE_KAFKA_MAX_PARTITION_FETCH_BYTES_DEFAULT);
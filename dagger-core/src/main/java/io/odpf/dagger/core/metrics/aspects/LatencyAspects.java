@@ -0,0 +1,31 @@
+package io.odpf.dagger.core.metrics.aspects;
+
+import io.odpf.dagger.common.metrics.aspects.AspectType;
+import io.odpf.dagger.common.metrics.aspects.Aspects;
+
+/**
+ * The enum Latency aspects.
+ */
+public enum LatencyAspects implements Aspects {
+    EVENT_TIME_LAG("event_time_lag", AspectType.Histogram),
+    LATENCY_SINCE_INGESTION("latency_since_ingestion", AspectType.Histogram),
+    STAGE_LATENCY("stage_latency", AspectType.Histogram);
+
+    private String value;
+    private AspectType aspectType;
+
+    LatencyAspects(String value, AspectType aspectType) {
+        this.value = value;
+        this.aspectType = aspectType;
+    }
+
+    @Override
+    public String getValue() {
+        return value;
+    }
+
+    @Override
+    public AspectType getAspectType() {
+        return aspectType;
+    }
+}
@@ -14,7 +14,14 @@ public enum LongbowReaderAspects implements Aspects {
     DOCUMENTS_READ_PER_SCAN("documents_read_per_scan", AspectType.Histogram),
     FAILED_ON_READ_DOCUMENT("failed_on_read_document", AspectType.Metric),
     FAILED_ON_READ_DOCUMENT_RESPONSE_TIME("failed_on_read_document_response_time", AspectType.Histogram),
-    FAILED_TO_READ_LAST_RECORD("failed_to_read_last_record", AspectType.Metric);
+    FAILED_TO_READ_LAST_RECORD("failed_to_read_last_record", AspectType.Metric),
+    CACHE_HIT_ON_READ_DOCUMENT("cache_hit_on_read_document", AspectType.Metric),
+    CACHE_PARTIAL_HIT_ON_READ_DOCUMENT("cache_partial_hit_on_read_document", AspectType.Metric),
+    CACHE_MISS_ON_READ_DOCUMENT("cache_miss_on_read_document", AspectType.Metric),
+    DOCUMENTS_IN_CACHE("documents_in_cache", AspectType.Histogram),
+    TRUNCATED_ON_READ_DOCUMENT("truncated_on_read_document", AspectType.Metric),
+    READS_PER_COALESCED_SCAN("reads_per_coalesced_scan", AspectType.Histogram),
+    MISSING_HISTORY_AFTER_RESTORE("missing_history_after_restore", AspectType.Metric);
 
     private String value;
     private AspectType aspectType;
@@ -16,7 +16,10 @@ public enum LongbowWriterAspects implements Aspects {
     SUCCESS_ON_WRITE_DOCUMENT("success_on_write_document", AspectType.Metric),
     SUCCESS_ON_WRITE_DOCUMENT_RESPONSE_TIME("success_on_write_document_response_time", AspectType.Histogram),
     FAILED_ON_WRITE_DOCUMENT("failed_on_write_document", AspectType.Metric),
-    FAILED_ON_WRITE_DOCUMENT_RESPONSE_TIME("failed_on_write_document_response_time", AspectType.Histogram);
+    FAILED_ON_WRITE_DOCUMENT_RESPONSE_TIME("failed_on_write_document_response_time", AspectType.Histogram),
+    DOCUMENTS_WRITTEN_PER_BATCH("documents_written_per_batch", AspectType.Histogram),
+    BATCH_WRITE_RESPONSE_TIME("batch_write_response_time", AspectType.Histogram),
+    FAILED_ON_WRITE_BATCH("failed_on_write_batch", AspectType.Metric);
 
     private String value;
     private AspectType aspectType;
@@ -0,0 +1,35 @@
+package io.odpf.dagger.core.metrics.aspects;
+
+import io.odpf.dagger.common.metrics.aspects.AspectType;
+import io.odpf.dagger.common.metrics.aspects.Aspects;
+
+/**
+ * The enum Lookup source aspects.
+ */
+public enum LookupSourceAspects implements Aspects {
+    LOOKUP_HITS("lookup_hits", AspectType.Metric),
+    LOOKUP_MISSES("lookup_misses", AspectType.Metric),
+    EMPTY_INPUT("empty_input", AspectType.Metric),
+    LOOKUP_UPDATES("lookup_updates", AspectType.Metric),
+    LOOKUP_DELETES("lookup_deletes", AspectType.Metric),
+    LOOKUP_WAITS("lookup_waits", AspectType.Metric),
+    LOOKUP_TIMEOUTS("lookup_timeouts", AspectType.Metric);
+
+    private String value;
+    private AspectType aspectType;
+
+    LookupSourceAspects(String value, AspectType aspectType) {
+        this.value = value;
+        this.aspectType = aspectType;
+    }
+
+    @Override
+    public String getValue() {
+        return value;
+    }
+
+    @Override
+    public AspectType getAspectType() {
+        return aspectType;
+    }
+}
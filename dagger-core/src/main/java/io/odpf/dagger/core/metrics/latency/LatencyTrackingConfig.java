@@ -0,0 +1,163 @@
+package io.odpf.dagger.core.metrics.latency;
+
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.types.Row;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.odpf.dagger.common.core.StreamInfo;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+
+import static io.odpf.dagger.core.utils.Constants.FLINK_ROWTIME_ATTRIBUTE_NAME_DEFAULT;
+import static io.odpf.dagger.core.utils.Constants.FLINK_ROWTIME_ATTRIBUTE_NAME_KEY;
+import static io.odpf.dagger.core.utils.Constants.INGESTION_TIME_FIELD_KEY;
+import static io.odpf.dagger.core.utils.Constants.METRIC_LATENCY_TRACKING_ENABLE_DEFAULT;
+import static io.odpf.dagger.core.utils.Constants.METRIC_LATENCY_TRACKING_ENABLE_KEY;
+import static io.odpf.dagger.core.utils.Constants.METRIC_LATENCY_TRACKING_SAMPLE_INTERVAL_DEFAULT;
+import static io.odpf.dagger.core.utils.Constants.METRIC_LATENCY_TRACKING_SAMPLE_INTERVAL_KEY;
+import static io.odpf.dagger.core.utils.Constants.STAGE_ENTRY_TIME_FIELD_KEY;
+
+/**
+ * The Latency tracking config.
+ * When enabled, the source stamps every row with an ingestion time and a stage entry time, and each stage boundary
+ * records the latency since ingestion and the time spent in the stage of a sample of the rows passing through it.
+ * Stages after the SQL are tracked only when the query selects the latency columns, a warning is logged otherwise.
+ */
+public class LatencyTrackingConfig implements Serializable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LatencyTrackingConfig.class.getName());
+
+    private final boolean enabled;
+    private final int sampleInterval;
+    private final String rowtimeAttributeName;
+
+    /**
+     * Instantiates a new Latency tracking config.
+     *
+     * @param configuration the configuration
+     */
+    public LatencyTrackingConfig(Configuration configuration) {
+        this(configuration.getBoolean(METRIC_LATENCY_TRACKING_ENABLE_KEY, METRIC_LATENCY_TRACKING_ENABLE_DEFAULT),
+                configuration.getInteger(METRIC_LATENCY_TRACKING_SAMPLE_INTERVAL_KEY, METRIC_LATENCY_TRACKING_SAMPLE_INTERVAL_DEFAULT),
+                configuration.getString(FLINK_ROWTIME_ATTRIBUTE_NAME_KEY, FLINK_ROWTIME_ATTRIBUTE_NAME_DEFAULT));
+    }
+
+    /**
+     * Instantiates a new Latency tracking config with specified values.
+     *
+     * @param enabled              the enabled
+     * @param sampleInterval       record one out of every sample interval rows
+     * @param rowtimeAttributeName the rowtime attribute name
+     */
+    public LatencyTrackingConfig(boolean enabled, int sampleInterval, String rowtimeAttributeName) {
+        if (enabled && sampleInterval < 1) {
+            throw new IllegalArgumentException(METRIC_LATENCY_TRACKING_SAMPLE_INTERVAL_KEY + " should be a positive number, found " + sampleInterval);
+        }
+        this.enabled = enabled;
+        this.sampleInterval = sampleInterval;
+        this.rowtimeAttributeName = rowtimeAttributeName;
+    }
+
+    /**
+     * Check if latency tracking is enabled.
+     *
+     * @return the boolean
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Gets sample interval.
+     *
+     * @return the sample interval
+     */
+    public int getSampleInterval() {
+        return sampleInterval;
+    }
+
+    /**
+     * Track latency of rows leaving the given stage.
+     *
+     * @param streamInfo the stream info
+     * @param stage      the stage
+     * @return the stream info
+     */
+    public StreamInfo track(StreamInfo streamInfo, String stage) {
+        if (!canTrack(streamInfo.getColumnNames(), stage)) {
+            return streamInfo;
+        }
+        LatencyTrackingDecorator decorator = createDecorator(stage, streamInfo.getColumnNames(), false, false);
+        return new StreamInfo(decorator.decorate(streamInfo.getDataStream()), streamInfo.getColumnNames());
+    }
+
+    /**
+     * Track latency of input output rows leaving the given stage inside a post processor.
+     *
+     * @param dataStream       the data stream of input output rows
+     * @param inputColumnNames the input column names
+     * @param stage            the stage
+     * @return the data stream
+     */
+    public DataStream<Row> trackInputOutput(DataStream<Row> dataStream, String[] inputColumnNames, String stage) {
+        if (!canTrack(inputColumnNames, stage)) {
+            return dataStream;
+        }
+        return createDecorator(stage, inputColumnNames, true, false).decorate(dataStream);
+    }
+
+    /**
+     * Track latency of rows handed over to the sink and drop the latency columns.
+     *
+     * @param streamInfo the stream info
+     * @param stage      the stage
+     * @return the stream info without the latency columns
+     */
+    public StreamInfo trackAndRemove(StreamInfo streamInfo, String stage) {
+        if (!canTrack(streamInfo.getColumnNames(), stage)) {
+            return streamInfo;
+        }
+        String[] columnNames = streamInfo.getColumnNames();
+        LatencyTrackingDecorator decorator = createDecorator(stage, columnNames, false, true);
+        String[] remainingColumnNames = Arrays.stream(columnNames)
+                .filter(columnName -> !INGESTION_TIME_FIELD_KEY.equals(columnName) && !STAGE_ENTRY_TIME_FIELD_KEY.equals(columnName))
+                .toArray(String[]::new);
+        return new StreamInfo(decorator.decorate(streamInfo.getDataStream()), remainingColumnNames);
+    }
+
+    /**
+     * Gets stage name for a processor.
+     *
+     * @param processor the processor
+     * @return the stage name
+     */
+    public static String getStageName(Object processor) {
+        return processor.getClass().getSimpleName().replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase();
+    }
+
+    private boolean canTrack(String[] columnNames, String stage) {
+        if (!enabled) {
+            return false;
+        }
+        List<String> columns = Arrays.asList(columnNames);
+        if (!columns.contains(INGESTION_TIME_FIELD_KEY)) {
+            LOGGER.warn("Latency of stage " + stage + " is not tracked, select " + INGESTION_TIME_FIELD_KEY + " and " + STAGE_ENTRY_TIME_FIELD_KEY + " in the SQL query to track it");
+            return false;
+        }
+        if (!columns.contains(STAGE_ENTRY_TIME_FIELD_KEY)) {
+            LOGGER.warn("Time spent in stage " + stage + " is not tracked, select " + STAGE_ENTRY_TIME_FIELD_KEY + " in the SQL query to track it");
+        }
+        return true;
+    }
+
+    private LatencyTrackingDecorator createDecorator(String stage, String[] columnNames, boolean inputOutputRow, boolean removeLatencyColumns) {
+        List<String> columns = Arrays.asList(columnNames);
+        int ingestionTimeIndex = columns.indexOf(INGESTION_TIME_FIELD_KEY);
+        int stageEntryTimeIndex = columns.indexOf(STAGE_ENTRY_TIME_FIELD_KEY);
+        int rowtimeIndex = columns.indexOf(rowtimeAttributeName);
+        return new LatencyTrackingDecorator(stage, ingestionTimeIndex, stageEntryTimeIndex, rowtimeIndex, sampleInterval, inputOutputRow, removeLatencyColumns);
+    }
+}
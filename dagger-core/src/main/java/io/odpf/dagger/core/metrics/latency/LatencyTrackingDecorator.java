@@ -0,0 +1,147 @@
+package io.odpf.dagger.core.metrics.latency;
+
+import org.apache.flink.api.common.functions.RichMapFunction;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.types.Row;
+
+import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
+import io.odpf.dagger.core.metrics.aspects.LatencyAspects;
+import io.odpf.dagger.core.processors.common.RowManager;
+import io.odpf.dagger.core.processors.types.MapDecorator;
+
+import java.sql.Timestamp;
+import java.util.stream.IntStream;
+
+import static io.odpf.dagger.core.utils.Constants.LATENCY_STAGE_METRIC_GROUP_KEY;
+
+/**
+ * The Latency tracking decorator.
+ * Records the latency since ingestion, the time spent in the stage since the row entered it, and the event time lag
+ * when the rowtime is available, for one out of every sample interval rows leaving a stage. Every row leaving the stage
+ * is stamped in place with the time it enters the next one, so unsampled rows cost no allocation.
+ */
+public class LatencyTrackingDecorator extends RichMapFunction<Row, Row> implements MapDecorator {
+    private final String stage;
+    private final int ingestionTimeIndex;
+    private final int stageEntryTimeIndex;
+    private final int rowtimeIndex;
+    private final int sampleInterval;
+    private final boolean inputOutputRow;
+    private final boolean removeLatencyColumns;
+    private transient MeterStatsManager meterStatsManager;
+    private transient long rowsSeen;
+
+    /**
+     * Instantiates a new Latency tracking decorator.
+     *
+     * @param stage                the stage
+     * @param ingestionTimeIndex   the ingestion time index
+     * @param stageEntryTimeIndex  the stage entry time index, -1 if not available
+     * @param rowtimeIndex         the rowtime index, -1 if not available
+     * @param sampleInterval       the sample interval
+     * @param inputOutputRow       whether rows are input output rows of a post processor
+     * @param removeLatencyColumns whether the ingestion time and stage entry time columns are dropped from the row
+     */
+    public LatencyTrackingDecorator(String stage, int ingestionTimeIndex, int stageEntryTimeIndex, int rowtimeIndex, int sampleInterval, boolean inputOutputRow, boolean removeLatencyColumns) {
+        this.stage = stage;
+        this.ingestionTimeIndex = ingestionTimeIndex;
+        this.stageEntryTimeIndex = stageEntryTimeIndex;
+        this.rowtimeIndex = rowtimeIndex;
+        this.sampleInterval = sampleInterval;
+        this.inputOutputRow = inputOutputRow;
+        this.removeLatencyColumns = removeLatencyColumns;
+    }
+
+    /**
+     * Instantiates a new Latency tracking decorator with specified meter stats manager.
+     *
+     * @param stage                the stage
+     * @param ingestionTimeIndex   the ingestion time index
+     * @param stageEntryTimeIndex  the stage entry time index, -1 if not available
+     * @param rowtimeIndex         the rowtime index, -1 if not available
+     * @param sampleInterval       the sample interval
+     * @param inputOutputRow       whether rows are input output rows of a post processor
+     * @param removeLatencyColumns whether the ingestion time and stage entry time columns are dropped from the row
+     * @param meterStatsManager    the meter stats manager
+     */
+    public LatencyTrackingDecorator(String stage, int ingestionTimeIndex, int stageEntryTimeIndex, int rowtimeIndex, int sampleInterval, boolean inputOutputRow, boolean removeLatencyColumns, MeterStatsManager meterStatsManager) {
+        this(stage, ingestionTimeIndex, stageEntryTimeIndex, rowtimeIndex, sampleInterval, inputOutputRow, removeLatencyColumns);
+        this.meterStatsManager = meterStatsManager;
+    }
+
+    @Override
+    public void open(Configuration configuration) throws Exception {
+        if (meterStatsManager == null) {
+            meterStatsManager = new MeterStatsManager(getRuntimeContext().getMetricGroup(), true);
+        }
+        meterStatsManager.register(LATENCY_STAGE_METRIC_GROUP_KEY, stage, LatencyAspects.values());
+    }
+
+    @Override
+    public Boolean canDecorate() {
+        return true;
+    }
+
+    @Override
+    public Row map(Row input) {
+        long now = System.currentTimeMillis();
+        Row row = inputOutputRow ? (Row) input.getField(RowManager.INPUT_ROW_INDEX) : input;
+        if (++rowsSeen % sampleInterval == 0) {
+            record(row, now);
+        }
+        if (removeLatencyColumns) {
+            return removeLatencyColumns(input);
+        }
+        if (stageEntryTimeIndex >= 0) {
+            row.setField(stageEntryTimeIndex, now);
+        }
+        return input;
+    }
+
+    @Override
+    public DataStream<Row> decorate(DataStream<Row> inputStream) {
+        TypeInformation<Row> inputType = inputStream.getType();
+        if (!removeLatencyColumns) {
+            return inputStream.map(this).returns(inputType);
+        }
+        if (inputType instanceof RowTypeInfo) {
+            RowTypeInfo rowTypeInfo = (RowTypeInfo) inputType;
+            int[] remainingFields = IntStream.range(0, rowTypeInfo.getArity()).filter(index -> !isLatencyColumn(index)).toArray();
+            return inputStream.map(this).returns(RowTypeInfo.projectFields(rowTypeInfo, remainingFields));
+        }
+        return inputStream.map(this);
+    }
+
+    private void record(Row row, long now) {
+        Object ingestionTime = row.getField(ingestionTimeIndex);
+        if (ingestionTime instanceof Long) {
+            meterStatsManager.updateHistogram(LatencyAspects.LATENCY_SINCE_INGESTION, now - (Long) ingestionTime);
+        }
+        Object stageEntryTime = stageEntryTimeIndex >= 0 ? row.getField(stageEntryTimeIndex) : null;
+        if (stageEntryTime instanceof Long) {
+            meterStatsManager.updateHistogram(LatencyAspects.STAGE_LATENCY, now - (Long) stageEntryTime);
+        }
+        Object rowtime = rowtimeIndex >= 0 ? row.getField(rowtimeIndex) : null;
+        if (rowtime instanceof Timestamp) {
+            meterStatsManager.updateHistogram(LatencyAspects.EVENT_TIME_LAG, now - ((Timestamp) rowtime).getTime());
+        }
+    }
+
+    private boolean isLatencyColumn(int index) {
+        return index == ingestionTimeIndex || index == stageEntryTimeIndex;
+    }
+
+    private Row removeLatencyColumns(Row input) {
+        int remainingColumns = input.getArity() - (stageEntryTimeIndex >= 0 ? 2 : 1);
+        Row output = new Row(remainingColumns);
+        for (int index = 0, outputIndex = 0; index < input.getArity(); index++) {
+            if (!isLatencyColumn(index)) {
+                output.setField(outputIndex++, input.getField(index));
+            }
+        }
+        return output;
+    }
+}
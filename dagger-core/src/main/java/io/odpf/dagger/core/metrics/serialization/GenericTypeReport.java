@@ -0,0 +1,80 @@
+package io.odpf.dagger.core.metrics.serialization;
+
+import io.odpf.dagger.core.metrics.telemetry.TelemetryPublisher;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeutils.CompositeType;
+import org.apache.flink.api.java.typeutils.GenericTypeInfo;
+import org.apache.flink.api.java.typeutils.ListTypeInfo;
+import org.apache.flink.api.java.typeutils.MapTypeInfo;
+import org.apache.flink.api.java.typeutils.ObjectArrayTypeInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.odpf.dagger.core.metrics.telemetry.TelemetryTypes.GENERIC_TYPE_FIELD;
+
+/**
+ * Reports, when the job is built, the fields of the streams which are typed as generic and serialized with Kryo.
+ * Every such field is logged and sent as telemetry with its stage and path, e.g. {@code sql.booking_log.tags[]}.
+ */
+public class GenericTypeReport implements TelemetryPublisher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GenericTypeReport.class.getName());
+    private static final String ROW = "row";
+
+    private final Map<String, List<String>> metrics = new HashMap<>();
+
+    /**
+     * Check the type of the stream of a stage for generic fields.
+     *
+     * @param stage           the stage name
+     * @param typeInformation the type of the stream
+     */
+    public void check(String stage, TypeInformation<?> typeInformation) {
+        for (String path : findGenericFields(typeInformation)) {
+            LOGGER.warn("Field {} of stage {} has a generic type and is serialized with Kryo", path, stage);
+            metrics.computeIfAbsent(GENERIC_TYPE_FIELD.getValue(), key -> new ArrayList<>()).add(stage + "." + path);
+        }
+    }
+
+    @Override
+    public Map<String, List<String>> getTelemetry() {
+        return metrics;
+    }
+
+    /**
+     * Find the paths of the fields with a generic type.
+     *
+     * @param typeInformation the type information
+     * @return the paths of the generic fields
+     */
+    public static List<String> findGenericFields(TypeInformation<?> typeInformation) {
+        List<String> paths = new ArrayList<>();
+        findGenericFields(typeInformation, ROW, paths);
+        return paths;
+    }
+
+    private static void findGenericFields(TypeInformation<?> typeInformation, String path, List<String> paths) {
+        if (typeInformation instanceof GenericTypeInfo) {
+            paths.add(path);
+        } else if (typeInformation instanceof CompositeType) {
+            CompositeType<?> compositeType = (CompositeType<?>) typeInformation;
+            String prefix = ROW.equals(path) ? "" : path + ".";
+            String[] fieldNames = compositeType.getFieldNames();
+            for (int index = 0; index < fieldNames.length; index++) {
+                findGenericFields(compositeType.getTypeAt(index), prefix + fieldNames[index], paths);
+            }
+        } else if (typeInformation instanceof ObjectArrayTypeInfo) {
+            findGenericFields(((ObjectArrayTypeInfo<?, ?>) typeInformation).getComponentInfo(), path + "[]", paths);
+        } else if (typeInformation instanceof ListTypeInfo) {
+            findGenericFields(((ListTypeInfo<?>) typeInformation).getElementTypeInfo(), path + "[]", paths);
+        } else if (typeInformation instanceof MapTypeInfo) {
+            MapTypeInfo<?, ?> mapTypeInfo = (MapTypeInfo<?, ?>) typeInformation;
+            findGenericFields(mapTypeInfo.getKeyTypeInfo(), path + "{key}", paths);
+            findGenericFields(mapTypeInfo.getValueTypeInfo(), path + "{value}", paths);
+        }
+    }
+}
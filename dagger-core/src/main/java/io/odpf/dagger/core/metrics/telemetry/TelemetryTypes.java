@@ -13,7 +13,12 @@ public enum TelemetryTypes {
     OUTPUT_STREAM("output_stream"),
     POST_PROCESSOR_TYPE("post_processor_type"),
     PRE_PROCESSOR_TYPE("pre_processor_type"),
-    SOURCE_METRIC_ID("source_metricId");
+    SOURCE_METRIC_ID("source_metricId"),
+    STATE_BACKEND("state_backend"),
+    STATE_BACKEND_OPTIONS("state_backend_options"),
+    CHECKPOINT_MODE("checkpoint_mode"),
+    OUTPUT_QUERY("output_query"),
+    GENERIC_TYPE_FIELD("generic_type_field");
 
     /**
      * Gets telemetry type value.
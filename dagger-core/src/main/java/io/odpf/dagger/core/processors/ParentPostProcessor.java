@@ -5,6 +5,7 @@ import org.apache.flink.configuration.Configuration;
 import org.apache.flink.streaming.api.datastream.DataStream;
 import org.apache.flink.types.Row;
 
+import io.odpf.dagger.core.metrics.latency.LatencyTrackingConfig;
 import io.odpf.dagger.core.metrics.telemetry.TelemetrySubscriber;
 import io.odpf.dagger.common.core.StreamInfo;
 import io.odpf.dagger.common.core.StencilClientOrchestrator;
@@ -58,9 +59,12 @@ public class ParentPostProcessor implements PostProcessor {
         streamInfo = new StreamInfo(resultStream, streamInfo.getColumnNames());
         SchemaConfig schemaConfig = new SchemaConfig(configuration, stencilClientOrchestrator, columnNameManager);
 
+        LatencyTrackingConfig latencyTrackingConfig = new LatencyTrackingConfig(configuration);
         List<PostProcessor> enabledPostProcessors = getEnabledPostProcessors(telemetrySubscriber, schemaConfig);
         for (PostProcessor postProcessor : enabledPostProcessors) {
             streamInfo = postProcessor.process(streamInfo);
+            resultStream = latencyTrackingConfig.trackInputOutput(streamInfo.getDataStream(), streamInfo.getColumnNames(), LatencyTrackingConfig.getStageName(postProcessor));
+            streamInfo = new StreamInfo(resultStream, streamInfo.getColumnNames());
         }
 
         FetchOutputDecorator fetchOutputDecorator = new FetchOutputDecorator(schemaConfig, postProcessorConfig.hasSQLTransformer());
@@ -70,6 +74,7 @@ public class ParentPostProcessor implements PostProcessor {
         if (transformProcessor.canProcess(postProcessorConfig)) {
             transformProcessor.notifySubscriber(telemetrySubscriber);
             resultantStreamInfo = transformProcessor.process(resultantStreamInfo);
+            resultantStreamInfo = latencyTrackingConfig.track(resultantStreamInfo, LatencyTrackingConfig.getStageName(transformProcessor));
         }
         return resultantStreamInfo;
     }
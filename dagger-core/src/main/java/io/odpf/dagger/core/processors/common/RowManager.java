@@ -8,6 +8,9 @@ import java.util.Objects;
 
 /**
  * A class that responsible for manage input and output Row.
+ * The input output row is created for every record by the {@link InitializationDecorator} and belongs to the
+ * post processors, which fill its output row in place. The input row, and its nested rows copied into the output,
+ * are shared with the upstream operator and never modified, so the post processors are safe with object reuse.
  */
 public class RowManager {
     public static final int INPUT_ROW_INDEX = 0;
@@ -2,6 +2,8 @@ package io.odpf.dagger.core.processors.external;
 
 import org.apache.flink.configuration.Configuration;
 
+import io.odpf.dagger.core.SqlQueries;
+import io.odpf.dagger.core.metrics.latency.LatencyTrackingConfig;
 import io.odpf.dagger.core.metrics.telemetry.TelemetrySubscriber;
 import io.odpf.dagger.core.utils.Constants;
 
@@ -9,10 +11,14 @@ import java.io.Serializable;
 
 /**
  * The External metric config.
+ * The metric ids of the sources of a named query are prefixed by the query name, so the queries of a dagger
+ * report their external calls separately.
  */
 public class ExternalMetricConfig implements Serializable {
     private final long shutDownPeriod;
     private final boolean telemetryEnabled;
+    private final LatencyTrackingConfig latencyTrackingConfig;
+    private final String queryName;
     private TelemetrySubscriber telemetrySubscriber;
     private String metricId;
 
@@ -26,6 +32,8 @@ public class ExternalMetricConfig implements Serializable {
         this.shutDownPeriod = configuration.getLong(Constants.METRIC_TELEMETRY_SHUTDOWN_PERIOD_MS_KEY, Constants.METRIC_TELEMETRY_SHUTDOWN_PERIOD_MS_DEFAULT);
         this.telemetryEnabled = configuration.getBoolean(Constants.METRIC_TELEMETRY_ENABLE_KEY, Constants.METRIC_TELEMETRY_ENABLE_VALUE_DEFAULT);
         this.telemetrySubscriber = telemetrySubscriber;
+        this.latencyTrackingConfig = new LatencyTrackingConfig(configuration);
+        this.queryName = SqlQueries.getQueryName(configuration);
     }
 
     /**
@@ -39,15 +47,17 @@ public class ExternalMetricConfig implements Serializable {
         this.metricId = metricId;
         this.shutDownPeriod = shutDownPeriod;
         this.telemetryEnabled = telemetryEnabled;
+        this.latencyTrackingConfig = new LatencyTrackingConfig(false, 1, "");
+        this.queryName = "";
     }
 
     /**
-     * Gets metric id.
+     * Gets metric id, prefixed by the query name when the query has one.
      *
      * @return the metric id
      */
     public String getMetricId() {
-        return metricId;
+        return queryName.isEmpty() ? metricId : queryName + "_" + metricId;
     }
 
     /**
@@ -85,4 +95,13 @@ public class ExternalMetricConfig implements Serializable {
     public long getShutDownPeriod() {
         return shutDownPeriod;
     }
+
+    /**
+     * Gets latency tracking config.
+     *
+     * @return the latency tracking config
+     */
+    public LatencyTrackingConfig getLatencyTrackingConfig() {
+        return latencyTrackingConfig;
+    }
 }
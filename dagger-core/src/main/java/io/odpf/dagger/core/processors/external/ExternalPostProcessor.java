@@ -1,6 +1,7 @@
 package io.odpf.dagger.core.processors.external;
 
 import io.odpf.dagger.common.core.StreamInfo;
+import io.odpf.dagger.core.metrics.latency.LatencyTrackingConfig;
 import io.odpf.dagger.core.processors.PostProcessorConfig;
 import io.odpf.dagger.core.processors.types.PostProcessor;
 import io.odpf.dagger.core.processors.types.SourceConfig;
@@ -12,6 +13,10 @@ import io.odpf.dagger.core.processors.external.grpc.GrpcSourceConfig;
 import io.odpf.dagger.core.processors.external.grpc.GrpcStreamDecorator;
 import io.odpf.dagger.core.processors.external.http.HttpSourceConfig;
 import io.odpf.dagger.core.processors.external.http.HttpStreamDecorator;
+import io.odpf.dagger.core.processors.external.lookup.KeyedLookupSourceConfig;
+import io.odpf.dagger.core.processors.external.lookup.KeyedLookupStreamDecorator;
+import io.odpf.dagger.core.processors.external.lookup.LookupSourceConfig;
+import io.odpf.dagger.core.processors.external.lookup.LookupStreamDecorator;
 import io.odpf.dagger.core.processors.external.pg.PgSourceConfig;
 import io.odpf.dagger.core.processors.external.pg.PgStreamDecorator;
 import org.apache.commons.lang3.StringUtils;
@@ -57,6 +62,7 @@ public class ExternalPostProcessor implements PostProcessor {
             HttpSourceConfig httpSourceConfig = httpSourceConfigs.get(index);
             externalMetricConfig.setMetricId(getMetricId(index, httpSourceConfig));
             resultStream = enrichStream(resultStream, httpSourceConfig, getHttpDecorator(httpSourceConfig));
+            resultStream = trackLatency(resultStream, "external_http_" + externalMetricConfig.getMetricId());
         }
 
         List<EsSourceConfig> esSourceConfigs = externalSourceConfig.getEsConfig();
@@ -64,6 +70,7 @@ public class ExternalPostProcessor implements PostProcessor {
             EsSourceConfig esSourceConfig = esSourceConfigs.get(index);
             externalMetricConfig.setMetricId(getMetricId(index, esSourceConfig));
             resultStream = enrichStream(resultStream, esSourceConfig, getEsDecorator(esSourceConfig));
+            resultStream = trackLatency(resultStream, "external_es_" + externalMetricConfig.getMetricId());
         }
 
         List<PgSourceConfig> pgSourceConfigs = externalSourceConfig.getPgConfig();
@@ -71,6 +78,7 @@ public class ExternalPostProcessor implements PostProcessor {
             PgSourceConfig pgSourceConfig = pgSourceConfigs.get(index);
             externalMetricConfig.setMetricId(getMetricId(index, pgSourceConfig));
             resultStream = enrichStream(resultStream, pgSourceConfig, getPgDecorator(pgSourceConfig));
+            resultStream = trackLatency(resultStream, "external_pg_" + externalMetricConfig.getMetricId());
         }
 
         List<GrpcSourceConfig> grpcSourceConfigs = externalSourceConfig.getGrpcConfig();
@@ -78,6 +86,23 @@ public class ExternalPostProcessor implements PostProcessor {
             GrpcSourceConfig grpcSourceConfig = grpcSourceConfigs.get(index);
             externalMetricConfig.setMetricId(getMetricId(index, grpcSourceConfig));
             resultStream = enrichStream(resultStream, grpcSourceConfig, getGrpcDecorator(grpcSourceConfig));
+            resultStream = trackLatency(resultStream, "external_grpc_" + externalMetricConfig.getMetricId());
+        }
+
+        List<LookupSourceConfig> lookupSourceConfigs = externalSourceConfig.getLookupConfig();
+        for (int index = 0; index < lookupSourceConfigs.size(); index++) {
+            LookupSourceConfig lookupSourceConfig = lookupSourceConfigs.get(index);
+            externalMetricConfig.setMetricId(getMetricId(index, lookupSourceConfig));
+            resultStream = enrichStream(resultStream, lookupSourceConfig, getLookupDecorator(lookupSourceConfig));
+            resultStream = trackLatency(resultStream, "external_lookup_" + externalMetricConfig.getMetricId());
+        }
+
+        List<KeyedLookupSourceConfig> keyedLookupSourceConfigs = externalSourceConfig.getKeyedLookupConfig();
+        for (int index = 0; index < keyedLookupSourceConfigs.size(); index++) {
+            KeyedLookupSourceConfig keyedLookupSourceConfig = keyedLookupSourceConfigs.get(index);
+            externalMetricConfig.setMetricId(getMetricId(index, keyedLookupSourceConfig));
+            resultStream = enrichStream(resultStream, keyedLookupSourceConfig, getKeyedLookupDecorator(keyedLookupSourceConfig));
+            resultStream = trackLatency(resultStream, "external_keyed_lookup_" + externalMetricConfig.getMetricId());
         }
 
         return new StreamInfo(resultStream, streamInfo.getColumnNames());
@@ -88,6 +113,14 @@ public class ExternalPostProcessor implements PostProcessor {
         return (StringUtils.isEmpty(metricId)) ? String.valueOf(index) : metricId;
     }
 
+    private DataStream<Row> trackLatency(DataStream<Row> resultStream, String stage) {
+        LatencyTrackingConfig latencyTrackingConfig = externalMetricConfig.getLatencyTrackingConfig();
+        if (!latencyTrackingConfig.isEnabled()) {
+            return resultStream;
+        }
+        return latencyTrackingConfig.trackInputOutput(resultStream, schemaConfig.getColumnNameManager().getInputColumnNames(), stage);
+    }
+
     private DataStream<Row> enrichStream(DataStream<Row> resultStream, Validator configs, StreamDecorator decorator) {
         configs.validateFields();
         return decorator.decorate(resultStream);
@@ -121,5 +154,25 @@ public class ExternalPostProcessor implements PostProcessor {
         return new GrpcStreamDecorator(grpcSourceConfig, externalMetricConfig, schemaConfig);
     }
 
+    /**
+     * Gets lookup decorator.
+     *
+     * @param lookupSourceConfig the lookup source config
+     * @return the lookup decorator
+     */
+    protected LookupStreamDecorator getLookupDecorator(LookupSourceConfig lookupSourceConfig) {
+        return new LookupStreamDecorator(lookupSourceConfig, externalMetricConfig, schemaConfig);
+    }
+
+    /**
+     * Gets keyed lookup decorator.
+     *
+     * @param keyedLookupSourceConfig the keyed lookup source config
+     * @return the keyed lookup decorator
+     */
+    protected KeyedLookupStreamDecorator getKeyedLookupDecorator(KeyedLookupSourceConfig keyedLookupSourceConfig) {
+        return new KeyedLookupStreamDecorator(keyedLookupSourceConfig, externalMetricConfig, schemaConfig);
+    }
+
 
 }
@@ -4,6 +4,8 @@ import io.odpf.dagger.core.processors.types.SourceConfig;
 import io.odpf.dagger.core.processors.external.es.EsSourceConfig;
 import io.odpf.dagger.core.processors.external.grpc.GrpcSourceConfig;
 import io.odpf.dagger.core.processors.external.http.HttpSourceConfig;
+import io.odpf.dagger.core.processors.external.lookup.KeyedLookupSourceConfig;
+import io.odpf.dagger.core.processors.external.lookup.LookupSourceConfig;
 import io.odpf.dagger.core.processors.external.pg.PgSourceConfig;
 
 import java.util.ArrayList;
@@ -17,6 +19,8 @@ public class ExternalSourceConfig {
     private List<EsSourceConfig> es;
     private List<PgSourceConfig> pg;
     private List<GrpcSourceConfig> grpc;
+    private List<LookupSourceConfig> lookup;
+    private List<KeyedLookupSourceConfig> keyedLookup;
 
     /**
      * Instantiates a new External source config.
@@ -27,10 +31,40 @@ public class ExternalSourceConfig {
      * @param grpc the grpc
      */
     public ExternalSourceConfig(List<HttpSourceConfig> http, List<EsSourceConfig> es, List<PgSourceConfig> pg, List<GrpcSourceConfig> grpc) {
+        this(http, es, pg, grpc, null);
+    }
+
+    /**
+     * Instantiates a new External source config with lookups.
+     *
+     * @param http   the http
+     * @param es     the es
+     * @param pg     the pg
+     * @param grpc   the grpc
+     * @param lookup the lookup
+     */
+    public ExternalSourceConfig(List<HttpSourceConfig> http, List<EsSourceConfig> es, List<PgSourceConfig> pg, List<GrpcSourceConfig> grpc, List<LookupSourceConfig> lookup) {
+        this(http, es, pg, grpc, lookup, null);
+    }
+
+    /**
+     * Instantiates a new External source config with lookups and keyed lookups.
+     *
+     * @param http        the http
+     * @param es          the es
+     * @param pg          the pg
+     * @param grpc        the grpc
+     * @param lookup      the lookup
+     * @param keyedLookup the keyed lookup
+     */
+    public ExternalSourceConfig(List<HttpSourceConfig> http, List<EsSourceConfig> es, List<PgSourceConfig> pg, List<GrpcSourceConfig> grpc, List<LookupSourceConfig> lookup,
+                                List<KeyedLookupSourceConfig> keyedLookup) {
         this.http = http;
         this.es = es;
         this.pg = pg;
         this.grpc = grpc;
+        this.lookup = lookup;
+        this.keyedLookup = keyedLookup;
     }
 
     /**
@@ -69,6 +103,24 @@ public class ExternalSourceConfig {
         return grpc == null ? new ArrayList<>() : grpc;
     }
 
+    /**
+     * Gets lookup config.
+     *
+     * @return the lookup config
+     */
+    public List<LookupSourceConfig> getLookupConfig() {
+        return lookup == null ? new ArrayList<>() : lookup;
+    }
+
+    /**
+     * Gets keyed lookup config.
+     *
+     * @return the keyed lookup config
+     */
+    public List<KeyedLookupSourceConfig> getKeyedLookupConfig() {
+        return keyedLookup == null ? new ArrayList<>() : keyedLookup;
+    }
+
 
     /**
      * Check if the external post processor config is empty.
@@ -76,7 +128,8 @@ public class ExternalSourceConfig {
      * @return the boolean
      */
     public boolean isEmpty() {
-        return (http == null || http.isEmpty()) && (es == null || es.isEmpty()) && (pg == null || pg.isEmpty()) && (grpc == null || grpc.isEmpty());
+        return (http == null || http.isEmpty()) && (es == null || es.isEmpty()) && (pg == null || pg.isEmpty()) && (grpc == null || grpc.isEmpty())
+                && (lookup == null || lookup.isEmpty()) && (keyedLookup == null || keyedLookup.isEmpty());
     }
 
     /**
@@ -90,6 +143,8 @@ public class ExternalSourceConfig {
         columnNames.addAll(getOutputColumnNames(es));
         columnNames.addAll(getOutputColumnNames(pg));
         columnNames.addAll(getOutputColumnNames(grpc));
+        columnNames.addAll(getOutputColumnNames(lookup));
+        columnNames.addAll(getOutputColumnNames(keyedLookup));
         return columnNames;
     }
 
@@ -296,6 +296,9 @@ public class GrpcSourceConfig implements Serializable, SourceConfig {
      * @return the grpc stencil url
      */
     public List<String> getGrpcStencilUrl() {
+        if (grpcStencilUrl == null) {
+            return new ArrayList<>();
+        }
         return Arrays.stream(grpcStencilUrl.split(","))
                 .map(String::trim)
                 .collect(Collectors.toList());
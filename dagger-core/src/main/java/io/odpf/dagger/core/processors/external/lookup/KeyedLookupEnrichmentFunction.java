@@ -0,0 +1,150 @@
+package io.odpf.dagger.core.processors.external.lookup;
+
+import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
+import io.odpf.dagger.core.metrics.aspects.LookupSourceAspects;
+import io.odpf.dagger.core.metrics.telemetry.TelemetryTypes;
+import io.odpf.dagger.core.processors.ColumnNameManager;
+import io.odpf.dagger.core.utils.Constants;
+import org.apache.flink.api.common.state.ListState;
+import org.apache.flink.api.common.state.ListStateDescriptor;
+import org.apache.flink.api.common.state.ValueState;
+import org.apache.flink.api.common.state.ValueStateDescriptor;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.streaming.api.functions.co.KeyedCoProcessFunction;
+import org.apache.flink.types.Row;
+import org.apache.flink.util.Collector;
+
+/**
+ * Enriches the rows with the entries of a lookup kept in keyed state.
+ * The rows and the updates of the lookup topic are partitioned by the lookup key, so every parallel instance only
+ * holds its share of the entries. Rows whose key was not seen yet can wait up to the configured timeout for it,
+ * after which they are emitted without enrichment.
+ */
+public class KeyedLookupEnrichmentFunction extends KeyedCoProcessFunction<String, Row, Row, Row> {
+    private final KeyedLookupSourceConfig keyedLookupSourceConfig;
+    private final ColumnNameManager columnNameManager;
+    private final TypeInformation<Row> valuesType;
+    private final TypeInformation<Row> rowType;
+    private final String metricId;
+    private MeterStatsManager meterStatsManager;
+    private LookupKeys lookupKeys;
+    private ValueState<Row> entry;
+    private ListState<Row> waitingRows;
+    private ValueState<Long> waitDeadline;
+
+    /**
+     * Instantiates a new Keyed lookup enrichment function.
+     *
+     * @param keyedLookupSourceConfig the keyed lookup source config
+     * @param columnNameManager       the column name manager
+     * @param valuesType              the type of the values of the entries
+     * @param rowType                 the type of the rows waiting for their entry
+     * @param metricId                the metric id
+     */
+    public KeyedLookupEnrichmentFunction(KeyedLookupSourceConfig keyedLookupSourceConfig, ColumnNameManager columnNameManager,
+                                         TypeInformation<Row> valuesType, TypeInformation<Row> rowType, String metricId) {
+        this.keyedLookupSourceConfig = keyedLookupSourceConfig;
+        this.columnNameManager = columnNameManager;
+        this.valuesType = valuesType;
+        this.rowType = rowType;
+        this.metricId = metricId;
+    }
+
+    /**
+     * Instantiates a new Keyed lookup enrichment function with specified meter stats manager.
+     *
+     * @param keyedLookupSourceConfig the keyed lookup source config
+     * @param columnNameManager       the column name manager
+     * @param valuesType              the type of the values of the entries
+     * @param rowType                 the type of the rows waiting for their entry
+     * @param metricId                the metric id
+     * @param meterStatsManager       the meter stats manager
+     */
+    public KeyedLookupEnrichmentFunction(KeyedLookupSourceConfig keyedLookupSourceConfig, ColumnNameManager columnNameManager,
+                                         TypeInformation<Row> valuesType, TypeInformation<Row> rowType, String metricId,
+                                         MeterStatsManager meterStatsManager) {
+        this(keyedLookupSourceConfig, columnNameManager, valuesType, rowType, metricId);
+        this.meterStatsManager = meterStatsManager;
+    }
+
+    @Override
+    public void open(Configuration parameters) throws Exception {
+        super.open(parameters);
+        lookupKeys = new LookupKeys(keyedLookupSourceConfig, columnNameManager);
+        entry = getRuntimeContext().getState(new ValueStateDescriptor<>("keyed_lookup_entry_" + metricId, valuesType));
+        waitingRows = getRuntimeContext().getListState(new ListStateDescriptor<>("keyed_lookup_waiting_rows_" + metricId, rowType));
+        waitDeadline = getRuntimeContext().getState(new ValueStateDescriptor<>("keyed_lookup_wait_deadline_" + metricId, Types.LONG));
+        if (meterStatsManager == null) {
+            meterStatsManager = new MeterStatsManager(getRuntimeContext().getMetricGroup(), true);
+        }
+        meterStatsManager.register(TelemetryTypes.SOURCE_METRIC_ID.getValue(), Constants.KEYED_LOOKUP_TYPE + "." + metricId, LookupSourceAspects.values());
+    }
+
+    @Override
+    public void processElement1(Row input, Context context, Collector<Row> collector) throws Exception {
+        if (lookupKeys.getKey(input) == null) {
+            meterStatsManager.markEvent(LookupSourceAspects.EMPTY_INPUT);
+            collector.collect(input);
+            return;
+        }
+        Row values = entry.value();
+        if (values != null) {
+            meterStatsManager.markEvent(LookupSourceAspects.LOOKUP_HITS);
+            lookupKeys.enrich(input, values);
+            collector.collect(input);
+            return;
+        }
+        int waitTimeout = keyedLookupSourceConfig.getWaitTimeout();
+        if (waitTimeout <= 0) {
+            meterStatsManager.markEvent(LookupSourceAspects.LOOKUP_MISSES);
+            collector.collect(input);
+            return;
+        }
+        meterStatsManager.markEvent(LookupSourceAspects.LOOKUP_WAITS);
+        waitingRows.add(input);
+        if (waitDeadline.value() == null) {
+            long deadline = context.timerService().currentProcessingTime() + waitTimeout;
+            context.timerService().registerProcessingTimeTimer(deadline);
+            waitDeadline.update(deadline);
+        }
+    }
+
+    @Override
+    public void processElement2(Row update, Context context, Collector<Row> collector) throws Exception {
+        if (update.getField(LookupDeserializer.LOOKUP_KEY_INDEX) == null) {
+            entry.clear();
+            meterStatsManager.markEvent(LookupSourceAspects.LOOKUP_DELETES);
+            return;
+        }
+        Row values = (Row) update.getField(LookupDeserializer.VALUES_INDEX);
+        entry.update(values);
+        meterStatsManager.markEvent(LookupSourceAspects.LOOKUP_UPDATES);
+        Long deadline = waitDeadline.value();
+        if (deadline == null) {
+            return;
+        }
+        for (Row waitingRow : waitingRows.get()) {
+            meterStatsManager.markEvent(LookupSourceAspects.LOOKUP_HITS);
+            lookupKeys.enrich(waitingRow, values);
+            collector.collect(waitingRow);
+        }
+        context.timerService().deleteProcessingTimeTimer(deadline);
+        clearWaitingRows();
+    }
+
+    @Override
+    public void onTimer(long timestamp, OnTimerContext context, Collector<Row> collector) throws Exception {
+        for (Row waitingRow : waitingRows.get()) {
+            meterStatsManager.markEvent(LookupSourceAspects.LOOKUP_TIMEOUTS);
+            collector.collect(waitingRow);
+        }
+        clearWaitingRows();
+    }
+
+    private void clearWaitingRows() {
+        waitingRows.clear();
+        waitDeadline.clear();
+    }
+}
@@ -0,0 +1,44 @@
+package io.odpf.dagger.core.processors.external.lookup;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Map;
+
+/**
+ * A class that holds the configuration of a keyed lookup.
+ * Unlike a lookup, the entries of a keyed lookup are partitioned by key across the parallel instances, so the
+ * Kafka key of the lookup messages has to be the lookup key for tombstones to delete entries.
+ */
+public class KeyedLookupSourceConfig extends LookupSourceConfig {
+    private final String waitTimeout;
+
+    /**
+     * Instantiates a new Keyed lookup source config.
+     *
+     * @param topic            the compacted topic holding the lookup messages
+     * @param bootstrapServers the bootstrap servers
+     * @param groupId          the consumer group id
+     * @param protoClass       the proto class of the lookup messages
+     * @param keyField         the field of the lookup messages they are looked up by
+     * @param pattern          the pattern formatting the variables into the key
+     * @param variables        the input columns to look up by
+     * @param outputMapping    the output columns mapped to fields of the lookup messages
+     * @param waitTimeout      the time in ms rows wait for a key not seen yet
+     * @param failOnErrors     the fail on errors
+     * @param metricId         the metric id
+     */
+    public KeyedLookupSourceConfig(String topic, String bootstrapServers, String groupId, String protoClass, String keyField, String pattern,
+                                   String variables, Map<String, String> outputMapping, String waitTimeout, boolean failOnErrors, String metricId) {
+        super(topic, bootstrapServers, groupId, protoClass, keyField, pattern, variables, outputMapping, failOnErrors, metricId);
+        this.waitTimeout = waitTimeout;
+    }
+
+    /**
+     * Gets the time in ms rows wait for a key not seen yet.
+     *
+     * @return the wait timeout, 0 if rows do not wait
+     */
+    public Integer getWaitTimeout() {
+        return StringUtils.isEmpty(waitTimeout) ? 0 : Integer.valueOf(waitTimeout);
+    }
+}
@@ -0,0 +1,116 @@
+package io.odpf.dagger.core.processors.external.lookup;
+
+import io.odpf.dagger.core.metrics.telemetry.TelemetryPublisher;
+import io.odpf.dagger.core.metrics.telemetry.TelemetryTypes;
+import io.odpf.dagger.core.processors.external.ExternalMetricConfig;
+import io.odpf.dagger.core.processors.external.SchemaConfig;
+import io.odpf.dagger.core.processors.types.StreamDecorator;
+import io.odpf.dagger.core.utils.Constants;
+import org.apache.flink.api.java.functions.KeySelector;
+import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.streaming.api.datastream.KeyedStream;
+import org.apache.flink.streaming.connectors.kafka.FlinkKafkaConsumer;
+import org.apache.flink.types.Row;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * The Decorator for keyed lookup stream.
+ * Consumes the lookup topic from the earliest offset and joins it with the enriched stream, both partitioned by
+ * the lookup key.
+ */
+public class KeyedLookupStreamDecorator implements StreamDecorator, TelemetryPublisher {
+    private final KeyedLookupSourceConfig keyedLookupSourceConfig;
+    private final ExternalMetricConfig externalMetricConfig;
+    private final SchemaConfig schemaConfig;
+    private Map<String, List<String>> metrics = new HashMap<>();
+
+    /**
+     * Instantiates a new Keyed lookup stream decorator.
+     *
+     * @param keyedLookupSourceConfig the keyed lookup source config
+     * @param externalMetricConfig    the external metric config
+     * @param schemaConfig            the schema config
+     */
+    public KeyedLookupStreamDecorator(KeyedLookupSourceConfig keyedLookupSourceConfig, ExternalMetricConfig externalMetricConfig, SchemaConfig schemaConfig) {
+        this.keyedLookupSourceConfig = keyedLookupSourceConfig;
+        this.externalMetricConfig = externalMetricConfig;
+        this.schemaConfig = schemaConfig;
+    }
+
+    @Override
+    public Boolean canDecorate() {
+        return keyedLookupSourceConfig != null;
+    }
+
+    @Override
+    public DataStream<Row> decorate(DataStream<Row> inputStream) {
+        String metricId = externalMetricConfig.getMetricId();
+        LookupDeserializer lookupDeserializer = new LookupDeserializer(keyedLookupSourceConfig, schemaConfig.getStencilClientOrchestrator());
+        FlinkKafkaConsumer<Row> lookupConsumer = new FlinkKafkaConsumer<>(Pattern.compile(keyedLookupSourceConfig.getTopic()), lookupDeserializer, keyedLookupSourceConfig.getConsumerProperties());
+        lookupConsumer.setStartFromEarliest();
+        KeyedStream<Row, String> lookupStream = inputStream.getExecutionEnvironment()
+                .addSource(lookupConsumer)
+                .name("keyed_lookup_source_" + metricId)
+                .filter(update -> update.getField(LookupDeserializer.LOOKUP_KEY_INDEX) != null || update.getField(LookupDeserializer.RECORD_KEY_INDEX) != null)
+                .keyBy(new UpdateKeySelector());
+
+        notifySubscriber(externalMetricConfig.getTelemetrySubscriber());
+        LookupKeys lookupKeys = new LookupKeys(keyedLookupSourceConfig, schemaConfig.getColumnNameManager());
+        KeyedLookupEnrichmentFunction enrichmentFunction = new KeyedLookupEnrichmentFunction(keyedLookupSourceConfig, schemaConfig.getColumnNameManager(),
+                lookupDeserializer.getValuesType(), inputStream.getType(), metricId);
+        return inputStream
+                .keyBy(new RowKeySelector(lookupKeys))
+                .connect(lookupStream)
+                .process(enrichmentFunction, inputStream.getType());
+    }
+
+    @Override
+    public Map<String, List<String>> getTelemetry() {
+        return metrics;
+    }
+
+    @Override
+    public void preProcessBeforeNotifyingSubscriber() {
+        metrics.computeIfAbsent(TelemetryTypes.POST_PROCESSOR_TYPE.getValue(), k -> new ArrayList<>()).add(Constants.KEYED_LOOKUP_TYPE);
+    }
+
+    /**
+     * Keys the rows by their lookup key. Rows with empty variables are never looked up and are spread by their
+     * content instead.
+     */
+    static class RowKeySelector implements KeySelector<Row, String> {
+        private final LookupKeys lookupKeys;
+
+        RowKeySelector(LookupKeys lookupKeys) {
+            this.lookupKeys = lookupKeys;
+        }
+
+        @Override
+        public String getKey(Row row) {
+            String lookupKey = lookupKeys.getKey(row);
+            return lookupKey == null ? String.valueOf(row.hashCode()) : lookupKey;
+        }
+    }
+
+    /**
+     * Keys the updates by their lookup key, and tombstones by their Kafka key.
+     */
+    static class UpdateKeySelector implements KeySelector<Row, String> {
+        @Override
+        public String getKey(Row update) {
+            String lookupKey = (String) update.getField(LookupDeserializer.LOOKUP_KEY_INDEX);
+            if (lookupKey != null) {
+                return lookupKey;
+            }
+            byte[] recordKey = Base64.getDecoder().decode((String) update.getField(LookupDeserializer.RECORD_KEY_INDEX));
+            return new String(recordKey, StandardCharsets.UTF_8);
+        }
+    }
+}
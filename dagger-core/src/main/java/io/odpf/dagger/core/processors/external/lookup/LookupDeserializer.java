@@ -0,0 +1,131 @@
+package io.odpf.dagger.core.processors.external.lookup;
+
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.odpf.dagger.common.core.StencilClientOrchestrator;
+import io.odpf.dagger.common.exceptions.DescriptorNotFoundException;
+import io.odpf.dagger.core.exception.DaggerDeserializationException;
+import io.odpf.dagger.core.exception.InvalidConfigurationException;
+import io.odpf.dagger.core.protohandler.ProtoHandlerFactory;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
+import org.apache.flink.streaming.connectors.kafka.KafkaDeserializationSchema;
+import org.apache.flink.types.Row;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Deserializes the messages of a lookup topic into updates of the lookup.
+ * An update holds the Kafka key of the message, the lookup key read from the key field and the values of the
+ * mapped fields, in the order of the output columns. Tombstones become updates without lookup key, deleting
+ * the entry previously written with the same Kafka key. Messages that cannot be parsed are skipped, unless the
+ * lookup fails on errors.
+ */
+public class LookupDeserializer implements KafkaDeserializationSchema<Row> {
+    public static final int RECORD_KEY_INDEX = 0;
+    public static final int LOOKUP_KEY_INDEX = 1;
+    public static final int VALUES_INDEX = 2;
+    private static final Logger LOGGER = LoggerFactory.getLogger(LookupDeserializer.class.getName());
+    private static final int UPDATE_ARITY = 3;
+
+    private final LookupSourceConfig lookupSourceConfig;
+    private final List<String> outputColumns;
+    private final StencilClientOrchestrator stencilClientOrchestrator;
+    private final RowTypeInfo valuesType;
+
+    /**
+     * Instantiates a new Lookup deserializer.
+     *
+     * @param lookupSourceConfig        the lookup source config
+     * @param stencilClientOrchestrator the stencil client orchestrator
+     */
+    public LookupDeserializer(LookupSourceConfig lookupSourceConfig, StencilClientOrchestrator stencilClientOrchestrator) {
+        this.lookupSourceConfig = lookupSourceConfig;
+        this.outputColumns = lookupSourceConfig.getOutputColumns();
+        this.stencilClientOrchestrator = stencilClientOrchestrator;
+        this.valuesType = createValuesType(getDescriptor());
+    }
+
+    /**
+     * Gets the type of the values of the lookup entries.
+     *
+     * @return the values type
+     */
+    public RowTypeInfo getValuesType() {
+        return valuesType;
+    }
+
+    @Override
+    public boolean isEndOfStream(Row nextElement) {
+        return false;
+    }
+
+    @Override
+    public Row deserialize(ConsumerRecord<byte[], byte[]> consumerRecord) {
+        Row update = new Row(UPDATE_ARITY);
+        update.setField(RECORD_KEY_INDEX, consumerRecord.key() == null ? null : Base64.getEncoder().encodeToString(consumerRecord.key()));
+        if (consumerRecord.value() == null) {
+            return update;
+        }
+        Descriptors.Descriptor descriptor = getDescriptor();
+        DynamicMessage message;
+        try {
+            message = DynamicMessage.parseFrom(descriptor, consumerRecord.value());
+        } catch (InvalidProtocolBufferException e) {
+            if (lookupSourceConfig.isFailOnErrors()) {
+                throw new DaggerDeserializationException(e);
+            }
+            LOGGER.warn("Invalid lookup message encountered for proto " + lookupSourceConfig.getProtoClass(), e);
+            return null;
+        }
+        update.setField(LOOKUP_KEY_INDEX, String.valueOf(getFieldValue(message, descriptor, lookupSourceConfig.getKeyField())));
+        Row values = new Row(outputColumns.size());
+        for (int index = 0; index < outputColumns.size(); index++) {
+            values.setField(index, getFieldValue(message, descriptor, lookupSourceConfig.getMappedField(outputColumns.get(index))));
+        }
+        update.setField(VALUES_INDEX, values);
+        return update;
+    }
+
+    @Override
+    public TypeInformation<Row> getProducedType() {
+        return Types.ROW(Types.STRING, Types.STRING, valuesType);
+    }
+
+    private Object getFieldValue(DynamicMessage message, Descriptors.Descriptor descriptor, String fieldName) {
+        Descriptors.FieldDescriptor fieldDescriptor = getFieldDescriptor(descriptor, fieldName);
+        return ProtoHandlerFactory.getProtoHandler(fieldDescriptor).transformFromKafka(message.getField(fieldDescriptor));
+    }
+
+    private RowTypeInfo createValuesType(Descriptors.Descriptor descriptor) {
+        TypeInformation<?>[] fieldTypes = new TypeInformation<?>[outputColumns.size()];
+        getFieldDescriptor(descriptor, lookupSourceConfig.getKeyField());
+        for (int index = 0; index < outputColumns.size(); index++) {
+            Descriptors.FieldDescriptor fieldDescriptor = getFieldDescriptor(descriptor, lookupSourceConfig.getMappedField(outputColumns.get(index)));
+            fieldTypes[index] = ProtoHandlerFactory.getProtoHandler(fieldDescriptor).getTypeInformation();
+        }
+        return new RowTypeInfo(fieldTypes, outputColumns.toArray(new String[0]));
+    }
+
+    private Descriptors.FieldDescriptor getFieldDescriptor(Descriptors.Descriptor descriptor, String fieldName) {
+        Descriptors.FieldDescriptor fieldDescriptor = descriptor.findFieldByName(fieldName);
+        if (fieldDescriptor == null) {
+            throw new InvalidConfigurationException(String.format("Field '%s' not found in lookup proto %s", fieldName, lookupSourceConfig.getProtoClass()));
+        }
+        return fieldDescriptor;
+    }
+
+    private Descriptors.Descriptor getDescriptor() {
+        Descriptors.Descriptor descriptor = stencilClientOrchestrator.getStencilClient().get(lookupSourceConfig.getProtoClass());
+        if (descriptor == null) {
+            throw new DescriptorNotFoundException();
+        }
+        return descriptor;
+    }
+}
@@ -0,0 +1,119 @@
+package io.odpf.dagger.core.processors.external.lookup;
+
+import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
+import io.odpf.dagger.core.metrics.aspects.LookupSourceAspects;
+import io.odpf.dagger.core.metrics.telemetry.TelemetryTypes;
+import io.odpf.dagger.core.processors.ColumnNameManager;
+import io.odpf.dagger.core.utils.Constants;
+import org.apache.flink.api.common.state.BroadcastState;
+import org.apache.flink.api.common.state.MapStateDescriptor;
+import org.apache.flink.api.common.state.ReadOnlyBroadcastState;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.streaming.api.functions.co.BroadcastProcessFunction;
+import org.apache.flink.types.Row;
+import org.apache.flink.util.Collector;
+
+/**
+ * Enriches the rows with the entries of a lookup kept in broadcast state.
+ * Every parallel instance holds all the entries and applies the updates of the lookup topic as they arrive, so
+ * rows are enriched with a local hash lookup instead of a call to an external source.
+ */
+public class LookupEnrichmentFunction extends BroadcastProcessFunction<Row, Row, Row> {
+    private final LookupSourceConfig lookupSourceConfig;
+    private final ColumnNameManager columnNameManager;
+    private final MapStateDescriptor<String, Row> entriesDescriptor;
+    private final MapStateDescriptor<String, String> recordKeysDescriptor;
+    private final String metricId;
+    private MeterStatsManager meterStatsManager;
+    private LookupKeys lookupKeys;
+
+    /**
+     * Instantiates a new Lookup enrichment function.
+     *
+     * @param lookupSourceConfig   the lookup source config
+     * @param columnNameManager    the column name manager
+     * @param entriesDescriptor    the descriptor of the entries by lookup key
+     * @param recordKeysDescriptor the descriptor of the lookup keys by Kafka key
+     * @param metricId             the metric id
+     */
+    public LookupEnrichmentFunction(LookupSourceConfig lookupSourceConfig, ColumnNameManager columnNameManager,
+                                    MapStateDescriptor<String, Row> entriesDescriptor, MapStateDescriptor<String, String> recordKeysDescriptor, String metricId) {
+        this.lookupSourceConfig = lookupSourceConfig;
+        this.columnNameManager = columnNameManager;
+        this.entriesDescriptor = entriesDescriptor;
+        this.recordKeysDescriptor = recordKeysDescriptor;
+        this.metricId = metricId;
+    }
+
+    /**
+     * Instantiates a new Lookup enrichment function with specified meter stats manager.
+     *
+     * @param lookupSourceConfig   the lookup source config
+     * @param columnNameManager    the column name manager
+     * @param entriesDescriptor    the descriptor of the entries by lookup key
+     * @param recordKeysDescriptor the descriptor of the lookup keys by Kafka key
+     * @param metricId             the metric id
+     * @param meterStatsManager    the meter stats manager
+     */
+    public LookupEnrichmentFunction(LookupSourceConfig lookupSourceConfig, ColumnNameManager columnNameManager,
+                                    MapStateDescriptor<String, Row> entriesDescriptor, MapStateDescriptor<String, String> recordKeysDescriptor, String metricId,
+                                    MeterStatsManager meterStatsManager) {
+        this(lookupSourceConfig, columnNameManager, entriesDescriptor, recordKeysDescriptor, metricId);
+        this.meterStatsManager = meterStatsManager;
+    }
+
+    @Override
+    public void open(Configuration parameters) throws Exception {
+        super.open(parameters);
+        lookupKeys = new LookupKeys(lookupSourceConfig, columnNameManager);
+        if (meterStatsManager == null) {
+            meterStatsManager = new MeterStatsManager(getRuntimeContext().getMetricGroup(), true);
+        }
+        meterStatsManager.register(TelemetryTypes.SOURCE_METRIC_ID.getValue(), Constants.LOOKUP_TYPE + "." + metricId, LookupSourceAspects.values());
+    }
+
+    @Override
+    public void processElement(Row input, ReadOnlyContext context, Collector<Row> collector) throws Exception {
+        String lookupKey = lookupKeys.getKey(input);
+        if (lookupKey == null) {
+            meterStatsManager.markEvent(LookupSourceAspects.EMPTY_INPUT);
+            collector.collect(input);
+            return;
+        }
+        ReadOnlyBroadcastState<String, Row> entries = context.getBroadcastState(entriesDescriptor);
+        Row values = entries.get(lookupKey);
+        if (values == null) {
+            meterStatsManager.markEvent(LookupSourceAspects.LOOKUP_MISSES);
+        } else {
+            meterStatsManager.markEvent(LookupSourceAspects.LOOKUP_HITS);
+            lookupKeys.enrich(input, values);
+        }
+        collector.collect(input);
+    }
+
+    @Override
+    public void processBroadcastElement(Row update, Context context, Collector<Row> collector) throws Exception {
+        BroadcastState<String, Row> entries = context.getBroadcastState(entriesDescriptor);
+        BroadcastState<String, String> recordKeys = context.getBroadcastState(recordKeysDescriptor);
+        String recordKey = (String) update.getField(LookupDeserializer.RECORD_KEY_INDEX);
+        String lookupKey = (String) update.getField(LookupDeserializer.LOOKUP_KEY_INDEX);
+        if (lookupKey == null) {
+            String deletedKey = recordKey == null ? null : recordKeys.get(recordKey);
+            if (deletedKey != null) {
+                recordKeys.remove(recordKey);
+                entries.remove(deletedKey);
+                meterStatsManager.markEvent(LookupSourceAspects.LOOKUP_DELETES);
+            }
+            return;
+        }
+        if (recordKey != null) {
+            String previousKey = recordKeys.get(recordKey);
+            if (previousKey != null && !previousKey.equals(lookupKey)) {
+                entries.remove(previousKey);
+            }
+            recordKeys.put(recordKey, lookupKey);
+        }
+        entries.put(lookupKey, (Row) update.getField(LookupDeserializer.VALUES_INDEX));
+        meterStatsManager.markEvent(LookupSourceAspects.LOOKUP_UPDATES);
+    }
+}
@@ -0,0 +1,72 @@
+package io.odpf.dagger.core.processors.external.lookup;
+
+import io.odpf.dagger.core.exception.InvalidConfigurationException;
+import io.odpf.dagger.core.processors.ColumnNameManager;
+import io.odpf.dagger.core.processors.common.RowManager;
+import org.apache.flink.types.Row;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Builds the lookup keys of the rows and populates the rows with the looked up values.
+ */
+public class LookupKeys implements Serializable {
+    private final String pattern;
+    private final int[] variableIndices;
+    private final int[] outputIndices;
+
+    /**
+     * Instantiates a new Lookup keys.
+     *
+     * @param lookupSourceConfig the lookup source config
+     * @param columnNameManager  the column name manager
+     */
+    public LookupKeys(LookupSourceConfig lookupSourceConfig, ColumnNameManager columnNameManager) {
+        this.pattern = lookupSourceConfig.getPattern();
+        String[] variables = lookupSourceConfig.getVariables().split(",");
+        variableIndices = new int[variables.length];
+        for (int index = 0; index < variables.length; index++) {
+            variableIndices[index] = columnNameManager.getInputIndex(variables[index]);
+            if (variableIndices[index] == -1) {
+                throw new InvalidConfigurationException(String.format("Column '%s' not found as configured in the lookup variables", variables[index]));
+            }
+        }
+        List<String> outputColumns = lookupSourceConfig.getOutputColumns();
+        outputIndices = new int[outputColumns.size()];
+        for (int index = 0; index < outputColumns.size(); index++) {
+            outputIndices[index] = columnNameManager.getOutputIndex(outputColumns.get(index));
+        }
+    }
+
+    /**
+     * Gets the lookup key of an input output row.
+     *
+     * @param row the input output row
+     * @return the lookup key, or null if any of the variables is empty
+     */
+    public String getKey(Row row) {
+        RowManager rowManager = new RowManager(row);
+        Object[] variableValues = new Object[variableIndices.length];
+        for (int index = 0; index < variableIndices.length; index++) {
+            variableValues[index] = rowManager.getFromInput(variableIndices[index]);
+            if (variableValues[index] == null) {
+                return null;
+            }
+        }
+        return String.format(pattern, variableValues);
+    }
+
+    /**
+     * Populates the output columns of an input output row with looked up values.
+     *
+     * @param row    the input output row
+     * @param values the values, in the order of the output columns
+     */
+    public void enrich(Row row, Row values) {
+        RowManager rowManager = new RowManager(row);
+        for (int index = 0; index < outputIndices.length; index++) {
+            rowManager.setInOutput(outputIndices[index], values.getField(index));
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package io.odpf.dagger.core.processors.external.lookup;
+
+import com.google.gson.annotations.SerializedName;
+import io.odpf.dagger.core.processors.types.SourceConfig;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * A class that holds the configuration of a lookup on a compacted Kafka topic.
+ */
+public class LookupSourceConfig implements Serializable, SourceConfig {
+    private static final String DEFAULT_PATTERN = "%s";
+    private static final String DEFAULT_GROUP_ID_PREFIX = "dagger-lookup-";
+
+    private final String topic;
+    private final String bootstrapServers;
+    private final String groupId;
+    private final String protoClass;
+    private final String keyField;
+    private final String pattern;
+    private final String variables;
+    private final Map<String, String> outputMapping;
+    private boolean failOnErrors;
+    @SerializedName(value = "metricId", alternate = {"MetricId", "METRICID"})
+    private String metricId;
+
+    /**
+     * Instantiates a new Lookup source config.
+     *
+     * @param topic            the compacted topic holding the lookup messages
+     * @param bootstrapServers the bootstrap servers
+     * @param groupId          the consumer group id
+     * @param protoClass       the proto class of the lookup messages
+     * @param keyField         the field of the lookup messages they are looked up by
+     * @param pattern          the pattern formatting the variables into the key
+     * @param variables        the input columns to look up by
+     * @param outputMapping    the output columns mapped to fields of the lookup messages
+     * @param failOnErrors     the fail on errors
+     * @param metricId         the metric id
+     */
+    public LookupSourceConfig(String topic, String bootstrapServers, String groupId, String protoClass, String keyField, String pattern,
+                              String variables, Map<String, String> outputMapping, boolean failOnErrors, String metricId) {
+        this.topic = topic;
+        this.bootstrapServers = bootstrapServers;
+        this.groupId = groupId;
+        this.protoClass = protoClass;
+        this.keyField = keyField;
+        this.pattern = pattern;
+        this.variables = variables;
+        this.outputMapping = outputMapping;
+        this.failOnErrors = failOnErrors;
+        this.metricId = metricId;
+    }
+
+    /**
+     * Gets topic.
+     *
+     * @return the topic
+     */
+    public String getTopic() {
+        return topic;
+    }
+
+    /**
+     * Gets proto class.
+     *
+     * @return the proto class
+     */
+    public String getProtoClass() {
+        return protoClass;
+    }
+
+    /**
+     * Gets key field.
+     *
+     * @return the key field
+     */
+    public String getKeyField() {
+        return keyField;
+    }
+
+    /**
+     * Gets the lookup message field mapped to an output column.
+     *
+     * @param outputColumn the output column
+     * @return the mapped field
+     */
+    public String getMappedField(String outputColumn) {
+        return outputMapping.get(outputColumn);
+    }
+
+    /**
+     * Gets the properties of the consumer of the topic.
+     *
+     * @return the consumer properties
+     */
+    public Properties getConsumerProperties() {
+        Properties properties = new Properties();
+        properties.setProperty("bootstrap.servers", bootstrapServers);
+        properties.setProperty("group.id", StringUtils.isEmpty(groupId) ? DEFAULT_GROUP_ID_PREFIX + topic : groupId);
+        properties.setProperty("auto.offset.reset", "earliest");
+        return properties;
+    }
+
+    @Override
+    public List<String> getOutputColumns() {
+        return new ArrayList<>(outputMapping.keySet());
+    }
+
+    @Override
+    public HashMap<String, Object> getMandatoryFields() {
+        HashMap<String, Object> mandatoryFields = new HashMap<>();
+        mandatoryFields.put("topic", topic);
+        mandatoryFields.put("bootstrap_servers", bootstrapServers);
+        mandatoryFields.put("proto_class", protoClass);
+        mandatoryFields.put("key_field", keyField);
+        mandatoryFields.put("variables", variables);
+        mandatoryFields.put("output_mapping", outputMapping);
+        mandatoryFields.put("fail_on_errors", failOnErrors);
+        return mandatoryFields;
+    }
+
+    @Override
+    public boolean isFailOnErrors() {
+        return failOnErrors;
+    }
+
+    @Override
+    public String getMetricId() {
+        return metricId;
+    }
+
+    @Override
+    public String getPattern() {
+        return StringUtils.isEmpty(pattern) ? DEFAULT_PATTERN : pattern;
+    }
+
+    @Override
+    public String getVariables() {
+        return variables;
+    }
+
+    @Override
+    public String getType() {
+        return null;
+    }
+}
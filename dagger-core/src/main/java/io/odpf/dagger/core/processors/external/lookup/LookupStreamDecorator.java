@@ -0,0 +1,80 @@
+package io.odpf.dagger.core.processors.external.lookup;
+
+import io.odpf.dagger.core.metrics.telemetry.TelemetryPublisher;
+import io.odpf.dagger.core.metrics.telemetry.TelemetryTypes;
+import io.odpf.dagger.core.processors.external.ExternalMetricConfig;
+import io.odpf.dagger.core.processors.external.SchemaConfig;
+import io.odpf.dagger.core.processors.types.StreamDecorator;
+import io.odpf.dagger.core.utils.Constants;
+import org.apache.flink.api.common.state.MapStateDescriptor;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.streaming.api.datastream.BroadcastStream;
+import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.streaming.connectors.kafka.FlinkKafkaConsumer;
+import org.apache.flink.types.Row;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * The Decorator for lookup stream.
+ * Consumes the lookup topic from the earliest offset into broadcast state and connects it to the enriched stream.
+ */
+public class LookupStreamDecorator implements StreamDecorator, TelemetryPublisher {
+    private final LookupSourceConfig lookupSourceConfig;
+    private final ExternalMetricConfig externalMetricConfig;
+    private final SchemaConfig schemaConfig;
+    private Map<String, List<String>> metrics = new HashMap<>();
+
+    /**
+     * Instantiates a new Lookup stream decorator.
+     *
+     * @param lookupSourceConfig   the lookup source config
+     * @param externalMetricConfig the external metric config
+     * @param schemaConfig         the schema config
+     */
+    public LookupStreamDecorator(LookupSourceConfig lookupSourceConfig, ExternalMetricConfig externalMetricConfig, SchemaConfig schemaConfig) {
+        this.lookupSourceConfig = lookupSourceConfig;
+        this.externalMetricConfig = externalMetricConfig;
+        this.schemaConfig = schemaConfig;
+    }
+
+    @Override
+    public Boolean canDecorate() {
+        return lookupSourceConfig != null;
+    }
+
+    @Override
+    public DataStream<Row> decorate(DataStream<Row> inputStream) {
+        String metricId = externalMetricConfig.getMetricId();
+        LookupDeserializer lookupDeserializer = new LookupDeserializer(lookupSourceConfig, schemaConfig.getStencilClientOrchestrator());
+        MapStateDescriptor<String, Row> entriesDescriptor = new MapStateDescriptor<>("lookup_entries_" + metricId, Types.STRING, lookupDeserializer.getValuesType());
+        MapStateDescriptor<String, String> recordKeysDescriptor = new MapStateDescriptor<>("lookup_record_keys_" + metricId, Types.STRING, Types.STRING);
+
+        FlinkKafkaConsumer<Row> lookupConsumer = new FlinkKafkaConsumer<>(Pattern.compile(lookupSourceConfig.getTopic()), lookupDeserializer, lookupSourceConfig.getConsumerProperties());
+        lookupConsumer.setStartFromEarliest();
+        BroadcastStream<Row> lookupStream = inputStream.getExecutionEnvironment()
+                .addSource(lookupConsumer)
+                .name("lookup_source_" + metricId)
+                .broadcast(entriesDescriptor, recordKeysDescriptor);
+
+        notifySubscriber(externalMetricConfig.getTelemetrySubscriber());
+        LookupEnrichmentFunction enrichmentFunction = new LookupEnrichmentFunction(lookupSourceConfig, schemaConfig.getColumnNameManager(), entriesDescriptor, recordKeysDescriptor, metricId);
+        return inputStream
+                .connect(lookupStream)
+                .process(enrichmentFunction, inputStream.getType());
+    }
+
+    @Override
+    public Map<String, List<String>> getTelemetry() {
+        return metrics;
+    }
+
+    @Override
+    public void preProcessBeforeNotifyingSubscriber() {
+        metrics.computeIfAbsent(TelemetryTypes.POST_PROCESSOR_TYPE.getValue(), k -> new ArrayList<>()).add(Constants.LOOKUP_TYPE);
+    }
+}
@@ -39,10 +39,9 @@ public class InternalDecorator implements MapDecorator {
     @Override
     public Row map(Row input) {
         Row outputRow = (Row) input.getField(OUTPUT_ROW_INDEX);
-        if (outputColumnSizeIsDifferent(outputRow)) {
-            input.setField(OUTPUT_ROW_INDEX, new Row(columnNameManager.getOutputSize()));
-        }
-        RowManager rowManager = new RowManager(input);
+        RowManager rowManager = outputColumnSizeIsDifferent(outputRow)
+                ? new RowManager((Row) input.getField(RowManager.INPUT_ROW_INDEX), columnNameManager.getOutputSize())
+                : new RowManager(input);
         internalConfigProcessor.process(rowManager);
         return rowManager.getAll();
     }
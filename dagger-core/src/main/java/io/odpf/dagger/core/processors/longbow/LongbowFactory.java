@@ -5,6 +5,7 @@ import io.odpf.dagger.common.core.StencilClientOrchestrator;
 import io.odpf.dagger.core.processors.longbow.columnmodifier.LongbowReadColumnModifier;
 import io.odpf.dagger.core.processors.longbow.columnmodifier.LongbowWriteColumnModifier;
 import io.odpf.dagger.core.processors.longbow.columnmodifier.NoOpColumnModifier;
+import io.odpf.dagger.core.processors.longbow.data.LongbowDataEncoding;
 import io.odpf.dagger.core.processors.longbow.data.LongbowProtoData;
 import io.odpf.dagger.core.processors.longbow.data.LongbowTableData;
 import io.odpf.dagger.core.processors.longbow.outputRow.OutputIdentity;
@@ -142,7 +143,8 @@ public class LongbowFactory {
 
     private LongbowWriter longbowWriter() {
         String tableId = getTableId(configuration);
-        PutRequestFactory putRequestFactory = new PutRequestFactory(longbowSchema, null, tableId);
+        LongbowDataEncoding dataEncoding = LongbowDataEncoding.from(configuration.getString(PROCESSOR_LONGBOW_DATA_ENCODING_KEY, PROCESSOR_LONGBOW_DATA_ENCODING_DEFAULT));
+        PutRequestFactory putRequestFactory = new PutRequestFactory(longbowSchema, null, tableId, dataEncoding);
         OutputIdentity outputIdentity = new OutputIdentity();
         return new LongbowWriter(configuration, longbowSchema, putRequestFactory, tableId, outputIdentity);
     }
@@ -0,0 +1,100 @@
+package io.odpf.dagger.core.processors.longbow;
+
+import io.odpf.dagger.core.exception.DaggerConfigurationException;
+import io.odpf.dagger.core.processors.longbow.storage.LongbowStore;
+import io.odpf.dagger.core.utils.Constants;
+import org.apache.hadoop.hbase.util.Bytes;
+
+/**
+ * The row key formats of Longbow tables. Both formats append the reversed timestamp to the longbow key,
+ * so that the newest documents of a key come first in a scan.
+ */
+public enum LongbowKeyFormat {
+    /**
+     * The longbow key, the delimiter and the reversed timestamp in decimal digits.
+     */
+    STRING {
+        @Override
+        public byte[] encode(String longbowKey, long timestamp) {
+            return Bytes.toBytes(longbowKey + Constants.LONGBOW_DELIMITER + (Long.MAX_VALUE - timestamp));
+        }
+    },
+    /**
+     * The longbow key, the delimiter and the reversed timestamp as 8 big-endian bytes.
+     */
+    BINARY {
+        @Override
+        public byte[] encode(String longbowKey, long timestamp) {
+            byte[] key = Bytes.toBytes(longbowKey);
+            byte[] rowKey = new byte[key.length + DELIMITER.length + Bytes.SIZEOF_LONG];
+            System.arraycopy(key, 0, rowKey, 0, key.length);
+            System.arraycopy(DELIMITER, 0, rowKey, key.length, DELIMITER.length);
+            Bytes.putLong(rowKey, key.length + DELIMITER.length, Long.MAX_VALUE - timestamp);
+            return rowKey;
+        }
+    };
+
+    private static final byte[] DELIMITER = Bytes.toBytes(Constants.LONGBOW_DELIMITER);
+
+    /**
+     * Encode the row key of a document.
+     *
+     * @param longbowKey the longbow key
+     * @param timestamp  the timestamp of the document
+     * @return the row key
+     */
+    public abstract byte[] encode(String longbowKey, long timestamp);
+
+    /**
+     * Get the key format from its configured name, unset names fall back to the string format.
+     *
+     * @param name the name
+     * @return the longbow key format
+     */
+    public static LongbowKeyFormat from(String name) {
+        if (name == null || name.isEmpty()) {
+            return STRING;
+        }
+        try {
+            return valueOf(name.toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new DaggerConfigurationException(String.format("'%s' is not a valid longbow key format, use either %s or %s", name, STRING, BINARY));
+        }
+    }
+
+    /**
+     * Resolve the key format of a table. New tables use the configured format, existing tables keep the
+     * format of their marker, and tables without a marker predate it and use the string format.
+     * Tables are created together with their marker, so only tables created before markers existed lack one.
+     *
+     * @param longbowStore     the longbow store
+     * @param tableId          the table id
+     * @param configuredFormat the configured format
+     * @return the longbow key format of the table
+     * @throws Exception the exception
+     */
+    public static LongbowKeyFormat resolve(LongbowStore longbowStore, String tableId, LongbowKeyFormat configuredFormat) throws Exception {
+        if (!longbowStore.tableExists(tableId)) {
+            return configuredFormat;
+        }
+        LongbowKeyFormat tableFormat = longbowStore.getKeyFormat(tableId);
+        return tableFormat == null ? STRING : tableFormat;
+    }
+
+    /**
+     * Resolve the key format of a table seen created concurrently, e.g. by another subtask. Such a table carries
+     * the marker written with it, so a missing marker is an error rather than a table predating markers.
+     *
+     * @param longbowStore the longbow store
+     * @param tableId      the table id
+     * @return the longbow key format of the table
+     * @throws Exception the exception
+     */
+    public static LongbowKeyFormat resolveCreated(LongbowStore longbowStore, String tableId) throws Exception {
+        LongbowKeyFormat tableFormat = longbowStore.getKeyFormat(tableId);
+        if (tableFormat == null) {
+            throw new IllegalStateException(String.format("table '%s' was created concurrently without a key format marker", tableId));
+        }
+        return tableFormat;
+    }
+}
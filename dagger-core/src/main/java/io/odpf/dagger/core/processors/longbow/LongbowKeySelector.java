@@ -0,0 +1,25 @@
+package io.odpf.dagger.core.processors.longbow;
+
+import org.apache.flink.api.java.functions.KeySelector;
+import org.apache.flink.types.Row;
+
+/**
+ * Selects the longbow key of a row, so that all rows of a key are handled by the same subtask.
+ */
+public class LongbowKeySelector implements KeySelector<Row, String> {
+    private int longbowKeyIndex;
+
+    /**
+     * Instantiates a new Longbow key selector.
+     *
+     * @param longbowKeyIndex the index of the longbow key column
+     */
+    public LongbowKeySelector(int longbowKeyIndex) {
+        this.longbowKeyIndex = longbowKeyIndex;
+    }
+
+    @Override
+    public String getKey(Row row) {
+        return (String) row.getField(longbowKeyIndex);
+    }
+}
@@ -4,6 +4,7 @@ import io.odpf.dagger.common.core.StreamInfo;
 import io.odpf.dagger.core.processors.PostProcessorConfig;
 import io.odpf.dagger.core.processors.types.PostProcessor;
 import io.odpf.dagger.core.processors.longbow.columnmodifier.ColumnModifier;
+import io.odpf.dagger.core.processors.longbow.validator.LongbowType;
 import io.odpf.dagger.core.utils.Constants;
 
 import org.apache.flink.configuration.Configuration;
@@ -12,6 +13,7 @@ import org.apache.flink.streaming.api.functions.async.RichAsyncFunction;
 import org.apache.flink.types.Row;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -45,12 +47,23 @@ public class LongbowProcessor implements PostProcessor {
         long longbowAsyncTimeout = configuration.getLong(Constants.PROCESSOR_LONGBOW_ASYNC_TIMEOUT_KEY, Constants.PROCESSOR_LONGBOW_ASYNC_TIMEOUT_DEFAULT);
         Integer longbowThreadCapacity = configuration.getInteger(Constants.PROCESSOR_LONGBOW_THREAD_CAPACITY_KEY, Constants.PROCESSOR_LONGBOW_THREAD_CAPACITY_DEFAULT);
         DataStream<Row> outputStream = inputStream;
+        String[] columnNames = streamInfo.getColumnNames();
+        if (requiresKeyAffinity(columnNames)) {
+            outputStream = inputStream.keyBy(new LongbowKeySelector(Arrays.asList(columnNames).indexOf(LongbowType.LongbowProcess.getKeyName())));
+        }
         for (RichAsyncFunction<Row, Row> longbowRichFunction : longbowRichFunctions) {
             outputStream = asyncProcessor.orderedWait(outputStream, longbowRichFunction, longbowAsyncTimeout, TimeUnit.MILLISECONDS, longbowThreadCapacity);
         }
         return new StreamInfo(outputStream, modifier.modifyColumnNames(streamInfo.getColumnNames()));
     }
 
+    private boolean requiresKeyAffinity(String[] columnNames) {
+        boolean cacheEnabled = configuration.getBoolean(Constants.PROCESSOR_LONGBOW_CACHE_ENABLE_KEY, Constants.PROCESSOR_LONGBOW_CACHE_ENABLE_DEFAULT);
+        boolean localStore = Constants.PROCESSOR_LONGBOW_STORE_TYPE_LOCAL.equalsIgnoreCase(
+                configuration.getString(Constants.PROCESSOR_LONGBOW_STORE_TYPE_KEY, Constants.PROCESSOR_LONGBOW_STORE_TYPE_DEFAULT));
+        return (cacheEnabled || localStore) && Arrays.asList(columnNames).contains(LongbowType.LongbowProcess.getKeyName());
+    }
+
     @Override
     public boolean canProcess(PostProcessorConfig postProcessorConfig) {
         return false;
@@ -6,7 +6,6 @@ import io.odpf.dagger.core.processors.longbow.validator.LongbowType;
 import org.apache.flink.types.Row;
 
 import io.odpf.dagger.core.utils.Constants;
-import org.apache.hadoop.hbase.util.Bytes;
 
 import java.io.Serializable;
 import java.sql.Timestamp;
@@ -24,6 +23,7 @@ import java.util.stream.Collectors;
 public class LongbowSchema implements Serializable {
     private HashMap<String, Integer> columnIndexMap;
     private List<String> columnNames;
+    private LongbowKeyFormat keyFormat = LongbowKeyFormat.STRING;
 
     /**
      * Instantiates a new Longbow schema.
@@ -60,9 +60,25 @@ public class LongbowSchema implements Serializable {
      */
     public byte[] getAbsoluteKey(Row input, long timestamp) {
         String longbowKey = (String) input.getField(columnIndexMap.get(getType().getKeyName()));
-        long reversedTimestamp = Long.MAX_VALUE - timestamp;
-        String key = longbowKey + Constants.LONGBOW_DELIMITER + reversedTimestamp;
-        return Bytes.toBytes(key);
+        return keyFormat.encode(longbowKey, timestamp);
+    }
+
+    /**
+     * Gets the row key format.
+     *
+     * @return the key format
+     */
+    public LongbowKeyFormat getKeyFormat() {
+        return keyFormat;
+    }
+
+    /**
+     * Sets the row key format.
+     *
+     * @param keyFormat the key format
+     */
+    public void setKeyFormat(LongbowKeyFormat keyFormat) {
+        this.keyFormat = keyFormat;
     }
 
     /**
@@ -147,6 +163,16 @@ public class LongbowSchema implements Serializable {
      * @return the duration in millis
      */
     public long getDurationInMillis(String durationString) {
+        return parseDurationInMillis(durationString);
+    }
+
+    /**
+     * Parse a duration string like 30m, 12h or 90d.
+     *
+     * @param durationString the duration string
+     * @return the duration in millis
+     */
+    public static long parseDurationInMillis(String durationString) {
         String durationUnit = durationString.substring(durationString.length() - 1);
         long duration = Long.parseLong(durationString.substring(0, durationString.length() - 1));
         switch (durationUnit) {
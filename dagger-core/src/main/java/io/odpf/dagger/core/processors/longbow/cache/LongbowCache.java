@@ -0,0 +1,218 @@
+package io.odpf.dagger.core.processors.longbow.cache;
+
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.util.Bytes;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * An in-task read-through cache of recent Longbow documents per longbow key.
+ * For every key it keeps the documents ordered by row key (newest first, same as a scan) together with the
+ * oldest row key up to which the cached documents are known to be complete. Reads within that window are
+ * served locally, reads past it only need to scan the uncached, older part of the range.
+ * The total number of cached documents is bounded, least recently used keys are evicted first.
+ */
+public class LongbowCache {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+    private final int maxDocuments;
+    private final LinkedHashMap<String, Entry> entries;
+    private int documentCount;
+
+    /**
+     * Instantiates a new Longbow cache.
+     *
+     * @param maxDocuments the maximum number of documents held across all keys
+     */
+    public LongbowCache(int maxDocuments) {
+        if (maxDocuments < 1) {
+            throw new IllegalArgumentException("Longbow cache size should be positive, got " + maxDocuments);
+        }
+        this.maxDocuments = maxDocuments;
+        this.entries = new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true);
+    }
+
+    /**
+     * Look up the documents of a key between the start and stop row, both inclusive.
+     *
+     * @param longbowKey the longbow key
+     * @param startRow   the start row, the newest row key of the range
+     * @param stopRow    the stop row, the oldest row key of the range
+     * @param newestRow  the newest possible row key of the longbow key, used when nothing is cached yet
+     * @return the lookup
+     */
+    public synchronized Lookup lookup(String longbowKey, byte[] startRow, byte[] stopRow, byte[] newestRow) {
+        Entry entry = entries.get(longbowKey);
+        if (entry == null || entry.coveredStopRow == null) {
+            return new Lookup(new TreeMap<>(Bytes.BYTES_COMPARATOR), startRow, stopRow, newestRow);
+        }
+        NavigableMap<byte[], Result> cached = new TreeMap<>(Bytes.BYTES_COMPARATOR);
+        boolean covered = Bytes.compareTo(stopRow, entry.coveredStopRow) <= 0;
+        byte[] cachedStopRow = covered ? stopRow : entry.coveredStopRow;
+        if (Bytes.compareTo(startRow, cachedStopRow) <= 0) {
+            cached.putAll(entry.documents.subMap(startRow, true, cachedStopRow, true));
+        }
+        if (covered) {
+            return new Lookup(cached, startRow, stopRow, null);
+        }
+        byte[] uncachedStartRow = Bytes.compareTo(startRow, entry.coveredStopRow) > 0 ? startRow : entry.coveredStopRow;
+        return new Lookup(cached, startRow, stopRow, uncachedStartRow);
+    }
+
+    /**
+     * Add a single document, typically the row that has just been written for the key.
+     *
+     * @param longbowKey the longbow key
+     * @param document   the document
+     */
+    public synchronized void put(String longbowKey, Result document) {
+        Entry entry = entries.computeIfAbsent(longbowKey, key -> new Entry());
+        addDocument(entry, document);
+        evict(longbowKey);
+    }
+
+    /**
+     * Add the documents scanned for a key and extend the window for which the cache is complete.
+     * The window is only extended when the scan is contiguous with the cached one.
+     *
+     * @param longbowKey the longbow key
+     * @param documents  the scanned documents
+     * @param startRow   the start row of the scan
+     * @param stopRow    the stop row of the scan
+     * @param newestRow  the newest possible row key of the longbow key
+     */
+    public synchronized void putAll(String longbowKey, List<Result> documents, byte[] startRow, byte[] stopRow, byte[] newestRow) {
+        Entry entry = entries.computeIfAbsent(longbowKey, key -> new Entry());
+        documents.forEach(document -> addDocument(entry, document));
+        boolean contiguous = entry.coveredStopRow == null
+                ? Bytes.equals(startRow, newestRow)
+                : Bytes.compareTo(startRow, entry.coveredStopRow) <= 0;
+        if (contiguous && (entry.coveredStopRow == null || Bytes.compareTo(stopRow, entry.coveredStopRow) > 0)) {
+            entry.coveredStopRow = stopRow;
+        }
+        evict(longbowKey);
+    }
+
+    /**
+     * Drop the documents of a key older than the stop row, they fall out of the Longbow duration.
+     *
+     * @param longbowKey the longbow key
+     * @param stopRow    the oldest row key still needed
+     */
+    public synchronized void trim(String longbowKey, byte[] stopRow) {
+        Entry entry = entries.get(longbowKey);
+        if (entry == null) {
+            return;
+        }
+        NavigableMap<byte[], Result> expired = entry.documents.tailMap(stopRow, false);
+        documentCount -= expired.size();
+        expired.clear();
+        if (entry.coveredStopRow != null && Bytes.compareTo(stopRow, entry.coveredStopRow) < 0) {
+            entry.coveredStopRow = stopRow;
+        }
+    }
+
+    /**
+     * Gets the number of cached documents.
+     *
+     * @return the document count
+     */
+    public synchronized int size() {
+        return documentCount;
+    }
+
+    private void addDocument(Entry entry, Result document) {
+        if (entry.documents.put(document.getRow(), document) == null) {
+            documentCount++;
+        }
+    }
+
+    private void evict(String currentKey) {
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (documentCount > maxDocuments && iterator.hasNext()) {
+            Map.Entry<String, Entry> eldest = iterator.next();
+            if (!eldest.getKey().equals(currentKey)) {
+                documentCount -= eldest.getValue().documents.size();
+                iterator.remove();
+            }
+        }
+    }
+
+    private static class Entry {
+        private final NavigableMap<byte[], Result> documents = new TreeMap<>(Bytes.BYTES_COMPARATOR);
+        private byte[] coveredStopRow;
+    }
+
+    /**
+     * The result of a cache lookup.
+     */
+    public static class Lookup {
+        private final NavigableMap<byte[], Result> cachedDocuments;
+        private final byte[] startRow;
+        private final byte[] stopRow;
+        private final byte[] uncachedStartRow;
+
+        /**
+         * Instantiates a new Lookup.
+         *
+         * @param cachedDocuments  the cached documents
+         * @param startRow         the start row of the requested range
+         * @param stopRow          the stop row of the requested range
+         * @param uncachedStartRow the start row of the part that still has to be scanned
+         */
+        Lookup(NavigableMap<byte[], Result> cachedDocuments, byte[] startRow, byte[] stopRow, byte[] uncachedStartRow) {
+            this.cachedDocuments = cachedDocuments;
+            this.startRow = startRow;
+            this.stopRow = stopRow;
+            this.uncachedStartRow = uncachedStartRow;
+        }
+
+        /**
+         * Check if the whole range was served from the cache.
+         *
+         * @return the boolean
+         */
+        public boolean isComplete() {
+            return uncachedStartRow == null;
+        }
+
+        /**
+         * Check if nothing of the range was served from the cache.
+         *
+         * @return the boolean
+         */
+        public boolean isEmpty() {
+            return cachedDocuments.isEmpty();
+        }
+
+        /**
+         * Gets the start row of the part of the range that has to be scanned.
+         *
+         * @return the uncached start row, null when the lookup is complete
+         */
+        public byte[] getUncachedStartRow() {
+            return uncachedStartRow;
+        }
+
+        /**
+         * Merge the cached documents with the scanned ones within the requested range, in scan order.
+         *
+         * @param scanned the scanned documents
+         * @return the documents of the requested range
+         */
+        public List<Result> merge(List<Result> scanned) {
+            if (Bytes.compareTo(startRow, stopRow) > 0) {
+                return new ArrayList<>();
+            }
+            NavigableMap<byte[], Result> merged = new TreeMap<>(cachedDocuments);
+            scanned.forEach(result -> merged.put(result.getRow(), result));
+            return new ArrayList<>(merged.subMap(startRow, true, stopRow, true).values());
+        }
+    }
+}
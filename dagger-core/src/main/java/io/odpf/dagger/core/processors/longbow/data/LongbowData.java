@@ -17,4 +17,11 @@ public interface LongbowData extends Serializable {
      * @return the map
      */
     Map parse(List<Result> scanResult);
+
+    /**
+     * Create a builder parsing scanned rows incrementally.
+     *
+     * @return the longbow data builder
+     */
+    LongbowDataBuilder newBuilder();
 }
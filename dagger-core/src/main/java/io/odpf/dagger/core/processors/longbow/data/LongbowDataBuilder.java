@@ -0,0 +1,24 @@
+package io.odpf.dagger.core.processors.longbow.data;
+
+import org.apache.hadoop.hbase.client.Result;
+
+import java.util.Map;
+
+/**
+ * Builds Longbow data from scanned rows as they are streamed, so the rows do not have to be held until the scan ends.
+ */
+public interface LongbowDataBuilder {
+    /**
+     * Add a scanned row.
+     *
+     * @param result the result
+     */
+    void add(Result result);
+
+    /**
+     * Build the Longbow data of the rows added so far.
+     *
+     * @return the map
+     */
+    Map build();
+}
@@ -0,0 +1,34 @@
+package io.odpf.dagger.core.processors.longbow.data;
+
+import io.odpf.dagger.core.exception.DaggerConfigurationException;
+
+/**
+ * The cell encodings of Longbow data columns.
+ */
+public enum LongbowDataEncoding {
+    /**
+     * Every data column in its own cell, as a string.
+     */
+    STRING,
+    /**
+     * All data columns packed into one cell with their types kept, compressed when large.
+     */
+    PACKED;
+
+    /**
+     * Get the data encoding from its configured name, unset names fall back to the string encoding.
+     *
+     * @param name the name
+     * @return the longbow data encoding
+     */
+    public static LongbowDataEncoding from(String name) {
+        if (name == null || name.isEmpty()) {
+            return STRING;
+        }
+        try {
+            return valueOf(name.toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new DaggerConfigurationException(String.format("'%s' is not a valid longbow data encoding, use either %s or %s", name, STRING, PACKED));
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package io.odpf.dagger.core.processors.longbow.data;
+
+import org.apache.hadoop.hbase.util.Bytes;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Packs the data columns of a Longbow document into a single cell. Numbers and booleans are kept as fixed-width
+ * binary, so readers get them back typed instead of as strings. Cells above a small size are deflated when that
+ * makes them smaller.
+ */
+public class LongbowDataPacker {
+    private static final int COMPRESSION_THRESHOLD_BYTES = 128;
+    private static final byte UNCOMPRESSED = 0;
+    private static final byte COMPRESSED = 1;
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte LONG = 2;
+    private static final byte INTEGER = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte FLOAT = 5;
+    private static final byte BOOLEAN = 6;
+
+    private LongbowDataPacker() {
+    }
+
+    /**
+     * Pack the values of the data columns.
+     *
+     * @param columnNames the column names
+     * @param values      the values, in the order of the column names
+     * @return the packed cell value
+     */
+    public static byte[] pack(List<String> columnNames, List<Object> values) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeShort(columnNames.size());
+            for (int i = 0; i < columnNames.size(); i++) {
+                output.writeUTF(columnNames.get(i));
+                writeValue(output, values.get(i));
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return compress(bytes.toByteArray());
+    }
+
+    /**
+     * Unpack a cell and append its values to the lists of the columns, columns missing in the cell get a null.
+     *
+     * @param cell        the packed cell value
+     * @param columnsData the data lists by column name
+     */
+    public static void unpack(byte[] cell, Map<String, List<Object>> columnsData) {
+        Set<String> unpackedColumns = new HashSet<>();
+        try (DataInputStream input = new DataInputStream(decompress(cell))) {
+            int columnCount = input.readUnsignedShort();
+            for (int i = 0; i < columnCount; i++) {
+                String columnName = input.readUTF();
+                Object value = readValue(input);
+                List<Object> columnData = columnsData.get(columnName);
+                if (columnData != null) {
+                    columnData.add(value);
+                    unpackedColumns.add(columnName);
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        columnsData.forEach((columnName, columnData) -> {
+            if (!unpackedColumns.contains(columnName)) {
+                columnData.add(null);
+            }
+        });
+    }
+
+    private static byte[] compress(byte[] packed) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        if (packed.length >= COMPRESSION_THRESHOLD_BYTES) {
+            bytes.write(COMPRESSED);
+            try (DeflaterOutputStream output = new DeflaterOutputStream(bytes)) {
+                output.write(packed);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            if (bytes.size() < packed.length + 1) {
+                return bytes.toByteArray();
+            }
+            bytes.reset();
+        }
+        bytes.write(UNCOMPRESSED);
+        bytes.write(packed, 0, packed.length);
+        return bytes.toByteArray();
+    }
+
+    private static InputStream decompress(byte[] cell) {
+        InputStream input = new ByteArrayInputStream(cell, 1, cell.length - 1);
+        return cell[0] == COMPRESSED ? new InflaterInputStream(input) : input;
+    }
+
+    private static void writeValue(DataOutputStream output, Object value) throws IOException {
+        if (value == null) {
+            output.writeByte(NULL);
+        } else if (value instanceof Long) {
+            output.writeByte(LONG);
+            output.writeLong((Long) value);
+        } else if (value instanceof Integer) {
+            output.writeByte(INTEGER);
+            output.writeInt((Integer) value);
+        } else if (value instanceof Double) {
+            output.writeByte(DOUBLE);
+            output.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            output.writeByte(FLOAT);
+            output.writeFloat((Float) value);
+        } else if (value instanceof Boolean) {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean((Boolean) value);
+        } else {
+            byte[] string = Bytes.toBytes(value.toString());
+            output.writeByte(STRING);
+            output.writeInt(string.length);
+            output.write(string);
+        }
+    }
+
+    private static Object readValue(DataInputStream input) throws IOException {
+        byte type = input.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case LONG:
+                return input.readLong();
+            case INTEGER:
+                return input.readInt();
+            case DOUBLE:
+                return input.readDouble();
+            case FLOAT:
+                return input.readFloat();
+            case BOOLEAN:
+                return input.readBoolean();
+            case STRING:
+                byte[] string = new byte[input.readInt()];
+                input.readFully(string);
+                return Bytes.toString(string);
+            default:
+                throw new IOException("Unknown longbow data type " + type);
+        }
+    }
+}
@@ -14,6 +14,7 @@ import java.util.Map;
  */
 public class LongbowProtoData implements LongbowData {
     private static final byte[] COLUMN_FAMILY_NAME = Bytes.toBytes(Constants.LONGBOW_COLUMN_FAMILY_DEFAULT);
+    private static final byte[] QUALIFIER_NAME = Bytes.toBytes(Constants.LONGBOW_QUALIFIER_DEFAULT);
 
     /**
      * Instantiates a new Longbow proto data.
@@ -33,4 +34,22 @@ public class LongbowProtoData implements LongbowData {
         longbowData.put(Constants.LONGBOW_PROTO_DATA_KEY, data);
         return longbowData;
     }
+
+    @Override
+    public LongbowDataBuilder newBuilder() {
+        HashMap<String, List<byte[]>> longbowData = new HashMap<>();
+        ArrayList<byte[]> data = new ArrayList<>();
+        longbowData.put(Constants.LONGBOW_PROTO_DATA_KEY, data);
+        return new LongbowDataBuilder() {
+            @Override
+            public void add(Result result) {
+                data.add(result.getValue(COLUMN_FAMILY_NAME, QUALIFIER_NAME));
+            }
+
+            @Override
+            public Map<String, List<byte[]>> build() {
+                return longbowData;
+            }
+        };
+    }
 }
@@ -9,15 +9,17 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
- * The Longbow table data.
+ * The Longbow table data. Documents written with the packed encoding are decoded with their types, documents
+ * written with the string encoding are decoded as strings.
  */
 public class LongbowTableData implements LongbowData {
 
     private static final byte[] COLUMN_FAMILY_NAME = Bytes.toBytes(Constants.LONGBOW_COLUMN_FAMILY_DEFAULT);
-    private LongbowSchema longbowSchema;
+    private static final byte[] PACKED_QUALIFIER_NAME = Bytes.toBytes(Constants.LONGBOW_PACKED_QUALIFIER);
+    private List<String> dataColumnNames;
+    private byte[][] dataQualifierNames;
 
     /**
      * Instantiates a new Longbow table data.
@@ -25,25 +27,43 @@ public class LongbowTableData implements LongbowData {
      * @param longbowSchema the longbow schema
      */
     public LongbowTableData(LongbowSchema longbowSchema) {
-        this.longbowSchema = longbowSchema;
+        this.dataColumnNames = longbowSchema.getColumnNames(c -> c.getKey().contains(Constants.LONGBOW_DATA_KEY));
+        this.dataQualifierNames = dataColumnNames.stream().map(Bytes::toBytes).toArray(byte[][]::new);
     }
 
     @Override
-    public Map<String, List<String>> parse(List<Result> scanResult) {
-        Map<String, List<String>> longbowData = new HashMap<>();
-        List<String> longbowDataColumnNames = longbowSchema.getColumnNames(c -> c.getKey().contains(Constants.LONGBOW_DATA_KEY));
-        if (scanResult.isEmpty()) {
-            longbowDataColumnNames.forEach(name -> longbowData.put(name, new ArrayList<>()));
-        } else {
-            longbowDataColumnNames.forEach(name -> longbowData.put(name, getData(scanResult, name)));
-        }
-        return longbowData;
+    public Map<String, List<Object>> parse(List<Result> scanResult) {
+        LongbowDataBuilder longbowDataBuilder = newBuilder();
+        scanResult.forEach(longbowDataBuilder::add);
+        return longbowDataBuilder.build();
     }
 
-    private List<String> getData(List<Result> resultScan, String name) {
-        return resultScan
-                .stream()
-                .map(result -> Bytes.toString(result.getValue(COLUMN_FAMILY_NAME, Bytes.toBytes(name))))
-                .collect(Collectors.toList());
+    @Override
+    public LongbowDataBuilder newBuilder() {
+        Map<String, List<Object>> longbowData = new HashMap<>();
+        List<List<Object>> columnsData = new ArrayList<>();
+        dataColumnNames.forEach(name -> {
+            List<Object> columnData = new ArrayList<>();
+            longbowData.put(name, columnData);
+            columnsData.add(columnData);
+        });
+        return new LongbowDataBuilder() {
+            @Override
+            public void add(Result result) {
+                byte[] packed = result.getValue(COLUMN_FAMILY_NAME, PACKED_QUALIFIER_NAME);
+                if (packed != null) {
+                    LongbowDataPacker.unpack(packed, longbowData);
+                    return;
+                }
+                for (int i = 0; i < dataQualifierNames.length; i++) {
+                    columnsData.get(i).add(Bytes.toString(result.getValue(COLUMN_FAMILY_NAME, dataQualifierNames[i])));
+                }
+            }
+
+            @Override
+            public Map<String, List<Object>> build() {
+                return longbowData;
+            }
+        };
     }
 }
@@ -1,12 +1,24 @@
 package io.odpf.dagger.core.processors.longbow.processor;
 
+import io.odpf.dagger.core.SqlQueries;
+import io.odpf.dagger.core.processors.longbow.LongbowKeyFormat;
 import io.odpf.dagger.core.processors.longbow.LongbowSchema;
+import io.odpf.dagger.core.processors.longbow.cache.LongbowCache;
 import io.odpf.dagger.core.processors.longbow.data.LongbowData;
+import io.odpf.dagger.core.processors.longbow.data.LongbowDataBuilder;
+import io.odpf.dagger.core.processors.longbow.data.LongbowDataEncoding;
 import io.odpf.dagger.core.processors.longbow.range.LongbowRange;
 import io.odpf.dagger.core.processors.longbow.request.ScanRequestFactory;
+import io.odpf.dagger.core.processors.longbow.request.TablePutRequest;
+import io.odpf.dagger.core.processors.longbow.storage.LongbowScanCoalescer;
 import io.odpf.dagger.core.processors.longbow.storage.LongbowStore;
+import io.odpf.dagger.core.processors.longbow.storage.ScanLimit;
 import io.odpf.dagger.core.processors.longbow.storage.ScanRequest;
+import io.odpf.dagger.core.processors.longbow.storage.ScanSummary;
 import org.apache.flink.configuration.Configuration;
+import org.apache.flink.runtime.state.FunctionInitializationContext;
+import org.apache.flink.runtime.state.FunctionSnapshotContext;
+import org.apache.flink.streaming.api.checkpoint.CheckpointedFunction;
 import org.apache.flink.streaming.api.functions.async.ResultFuture;
 import org.apache.flink.streaming.api.functions.async.RichAsyncFunction;
 import org.apache.flink.types.Row;
@@ -20,10 +32,15 @@ import io.odpf.dagger.core.metrics.telemetry.TelemetryTypes;
 import io.odpf.dagger.core.processors.longbow.exceptions.LongbowReaderException;
 import io.odpf.dagger.core.processors.longbow.outputRow.ReaderOutputRow;
 import io.odpf.dagger.core.utils.Constants;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.CellComparator;
+import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.util.Bytes;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -38,7 +55,7 @@ import static java.time.Duration.between;
 /**
  * The Longbow reader.
  */
-public class LongbowReader extends RichAsyncFunction<Row, Row> implements TelemetryPublisher {
+public class LongbowReader extends RichAsyncFunction<Row, Row> implements TelemetryPublisher, CheckpointedFunction {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LongbowReader.class.getName());
     private Configuration configuration;
@@ -51,6 +68,13 @@ public class LongbowReader extends RichAsyncFunction<Row, Row> implements Teleme
     private LongbowData longbowData;
     private ScanRequestFactory scanRequestFactory;
     private ReaderOutputRow readerOutputRow;
+    private LongbowCache longbowCache;
+    private ScanLimit scanLimit;
+    private LongbowDataEncoding dataEncoding;
+    private LongbowScanCoalescer scanCoalescer;
+    private boolean restoredOnLocalStore;
+    private Long restoredRowTime;
+    private boolean missingHistoryLogged;
 
     /**
      * Instantiates a new Longbow reader with specified longbow store.
@@ -72,6 +96,44 @@ public class LongbowReader extends RichAsyncFunction<Row, Row> implements Teleme
         this.errorReporter = errorReporter;
     }
 
+    /**
+     * Instantiates a new Longbow reader with specified longbow store and longbow cache.
+     *
+     * @param configuration      the configuration
+     * @param longBowSchema      the longbow schema
+     * @param longbowRange       the longbow range
+     * @param longBowStore       the longbow store
+     * @param meterStatsManager  the meter stats manager
+     * @param errorReporter      the error reporter
+     * @param longbowData        the longbow data
+     * @param scanRequestFactory the scan request factory
+     * @param readerOutputRow    the reader output row
+     * @param longbowCache       the longbow cache
+     */
+    LongbowReader(Configuration configuration, LongbowSchema longBowSchema, LongbowRange longbowRange, LongbowStore longBowStore, MeterStatsManager meterStatsManager, ErrorReporter errorReporter, LongbowData longbowData, ScanRequestFactory scanRequestFactory, ReaderOutputRow readerOutputRow, LongbowCache longbowCache) {
+        this(configuration, longBowSchema, longbowRange, longBowStore, meterStatsManager, errorReporter, longbowData, scanRequestFactory, readerOutputRow);
+        this.longbowCache = longbowCache;
+    }
+
+    /**
+     * Instantiates a new Longbow reader with specified longbow store and scan coalescer.
+     *
+     * @param configuration      the configuration
+     * @param longBowSchema      the longbow schema
+     * @param longbowRange       the longbow range
+     * @param longBowStore       the longbow store
+     * @param meterStatsManager  the meter stats manager
+     * @param errorReporter      the error reporter
+     * @param longbowData        the longbow data
+     * @param scanRequestFactory the scan request factory
+     * @param readerOutputRow    the reader output row
+     * @param scanCoalescer      the scan coalescer
+     */
+    LongbowReader(Configuration configuration, LongbowSchema longBowSchema, LongbowRange longbowRange, LongbowStore longBowStore, MeterStatsManager meterStatsManager, ErrorReporter errorReporter, LongbowData longbowData, ScanRequestFactory scanRequestFactory, ReaderOutputRow readerOutputRow, LongbowScanCoalescer scanCoalescer) {
+        this(configuration, longBowSchema, longbowRange, longBowStore, meterStatsManager, errorReporter, longbowData, scanRequestFactory, readerOutputRow);
+        this.scanCoalescer = scanCoalescer;
+    }
+
     /**
      * Instantiates a new Longbow reader.
      *
@@ -104,7 +166,39 @@ public class LongbowReader extends RichAsyncFunction<Row, Row> implements Teleme
         if (errorReporter == null) {
             errorReporter = ErrorReporterFactory.getErrorReporter(getRuntimeContext(), configuration);
         }
-        meterStatsManager.register("longbow.reader", LongbowReaderAspects.values());
+        if (longbowCache == null && isCacheEnabled()) {
+            longbowCache = new LongbowCache(configuration.getInteger(Constants.PROCESSOR_LONGBOW_CACHE_MAX_DOCUMENTS_KEY, Constants.PROCESSOR_LONGBOW_CACHE_MAX_DOCUMENTS_DEFAULT));
+        }
+        dataEncoding = LongbowDataEncoding.from(configuration.getString(Constants.PROCESSOR_LONGBOW_DATA_ENCODING_KEY, Constants.PROCESSOR_LONGBOW_DATA_ENCODING_DEFAULT));
+        scanLimit = new ScanLimit(configuration.getInteger(Constants.PROCESSOR_LONGBOW_READ_MAX_ROWS_KEY, Constants.PROCESSOR_LONGBOW_READ_MAX_ROWS_DEFAULT),
+                configuration.getLong(Constants.PROCESSOR_LONGBOW_READ_MAX_BYTES_KEY, Constants.PROCESSOR_LONGBOW_READ_MAX_BYTES_DEFAULT));
+        if (scanCoalescer == null && longbowCache == null && isCoalescingEnabled()) {
+            scanCoalescer = new LongbowScanCoalescer(longBowStore, meterStatsManager, scanLimit,
+                    configuration.getLong(Constants.PROCESSOR_LONGBOW_READ_COALESCE_LINGER_MS_KEY, Constants.PROCESSOR_LONGBOW_READ_COALESCE_LINGER_MS_DEFAULT));
+        }
+        String queryName = SqlQueries.getQueryName(configuration);
+        if (queryName.isEmpty()) {
+            meterStatsManager.register("longbow.reader", LongbowReaderAspects.values());
+        } else {
+            meterStatsManager.register("longbow.reader", queryName, LongbowReaderAspects.values());
+        }
+        LongbowKeyFormat configuredKeyFormat = LongbowKeyFormat.from(configuration.getString(Constants.PROCESSOR_LONGBOW_KEY_FORMAT_KEY, Constants.PROCESSOR_LONGBOW_KEY_FORMAT_DEFAULT));
+        longBowSchema.setKeyFormat(longBowSchema.isLongbowPlus()
+                ? configuredKeyFormat
+                : LongbowKeyFormat.resolve(longBowStore, scanRequestFactory.getTableId(), configuredKeyFormat));
+    }
+
+    @Override
+    public void initializeState(FunctionInitializationContext context) {
+        restoredOnLocalStore = context.isRestored() && Constants.PROCESSOR_LONGBOW_STORE_TYPE_LOCAL.equalsIgnoreCase(
+                configuration.getString(Constants.PROCESSOR_LONGBOW_STORE_TYPE_KEY, Constants.PROCESSOR_LONGBOW_STORE_TYPE_DEFAULT));
+        if (restoredOnLocalStore) {
+            LOGGER.warn("LongbowReader : restored with the local store, documents of keys previously handled by other task managers are not part of the checkpoint");
+        }
+    }
+
+    @Override
+    public void snapshotState(FunctionSnapshotContext context) {
     }
 
     @Override
@@ -117,6 +211,9 @@ public class LongbowReader extends RichAsyncFunction<Row, Row> implements Teleme
         super.close();
         meterStatsManager.markEvent(LongbowReaderAspects.CLOSE_CONNECTION_ON_READER);
         LOGGER.error("LongbowReader : Connection closed");
+        if (scanCoalescer != null) {
+            scanCoalescer.close();
+        }
         if (longBowStore != null) {
             longBowStore.close();
         }
@@ -124,17 +221,119 @@ public class LongbowReader extends RichAsyncFunction<Row, Row> implements Teleme
 
     @Override
     public void asyncInvoke(Row input, ResultFuture<Row> resultFuture) {
+        if (restoredOnLocalStore && restoredRowTime == null) {
+            restoredRowTime = ((Timestamp) longBowSchema.getValue(input, Constants.ROWTIME)).getTime();
+        }
+        if (longbowCache != null) {
+            cachedInvoke(input, resultFuture);
+            return;
+        }
+        if (scanCoalescer != null) {
+            coalescedInvoke(input, resultFuture);
+            return;
+        }
         ScanRequest scanRequest = scanRequestFactory.create(input, longbowRange);
         Instant startTime = Instant.now();
-        longBowStore.scanAll(scanRequest)
+        LongbowDataBuilder dataBuilder = longbowData.newBuilder();
+        longBowStore.scan(scanRequest, scanLimit, dataBuilder::add)
+                .thenApply(scanSummary -> {
+                    instrumentation(scanSummary, startTime, input);
+                    return dataBuilder.build();
+                })
+                .exceptionally(throwable -> {
+                    List<Result> scanResult = logException(throwable, startTime);
+                    instrumentation(ScanSummary.empty(), startTime, input);
+                    return longbowData.parse(scanResult);
+                })
+                .thenAccept(data -> {
+                    Row row = readerOutputRow.get(data, input);
+                    resultFuture.complete(Collections.singletonList(row));
+                });
+    }
+
+    private void cachedInvoke(Row input, ResultFuture<Row> resultFuture) {
+        String longbowKey = (String) longBowSchema.getValue(input, longBowSchema.getType().getKeyName());
+        byte[] startRow = longbowRange.getUpperBound(input);
+        byte[] stopRow = longbowRange.getLowerBound(input);
+        byte[] newestRow = longBowSchema.getAbsoluteKey(input, Long.MAX_VALUE);
+        longbowCache.put(longbowKey, toDocument(input));
+        LongbowCache.Lookup lookup = longbowCache.lookup(longbowKey, startRow, stopRow, newestRow);
+        Instant startTime = Instant.now();
+        if (lookup.isComplete()) {
+            meterStatsManager.markEvent(LongbowReaderAspects.CACHE_HIT_ON_READ_DOCUMENT);
+            longbowCache.trim(longbowKey, stopRow);
+            List<Result> scanResult = limit(lookup.merge(Collections.emptyList()), false);
+            instrumentation(summarize(scanResult), startTime, input);
+            resultFuture.complete(Collections.singletonList(readerOutputRow.get(longbowData.parse(scanResult), input)));
+            return;
+        }
+        meterStatsManager.markEvent(lookup.isEmpty()
+                ? LongbowReaderAspects.CACHE_MISS_ON_READ_DOCUMENT
+                : LongbowReaderAspects.CACHE_PARTIAL_HIT_ON_READ_DOCUMENT);
+        byte[] uncachedStartRow = lookup.getUncachedStartRow();
+        List<Result> uncachedResult = new ArrayList<>();
+        longBowStore.scan(scanRequestFactory.create(input, uncachedStartRow, stopRow), scanLimit, uncachedResult::add)
+                .thenApply(scanSummary -> {
+                    byte[] scannedStopRow = scanSummary.isTruncated() ? scanSummary.getLastRow() : stopRow;
+                    longbowCache.putAll(longbowKey, uncachedResult, uncachedStartRow, scannedStopRow, newestRow);
+                    longbowCache.trim(longbowKey, stopRow);
+                    return limit(lookup.merge(uncachedResult), scanSummary.isTruncated());
+                })
                 .exceptionally(throwable -> logException(throwable, startTime))
                 .thenAccept(scanResult -> {
-                    instrumentation(scanResult, startTime, input);
+                    instrumentation(summarize(scanResult), startTime, input);
                     Row row = readerOutputRow.get(longbowData.parse(scanResult), input);
                     resultFuture.complete(Collections.singletonList(row));
                 });
     }
 
+    private void coalescedInvoke(Row input, ResultFuture<Row> resultFuture) {
+        String longbowKey = (String) longBowSchema.getValue(input, longBowSchema.getType().getKeyName());
+        Instant startTime = Instant.now();
+        scanCoalescer.scan(longbowKey, longbowRange.getUpperBound(input), longbowRange.getLowerBound(input),
+                (startRow, stopRow) -> scanRequestFactory.create(input, startRow, stopRow))
+                .thenApply(scanResult -> limit(scanResult, false))
+                .exceptionally(throwable -> logException(throwable, startTime))
+                .thenAccept(scanResult -> {
+                    instrumentation(summarize(scanResult), startTime, input);
+                    Row row = readerOutputRow.get(longbowData.parse(scanResult), input);
+                    resultFuture.complete(Collections.singletonList(row));
+                });
+    }
+
+    private Result toDocument(Row input) {
+        Put put = new TablePutRequest(longBowSchema, input, scanRequestFactory.getTableId(), dataEncoding).get();
+        List<Cell> cells = new ArrayList<>();
+        put.getFamilyCellMap().values().forEach(cells::addAll);
+        cells.sort(CellComparator.getInstance());
+        return Result.create(cells);
+    }
+
+    private List<Result> limit(List<Result> scanResult, boolean truncated) {
+        List<Result> limitedResult = scanLimit.apply(scanResult);
+        if (truncated || limitedResult.size() < scanResult.size()) {
+            meterStatsManager.markEvent(LongbowReaderAspects.TRUNCATED_ON_READ_DOCUMENT);
+        }
+        return limitedResult;
+    }
+
+    private ScanSummary summarize(List<Result> scanResult) {
+        if (scanResult.isEmpty()) {
+            return ScanSummary.empty();
+        }
+        return new ScanSummary(scanResult.size(), scanResult.get(0).getRow(), scanResult.get(scanResult.size() - 1).getRow(), false);
+    }
+
+    private boolean isCoalescingEnabled() {
+        return configuration.getBoolean(Constants.PROCESSOR_LONGBOW_READ_COALESCE_ENABLE_KEY, Constants.PROCESSOR_LONGBOW_READ_COALESCE_ENABLE_DEFAULT)
+                && !longBowSchema.isLongbowPlus();
+    }
+
+    private boolean isCacheEnabled() {
+        return configuration.getBoolean(Constants.PROCESSOR_LONGBOW_CACHE_ENABLE_KEY, Constants.PROCESSOR_LONGBOW_CACHE_ENABLE_DEFAULT)
+                && !longBowSchema.isLongbowPlus();
+    }
+
     /**
      * Gets longbow range.
      *
@@ -144,13 +343,37 @@ public class LongbowReader extends RichAsyncFunction<Row, Row> implements Teleme
         return longbowRange;
     }
 
-    private void instrumentation(List<Result> scanResult, Instant startTime, Row input) {
+    private void instrumentation(ScanSummary scanSummary, Instant startTime, Row input) {
         meterStatsManager.markEvent(LongbowReaderAspects.SUCCESS_ON_READ_DOCUMENT);
         meterStatsManager.updateHistogram(LongbowReaderAspects.SUCCESS_ON_READ_DOCUMENT_RESPONSE_TIME, between(startTime, Instant.now()).toMillis());
-        meterStatsManager.updateHistogram(LongbowReaderAspects.DOCUMENTS_READ_PER_SCAN, scanResult.size());
-        if (scanResult.isEmpty() || !Arrays.equals(scanResult.get(0).getRow(), longBowSchema.getKey(input, 0))) {
+        meterStatsManager.updateHistogram(LongbowReaderAspects.DOCUMENTS_READ_PER_SCAN, scanSummary.getRows());
+        if (longbowCache != null) {
+            meterStatsManager.updateHistogram(LongbowReaderAspects.DOCUMENTS_IN_CACHE, longbowCache.size());
+        }
+        if (scanSummary.isTruncated()) {
+            meterStatsManager.markEvent(LongbowReaderAspects.TRUNCATED_ON_READ_DOCUMENT);
+        }
+        if (scanSummary.getFirstRow() == null || !Arrays.equals(scanSummary.getFirstRow(), longBowSchema.getKey(input, 0))) {
             meterStatsManager.markEvent(LongbowReaderAspects.FAILED_TO_READ_LAST_RECORD);
         }
+        if (restoredRowTime != null && !scanSummary.isTruncated()) {
+            checkHistoryAfterRestore(scanSummary, input);
+        }
+    }
+
+    private void checkHistoryAfterRestore(ScanSummary scanSummary, Row input) {
+        byte[] restoredRow = longBowSchema.getAbsoluteKey(input, restoredRowTime);
+        boolean rangeStartsBeforeRestore = Bytes.compareTo(longbowRange.getLowerBound(input), restoredRow) > 0;
+        boolean readBeforeRestore = scanSummary.getLastRow() != null && Bytes.compareTo(scanSummary.getLastRow(), restoredRow) > 0;
+        if (!rangeStartsBeforeRestore || readBeforeRestore) {
+            return;
+        }
+        meterStatsManager.markEvent(LongbowReaderAspects.MISSING_HISTORY_AFTER_RESTORE);
+        if (!missingHistoryLogged) {
+            missingHistoryLogged = true;
+            LOGGER.warn("LongbowReader : no document older than the restore found for key {}, its history was kept on another task manager",
+                    longBowSchema.getValue(input, longBowSchema.getType().getKeyName()));
+        }
     }
 
     private List<Result> logException(Throwable ex, Instant startTime) {
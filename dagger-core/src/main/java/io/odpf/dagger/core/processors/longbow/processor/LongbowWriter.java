@@ -1,12 +1,18 @@
 package io.odpf.dagger.core.processors.longbow.processor;
 
+import io.odpf.dagger.core.SqlQueries;
+import io.odpf.dagger.core.processors.longbow.LongbowKeyFormat;
 import io.odpf.dagger.core.processors.longbow.LongbowSchema;
 import io.odpf.dagger.core.processors.longbow.exceptions.LongbowWriterException;
 import io.odpf.dagger.core.processors.longbow.outputRow.WriterOutputRow;
 import io.odpf.dagger.core.processors.longbow.request.PutRequestFactory;
+import io.odpf.dagger.core.processors.longbow.storage.LongbowPutBatcher;
 import io.odpf.dagger.core.processors.longbow.storage.LongbowStore;
 import io.odpf.dagger.core.processors.longbow.storage.PutRequest;
 import org.apache.flink.configuration.Configuration;
+import org.apache.flink.runtime.state.FunctionInitializationContext;
+import org.apache.flink.runtime.state.FunctionSnapshotContext;
+import org.apache.flink.streaming.api.checkpoint.CheckpointedFunction;
 import org.apache.flink.streaming.api.functions.async.ResultFuture;
 import org.apache.flink.streaming.api.functions.async.RichAsyncFunction;
 import org.apache.flink.types.Row;
@@ -37,7 +43,7 @@ import static java.time.Duration.between;
 /**
  * The Longbow writer.
  */
-public class LongbowWriter extends RichAsyncFunction<Row, Row> implements TelemetryPublisher {
+public class LongbowWriter extends RichAsyncFunction<Row, Row> implements TelemetryPublisher, CheckpointedFunction {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LongbowWriter.class.getName());
     private static final byte[] COLUMN_FAMILY_NAME = Bytes.toBytes(Constants.LONGBOW_COLUMN_FAMILY_DEFAULT);
@@ -52,6 +58,7 @@ public class LongbowWriter extends RichAsyncFunction<Row, Row> implements Teleme
     private LongbowStore longBowStore;
     private Map<String, List<String>> metrics = new HashMap<>();
     private ErrorReporter errorReporter;
+    private LongbowPutBatcher putBatcher;
 
     /**
      * Instantiates a new Longbow writer.
@@ -102,31 +109,57 @@ public class LongbowWriter extends RichAsyncFunction<Row, Row> implements Teleme
         if (meterStatsManager == null) {
             meterStatsManager = new MeterStatsManager(getRuntimeContext().getMetricGroup(), true);
         }
-        meterStatsManager.register("longbow.writer", LongbowWriterAspects.values());
+        String queryName = SqlQueries.getQueryName(configuration);
+        if (queryName.isEmpty()) {
+            meterStatsManager.register("longbow.writer", LongbowWriterAspects.values());
+        } else {
+            meterStatsManager.register("longbow.writer", queryName, LongbowWriterAspects.values());
+        }
 
         if (errorReporter == null) {
             errorReporter = ErrorReporterFactory.getErrorReporter(getRuntimeContext(), configuration);
         }
 
-        if (!longBowStore.tableExists(tableId)) {
-            Instant startTime = Instant.now();
-            try {
-                Duration maxAgeDuration = Duration.ofMillis(longbowSchema.getDurationInMillis(longbowDocumentDuration));
-                String columnFamilyName = new String(COLUMN_FAMILY_NAME);
-                longBowStore.createTable(maxAgeDuration, columnFamilyName, tableId);
-                LOGGER.info("table '{}' is created with maxAge '{}' on column family '{}'", tableId,
-                        maxAgeDuration, columnFamilyName);
-                meterStatsManager.markEvent(LongbowWriterAspects.SUCCESS_ON_CREATE_BIGTABLE);
-                meterStatsManager.updateHistogram(LongbowWriterAspects.SUCCESS_ON_CREATE_BIGTABLE_RESPONSE_TIME,
-                        between(startTime, Instant.now()).toMillis());
-            } catch (Exception ex) {
-                LOGGER.error("failed to create table '{}'", tableId);
-                meterStatsManager.markEvent(LongbowWriterAspects.FAILURES_ON_CREATE_BIGTABLE);
-                errorReporter.reportFatalException(ex);
-                meterStatsManager.updateHistogram(LongbowWriterAspects.FAILURES_ON_CREATE_BIGTABLE_RESPONSE_TIME,
-                        between(startTime, Instant.now()).toMillis());
-                throw ex;
+        if (putBatcher == null && configuration.getBoolean(Constants.PROCESSOR_LONGBOW_WRITE_BATCH_ENABLE_KEY, Constants.PROCESSOR_LONGBOW_WRITE_BATCH_ENABLE_DEFAULT)) {
+            putBatcher = new LongbowPutBatcher(longBowStore, meterStatsManager,
+                    configuration.getInteger(Constants.PROCESSOR_LONGBOW_WRITE_BATCH_MAX_DOCUMENTS_KEY, Constants.PROCESSOR_LONGBOW_WRITE_BATCH_MAX_DOCUMENTS_DEFAULT),
+                    configuration.getLong(Constants.PROCESSOR_LONGBOW_WRITE_BATCH_MAX_BYTES_KEY, Constants.PROCESSOR_LONGBOW_WRITE_BATCH_MAX_BYTES_DEFAULT),
+                    configuration.getLong(Constants.PROCESSOR_LONGBOW_WRITE_BATCH_LINGER_MS_KEY, Constants.PROCESSOR_LONGBOW_WRITE_BATCH_LINGER_MS_DEFAULT));
+        }
+
+        LongbowKeyFormat configuredKeyFormat = LongbowKeyFormat.from(configuration.getString(Constants.PROCESSOR_LONGBOW_KEY_FORMAT_KEY, Constants.PROCESSOR_LONGBOW_KEY_FORMAT_DEFAULT));
+        if (longBowStore.tableExists(tableId)) {
+            LongbowKeyFormat tableKeyFormat = longBowStore.getKeyFormat(tableId);
+            longbowSchema.setKeyFormat(tableKeyFormat == null ? LongbowKeyFormat.STRING : tableKeyFormat);
+        } else {
+            createTable(configuredKeyFormat);
+        }
+    }
+
+    private void createTable(LongbowKeyFormat keyFormat) throws Exception {
+        Instant startTime = Instant.now();
+        try {
+            Duration maxAgeDuration = Duration.ofMillis(longbowSchema.getDurationInMillis(longbowDocumentDuration));
+            String columnFamilyName = new String(COLUMN_FAMILY_NAME);
+            longBowStore.createTable(maxAgeDuration, columnFamilyName, tableId, keyFormat);
+            longbowSchema.setKeyFormat(keyFormat);
+            LOGGER.info("table '{}' is created with maxAge '{}' on column family '{}' and key format '{}'", tableId,
+                    maxAgeDuration, columnFamilyName, keyFormat);
+            meterStatsManager.markEvent(LongbowWriterAspects.SUCCESS_ON_CREATE_BIGTABLE);
+            meterStatsManager.updateHistogram(LongbowWriterAspects.SUCCESS_ON_CREATE_BIGTABLE_RESPONSE_TIME,
+                    between(startTime, Instant.now()).toMillis());
+        } catch (Exception ex) {
+            if (longBowStore.tableExists(tableId)) {
+                LOGGER.info("table '{}' is created concurrently, using its key format", tableId);
+                longbowSchema.setKeyFormat(LongbowKeyFormat.resolveCreated(longBowStore, tableId));
+                return;
             }
+            LOGGER.error("failed to create table '{}'", tableId);
+            meterStatsManager.markEvent(LongbowWriterAspects.FAILURES_ON_CREATE_BIGTABLE);
+            errorReporter.reportFatalException(ex);
+            meterStatsManager.updateHistogram(LongbowWriterAspects.FAILURES_ON_CREATE_BIGTABLE_RESPONSE_TIME,
+                    between(startTime, Instant.now()).toMillis());
+            throw ex;
         }
     }
 
@@ -139,7 +172,7 @@ public class LongbowWriter extends RichAsyncFunction<Row, Row> implements Teleme
     public void asyncInvoke(Row input, ResultFuture<Row> resultFuture) throws Exception {
         PutRequest putRequest = putRequestFactory.create(input);
         Instant startTime = Instant.now();
-        CompletableFuture<Void> writeFuture = longBowStore.put(putRequest);
+        CompletableFuture<Void> writeFuture = putBatcher != null ? putBatcher.add(putRequest) : longBowStore.put(putRequest);
         writeFuture.exceptionally(throwable -> logException(throwable, startTime)).thenAccept(aVoid -> {
             meterStatsManager.markEvent(LongbowWriterAspects.SUCCESS_ON_WRITE_DOCUMENT);
             meterStatsManager.updateHistogram(LongbowWriterAspects.SUCCESS_ON_WRITE_DOCUMENT_RESPONSE_TIME,
@@ -166,9 +199,23 @@ public class LongbowWriter extends RichAsyncFunction<Row, Row> implements Teleme
         resultFuture.completeExceptionally(timeoutException);
     }
 
+    @Override
+    public void snapshotState(FunctionSnapshotContext context) {
+        if (putBatcher != null) {
+            putBatcher.flush();
+        }
+    }
+
+    @Override
+    public void initializeState(FunctionInitializationContext context) {
+    }
+
     @Override
     public void close() throws Exception {
         super.close();
+        if (putBatcher != null) {
+            putBatcher.close();
+        }
         if (longBowStore != null) {
             longBowStore.close();
         }
@@ -1,6 +1,7 @@
 package io.odpf.dagger.core.processors.longbow.request;
 
 import io.odpf.dagger.core.processors.longbow.LongbowSchema;
+import io.odpf.dagger.core.processors.longbow.data.LongbowDataEncoding;
 import io.odpf.dagger.core.processors.longbow.storage.PutRequest;
 import io.odpf.dagger.core.sink.ProtoSerializer;
 
@@ -16,6 +17,7 @@ public class PutRequestFactory implements Serializable {
     private LongbowSchema longbowSchema;
     private ProtoSerializer protoSerializer;
     private String tableId;
+    private LongbowDataEncoding dataEncoding;
 
     /**
      * Instantiates a new Put request factory.
@@ -25,9 +27,22 @@ public class PutRequestFactory implements Serializable {
      * @param tableId         the table id
      */
     public PutRequestFactory(LongbowSchema longbowSchema, ProtoSerializer protoSerializer, String tableId) {
+        this(longbowSchema, protoSerializer, tableId, LongbowDataEncoding.STRING);
+    }
+
+    /**
+     * Instantiates a new Put request factory with specified data encoding.
+     *
+     * @param longbowSchema   the longbow schema
+     * @param protoSerializer the proto serializer
+     * @param tableId         the table id
+     * @param dataEncoding    the data encoding of table put requests
+     */
+    public PutRequestFactory(LongbowSchema longbowSchema, ProtoSerializer protoSerializer, String tableId, LongbowDataEncoding dataEncoding) {
         this.longbowSchema = longbowSchema;
         this.protoSerializer = protoSerializer;
         this.tableId = tableId;
+        this.dataEncoding = dataEncoding;
     }
 
     /**
@@ -38,7 +53,7 @@ public class PutRequestFactory implements Serializable {
      */
     public PutRequest create(Row input) {
         if (!longbowSchema.isLongbowPlus()) {
-            return new TablePutRequest(longbowSchema, input, tableId);
+            return new TablePutRequest(longbowSchema, input, tableId, dataEncoding);
         } else {
             return new ProtoBytePutRequest(longbowSchema, input, protoSerializer, tableId);
         }
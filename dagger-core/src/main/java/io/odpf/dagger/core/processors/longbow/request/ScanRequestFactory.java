@@ -35,13 +35,34 @@ public class ScanRequestFactory implements Serializable {
      * @return the scan request
      */
     public ScanRequest create(Row input, LongbowRange longbowRange) {
+        return create(input, longbowRange.getUpperBound(input), longbowRange.getLowerBound(input));
+    }
+
+    /**
+     * Create scan request between the specified rows.
+     *
+     * @param input    the input
+     * @param startRow the start row
+     * @param stopRow  the stop row
+     * @return the scan request
+     */
+    public ScanRequest create(Row input, byte[] startRow, byte[] stopRow) {
         if (!longbowSchema.isLongbowPlus()) {
-            return new TableScanRequest(longbowRange.getUpperBound(input), longbowRange.getLowerBound(input), longbowSchema, tableId);
+            return new TableScanRequest(startRow, stopRow, longbowSchema, tableId);
         } else {
-            return new ProtoByteScanRequest(longbowRange.getUpperBound(input), longbowRange.getLowerBound(input), parseTableName(input));
+            return new ProtoByteScanRequest(startRow, stopRow, parseTableName(input));
         }
     }
 
+    /**
+     * Gets table id.
+     *
+     * @return the table id
+     */
+    public String getTableId() {
+        return tableId;
+    }
+
     private String parseTableName(Row input) {
         return (String) longbowSchema.getValue(input, Constants.SYNCHRONIZER_BIGTABLE_TABLE_ID_KEY);
     }
@@ -1,6 +1,8 @@
 package io.odpf.dagger.core.processors.longbow.request;
 
 import io.odpf.dagger.core.processors.longbow.LongbowSchema;
+import io.odpf.dagger.core.processors.longbow.data.LongbowDataEncoding;
+import io.odpf.dagger.core.processors.longbow.data.LongbowDataPacker;
 import io.odpf.dagger.core.processors.longbow.storage.PutRequest;
 import org.apache.flink.types.Row;
 
@@ -9,6 +11,8 @@ import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.util.Bytes;
 
 import java.sql.Timestamp;
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Create PutRequest in form of table. LONGBOW_KEY as range key,
@@ -17,10 +21,12 @@ import java.sql.Timestamp;
 public class TablePutRequest implements PutRequest {
 
     private static final byte[] COLUMN_FAMILY_NAME = Bytes.toBytes(Constants.LONGBOW_COLUMN_FAMILY_DEFAULT);
+    private static final byte[] PACKED_QUALIFIER_NAME = Bytes.toBytes(Constants.LONGBOW_PACKED_QUALIFIER);
 
     private LongbowSchema longbowSchema;
     private Row input;
     private String tableId;
+    private LongbowDataEncoding dataEncoding;
 
     /**
      * Instantiates a new Table put request.
@@ -30,18 +36,36 @@ public class TablePutRequest implements PutRequest {
      * @param tableId       the table id
      */
     public TablePutRequest(LongbowSchema longbowSchema, Row input, String tableId) {
+        this(longbowSchema, input, tableId, LongbowDataEncoding.STRING);
+    }
+
+    /**
+     * Instantiates a new Table put request with specified data encoding.
+     *
+     * @param longbowSchema the longbow schema
+     * @param input         the input row
+     * @param tableId       the table id
+     * @param dataEncoding  the data encoding
+     */
+    public TablePutRequest(LongbowSchema longbowSchema, Row input, String tableId, LongbowDataEncoding dataEncoding) {
         this.longbowSchema = longbowSchema;
         this.input = input;
         this.tableId = tableId;
+        this.dataEncoding = dataEncoding;
     }
 
     @Override
     public Put get() {
         Put putRequest = new Put(longbowSchema.getKey(input, 0));
         Timestamp rowtime = (Timestamp) longbowSchema.getValue(input, Constants.ROWTIME);
-        longbowSchema.getColumnNames(c -> c.getKey().contains(Constants.LONGBOW_DATA_KEY))
-                .forEach(column -> putRequest.addColumn(COLUMN_FAMILY_NAME, Bytes.toBytes(column), rowtime.getTime(),
-                        Bytes.toBytes((String) longbowSchema.getValue(input, column))));
+        List<String> dataColumnNames = longbowSchema.getColumnNames(c -> c.getKey().contains(Constants.LONGBOW_DATA_KEY));
+        if (dataEncoding == LongbowDataEncoding.PACKED) {
+            List<Object> values = dataColumnNames.stream().map(column -> longbowSchema.getValue(input, column)).collect(Collectors.toList());
+            putRequest.addColumn(COLUMN_FAMILY_NAME, PACKED_QUALIFIER_NAME, rowtime.getTime(), LongbowDataPacker.pack(dataColumnNames, values));
+            return putRequest;
+        }
+        dataColumnNames.forEach(column -> putRequest.addColumn(COLUMN_FAMILY_NAME, Bytes.toBytes(column), rowtime.getTime(),
+                Bytes.toBytes((String) longbowSchema.getValue(input, column))));
         return putRequest;
     }
 
@@ -13,6 +13,7 @@ import java.util.Map;
  */
 public class TableScanRequest implements ScanRequest {
     private static final byte[] COLUMN_FAMILY_NAME = Bytes.toBytes(Constants.LONGBOW_COLUMN_FAMILY_DEFAULT);
+    private static final byte[] PACKED_QUALIFIER_NAME = Bytes.toBytes(Constants.LONGBOW_PACKED_QUALIFIER);
     private byte[] startRow;
     private byte[] stopRow;
     private LongbowSchema longbowSchema;
@@ -39,6 +40,7 @@ public class TableScanRequest implements ScanRequest {
         longbowSchema
                 .getColumnNames(this::isLongbowData)
                 .forEach(column -> scan.addColumn(COLUMN_FAMILY_NAME, Bytes.toBytes(column)));
+        scan.addColumn(COLUMN_FAMILY_NAME, PACKED_QUALIFIER_NAME);
 
         return scan;
     }
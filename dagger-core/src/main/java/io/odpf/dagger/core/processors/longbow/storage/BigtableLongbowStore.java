@@ -0,0 +1,154 @@
+package io.odpf.dagger.core.processors.longbow.storage;
+
+import com.google.cloud.bigtable.admin.v2.BigtableTableAdminClient;
+import com.google.cloud.bigtable.admin.v2.models.ColumnFamily;
+import com.google.cloud.bigtable.admin.v2.models.CreateTableRequest;
+import com.google.cloud.bigtable.hbase.BigtableConfiguration;
+import org.apache.flink.configuration.Configuration;
+
+import io.odpf.dagger.core.processors.longbow.LongbowKeyFormat;
+import io.odpf.dagger.core.utils.Constants;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.AdvancedScanResultConsumer;
+import org.apache.hadoop.hbase.client.AsyncTable;
+import org.apache.hadoop.hbase.client.BigtableAsyncConnection;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.apache.hadoop.hbase.client.Scan;
+import org.threeten.bp.Duration;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import static com.google.cloud.bigtable.admin.v2.models.GCRules.GCRULES;
+
+/**
+ * A class that responsible to store the event to big table for longbow.
+ */
+public class BigtableLongbowStore implements LongbowStore {
+    private BigtableTableAdminClient adminClient;
+    private BigtableAsyncConnection tableClient;
+    private Map<String, AsyncTable<AdvancedScanResultConsumer>> tables;
+    private ExecutorService scanExecutor;
+
+    /**
+     * Instantiates a new Bigtable longbow store.
+     *
+     * @param adminClient  the admin client
+     * @param tableClient  the table client
+     * @param scanExecutor the executor iterating the scanners of limited scans
+     */
+    BigtableLongbowStore(BigtableTableAdminClient adminClient, BigtableAsyncConnection tableClient, ExecutorService scanExecutor) {
+        this.adminClient = adminClient;
+        this.tableClient = tableClient;
+        this.scanExecutor = scanExecutor;
+        this.tables = new HashMap<>();
+    }
+
+    private AsyncTable<AdvancedScanResultConsumer> getTable(String tableId) {
+        if (!tables.containsKey(tableId)) {
+            tables.put(tableId, tableClient.getTable(TableName.valueOf(tableId)));
+        }
+        return tables.get(tableId);
+    }
+
+    /**
+     * Create bigtable longbow store.
+     *
+     * @param configuration the configuration
+     * @return the bigtable longbow store
+     * @throws IOException the io exception
+     */
+    public static BigtableLongbowStore create(Configuration configuration) throws IOException {
+        String gcpProjectID = configuration.getString(Constants.PROCESSOR_LONGBOW_GCP_PROJECT_ID_KEY, Constants.PROCESSOR_LONGBOW_GCP_PROJECT_ID_DEFAULT);
+        String gcpInstanceID = configuration.getString(Constants.PROCESSOR_LONGBOW_GCP_INSTANCE_ID_KEY, Constants.PROCESSOR_LONGBOW_GCP_INSTANCE_ID_DEFAULT);
+        BigtableTableAdminClient bigtableTableAdminClient = BigtableTableAdminClient.create(gcpProjectID, gcpInstanceID);
+        org.apache.hadoop.conf.Configuration bigTableConfiguration = BigtableConfiguration.configure(gcpProjectID, gcpInstanceID);
+        BigtableAsyncConnection bigtableAsyncConnection = new BigtableAsyncConnection(bigTableConfiguration);
+        int threadCapacity = configuration.getInteger(Constants.PROCESSOR_LONGBOW_THREAD_CAPACITY_KEY, Constants.PROCESSOR_LONGBOW_THREAD_CAPACITY_DEFAULT);
+        return new BigtableLongbowStore(bigtableTableAdminClient, bigtableAsyncConnection, Executors.newFixedThreadPool(threadCapacity));
+    }
+
+    @Override
+    public boolean tableExists(String tableId) {
+        return adminClient.exists(tableId);
+    }
+
+    @Override
+    public void createTable(Duration maxAgeDuration, String columnFamilyName, String tableId, LongbowKeyFormat keyFormat) throws Exception {
+        adminClient.createTable(CreateTableRequest.of(tableId)
+                .addFamily(columnFamilyName,
+                        GCRULES.union()
+                                .rule(GCRULES.maxVersions(1))
+                                .rule(GCRULES.maxAge(maxAgeDuration)))
+                .addFamily(Constants.LONGBOW_KEY_FORMAT_FAMILY_PREFIX + keyFormat.name(), GCRULES.maxVersions(1)));
+    }
+
+    @Override
+    public LongbowKeyFormat getKeyFormat(String tableId) {
+        return adminClient.getTable(tableId).getColumnFamilies().stream()
+                .map(ColumnFamily::getId)
+                .filter(familyId -> familyId.startsWith(Constants.LONGBOW_KEY_FORMAT_FAMILY_PREFIX))
+                .map(familyId -> LongbowKeyFormat.valueOf(familyId.substring(Constants.LONGBOW_KEY_FORMAT_FAMILY_PREFIX.length())))
+                .findFirst()
+                .orElse(null);
+    }
+
+    @Override
+    public CompletableFuture<Void> put(PutRequest putRequest) {
+        return getTable(putRequest.getTableId()).put(putRequest.get());
+    }
+
+    @Override
+    public CompletableFuture<Void> putAll(String tableId, List<Put> puts) {
+        return getTable(tableId).putAll(puts);
+    }
+
+    @Override
+    public CompletableFuture<List<Result>> scanAll(ScanRequest scanRequest) {
+        return getTable(scanRequest.getTableId()).scanAll(scanRequest.get());
+    }
+
+    @Override
+    public CompletableFuture<ScanSummary> scan(ScanRequest scanRequest, ScanLimit scanLimit, Consumer<Result> consumer) {
+        Scan scan = scanRequest.get();
+        if (scanLimit.getMaxRows() > 0) {
+            scan.setLimit(scanLimit.getMaxRows() + 1);
+        }
+        LimitedScanResultConsumer scanResultConsumer = new LimitedScanResultConsumer(scanLimit, consumer);
+        AsyncTable<AdvancedScanResultConsumer> table = getTable(scanRequest.getTableId());
+        scanExecutor.execute(() -> {
+            try (ResultScanner scanner = table.getScanner(scan)) {
+                for (Result result = scanner.next(); result != null; result = scanner.next()) {
+                    if (!scanResultConsumer.offer(result)) {
+                        return;
+                    }
+                }
+                scanResultConsumer.onComplete();
+            } catch (Exception ex) {
+                scanResultConsumer.onError(ex);
+            }
+        });
+        return scanResultConsumer.getFuture();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (scanExecutor != null) {
+            scanExecutor.shutdownNow();
+        }
+        if (tableClient != null) {
+            tableClient.close();
+        }
+        if (adminClient != null) {
+            adminClient.close();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package io.odpf.dagger.core.processors.longbow.storage;
+
+import org.apache.hadoop.hbase.client.AdvancedScanResultConsumer;
+import org.apache.hadoop.hbase.client.Result;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * A scan consumer handing rows over as they are streamed, which terminates the scan once the limit is reached.
+ * Rows can also be offered one by one while iterating a scanner.
+ */
+public class LimitedScanResultConsumer implements AdvancedScanResultConsumer {
+    private final ScanLimit scanLimit;
+    private final Consumer<Result> consumer;
+    private final CompletableFuture<ScanSummary> future = new CompletableFuture<>();
+    private int rows;
+    private long bytes;
+    private byte[] firstRow;
+    private byte[] lastRow;
+
+    /**
+     * Instantiates a new Limited scan result consumer.
+     *
+     * @param scanLimit the scan limit
+     * @param consumer  the consumer of the rows
+     */
+    public LimitedScanResultConsumer(ScanLimit scanLimit, Consumer<Result> consumer) {
+        this.scanLimit = scanLimit;
+        this.consumer = consumer;
+    }
+
+    @Override
+    public void onNext(Result[] results, ScanController controller) {
+        for (Result result : results) {
+            if (!offer(result)) {
+                controller.terminate();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Hand a row over unless the limit is already reached, in which case the scan is completed as truncated.
+     *
+     * @param result the row
+     * @return whether the scan should go on
+     */
+    public boolean offer(Result result) {
+        if (scanLimit.isReached(rows, bytes)) {
+            complete(true);
+            return false;
+        }
+        consumer.accept(result);
+        if (firstRow == null) {
+            firstRow = result.getRow();
+        }
+        lastRow = result.getRow();
+        rows++;
+        bytes += ScanLimit.sizeOf(result);
+        return true;
+    }
+
+    @Override
+    public void onError(Throwable error) {
+        future.completeExceptionally(error);
+    }
+
+    @Override
+    public void onComplete() {
+        complete(false);
+    }
+
+    /**
+     * Gets the future completed with the summary once the scan ends.
+     *
+     * @return the future
+     */
+    public CompletableFuture<ScanSummary> getFuture() {
+        return future;
+    }
+
+    private void complete(boolean truncated) {
+        future.complete(new ScanSummary(rows, firstRow, lastRow, truncated));
+    }
+}
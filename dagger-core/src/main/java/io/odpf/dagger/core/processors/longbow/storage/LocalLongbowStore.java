@@ -0,0 +1,318 @@
+package io.odpf.dagger.core.processors.longbow.storage;
+
+import io.odpf.dagger.core.processors.longbow.LongbowKeyFormat;
+import io.odpf.dagger.core.processors.longbow.LongbowSchema;
+import io.odpf.dagger.core.utils.Constants;
+import org.apache.flink.configuration.Configuration;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.CellComparator;
+import org.apache.hadoop.hbase.CellUtil;
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+import org.rocksdb.TtlDB;
+import org.threeten.bp.Duration;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * A Longbow store embedded in the task manager, backed by a local RocksDB instance per table.
+ * Rows keep the reversed timestamp keys and the cells of Bigtable, and expire after the document duration.
+ * Tables are shared by all the stores of a task manager pointing to the same path, so Longbow writers and
+ * readers of the same job see each other's documents. The key format marker of a table is written before its
+ * directory is created, so a table is never visible without it. Tables are not part of Flink checkpoints, keys
+ * handled by another task manager after a failover or rescale start with an empty history.
+ */
+public class LocalLongbowStore implements LongbowStore {
+    private static final Map<String, SharedTable> OPEN_TABLES = new HashMap<>();
+
+    private final String path;
+    private final Duration defaultMaxAge;
+    private final Map<String, SharedTable> tables = new HashMap<>();
+
+    /**
+     * Instantiates a new Local longbow store.
+     *
+     * @param path          the directory holding the tables
+     * @param defaultMaxAge the max age of tables not created through this store
+     */
+    public LocalLongbowStore(String path, Duration defaultMaxAge) {
+        this.path = path;
+        this.defaultMaxAge = defaultMaxAge;
+    }
+
+    /**
+     * Create local longbow store.
+     *
+     * @param configuration the configuration
+     * @return the local longbow store
+     */
+    public static LocalLongbowStore create(Configuration configuration) {
+        String path = configuration.getString(Constants.PROCESSOR_LONGBOW_LOCAL_STORE_PATH_KEY, Constants.PROCESSOR_LONGBOW_LOCAL_STORE_PATH_DEFAULT);
+        String documentDuration = configuration.getString(Constants.PROCESSOR_LONGBOW_DOCUMENT_DURATION_KEY, Constants.PROCESSOR_LONGBOW_DOCUMENT_DURATION_DEFAULT);
+        return new LocalLongbowStore(path, Duration.ofMillis(LongbowSchema.parseDurationInMillis(documentDuration)));
+    }
+
+    @Override
+    public boolean tableExists(String tableId) {
+        return new File(path, tableId).exists();
+    }
+
+    @Override
+    public void createTable(Duration maxAgeDuration, String columnFamilyName, String tableId, LongbowKeyFormat keyFormat) throws Exception {
+        File keyFormatFile = getKeyFormatFile(tableId);
+        keyFormatFile.getParentFile().mkdirs();
+        File temporaryFile = File.createTempFile("." + tableId + "-", Constants.LONGBOW_KEY_FORMAT_FILE_SUFFIX, keyFormatFile.getParentFile());
+        Files.write(temporaryFile.toPath(), keyFormat.name().getBytes(StandardCharsets.UTF_8));
+        Files.move(temporaryFile.toPath(), keyFormatFile.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        getTable(tableId, maxAgeDuration);
+    }
+
+    @Override
+    public LongbowKeyFormat getKeyFormat(String tableId) throws IOException {
+        File keyFormatFile = getKeyFormatFile(tableId);
+        if (!keyFormatFile.exists()) {
+            return null;
+        }
+        return LongbowKeyFormat.valueOf(new String(Files.readAllBytes(keyFormatFile.toPath()), StandardCharsets.UTF_8).trim());
+    }
+
+    @Override
+    public CompletableFuture<Void> put(PutRequest putRequest) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        try {
+            getTable(putRequest.getTableId(), defaultMaxAge).put(putRequest.get());
+            future.complete(null);
+        } catch (Exception ex) {
+            future.completeExceptionally(ex);
+        }
+        return future;
+    }
+
+    @Override
+    public CompletableFuture<Void> putAll(String tableId, List<Put> puts) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        try {
+            SharedTable table = getTable(tableId, defaultMaxAge);
+            for (Put put : puts) {
+                table.put(put);
+            }
+            future.complete(null);
+        } catch (Exception ex) {
+            future.completeExceptionally(ex);
+        }
+        return future;
+    }
+
+    @Override
+    public CompletableFuture<List<Result>> scanAll(ScanRequest scanRequest) {
+        CompletableFuture<List<Result>> future = new CompletableFuture<>();
+        try {
+            List<Result> results = new ArrayList<>();
+            getTable(scanRequest.getTableId(), defaultMaxAge).scan(scanRequest.get(), ScanLimit.unbounded(), results::add);
+            future.complete(results);
+        } catch (Exception ex) {
+            future.completeExceptionally(ex);
+        }
+        return future;
+    }
+
+    @Override
+    public CompletableFuture<ScanSummary> scan(ScanRequest scanRequest, ScanLimit scanLimit, Consumer<Result> consumer) {
+        CompletableFuture<ScanSummary> future = new CompletableFuture<>();
+        try {
+            future.complete(getTable(scanRequest.getTableId(), defaultMaxAge).scan(scanRequest.get(), scanLimit, consumer));
+        } catch (Exception ex) {
+            future.completeExceptionally(ex);
+        }
+        return future;
+    }
+
+    @Override
+    public void close() {
+        synchronized (OPEN_TABLES) {
+            tables.values().forEach(SharedTable::release);
+            tables.clear();
+        }
+    }
+
+    private File getKeyFormatFile(String tableId) {
+        return new File(path, tableId + Constants.LONGBOW_KEY_FORMAT_FILE_SUFFIX);
+    }
+
+    private SharedTable getTable(String tableId, Duration maxAge) throws RocksDBException {
+        synchronized (OPEN_TABLES) {
+            SharedTable table = tables.get(tableId);
+            if (table != null) {
+                return table;
+            }
+            String tablePath = new File(path, tableId).getAbsolutePath();
+            table = OPEN_TABLES.get(tablePath);
+            if (table == null) {
+                table = SharedTable.open(tablePath, maxAge);
+                OPEN_TABLES.put(tablePath, table);
+            }
+            table.references++;
+            tables.put(tableId, table);
+            return table;
+        }
+    }
+
+    private static class SharedTable {
+        private final String tablePath;
+        private final Options options;
+        private final TtlDB db;
+        private int references;
+
+        SharedTable(String tablePath, Options options, TtlDB db) {
+            this.tablePath = tablePath;
+            this.options = options;
+            this.db = db;
+        }
+
+        static SharedTable open(String tablePath, Duration maxAge) throws RocksDBException {
+            RocksDB.loadLibrary();
+            new File(tablePath).mkdirs();
+            Options options = new Options().setCreateIfMissing(true);
+            int ttlSeconds = (int) Math.min(Integer.MAX_VALUE, maxAge.getSeconds());
+            return new SharedTable(tablePath, options, TtlDB.open(options, tablePath, ttlSeconds, false));
+        }
+
+        synchronized void put(Put put) throws RocksDBException {
+            byte[] rowKey = put.getRow();
+            List<Cell> cells = decode(rowKey, db.get(rowKey));
+            put.getFamilyCellMap().values().forEach(putCells -> putCells.forEach(cell -> {
+                cells.removeIf(existing -> CellUtil.matchingColumn(existing, cell));
+                cells.add(cell);
+            }));
+            db.put(rowKey, encode(cells));
+        }
+
+        ScanSummary scan(Scan scan, ScanLimit scanLimit, Consumer<Result> consumer) {
+            int rows = 0;
+            long bytes = 0;
+            byte[] firstRow = null;
+            byte[] lastRow = null;
+            byte[] startRow = scan.getStartRow();
+            byte[] stopRow = scan.getStopRow();
+            try (RocksIterator iterator = db.newIterator()) {
+                for (iterator.seek(startRow); iterator.isValid(); iterator.next()) {
+                    byte[] rowKey = iterator.key();
+                    int stopComparison = stopRow.length == 0 ? -1 : Bytes.compareTo(rowKey, stopRow);
+                    if (stopComparison > 0 || (stopComparison == 0 && !scan.includeStopRow())) {
+                        break;
+                    }
+                    if (!scan.includeStartRow() && Bytes.equals(rowKey, startRow)) {
+                        continue;
+                    }
+                    List<Cell> cells = decode(rowKey, iterator.value());
+                    cells.removeIf(cell -> !isSelected(scan, cell));
+                    if (cells.isEmpty()) {
+                        continue;
+                    }
+                    if (scanLimit.isReached(rows, bytes)) {
+                        return new ScanSummary(rows, firstRow, lastRow, true);
+                    }
+                    cells.sort(CellComparator.getInstance());
+                    Result result = Result.create(cells);
+                    consumer.accept(result);
+                    firstRow = firstRow == null ? rowKey : firstRow;
+                    lastRow = rowKey;
+                    rows++;
+                    bytes += ScanLimit.sizeOf(result);
+                }
+            }
+            return new ScanSummary(rows, firstRow, lastRow, false);
+        }
+
+        void release() {
+            references--;
+            if (references == 0) {
+                OPEN_TABLES.remove(tablePath);
+                db.close();
+                options.close();
+            }
+        }
+
+        private static boolean isSelected(Scan scan, Cell cell) {
+            if (!scan.hasFamilies()) {
+                return true;
+            }
+            Map<byte[], NavigableSet<byte[]>> familyMap = scan.getFamilyMap();
+            byte[] family = CellUtil.cloneFamily(cell);
+            if (!familyMap.containsKey(family)) {
+                return false;
+            }
+            NavigableSet<byte[]> qualifiers = familyMap.get(family);
+            return qualifiers == null || qualifiers.contains(CellUtil.cloneQualifier(cell));
+        }
+
+        private static byte[] encode(List<Cell> cells) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream output = new DataOutputStream(bytes)) {
+                output.writeInt(cells.size());
+                for (Cell cell : cells) {
+                    writeBytes(output, CellUtil.cloneFamily(cell));
+                    writeBytes(output, CellUtil.cloneQualifier(cell));
+                    output.writeLong(cell.getTimestamp());
+                    writeBytes(output, CellUtil.cloneValue(cell));
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return bytes.toByteArray();
+        }
+
+        private static List<Cell> decode(byte[] rowKey, byte[] value) {
+            List<Cell> cells = new ArrayList<>();
+            if (value == null) {
+                return cells;
+            }
+            try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(value))) {
+                int cellCount = input.readInt();
+                for (int i = 0; i < cellCount; i++) {
+                    byte[] family = readBytes(input);
+                    byte[] qualifier = readBytes(input);
+                    long timestamp = input.readLong();
+                    cells.add(new KeyValue(rowKey, family, qualifier, timestamp, readBytes(input)));
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return cells;
+        }
+
+        private static void writeBytes(DataOutputStream output, byte[] value) throws IOException {
+            output.writeInt(value.length);
+            output.write(value);
+        }
+
+        private static byte[] readBytes(DataInputStream input) throws IOException {
+            byte[] value = new byte[input.readInt()];
+            input.readFully(value);
+            return value;
+        }
+    }
+}
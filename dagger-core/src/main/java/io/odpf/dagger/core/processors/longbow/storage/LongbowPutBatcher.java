@@ -0,0 +1,157 @@
+package io.odpf.dagger.core.processors.longbow.storage;
+
+import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
+import io.odpf.dagger.core.metrics.aspects.LongbowWriterAspects;
+import org.apache.hadoop.hbase.client.Put;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static java.time.Duration.between;
+
+/**
+ * Groups Longbow puts into bulk mutations.
+ * A batch is flushed once it holds the maximum number of documents or bytes, or once its first put
+ * has lingered for the configured time. The future of every put completes when its batch is acknowledged.
+ */
+public class LongbowPutBatcher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LongbowPutBatcher.class.getName());
+
+    private final LongbowStore longBowStore;
+    private final MeterStatsManager meterStatsManager;
+    private final int maxDocuments;
+    private final long maxBytes;
+    private final long lingerMillis;
+    private final ScheduledExecutorService scheduler;
+    private List<PendingPut> pendingPuts = new ArrayList<>();
+    private long pendingBytes;
+    private ScheduledFuture<?> lingerFlush;
+
+    /**
+     * Instantiates a new Longbow put batcher.
+     *
+     * @param longBowStore      the longbow store
+     * @param meterStatsManager the meter stats manager
+     * @param maxDocuments      the maximum number of documents per batch
+     * @param maxBytes          the maximum size of a batch in bytes
+     * @param lingerMillis      the maximum time a put waits for its batch to fill up
+     */
+    public LongbowPutBatcher(LongbowStore longBowStore, MeterStatsManager meterStatsManager, int maxDocuments, long maxBytes, long lingerMillis) {
+        this(longBowStore, meterStatsManager, maxDocuments, maxBytes, lingerMillis, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "longbow-put-batcher");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Instantiates a new Longbow put batcher with specified scheduler.
+     *
+     * @param longBowStore      the longbow store
+     * @param meterStatsManager the meter stats manager
+     * @param maxDocuments      the maximum number of documents per batch
+     * @param maxBytes          the maximum size of a batch in bytes
+     * @param lingerMillis      the maximum time a put waits for its batch to fill up
+     * @param scheduler         the scheduler used for linger flushes
+     */
+    LongbowPutBatcher(LongbowStore longBowStore, MeterStatsManager meterStatsManager, int maxDocuments, long maxBytes, long lingerMillis, ScheduledExecutorService scheduler) {
+        if (maxDocuments < 1 || maxBytes < 1 || lingerMillis < 0) {
+            throw new IllegalArgumentException("Longbow write batch limits should be positive");
+        }
+        this.longBowStore = longBowStore;
+        this.meterStatsManager = meterStatsManager;
+        this.maxDocuments = maxDocuments;
+        this.maxBytes = maxBytes;
+        this.lingerMillis = lingerMillis;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Add a put to the current batch.
+     *
+     * @param putRequest the put request
+     * @return the completable future, completed when the batch of the put is acknowledged
+     */
+    public synchronized CompletableFuture<Void> add(PutRequest putRequest) {
+        Put put = putRequest.get();
+        PendingPut pendingPut = new PendingPut(putRequest.getTableId(), put);
+        pendingPuts.add(pendingPut);
+        pendingBytes += put.heapSize();
+        if (pendingPuts.size() >= maxDocuments || pendingBytes >= maxBytes) {
+            flush();
+        } else if (lingerFlush == null) {
+            lingerFlush = scheduler.schedule(this::flush, lingerMillis, TimeUnit.MILLISECONDS);
+        }
+        return pendingPut.future;
+    }
+
+    /**
+     * Send the current batch without waiting for it to fill up.
+     */
+    public synchronized void flush() {
+        if (lingerFlush != null) {
+            lingerFlush.cancel(false);
+            lingerFlush = null;
+        }
+        if (pendingPuts.isEmpty()) {
+            return;
+        }
+        List<PendingPut> batch = pendingPuts;
+        pendingPuts = new ArrayList<>();
+        pendingBytes = 0;
+        Map<String, List<PendingPut>> batchPerTable = batch.stream().collect(Collectors.groupingBy(pendingPut -> pendingPut.tableId));
+        batchPerTable.forEach(this::write);
+    }
+
+    /**
+     * Flush the current batch and stop the linger scheduler.
+     */
+    public void close() {
+        flush();
+        scheduler.shutdown();
+    }
+
+    private void write(String tableId, List<PendingPut> batch) {
+        Instant startTime = Instant.now();
+        List<Put> puts = batch.stream().map(pendingPut -> pendingPut.put).collect(Collectors.toList());
+        CompletableFuture<Void> batchFuture;
+        try {
+            batchFuture = longBowStore.putAll(tableId, puts);
+        } catch (RuntimeException ex) {
+            batchFuture = new CompletableFuture<>();
+            batchFuture.completeExceptionally(ex);
+        }
+        batchFuture.whenComplete((aVoid, throwable) -> {
+            meterStatsManager.updateHistogram(LongbowWriterAspects.DOCUMENTS_WRITTEN_PER_BATCH, batch.size());
+            meterStatsManager.updateHistogram(LongbowWriterAspects.BATCH_WRITE_RESPONSE_TIME, between(startTime, Instant.now()).toMillis());
+            if (throwable != null) {
+                LOGGER.error("failed to write batch of {} documents to table '{}'", batch.size(), tableId);
+                meterStatsManager.markEvent(LongbowWriterAspects.FAILED_ON_WRITE_BATCH);
+                batch.forEach(pendingPut -> pendingPut.future.completeExceptionally(throwable));
+            } else {
+                batch.forEach(pendingPut -> pendingPut.future.complete(null));
+            }
+        });
+    }
+
+    private static class PendingPut {
+        private final String tableId;
+        private final Put put;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        PendingPut(String tableId, Put put) {
+            this.tableId = tableId;
+            this.put = put;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package io.odpf.dagger.core.processors.longbow.storage;
+
+import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
+import io.odpf.dagger.core.metrics.aspects.LongbowReaderAspects;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.util.Bytes;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Merges the Longbow reads of a key which arrive close together into a single scan.
+ * The first read of a key waits for the configured linger time, reads of the same key arriving meanwhile join it.
+ * One scan then covers the union of their ranges and every read gets back the rows of its own range.
+ * Reads only join scans which have not been issued yet, so they never miss documents written before they arrived.
+ * The merged scan is bounded by the read limit times the number of reads it serves. A read whose range the bounded scan
+ * did not fully cover, and which did not get the rows of its own limit, is scanned again on its own.
+ */
+public class LongbowScanCoalescer {
+    private final LongbowStore longBowStore;
+    private final MeterStatsManager meterStatsManager;
+    private final ScanLimit scanLimit;
+    private final long lingerMillis;
+    private final ScheduledExecutorService scheduler;
+    private final Map<String, PendingScan> pendingScans = new HashMap<>();
+
+    /**
+     * Instantiates a new Longbow scan coalescer.
+     *
+     * @param longBowStore      the longbow store
+     * @param meterStatsManager the meter stats manager
+     * @param scanLimit         the limit of a single read
+     * @param lingerMillis      the time the first read of a key waits for others to join
+     */
+    public LongbowScanCoalescer(LongbowStore longBowStore, MeterStatsManager meterStatsManager, ScanLimit scanLimit, long lingerMillis) {
+        this(longBowStore, meterStatsManager, scanLimit, lingerMillis, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "longbow-scan-coalescer");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Instantiates a new Longbow scan coalescer with specified scheduler.
+     *
+     * @param longBowStore      the longbow store
+     * @param meterStatsManager the meter stats manager
+     * @param scanLimit         the limit of a single read
+     * @param lingerMillis      the time the first read of a key waits for others to join
+     * @param scheduler         the scheduler issuing the scans
+     */
+    LongbowScanCoalescer(LongbowStore longBowStore, MeterStatsManager meterStatsManager, ScanLimit scanLimit, long lingerMillis, ScheduledExecutorService scheduler) {
+        if (lingerMillis < 0) {
+            throw new IllegalArgumentException("Longbow read coalescing linger should not be negative, got " + lingerMillis);
+        }
+        this.longBowStore = longBowStore;
+        this.meterStatsManager = meterStatsManager;
+        this.scanLimit = scanLimit;
+        this.lingerMillis = lingerMillis;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Read the rows of a key between the start and stop row, both inclusive.
+     *
+     * @param longbowKey         the longbow key
+     * @param startRow           the start row, the newest row key of the range
+     * @param stopRow            the stop row, the oldest row key of the range
+     * @param scanRequestFactory creates the scan request of a range, used if this read starts a new scan
+     * @return the completable future of the rows of the range, at least those within the read limit
+     */
+    public synchronized CompletableFuture<List<Result>> scan(String longbowKey, byte[] startRow, byte[] stopRow, BiFunction<byte[], byte[], ScanRequest> scanRequestFactory) {
+        PendingScan pendingScan = pendingScans.get(longbowKey);
+        if (pendingScan == null) {
+            pendingScan = new PendingScan(scanRequestFactory);
+            pendingScans.put(longbowKey, pendingScan);
+            scheduler.schedule(() -> flush(longbowKey), lingerMillis, TimeUnit.MILLISECONDS);
+        }
+        return pendingScan.add(startRow, stopRow);
+    }
+
+    /**
+     * Issue the pending scans of all keys and stop the scheduler.
+     */
+    public void close() {
+        List<String> longbowKeys;
+        synchronized (this) {
+            longbowKeys = new ArrayList<>(pendingScans.keySet());
+        }
+        longbowKeys.forEach(this::flush);
+        scheduler.shutdown();
+    }
+
+    private void flush(String longbowKey) {
+        PendingScan pendingScan;
+        synchronized (this) {
+            pendingScan = pendingScans.remove(longbowKey);
+        }
+        if (pendingScan != null) {
+            pendingScan.issue();
+        }
+    }
+
+    private class PendingScan {
+        private final BiFunction<byte[], byte[], ScanRequest> scanRequestFactory;
+        private final List<PendingRead> reads = new ArrayList<>();
+        private byte[] startRow;
+        private byte[] stopRow;
+
+        PendingScan(BiFunction<byte[], byte[], ScanRequest> scanRequestFactory) {
+            this.scanRequestFactory = scanRequestFactory;
+        }
+
+        CompletableFuture<List<Result>> add(byte[] readStartRow, byte[] readStopRow) {
+            PendingRead pendingRead = new PendingRead(readStartRow, readStopRow);
+            reads.add(pendingRead);
+            startRow = startRow == null || Bytes.compareTo(readStartRow, startRow) < 0 ? readStartRow : startRow;
+            stopRow = stopRow == null || Bytes.compareTo(readStopRow, stopRow) > 0 ? readStopRow : stopRow;
+            return pendingRead.future;
+        }
+
+        void issue() {
+            List<Result> scanResult = new ArrayList<>();
+            meterStatsManager.updateHistogram(LongbowReaderAspects.READS_PER_COALESCED_SCAN, reads.size());
+            scan(scanRequestFactory.apply(startRow, stopRow), scanLimit.times(reads.size()), scanResult)
+                    .whenComplete((scanSummary, throwable) -> reads.forEach(pendingRead -> {
+                        if (throwable != null) {
+                            pendingRead.future.completeExceptionally(throwable);
+                            return;
+                        }
+                        List<Result> readResult = pendingRead.slice(scanResult);
+                        if (!scanSummary.isTruncated() || pendingRead.isCoveredBy(scanSummary.getLastRow(), readResult)) {
+                            pendingRead.future.complete(readResult);
+                        } else {
+                            rescan(pendingRead);
+                        }
+                    }));
+        }
+
+        private void rescan(PendingRead pendingRead) {
+            List<Result> readResult = new ArrayList<>();
+            scan(scanRequestFactory.apply(pendingRead.startRow, pendingRead.stopRow), scanLimit, readResult)
+                    .whenComplete((scanSummary, throwable) -> {
+                        if (throwable != null) {
+                            pendingRead.future.completeExceptionally(throwable);
+                        } else {
+                            pendingRead.future.complete(readResult);
+                        }
+                    });
+        }
+    }
+
+    private CompletableFuture<ScanSummary> scan(ScanRequest scanRequest, ScanLimit limit, List<Result> scanResult) {
+        try {
+            return longBowStore.scan(scanRequest, limit, scanResult::add);
+        } catch (RuntimeException ex) {
+            CompletableFuture<ScanSummary> scanFuture = new CompletableFuture<>();
+            scanFuture.completeExceptionally(ex);
+            return scanFuture;
+        }
+    }
+
+    private class PendingRead {
+        private final byte[] startRow;
+        private final byte[] stopRow;
+        private final CompletableFuture<List<Result>> future = new CompletableFuture<>();
+
+        PendingRead(byte[] startRow, byte[] stopRow) {
+            this.startRow = startRow;
+            this.stopRow = stopRow;
+        }
+
+        List<Result> slice(List<Result> scanResult) {
+            return scanResult.stream()
+                    .filter(result -> Bytes.compareTo(result.getRow(), startRow) >= 0 && Bytes.compareTo(result.getRow(), stopRow) <= 0)
+                    .collect(Collectors.toList());
+        }
+
+        boolean isCoveredBy(byte[] lastScannedRow, List<Result> readResult) {
+            if (lastScannedRow != null && Bytes.compareTo(lastScannedRow, stopRow) >= 0) {
+                return true;
+            }
+            int rows = 0;
+            long bytes = 0;
+            for (Result result : readResult) {
+                rows++;
+                bytes += ScanLimit.sizeOf(result);
+            }
+            return scanLimit.isReached(rows, bytes);
+        }
+    }
+}
@@ -1,61 +1,41 @@
 package io.odpf.dagger.core.processors.longbow.storage;
 
-import com.google.cloud.bigtable.admin.v2.BigtableTableAdminClient;
-import com.google.cloud.bigtable.admin.v2.models.CreateTableRequest;
-import com.google.cloud.bigtable.hbase.BigtableConfiguration;
-import org.apache.flink.configuration.Configuration;
-
+import io.odpf.dagger.core.exception.DaggerConfigurationException;
+import io.odpf.dagger.core.processors.longbow.LongbowKeyFormat;
 import io.odpf.dagger.core.utils.Constants;
-import org.apache.hadoop.hbase.TableName;
-import org.apache.hadoop.hbase.client.AdvancedScanResultConsumer;
-import org.apache.hadoop.hbase.client.AsyncTable;
-import org.apache.hadoop.hbase.client.BigtableAsyncConnection;
+import org.apache.flink.configuration.Configuration;
+import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.client.Result;
 import org.threeten.bp.Duration;
 
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-
-import static com.google.cloud.bigtable.admin.v2.models.GCRules.GCRULES;
+import java.util.function.Consumer;
 
 /**
- * A class that responsible to store the event to big table for longbow.
+ * The interface for the storage backing Longbow documents.
  */
-public class LongbowStore {
-    private BigtableTableAdminClient adminClient;
-    private BigtableAsyncConnection tableClient;
-    private Map<String, AsyncTable<AdvancedScanResultConsumer>> tables;
-
-    private LongbowStore(BigtableTableAdminClient adminClient, BigtableAsyncConnection tableClient) {
-        this.adminClient = adminClient;
-        this.tableClient = tableClient;
-        this.tables = new HashMap<>();
-    }
-
-    private AsyncTable<AdvancedScanResultConsumer> getTable(String tableId) {
-        if (!tables.containsKey(tableId)) {
-            tables.put(tableId, tableClient.getTable(TableName.valueOf(tableId)));
-        }
-        return tables.get(tableId);
-    }
+public interface LongbowStore {
 
     /**
-     * Create longbow store.
+     * Create longbow store of the configured type.
      *
      * @param configuration the configuration
      * @return the longbow store
      * @throws IOException the io exception
      */
-    public static LongbowStore create(Configuration configuration) throws IOException {
-        String gcpProjectID = configuration.getString(Constants.PROCESSOR_LONGBOW_GCP_PROJECT_ID_KEY, Constants.PROCESSOR_LONGBOW_GCP_PROJECT_ID_DEFAULT);
-        String gcpInstanceID = configuration.getString(Constants.PROCESSOR_LONGBOW_GCP_INSTANCE_ID_KEY, Constants.PROCESSOR_LONGBOW_GCP_INSTANCE_ID_DEFAULT);
-        BigtableTableAdminClient bigtableTableAdminClient = BigtableTableAdminClient.create(gcpProjectID, gcpInstanceID);
-        org.apache.hadoop.conf.Configuration bigTableConfiguration = BigtableConfiguration.configure(gcpProjectID, gcpInstanceID);
-        BigtableAsyncConnection bigtableAsyncConnection = new BigtableAsyncConnection(bigTableConfiguration);
-        return new LongbowStore(bigtableTableAdminClient, bigtableAsyncConnection);
+    static LongbowStore create(Configuration configuration) throws IOException {
+        String storeType = configuration.getString(Constants.PROCESSOR_LONGBOW_STORE_TYPE_KEY, Constants.PROCESSOR_LONGBOW_STORE_TYPE_DEFAULT);
+        switch (storeType.toUpperCase()) {
+            case Constants.PROCESSOR_LONGBOW_STORE_TYPE_BIGTABLE:
+                return BigtableLongbowStore.create(configuration);
+            case Constants.PROCESSOR_LONGBOW_STORE_TYPE_LOCAL:
+                return LocalLongbowStore.create(configuration);
+            default:
+                throw new DaggerConfigurationException(String.format("'%s' is not a valid longbow store type, use either %s or %s", storeType,
+                        Constants.PROCESSOR_LONGBOW_STORE_TYPE_BIGTABLE, Constants.PROCESSOR_LONGBOW_STORE_TYPE_LOCAL));
+        }
     }
 
     /**
@@ -64,24 +44,28 @@ public class LongbowStore {
      * @param tableId the table id
      * @return the boolean
      */
-    public boolean tableExists(String tableId) {
-        return adminClient.exists(tableId);
-    }
+    boolean tableExists(String tableId);
 
     /**
-     * Create the table.
+     * Create the table with a marker of its row key format. The marker is part of the table creation, so a table
+     * is never visible without it.
      *
      * @param maxAgeDuration   the max age duration
      * @param columnFamilyName the column family name
      * @param tableId          the table id
+     * @param keyFormat        the key format
      * @throws Exception the exception
      */
-    public void createTable(Duration maxAgeDuration, String columnFamilyName, String tableId) throws Exception {
-        adminClient.createTable(CreateTableRequest.of(tableId).addFamily(columnFamilyName,
-                GCRULES.union()
-                        .rule(GCRULES.maxVersions(1))
-                        .rule(GCRULES.maxAge(maxAgeDuration))));
-    }
+    void createTable(Duration maxAgeDuration, String columnFamilyName, String tableId, LongbowKeyFormat keyFormat) throws Exception;
+
+    /**
+     * Gets the row key format marker of the table.
+     *
+     * @param tableId the table id
+     * @return the key format, null when the table has no marker
+     * @throws Exception the exception
+     */
+    LongbowKeyFormat getKeyFormat(String tableId) throws Exception;
 
     /**
      * Put completable future.
@@ -89,9 +73,16 @@ public class LongbowStore {
      * @param putRequest the put request
      * @return the completable future
      */
-    public CompletableFuture<Void> put(PutRequest putRequest) {
-        return getTable(putRequest.getTableId()).put(putRequest.get());
-    }
+    CompletableFuture<Void> put(PutRequest putRequest);
+
+    /**
+     * Put all the mutations of a table as one bulk mutation.
+     *
+     * @param tableId the table id
+     * @param puts    the puts
+     * @return the completable future
+     */
+    CompletableFuture<Void> putAll(String tableId, List<Put> puts);
 
     /**
      * Scan all completable future.
@@ -99,21 +90,22 @@ public class LongbowStore {
      * @param scanRequest the scan request
      * @return the completable future
      */
-    public CompletableFuture<List<Result>> scanAll(ScanRequest scanRequest) {
-        return getTable(scanRequest.getTableId()).scanAll(scanRequest.get());
-    }
+    CompletableFuture<List<Result>> scanAll(ScanRequest scanRequest);
+
+    /**
+     * Scan the range and hand the rows over to the consumer as they are read, stopping once the limit is reached.
+     *
+     * @param scanRequest the scan request
+     * @param scanLimit   the scan limit
+     * @param consumer    the consumer of the rows
+     * @return the completable future of the scan summary
+     */
+    CompletableFuture<ScanSummary> scan(ScanRequest scanRequest, ScanLimit scanLimit, Consumer<Result> consumer);
 
     /**
      * Close the client.
      *
      * @throws IOException the io exception
      */
-    public void close() throws IOException {
-        if (tableClient != null) {
-            tableClient.close();
-        }
-        if (adminClient != null) {
-            adminClient.close();
-        }
-    }
+    void close() throws IOException;
 }
@@ -0,0 +1,92 @@
+package io.odpf.dagger.core.processors.longbow.storage;
+
+import org.apache.hadoop.hbase.client.Result;
+
+import java.util.List;
+
+/**
+ * The limits of a single Longbow read. Limits that are not positive are not applied.
+ */
+public class ScanLimit {
+    private final int maxRows;
+    private final long maxBytes;
+
+    /**
+     * Instantiates a new Scan limit.
+     *
+     * @param maxRows  the maximum number of rows read
+     * @param maxBytes the maximum size of the cells read in bytes
+     */
+    public ScanLimit(int maxRows, long maxBytes) {
+        this.maxRows = maxRows;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Gets a scan limit which does not limit reads.
+     *
+     * @return the scan limit
+     */
+    public static ScanLimit unbounded() {
+        return new ScanLimit(0, 0);
+    }
+
+    /**
+     * Gets max rows.
+     *
+     * @return the max rows
+     */
+    public int getMaxRows() {
+        return maxRows;
+    }
+
+    /**
+     * Gets the limit of a scan serving the given number of reads, each within this limit.
+     *
+     * @param reads the number of reads
+     * @return the scan limit
+     */
+    public ScanLimit times(int reads) {
+        return new ScanLimit(maxRows > 0 ? maxRows * reads : maxRows, maxBytes > 0 ? maxBytes * reads : maxBytes);
+    }
+
+    /**
+     * Check if the limit is reached once the given rows and bytes are read.
+     *
+     * @param rows  the rows read
+     * @param bytes the bytes read
+     * @return the boolean
+     */
+    public boolean isReached(int rows, long bytes) {
+        return (maxRows > 0 && rows >= maxRows) || (maxBytes > 0 && bytes >= maxBytes);
+    }
+
+    /**
+     * Gets the size of a scanned row as counted against the byte limit.
+     *
+     * @param result the result
+     * @return the size in bytes
+     */
+    public static long sizeOf(Result result) {
+        return Result.getTotalSizeOfCells(result);
+    }
+
+    /**
+     * Gets the leading rows of the results which are within the limit.
+     *
+     * @param results the results
+     * @return the rows within the limit
+     */
+    public List<Result> apply(List<Result> results) {
+        int rows = 0;
+        long bytes = 0;
+        for (Result result : results) {
+            if (isReached(rows, bytes)) {
+                return results.subList(0, rows);
+            }
+            rows++;
+            bytes += sizeOf(result);
+        }
+        return results;
+    }
+}
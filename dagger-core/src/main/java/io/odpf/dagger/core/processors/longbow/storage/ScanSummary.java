@@ -0,0 +1,71 @@
+package io.odpf.dagger.core.processors.longbow.storage;
+
+/**
+ * The summary of the rows streamed by a Longbow scan.
+ */
+public class ScanSummary {
+    private final int rows;
+    private final byte[] firstRow;
+    private final byte[] lastRow;
+    private final boolean truncated;
+
+    /**
+     * Instantiates a new Scan summary.
+     *
+     * @param rows      the number of rows read
+     * @param firstRow  the key of the first row read, null when no row was read
+     * @param lastRow   the key of the last row read, null when no row was read
+     * @param truncated whether the scan stopped at the limit before the end of the range
+     */
+    public ScanSummary(int rows, byte[] firstRow, byte[] lastRow, boolean truncated) {
+        this.rows = rows;
+        this.firstRow = firstRow;
+        this.lastRow = lastRow;
+        this.truncated = truncated;
+    }
+
+    /**
+     * Gets a summary of a scan which read nothing.
+     *
+     * @return the scan summary
+     */
+    public static ScanSummary empty() {
+        return new ScanSummary(0, null, null, false);
+    }
+
+    /**
+     * Gets rows.
+     *
+     * @return the rows
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets first row.
+     *
+     * @return the first row
+     */
+    public byte[] getFirstRow() {
+        return firstRow;
+    }
+
+    /**
+     * Gets last row.
+     *
+     * @return the last row
+     */
+    public byte[] getLastRow() {
+        return lastRow;
+    }
+
+    /**
+     * Check if the scan was truncated.
+     *
+     * @return the boolean
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+}
@@ -45,11 +45,11 @@ public class ByteStringPrimitiveTypeHandler implements PrimitiveTypeHandler {
 
     @Override
     public TypeInformation getTypeInformation() {
-        return TypeInformation.of(ByteString.class);
+        return ByteStringTypeInfo.INSTANCE;
     }
 
     @Override
     public TypeInformation getArrayType() {
-        return Types.OBJECT_ARRAY(TypeInformation.of(ByteString.class));
+        return Types.OBJECT_ARRAY(ByteStringTypeInfo.INSTANCE);
     }
 }
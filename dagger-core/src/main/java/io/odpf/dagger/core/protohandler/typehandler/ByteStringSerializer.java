@@ -0,0 +1,88 @@
+package io.odpf.dagger.core.protohandler.typehandler;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import org.apache.flink.api.common.typeutils.SimpleTypeSerializerSnapshot;
+import org.apache.flink.api.common.typeutils.TypeSerializerSnapshot;
+import org.apache.flink.api.common.typeutils.base.TypeSerializerSingleton;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.core.memory.DataOutputViewStreamWrapper;
+
+import java.io.IOException;
+
+/**
+ * The serializer for proto bytes fields, written as length prefixed bytes instead of through Kryo.
+ */
+public final class ByteStringSerializer extends TypeSerializerSingleton<ByteString> {
+    public static final ByteStringSerializer INSTANCE = new ByteStringSerializer();
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public boolean isImmutableType() {
+        return true;
+    }
+
+    @Override
+    public ByteString createInstance() {
+        return ByteString.EMPTY;
+    }
+
+    @Override
+    public ByteString copy(ByteString from) {
+        return from;
+    }
+
+    @Override
+    public ByteString copy(ByteString from, ByteString reuse) {
+        return from;
+    }
+
+    @Override
+    public int getLength() {
+        return -1;
+    }
+
+    @Override
+    public void serialize(ByteString record, DataOutputView target) throws IOException {
+        target.writeInt(record.size());
+        record.writeTo(new DataOutputViewStreamWrapper(target));
+    }
+
+    @Override
+    public ByteString deserialize(DataInputView source) throws IOException {
+        byte[] bytes = new byte[source.readInt()];
+        source.readFully(bytes);
+        return UnsafeByteOperations.unsafeWrap(bytes);
+    }
+
+    @Override
+    public ByteString deserialize(ByteString reuse, DataInputView source) throws IOException {
+        return deserialize(source);
+    }
+
+    @Override
+    public void copy(DataInputView source, DataOutputView target) throws IOException {
+        int size = source.readInt();
+        target.writeInt(size);
+        target.write(source, size);
+    }
+
+    @Override
+    public TypeSerializerSnapshot<ByteString> snapshotConfiguration() {
+        return new ByteStringSerializerSnapshot();
+    }
+
+    /**
+     * The snapshot of the byte string serializer.
+     */
+    public static final class ByteStringSerializerSnapshot extends SimpleTypeSerializerSnapshot<ByteString> {
+
+        /**
+         * Instantiates a new Byte string serializer snapshot.
+         */
+        public ByteStringSerializerSnapshot() {
+            super(() -> INSTANCE);
+        }
+    }
+}
@@ -4,14 +4,24 @@ import io.odpf.dagger.core.metrics.reporters.ErrorReporter;
 import io.odpf.dagger.core.metrics.reporters.ErrorReporterFactory;
 import org.apache.flink.api.common.functions.RuntimeContext;
 import org.apache.flink.configuration.Configuration;
+import org.apache.flink.metrics.Gauge;
+import org.apache.flink.metrics.MetricGroup;
 import org.apache.flink.streaming.connectors.kafka.FlinkKafkaConsumer;
 import org.apache.flink.streaming.connectors.kafka.KafkaDeserializationSchema;
 import org.apache.flink.streaming.runtime.tasks.ExceptionInChainedOperatorException;
 import org.apache.flink.types.Row;
 
 import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
+import static io.odpf.dagger.core.utils.Constants.FLINK_WATERMARK_SOURCE_IDLE_TIMEOUT_MS_DEFAULT;
+import static io.odpf.dagger.core.utils.Constants.FLINK_WATERMARK_SOURCE_IDLE_TIMEOUT_MS_KEY;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_IDLE_KEY;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_WATERMARK_LAG_KEY;
+
 /**
  * A class responsible for consuming the messages in kafka.
  * {@link FlinkKafkaConsumer}.
@@ -20,6 +30,7 @@ public class FlinkKafkaConsumerCustom extends FlinkKafkaConsumer<Row> {
 
     private Configuration configuration;
     private ErrorReporter errorReporter;
+    private final String topicPattern;
 
     /**
      * Instantiates a new Flink kafka consumer custom.
@@ -33,6 +44,15 @@ public class FlinkKafkaConsumerCustom extends FlinkKafkaConsumer<Row> {
                                     Properties props, Configuration configuration) {
         super(subscriptionPattern, deserializer, props);
         this.configuration = configuration;
+        this.topicPattern = subscriptionPattern.pattern();
+    }
+
+    @Override
+    public void open(Configuration parameters) throws Exception {
+        super.open(parameters);
+        if (deserializer instanceof ProtoDeserializer) {
+            ((ProtoDeserializer) deserializer).registerMetrics(getRuntimeContext().getMetricGroup());
+        }
     }
 
     @Override
@@ -55,7 +75,26 @@ public class FlinkKafkaConsumerCustom extends FlinkKafkaConsumer<Row> {
      * @throws Exception the exception
      */
     protected void runBaseConsumer(SourceContext<Row> sourceContext) throws Exception {
-        super.run(sourceContext);
+        long idleTimeout = configuration.getLong(FLINK_WATERMARK_SOURCE_IDLE_TIMEOUT_MS_KEY, FLINK_WATERMARK_SOURCE_IDLE_TIMEOUT_MS_DEFAULT);
+        IdleAwareSourceContext idleAwareSourceContext = new IdleAwareSourceContext(sourceContext, idleTimeout);
+        registerWatermarkMetrics(getRuntimeContext().getMetricGroup(), idleAwareSourceContext);
+        if (idleTimeout <= 0) {
+            super.run(idleAwareSourceContext);
+            return;
+        }
+        ScheduledExecutorService idlenessChecker = Executors.newSingleThreadScheduledExecutor();
+        long checkInterval = Math.max(1, idleTimeout / 2);
+        idlenessChecker.scheduleWithFixedDelay(idleAwareSourceContext::checkIdleness, checkInterval, checkInterval, TimeUnit.MILLISECONDS);
+        try {
+            super.run(idleAwareSourceContext);
+        } finally {
+            idlenessChecker.shutdownNow();
+        }
+    }
+
+    private void registerWatermarkMetrics(MetricGroup metricGroup, IdleAwareSourceContext idleAwareSourceContext) {
+        metricGroup.addGroup(SOURCE_WATERMARK_LAG_KEY, topicPattern).gauge("value", (Gauge<Long>) idleAwareSourceContext::getWatermarkLag);
+        metricGroup.addGroup(SOURCE_IDLE_KEY, topicPattern).gauge("value", (Gauge<Integer>) () -> idleAwareSourceContext.isIdle() ? 1 : 0);
     }
 
     /**
@@ -0,0 +1,132 @@
+package io.odpf.dagger.core.source;
+
+import org.apache.flink.streaming.api.functions.source.SourceFunction.SourceContext;
+import org.apache.flink.streaming.api.watermark.Watermark;
+import org.apache.flink.types.Row;
+
+/**
+ * A source context marking the source as temporarily idle when it emits no row for the idle timeout.
+ * Downstream operators leave idle sources out of their watermark until they emit rows again, so a source without
+ * traffic does not hold back the watermark of the operators it is joined or unioned with. Watermarks advancing
+ * while the source is idle are held back, and the latest one is emitted once the source emits rows again.
+ * This also holds when the consumer marks itself idle, e.g. without assigned partitions, and no idle timeout is set.
+ */
+public class IdleAwareSourceContext implements SourceContext<Row> {
+    private final SourceContext<Row> sourceContext;
+    private final long idleTimeout;
+    private volatile long lastActivityTime = -1;
+    private volatile long lastWatermark = Long.MIN_VALUE;
+    private long lastForwardedWatermark = Long.MIN_VALUE;
+    private volatile boolean idle;
+
+    /**
+     * Instantiates a new Idle aware source context.
+     *
+     * @param sourceContext the source context of the source
+     * @param idleTimeout   the time in ms without rows after which the source is idle, 0 to never be idle
+     */
+    public IdleAwareSourceContext(SourceContext<Row> sourceContext, long idleTimeout) {
+        this.sourceContext = sourceContext;
+        this.idleTimeout = idleTimeout;
+    }
+
+    @Override
+    public void collect(Row element) {
+        markActive();
+        sourceContext.collect(element);
+    }
+
+    @Override
+    public void collectWithTimestamp(Row element, long timestamp) {
+        markActive();
+        sourceContext.collectWithTimestamp(element, timestamp);
+    }
+
+    @Override
+    public void emitWatermark(Watermark mark) {
+        lastWatermark = Math.max(lastWatermark, mark.getTimestamp());
+        if (!idle) {
+            forwardWatermark(mark);
+        }
+    }
+
+    @Override
+    public void markAsTemporarilyIdle() {
+        idle = true;
+        sourceContext.markAsTemporarilyIdle();
+    }
+
+    @Override
+    public Object getCheckpointLock() {
+        return sourceContext.getCheckpointLock();
+    }
+
+    @Override
+    public void close() {
+        sourceContext.close();
+    }
+
+    /**
+     * Marks the source as temporarily idle if it emitted no row for the idle timeout.
+     * Called periodically, outside of the thread emitting the rows.
+     */
+    public void checkIdleness() {
+        if (idleTimeout <= 0) {
+            return;
+        }
+        synchronized (getCheckpointLock()) {
+            long now = currentProcessingTime();
+            if (lastActivityTime == -1) {
+                lastActivityTime = now;
+            }
+            if (!idle && now - lastActivityTime >= idleTimeout) {
+                markAsTemporarilyIdle();
+            }
+        }
+    }
+
+    /**
+     * Check if the source is marked as temporarily idle.
+     *
+     * @return the boolean
+     */
+    public boolean isIdle() {
+        return idle;
+    }
+
+    /**
+     * Gets the lag of the last watermark emitted by the source behind the processing time.
+     *
+     * @return the watermark lag in ms, 0 before the first watermark
+     */
+    public long getWatermarkLag() {
+        long watermark = lastWatermark;
+        return watermark == Long.MIN_VALUE ? 0 : currentProcessingTime() - watermark;
+    }
+
+    /**
+     * Gets the current processing time.
+     *
+     * @return the current processing time in ms
+     */
+    protected long currentProcessingTime() {
+        return System.currentTimeMillis();
+    }
+
+    private void markActive() {
+        if (idleTimeout > 0) {
+            lastActivityTime = currentProcessingTime();
+        }
+        if (idle) {
+            idle = false;
+            if (lastWatermark > lastForwardedWatermark) {
+                forwardWatermark(new Watermark(lastWatermark));
+            }
+        }
+    }
+
+    private void forwardWatermark(Watermark mark) {
+        lastForwardedWatermark = Math.max(lastForwardedWatermark, mark.getTimestamp());
+        sourceContext.emitWatermark(mark);
+    }
+}
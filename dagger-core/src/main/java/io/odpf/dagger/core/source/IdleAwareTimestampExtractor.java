@@ -0,0 +1,77 @@
+package io.odpf.dagger.core.source;
+
+import org.apache.flink.streaming.api.functions.AssignerWithPeriodicWatermarks;
+import org.apache.flink.streaming.api.watermark.Watermark;
+import org.apache.flink.types.Row;
+
+import java.sql.Timestamp;
+
+/**
+ * Assigns the rowtime of the rows as their timestamp and generates watermarks lagging the highest timestamp by a
+ * fixed delay, like a bounded out of orderness extractor.
+ * A partition which produced no row for the idle timeout stops holding back the watermark of its source: its
+ * watermark follows the processing time minus the delay until it produces again. Rows it produces later than that
+ * watermark are late.
+ */
+public class IdleAwareTimestampExtractor implements AssignerWithPeriodicWatermarks<Row> {
+    private final long maxOutOfOrderness;
+    private final long idleTimeout;
+    private long currentMaxTimestamp;
+    private long lastWatermark = Long.MIN_VALUE;
+    private long lastActivityTime = -1;
+
+    /**
+     * Instantiates a new Idle aware timestamp extractor.
+     *
+     * @param maxOutOfOrderness the delay of the watermark in ms
+     * @param idleTimeout       the time in ms without rows after which a partition is idle, 0 to never be idle
+     */
+    public IdleAwareTimestampExtractor(long maxOutOfOrderness, long idleTimeout) {
+        this.maxOutOfOrderness = maxOutOfOrderness;
+        this.idleTimeout = idleTimeout;
+        this.currentMaxTimestamp = Long.MIN_VALUE + maxOutOfOrderness;
+    }
+
+    @Override
+    public long extractTimestamp(Row element, long previousElementTimestamp) {
+        long timestamp = ((Timestamp) element.getField(element.getArity() - 1)).getTime();
+        currentMaxTimestamp = Math.max(currentMaxTimestamp, timestamp);
+        lastActivityTime = currentProcessingTime();
+        return timestamp;
+    }
+
+    @Override
+    public Watermark getCurrentWatermark() {
+        long watermark = currentMaxTimestamp - maxOutOfOrderness;
+        if (isIdle()) {
+            watermark = Math.max(watermark, currentProcessingTime() - maxOutOfOrderness);
+        }
+        lastWatermark = Math.max(lastWatermark, watermark);
+        return new Watermark(lastWatermark);
+    }
+
+    /**
+     * Check if the partition produced no row for the idle timeout.
+     *
+     * @return the boolean
+     */
+    public boolean isIdle() {
+        if (idleTimeout <= 0) {
+            return false;
+        }
+        long now = currentProcessingTime();
+        if (lastActivityTime == -1) {
+            lastActivityTime = now;
+        }
+        return now - lastActivityTime >= idleTimeout;
+    }
+
+    /**
+     * Gets the current processing time.
+     *
+     * @return the current processing time in ms
+     */
+    protected long currentProcessingTime() {
+        return System.currentTimeMillis();
+    }
+}
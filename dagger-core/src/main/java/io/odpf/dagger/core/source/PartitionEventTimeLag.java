@@ -0,0 +1,56 @@
+package io.odpf.dagger.core.source;
+
+import org.apache.flink.metrics.Gauge;
+import org.apache.flink.metrics.MetricGroup;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.odpf.dagger.core.utils.Constants.SOURCE_PARTITION_EVENT_TIME_LAG_KEY;
+
+/**
+ * Reports how far the highest event time read from every Kafka partition lags behind the processing time.
+ * A partition's watermark trails this lag by the watermark delay while the partition is active, so a partition
+ * holding back the watermark of its source shows the highest lag.
+ */
+public class PartitionEventTimeLag {
+    private final MetricGroup metricGroup;
+    private final Map<String, Map<Integer, MaxEventTime>> maxEventTimes = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new Partition event time lag.
+     *
+     * @param metricGroup the metric group of the source
+     */
+    public PartitionEventTimeLag(MetricGroup metricGroup) {
+        this.metricGroup = metricGroup;
+    }
+
+    /**
+     * Records the event time of a row read from a partition.
+     *
+     * @param topic     the topic
+     * @param partition the partition
+     * @param eventTime the event time in ms
+     */
+    public void update(String topic, int partition, long eventTime) {
+        Map<Integer, MaxEventTime> partitions = maxEventTimes.computeIfAbsent(topic, t -> new ConcurrentHashMap<>());
+        MaxEventTime maxEventTime = partitions.get(partition);
+        if (maxEventTime == null) {
+            MaxEventTime partitionMaxEventTime = new MaxEventTime(eventTime);
+            partitions.put(partition, partitionMaxEventTime);
+            metricGroup.addGroup(SOURCE_PARTITION_EVENT_TIME_LAG_KEY, topic + "-" + partition)
+                    .gauge("value", (Gauge<Long>) () -> System.currentTimeMillis() - partitionMaxEventTime.value);
+        } else if (eventTime > maxEventTime.value) {
+            maxEventTime.value = eventTime;
+        }
+    }
+
+    private static class MaxEventTime {
+        private volatile long value;
+
+        MaxEventTime(long value) {
+            this.value = value;
+        }
+    }
+}
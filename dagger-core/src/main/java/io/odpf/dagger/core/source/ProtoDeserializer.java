@@ -4,10 +4,13 @@ import io.odpf.dagger.common.core.StencilClientOrchestrator;
 import io.odpf.dagger.core.exception.DaggerDeserializationException;
 import io.odpf.dagger.common.exceptions.DescriptorNotFoundException;
 import io.odpf.dagger.core.protohandler.RowFactory;
+import io.odpf.dagger.core.source.filter.ProtoFilter;
 import com.google.protobuf.Descriptors;
 import com.google.protobuf.DynamicMessage;
 import com.google.protobuf.InvalidProtocolBufferException;
 import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.metrics.Counter;
+import org.apache.flink.metrics.MetricGroup;
 import org.apache.flink.streaming.connectors.kafka.KafkaDeserializationSchema;
 import org.apache.flink.types.Row;
 
@@ -19,6 +22,8 @@ import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.List;
 
+import static io.odpf.dagger.core.utils.Constants.SOURCE_KAFKA_FILTER_DROPPED_RECORDS_KEY;
+
 /**
  * Deserializer for protobuf messages.
  */
@@ -28,7 +33,14 @@ public class ProtoDeserializer implements KafkaDeserializationSchema<Row> {
     private final int timestampFieldIndex;
     private final StencilClientOrchestrator stencilClientOrchestrator;
     private final TypeInformation<Row> typeInformation;
+    private final boolean ingestionTimeEnabled;
+    private final ProtoFilter protoFilter;
+    private transient Counter droppedRecordsCounter;
+    private transient PartitionEventTimeLag partitionEventTimeLag;
     private static final Logger LOGGER = LoggerFactory.getLogger(ProtoDeserializer.class);
+    private static final int EXTRA_COLUMNS = 2;
+    private static final int EXTRA_COLUMNS_WITH_INGESTION_TIME = 4;
+    private static final int STAGE_ENTRY_TIME_OFFSET = 3;
 
     /**
      * Instantiates a new Proto deserializer.
@@ -39,10 +51,54 @@ public class ProtoDeserializer implements KafkaDeserializationSchema<Row> {
      * @param stencilClientOrchestrator the stencil client orchestrator
      */
     public ProtoDeserializer(String protoClassName, int timestampFieldIndex, String rowtimeAttributeName, StencilClientOrchestrator stencilClientOrchestrator) {
+        this(protoClassName, timestampFieldIndex, rowtimeAttributeName, stencilClientOrchestrator, false);
+    }
+
+    /**
+     * Instantiates a new Proto deserializer which optionally stamps rows with their ingestion time, which is also the entry time of their first stage.
+     *
+     * @param protoClassName            the proto class name
+     * @param timestampFieldIndex       the timestamp field index
+     * @param rowtimeAttributeName      the rowtime attribute name
+     * @param stencilClientOrchestrator the stencil client orchestrator
+     * @param ingestionTimeEnabled      the ingestion time enabled
+     */
+    public ProtoDeserializer(String protoClassName, int timestampFieldIndex, String rowtimeAttributeName, StencilClientOrchestrator stencilClientOrchestrator, boolean ingestionTimeEnabled) {
+        this(protoClassName, timestampFieldIndex, rowtimeAttributeName, stencilClientOrchestrator, ingestionTimeEnabled, null);
+    }
+
+    /**
+     * Instantiates a new Proto deserializer which drops the messages not matching a filter before parsing them.
+     *
+     * @param protoClassName            the proto class name
+     * @param timestampFieldIndex       the timestamp field index
+     * @param rowtimeAttributeName      the rowtime attribute name
+     * @param stencilClientOrchestrator the stencil client orchestrator
+     * @param ingestionTimeEnabled      the ingestion time enabled
+     * @param protoFilter               the filter on the serialized messages, or null to keep all of them
+     */
+    public ProtoDeserializer(String protoClassName, int timestampFieldIndex, String rowtimeAttributeName, StencilClientOrchestrator stencilClientOrchestrator, boolean ingestionTimeEnabled, ProtoFilter protoFilter) {
         this.protoClassName = protoClassName;
         this.timestampFieldIndex = timestampFieldIndex;
         this.stencilClientOrchestrator = stencilClientOrchestrator;
-        this.typeInformation = new ProtoType(protoClassName, rowtimeAttributeName, stencilClientOrchestrator).getRowType();
+        this.ingestionTimeEnabled = ingestionTimeEnabled;
+        this.protoFilter = protoFilter;
+        this.typeInformation = new ProtoType(protoClassName, rowtimeAttributeName, stencilClientOrchestrator, ingestionTimeEnabled).getRowType();
+        if (protoFilter != null) {
+            protoFilter.bind(getProtoParser());
+        }
+    }
+
+    /**
+     * Register the event time lag of the partitions and the counter of the messages dropped by the filter.
+     *
+     * @param metricGroup the metric group of the source
+     */
+    public void registerMetrics(MetricGroup metricGroup) {
+        partitionEventTimeLag = new PartitionEventTimeLag(metricGroup);
+        if (protoFilter != null) {
+            droppedRecordsCounter = metricGroup.addGroup(SOURCE_KAFKA_FILTER_DROPPED_RECORDS_KEY, protoClassName).counter("value");
+        }
     }
 
     @Override
@@ -53,9 +109,20 @@ public class ProtoDeserializer implements KafkaDeserializationSchema<Row> {
     @Override
     public Row deserialize(ConsumerRecord<byte[], byte[]> consumerRecord) {
         Descriptors.Descriptor descriptor = getProtoParser();
+        if (protoFilter != null && !protoFilter.test(descriptor, consumerRecord.value())) {
+            if (droppedRecordsCounter != null) {
+                droppedRecordsCounter.inc();
+            }
+            return null;
+        }
         try {
             DynamicMessage proto = DynamicMessage.parseFrom(descriptor, consumerRecord.value());
-            return addTimestampFieldToRow(proto);
+            Row row = addTimestampFieldToRow(proto);
+            if (partitionEventTimeLag != null) {
+                long eventTime = ((Timestamp) row.getField(row.getArity() - 1)).getTime();
+                partitionEventTimeLag.update(consumerRecord.topic(), consumerRecord.partition(), eventTime);
+            }
+            return row;
         } catch (DescriptorNotFoundException e) {
             throw new DescriptorNotFoundException(e);
         } catch (InvalidProtocolBufferException e) {
@@ -80,14 +147,15 @@ public class ProtoDeserializer implements KafkaDeserializationSchema<Row> {
     }
 
     private Row createDefaultInvalidRow(DynamicMessage defaultInstance) {
-        Row row = RowFactory.createRow(defaultInstance, 2);
+        Row row = RowFactory.createRow(defaultInstance, getExtraColumns());
+        setIngestionTime(row);
         row.setField(row.getArity() - 2, false);
         row.setField(row.getArity() - 1, new Timestamp(0));
         return row;
     }
 
     private Row addTimestampFieldToRow(DynamicMessage proto) {
-        Row finalRecord = RowFactory.createRow(proto, 2);
+        Row finalRecord = RowFactory.createRow(proto, getExtraColumns());
         Descriptors.FieldDescriptor fieldDescriptor = proto.getDescriptorForType().findFieldByNumber(timestampFieldIndex);
         DynamicMessage timestampProto = (DynamicMessage) proto.getField(fieldDescriptor);
         List<Descriptors.FieldDescriptor> timestampFields = timestampProto.getDescriptorForType().getFields();
@@ -95,8 +163,21 @@ public class ProtoDeserializer implements KafkaDeserializationSchema<Row> {
         long timestampSeconds = (long) timestampProto.getField(timestampFields.get(0));
         long timestampNanos = (int) timestampProto.getField(timestampFields.get(1));
 
+        setIngestionTime(finalRecord);
         finalRecord.setField(finalRecord.getArity() - 2, true);
         finalRecord.setField(finalRecord.getArity() - 1, Timestamp.from(Instant.ofEpochSecond(timestampSeconds, timestampNanos)));
         return finalRecord;
     }
+
+    private int getExtraColumns() {
+        return ingestionTimeEnabled ? EXTRA_COLUMNS_WITH_INGESTION_TIME : EXTRA_COLUMNS;
+    }
+
+    private void setIngestionTime(Row row) {
+        if (ingestionTimeEnabled) {
+            long ingestionTime = System.currentTimeMillis();
+            row.setField(row.getArity() - EXTRA_COLUMNS_WITH_INGESTION_TIME, ingestionTime);
+            row.setField(row.getArity() - STAGE_ENTRY_TIME_OFFSET, ingestionTime);
+        }
+    }
 }
@@ -25,6 +25,7 @@ public class ProtoType implements Serializable {
     private String protoClassName;
     private String rowtimeAttributeName;
     private StencilClientOrchestrator stencilClientOrchestrator;
+    private boolean ingestionTimeEnabled;
 
     /**
      * Instantiates a new Proto type.
@@ -34,9 +35,22 @@ public class ProtoType implements Serializable {
      * @param stencilClientOrchestrator the stencil client orchestrator
      */
     public ProtoType(String protoClassName, String rowtimeAttributeName, StencilClientOrchestrator stencilClientOrchestrator) {
+        this(protoClassName, rowtimeAttributeName, stencilClientOrchestrator, false);
+    }
+
+    /**
+     * Instantiates a new Proto type with optional ingestion time and stage entry time columns.
+     *
+     * @param protoClassName            the proto class name
+     * @param rowtimeAttributeName      the rowtime attribute name
+     * @param stencilClientOrchestrator the stencil client orchestrator
+     * @param ingestionTimeEnabled      the ingestion time enabled
+     */
+    public ProtoType(String protoClassName, String rowtimeAttributeName, StencilClientOrchestrator stencilClientOrchestrator, boolean ingestionTimeEnabled) {
         this.stencilClientOrchestrator = stencilClientOrchestrator;
         this.protoClassName = protoClassName;
         this.rowtimeAttributeName = rowtimeAttributeName;
+        this.ingestionTimeEnabled = ingestionTimeEnabled;
     }
 
     /**
@@ -49,6 +63,12 @@ public class ProtoType implements Serializable {
         RowTypeInfo rowTypeInfo = (RowTypeInfo) rowNamed;
         ArrayList<String> fieldNames = new ArrayList<>(Arrays.asList(rowTypeInfo.getFieldNames()));
         ArrayList<TypeInformation> fieldTypes = new ArrayList<>(Arrays.asList(rowTypeInfo.getFieldTypes()));
+        if (ingestionTimeEnabled) {
+            fieldNames.add(Constants.INGESTION_TIME_FIELD_KEY);
+            fieldTypes.add(Types.LONG);
+            fieldNames.add(Constants.STAGE_ENTRY_TIME_FIELD_KEY);
+            fieldTypes.add(Types.LONG);
+        }
         fieldNames.add(Constants.INTERNAL_VALIDATION_FILED_KEY);
         fieldTypes.add(Types.BOOLEAN);
         fieldNames.add(rowtimeAttributeName);
@@ -0,0 +1,92 @@
+package io.odpf.dagger.core.source.filter;
+
+import io.odpf.dagger.core.exception.DaggerConfigurationException;
+
+/**
+ * The comparison operators of a source filter predicate.
+ */
+public enum FilterOperator {
+    EQUAL("="),
+    NOT_EQUAL("!="),
+    LESS_THAN("<"),
+    LESS_THAN_OR_EQUAL("<="),
+    GREATER_THAN(">"),
+    GREATER_THAN_OR_EQUAL(">="),
+    IN("IN");
+
+    private final String symbol;
+
+    FilterOperator(String symbol) {
+        this.symbol = symbol;
+    }
+
+    /**
+     * Gets symbol.
+     *
+     * @return the symbol
+     */
+    public String getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * Checks if the operator compares the order of values.
+     *
+     * @return the boolean
+     */
+    public boolean isRange() {
+        return this == LESS_THAN || this == LESS_THAN_OR_EQUAL || this == GREATER_THAN || this == GREATER_THAN_OR_EQUAL;
+    }
+
+    /**
+     * Tests a field value against the literals of a predicate.
+     *
+     * @param value    the field value
+     * @param literals the literals, a single one for all operators except IN
+     * @return the boolean
+     */
+    @SuppressWarnings("unchecked")
+    public boolean test(Comparable value, Comparable[] literals) {
+        if (this == IN) {
+            for (Comparable literal : literals) {
+                if (value.compareTo(literal) == 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        int comparison = value.compareTo(literals[0]);
+        switch (this) {
+            case EQUAL:
+                return comparison == 0;
+            case NOT_EQUAL:
+                return comparison != 0;
+            case LESS_THAN:
+                return comparison < 0;
+            case LESS_THAN_OR_EQUAL:
+                return comparison <= 0;
+            case GREATER_THAN:
+                return comparison > 0;
+            default:
+                return comparison >= 0;
+        }
+    }
+
+    /**
+     * Gets the operator for a symbol.
+     *
+     * @param symbol the symbol
+     * @return the filter operator
+     */
+    public static FilterOperator from(String symbol) {
+        if ("<>".equals(symbol)) {
+            return NOT_EQUAL;
+        }
+        for (FilterOperator operator : values()) {
+            if (operator.symbol.equalsIgnoreCase(symbol)) {
+                return operator;
+            }
+        }
+        throw new DaggerConfigurationException("Unsupported source filter operator: " + symbol);
+    }
+}
@@ -0,0 +1,199 @@
+package io.odpf.dagger.core.source.filter;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.WireFormat;
+import io.odpf.dagger.core.exception.DaggerConfigurationException;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A filter on serialized proto messages, evaluated before they are deserialized.
+ * Only the tags of the filtered fields are decoded from the wire bytes, every other field is skipped, so
+ * messages dropped by the filter never get parsed into a message or converted to a row.
+ * Fields missing from the bytes take their proto3 default values.
+ */
+public class ProtoFilter implements Serializable {
+    private final String expression;
+    private final List<ProtoPredicate> predicates;
+
+    private transient Descriptors.Descriptor boundDescriptor;
+    private transient Map<Integer, FieldNode> fieldTree;
+    private transient Comparable[] defaultValues;
+    private transient List<BoundPredicate> boundPredicates;
+
+    /**
+     * Instantiates a new Proto filter.
+     *
+     * @param expression the filter expression
+     */
+    public ProtoFilter(String expression) {
+        this.expression = expression;
+        this.predicates = new ProtoFilterParser(expression).parse();
+    }
+
+    /**
+     * Gets expression.
+     *
+     * @return the expression
+     */
+    public String getExpression() {
+        return expression;
+    }
+
+    /**
+     * Resolves the filtered fields in a proto descriptor.
+     *
+     * @param descriptor the descriptor
+     */
+    public void bind(Descriptors.Descriptor descriptor) {
+        Map<Integer, FieldNode> tree = new HashMap<>();
+        List<Comparable> defaults = new ArrayList<>();
+        List<BoundPredicate> bound = new ArrayList<>();
+        for (ProtoPredicate predicate : predicates) {
+            String[] fieldNames = predicate.getFieldPath().split("\\.");
+            Descriptors.Descriptor messageDescriptor = descriptor;
+            Map<Integer, FieldNode> level = tree;
+            FieldNode node = null;
+            for (int index = 0; index < fieldNames.length; index++) {
+                Descriptors.FieldDescriptor fieldDescriptor = messageDescriptor.findFieldByName(fieldNames[index]);
+                if (fieldDescriptor == null) {
+                    throw new DaggerConfigurationException("Source filter field " + predicate.getFieldPath() + " not found in " + descriptor.getFullName());
+                }
+                if (fieldDescriptor.isRepeated()) {
+                    throw new DaggerConfigurationException("Source filter is not supported for repeated field " + predicate.getFieldPath());
+                }
+                boolean isLeaf = index == fieldNames.length - 1;
+                boolean isMessage = fieldDescriptor.getJavaType() == Descriptors.FieldDescriptor.JavaType.MESSAGE;
+                if (isLeaf == isMessage) {
+                    throw new DaggerConfigurationException("Source filter field " + predicate.getFieldPath() + " must be a scalar field");
+                }
+                node = level.computeIfAbsent(fieldDescriptor.getNumber(), number -> new FieldNode(fieldDescriptor));
+                if (!isLeaf) {
+                    messageDescriptor = fieldDescriptor.getMessageType();
+                    level = node.children;
+                }
+            }
+            Comparable[] literals = predicate.convertLiterals(node.fieldDescriptor);
+            if (node.slot < 0) {
+                node.slot = defaults.size();
+                defaults.add(ProtoPredicate.toComparable(node.fieldDescriptor, node.fieldDescriptor.getDefaultValue()));
+            }
+            bound.add(new BoundPredicate(node.slot, predicate.getOperator(), literals));
+        }
+        this.fieldTree = tree;
+        this.defaultValues = defaults.toArray(new Comparable[0]);
+        this.boundPredicates = bound;
+        this.boundDescriptor = descriptor;
+    }
+
+    /**
+     * Tests a serialized message against the filter.
+     * Messages which can not be read are let through, to be handled by the deserializer.
+     *
+     * @param descriptor the descriptor of the message
+     * @param message    the serialized message
+     * @return true if the message matches the filter
+     */
+    public boolean test(Descriptors.Descriptor descriptor, byte[] message) {
+        if (message == null) {
+            return true;
+        }
+        if (descriptor != boundDescriptor) {
+            bind(descriptor);
+        }
+        Comparable[] values = defaultValues.clone();
+        try {
+            scan(CodedInputStream.newInstance(message), fieldTree, values);
+        } catch (IOException e) {
+            return true;
+        }
+        for (BoundPredicate predicate : boundPredicates) {
+            if (!predicate.operator.test(values[predicate.slot], predicate.literals)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void scan(CodedInputStream input, Map<Integer, FieldNode> level, Comparable[] values) throws IOException {
+        int tag = input.readTag();
+        while (tag != 0) {
+            FieldNode node = level.get(WireFormat.getTagFieldNumber(tag));
+            if (node == null || WireFormat.getTagWireType(tag) != node.fieldDescriptor.getLiteralType().getWireType()) {
+                input.skipField(tag);
+            } else if (node.slot >= 0) {
+                values[node.slot] = readValue(input, node.fieldDescriptor);
+            } else {
+                int limit = input.pushLimit(input.readRawVarint32());
+                scan(input, node.children, values);
+                input.popLimit(limit);
+            }
+            tag = input.readTag();
+        }
+    }
+
+    private Comparable readValue(CodedInputStream input, Descriptors.FieldDescriptor fieldDescriptor) throws IOException {
+        switch (fieldDescriptor.getType()) {
+            case STRING:
+                return input.readString();
+            case ENUM:
+                return input.readEnum();
+            case BOOL:
+                return input.readBool();
+            case FLOAT:
+                return (double) input.readFloat();
+            case DOUBLE:
+                return input.readDouble();
+            case INT32:
+                return (long) input.readInt32();
+            case UINT32:
+                return Integer.toUnsignedLong(input.readUInt32());
+            case SINT32:
+                return (long) input.readSInt32();
+            case FIXED32:
+                return Integer.toUnsignedLong(input.readFixed32());
+            case SFIXED32:
+                return (long) input.readSFixed32();
+            case INT64:
+                return input.readInt64();
+            case UINT64:
+                return input.readUInt64();
+            case SINT64:
+                return input.readSInt64();
+            case FIXED64:
+                return input.readFixed64();
+            case SFIXED64:
+                return input.readSFixed64();
+            default:
+                throw new IllegalStateException("Unsupported source filter field type " + fieldDescriptor.getType());
+        }
+    }
+
+    private static class FieldNode {
+        private final Descriptors.FieldDescriptor fieldDescriptor;
+        private final Map<Integer, FieldNode> children = new HashMap<>();
+        private int slot = -1;
+
+        FieldNode(Descriptors.FieldDescriptor fieldDescriptor) {
+            this.fieldDescriptor = fieldDescriptor;
+        }
+    }
+
+    private static class BoundPredicate {
+        private final int slot;
+        private final FilterOperator operator;
+        private final Comparable[] literals;
+
+        BoundPredicate(int slot, FilterOperator operator, Comparable[] literals) {
+            this.slot = slot;
+            this.operator = operator;
+            this.literals = literals;
+        }
+    }
+}
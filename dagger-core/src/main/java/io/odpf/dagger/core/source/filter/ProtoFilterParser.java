@@ -0,0 +1,167 @@
+package io.odpf.dagger.core.source.filter;
+
+import io.odpf.dagger.core.exception.DaggerConfigurationException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses a conjunction of comparisons, in the SQL syntax used by the queries of a dagger, into predicates.
+ * For example {@code status = 'COMPLETED' AND service_type IN ('GO_RIDE', 'GO_SEND') AND cancel_reason_id >= 10}.
+ */
+public class ProtoFilterParser {
+    private static final String AND = "AND";
+    private static final String OPERATOR_CHARACTERS = "=!<>";
+    private static final String PUNCTUATION_CHARACTERS = "(),";
+
+    private final String expression;
+    private final List<Token> tokens = new ArrayList<>();
+    private int position;
+
+    /**
+     * Instantiates a new Proto filter parser.
+     *
+     * @param expression the filter expression
+     */
+    public ProtoFilterParser(String expression) {
+        this.expression = expression;
+    }
+
+    /**
+     * Parse the expression.
+     *
+     * @return the predicates
+     */
+    public List<ProtoPredicate> parse() {
+        tokenize();
+        List<ProtoPredicate> predicates = new ArrayList<>();
+        predicates.add(parsePredicate());
+        while (position < tokens.size()) {
+            Token and = next();
+            if (and.quoted || !AND.equalsIgnoreCase(and.text)) {
+                throw invalid("expected AND but found " + and.text);
+            }
+            predicates.add(parsePredicate());
+        }
+        return predicates;
+    }
+
+    private ProtoPredicate parsePredicate() {
+        Token field = next();
+        if (field.quoted || isSymbol(field)) {
+            throw invalid("expected a field name but found " + field.text);
+        }
+        FilterOperator operator = FilterOperator.from(next().text);
+        List<String> literals = new ArrayList<>();
+        if (operator == FilterOperator.IN) {
+            expect("(");
+            literals.add(nextLiteral());
+            while (peek(",")) {
+                next();
+                literals.add(nextLiteral());
+            }
+            expect(")");
+        } else {
+            literals.add(nextLiteral());
+        }
+        return new ProtoPredicate(field.text, operator, literals);
+    }
+
+    private String nextLiteral() {
+        Token literal = next();
+        if (!literal.quoted && isSymbol(literal)) {
+            throw invalid("expected a literal but found " + literal.text);
+        }
+        return literal.text;
+    }
+
+    private void expect(String symbol) {
+        Token token = next();
+        if (token.quoted || !symbol.equals(token.text)) {
+            throw invalid("expected " + symbol + " but found " + token.text);
+        }
+    }
+
+    private boolean peek(String symbol) {
+        return position < tokens.size() && !tokens.get(position).quoted && symbol.equals(tokens.get(position).text);
+    }
+
+    private Token next() {
+        if (position >= tokens.size()) {
+            throw invalid("unexpected end of expression");
+        }
+        return tokens.get(position++);
+    }
+
+    private boolean isSymbol(Token token) {
+        return OPERATOR_CHARACTERS.indexOf(token.text.charAt(0)) >= 0 || PUNCTUATION_CHARACTERS.indexOf(token.text.charAt(0)) >= 0;
+    }
+
+    private void tokenize() {
+        int index = 0;
+        while (index < expression.length()) {
+            char character = expression.charAt(index);
+            if (Character.isWhitespace(character)) {
+                index++;
+            } else if (character == '\'') {
+                index = readQuoted(index + 1);
+            } else if (PUNCTUATION_CHARACTERS.indexOf(character) >= 0) {
+                tokens.add(new Token(String.valueOf(character), false));
+                index++;
+            } else if (OPERATOR_CHARACTERS.indexOf(character) >= 0) {
+                int end = index;
+                while (end < expression.length() && OPERATOR_CHARACTERS.indexOf(expression.charAt(end)) >= 0) {
+                    end++;
+                }
+                tokens.add(new Token(expression.substring(index, end), false));
+                index = end;
+            } else {
+                int end = index;
+                while (end < expression.length() && isWordCharacter(expression.charAt(end))) {
+                    end++;
+                }
+                tokens.add(new Token(expression.substring(index, end), false));
+                index = end;
+            }
+        }
+    }
+
+    private int readQuoted(int start) {
+        StringBuilder literal = new StringBuilder();
+        int index = start;
+        while (index < expression.length()) {
+            char character = expression.charAt(index);
+            if (character == '\'') {
+                if (index + 1 < expression.length() && expression.charAt(index + 1) == '\'') {
+                    literal.append('\'');
+                    index += 2;
+                    continue;
+                }
+                tokens.add(new Token(literal.toString(), true));
+                return index + 1;
+            }
+            literal.append(character);
+            index++;
+        }
+        throw invalid("unterminated string literal");
+    }
+
+    private boolean isWordCharacter(char character) {
+        return !Character.isWhitespace(character) && character != '\''
+                && OPERATOR_CHARACTERS.indexOf(character) < 0 && PUNCTUATION_CHARACTERS.indexOf(character) < 0;
+    }
+
+    private DaggerConfigurationException invalid(String reason) {
+        return new DaggerConfigurationException("Invalid source filter \"" + expression + "\": " + reason);
+    }
+
+    private static class Token {
+        private final String text;
+        private final boolean quoted;
+
+        Token(String text, boolean quoted) {
+            this.text = text;
+            this.quoted = quoted;
+        }
+    }
+}
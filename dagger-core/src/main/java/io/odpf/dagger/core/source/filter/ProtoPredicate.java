@@ -0,0 +1,127 @@
+package io.odpf.dagger.core.source.filter;
+
+import com.google.protobuf.Descriptors;
+import io.odpf.dagger.core.exception.DaggerConfigurationException;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * A comparison of a single, possibly nested, proto field with literals, such as {@code status = 'COMPLETED'}.
+ */
+public class ProtoPredicate implements Serializable {
+    private final String fieldPath;
+    private final FilterOperator operator;
+    private final List<String> literals;
+
+    /**
+     * Instantiates a new Proto predicate.
+     *
+     * @param fieldPath the field name, with nested fields separated by dots
+     * @param operator  the operator
+     * @param literals  the literals
+     */
+    public ProtoPredicate(String fieldPath, FilterOperator operator, List<String> literals) {
+        this.fieldPath = fieldPath;
+        this.operator = operator;
+        this.literals = literals;
+    }
+
+    /**
+     * Gets field path.
+     *
+     * @return the field path
+     */
+    public String getFieldPath() {
+        return fieldPath;
+    }
+
+    /**
+     * Gets operator.
+     *
+     * @return the operator
+     */
+    public FilterOperator getOperator() {
+        return operator;
+    }
+
+    /**
+     * Gets literals.
+     *
+     * @return the literals
+     */
+    public List<String> getLiterals() {
+        return literals;
+    }
+
+    /**
+     * Converts the literals to the values read for the field from the wire.
+     *
+     * @param fieldDescriptor the field descriptor
+     * @return the converted literals
+     */
+    public Comparable[] convertLiterals(Descriptors.FieldDescriptor fieldDescriptor) {
+        Descriptors.FieldDescriptor.JavaType javaType = fieldDescriptor.getJavaType();
+        if (operator.isRange() && (javaType == Descriptors.FieldDescriptor.JavaType.ENUM || javaType == Descriptors.FieldDescriptor.JavaType.BOOLEAN)) {
+            throw new DaggerConfigurationException("Source filter operator " + operator.getSymbol() + " is not supported for field " + fieldPath);
+        }
+        Comparable[] values = new Comparable[literals.size()];
+        for (int index = 0; index < literals.size(); index++) {
+            values[index] = convertLiteral(fieldDescriptor, literals.get(index));
+        }
+        return values;
+    }
+
+    /**
+     * Converts a proto field value to the value read for the field from the wire.
+     *
+     * @param fieldDescriptor the field descriptor
+     * @param value           the proto field value
+     * @return the comparable
+     */
+    public static Comparable toComparable(Descriptors.FieldDescriptor fieldDescriptor, Object value) {
+        switch (fieldDescriptor.getJavaType()) {
+            case ENUM:
+                return ((Descriptors.EnumValueDescriptor) value).getNumber();
+            case INT:
+            case LONG:
+                return ((Number) value).longValue();
+            case FLOAT:
+            case DOUBLE:
+                return ((Number) value).doubleValue();
+            default:
+                return (Comparable) value;
+        }
+    }
+
+    private Comparable convertLiteral(Descriptors.FieldDescriptor fieldDescriptor, String literal) {
+        try {
+            switch (fieldDescriptor.getJavaType()) {
+                case STRING:
+                    return literal;
+                case ENUM:
+                    Descriptors.EnumValueDescriptor enumValue = fieldDescriptor.getEnumType().findValueByName(literal);
+                    if (enumValue == null) {
+                        throw new DaggerConfigurationException("Unknown value " + literal + " for enum field " + fieldPath);
+                    }
+                    return enumValue.getNumber();
+                case BOOLEAN:
+                    if (!"true".equalsIgnoreCase(literal) && !"false".equalsIgnoreCase(literal)) {
+                        throw new DaggerConfigurationException("Invalid boolean " + literal + " for field " + fieldPath);
+                    }
+                    return Boolean.parseBoolean(literal);
+                case INT:
+                case LONG:
+                    return Long.parseLong(literal);
+                case FLOAT:
+                    return (double) Float.parseFloat(literal);
+                case DOUBLE:
+                    return Double.parseDouble(literal);
+                default:
+                    throw new DaggerConfigurationException("Source filter is not supported for field " + fieldPath + " of type " + fieldDescriptor.getType());
+            }
+        } catch (NumberFormatException e) {
+            throw new DaggerConfigurationException("Invalid number " + literal + " for field " + fieldPath);
+        }
+    }
+}
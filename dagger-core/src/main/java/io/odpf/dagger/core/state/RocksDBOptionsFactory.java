@@ -0,0 +1,81 @@
+package io.odpf.dagger.core.state;
+
+import org.apache.flink.contrib.streaming.state.OptionsFactory;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.CompactionStyle;
+import org.rocksdb.DBOptions;
+import org.rocksdb.LRUCache;
+import org.rocksdb.TableFormatConfig;
+
+/**
+ * RocksDB options tuned through dagger configuration, applied on top of the predefined options.
+ * Unset values, zero sizes or a null compaction style, keep what the predefined options chose.
+ * A configured block cache size replaces the cache of the block based table config of the predefined options,
+ * keeping its block size, index and filter settings, with a single cache shared by every column family.
+ */
+public class RocksDBOptionsFactory implements OptionsFactory {
+    private final long blockCacheSizeBytes;
+    private final long writeBufferSizeBytes;
+    private final int maxWriteBufferNumber;
+    private final CompactionStyle compactionStyle;
+    private transient LRUCache blockCache;
+
+    /**
+     * Instantiates a new RocksDB options factory.
+     *
+     * @param blockCacheSizeBytes  the size in bytes of the block cache shared by all column families
+     * @param writeBufferSizeBytes the write buffer size in bytes
+     * @param maxWriteBufferNumber the max number of write buffers
+     * @param compactionStyle      the compaction style
+     */
+    public RocksDBOptionsFactory(long blockCacheSizeBytes, long writeBufferSizeBytes, int maxWriteBufferNumber, CompactionStyle compactionStyle) {
+        this.blockCacheSizeBytes = blockCacheSizeBytes;
+        this.writeBufferSizeBytes = writeBufferSizeBytes;
+        this.maxWriteBufferNumber = maxWriteBufferNumber;
+        this.compactionStyle = compactionStyle;
+    }
+
+    /**
+     * Check if any option is set.
+     *
+     * @return the boolean
+     */
+    public boolean isEmpty() {
+        return blockCacheSizeBytes == 0 && writeBufferSizeBytes == 0 && maxWriteBufferNumber == 0 && compactionStyle == null;
+    }
+
+    @Override
+    public DBOptions createDBOptions(DBOptions currentOptions) {
+        return currentOptions;
+    }
+
+    @Override
+    public ColumnFamilyOptions createColumnOptions(ColumnFamilyOptions currentOptions) {
+        if (blockCacheSizeBytes > 0) {
+            TableFormatConfig currentTableConfig = currentOptions.tableFormatConfig();
+            BlockBasedTableConfig tableConfig = currentTableConfig instanceof BlockBasedTableConfig
+                    ? (BlockBasedTableConfig) currentTableConfig
+                    : new BlockBasedTableConfig();
+            tableConfig.setBlockCache(getBlockCache());
+            currentOptions.setTableFormatConfig(tableConfig);
+        }
+        if (writeBufferSizeBytes > 0) {
+            currentOptions.setWriteBufferSize(writeBufferSizeBytes);
+        }
+        if (maxWriteBufferNumber > 0) {
+            currentOptions.setMaxWriteBufferNumber(maxWriteBufferNumber);
+        }
+        if (compactionStyle != null) {
+            currentOptions.setCompactionStyle(compactionStyle);
+        }
+        return currentOptions;
+    }
+
+    private synchronized LRUCache getBlockCache() {
+        if (blockCache == null) {
+            blockCache = new LRUCache(blockCacheSizeBytes);
+        }
+        return blockCache;
+    }
+}
@@ -0,0 +1,181 @@
+package io.odpf.dagger.core.state;
+
+import io.odpf.dagger.core.exception.DaggerConfigurationException;
+import io.odpf.dagger.core.metrics.telemetry.TelemetryPublisher;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.contrib.streaming.state.PredefinedOptions;
+import org.apache.flink.contrib.streaming.state.RocksDBStateBackend;
+import org.apache.flink.runtime.state.StateBackend;
+import org.apache.flink.runtime.state.filesystem.FsStateBackend;
+import org.apache.flink.streaming.api.CheckpointingMode;
+import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
+import org.rocksdb.CompactionStyle;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.odpf.dagger.core.metrics.telemetry.TelemetryTypes.CHECKPOINT_MODE;
+import static io.odpf.dagger.core.metrics.telemetry.TelemetryTypes.STATE_BACKEND;
+import static io.odpf.dagger.core.metrics.telemetry.TelemetryTypes.STATE_BACKEND_OPTIONS;
+import static io.odpf.dagger.core.utils.Constants.*;
+
+/**
+ * The state backend and checkpointing mode of a dagger, validated when created and reported as telemetry.
+ * Without a configured state backend the cluster default is kept.
+ */
+public class StateBackendConfig implements TelemetryPublisher {
+    private static final long BYTES_PER_MB = 1024L * 1024L;
+    private static final String ROCKSDB = "ROCKSDB";
+    private static final String FILESYSTEM = "FILESYSTEM";
+    private static final String CLUSTER_DEFAULT = "cluster_default";
+
+    private final String stateBackend;
+    private final String checkpointPath;
+    private final boolean incrementalCheckpoints;
+    private final PredefinedOptions predefinedOptions;
+    private final RocksDBOptionsFactory optionsFactory;
+    private final boolean ttlCompactionFilter;
+    private final CheckpointingMode checkpointingMode;
+    private final Map<String, List<String>> metrics = new HashMap<>();
+
+    /**
+     * Instantiates a new State backend config.
+     *
+     * @param configuration the configuration
+     */
+    public StateBackendConfig(Configuration configuration) {
+        stateBackend = getString(configuration, FLINK_STATE_BACKEND_KEY, FLINK_STATE_BACKEND_DEFAULT).toUpperCase();
+        checkpointPath = getString(configuration, FLINK_STATE_BACKEND_CHECKPOINT_PATH_KEY, FLINK_STATE_BACKEND_CHECKPOINT_PATH_DEFAULT);
+        incrementalCheckpoints = configuration.getBoolean(FLINK_STATE_BACKEND_ROCKSDB_INCREMENTAL_ENABLE_KEY, FLINK_STATE_BACKEND_ROCKSDB_INCREMENTAL_ENABLE_DEFAULT);
+        predefinedOptions = parse(PredefinedOptions.class, FLINK_STATE_BACKEND_ROCKSDB_PREDEFINED_OPTIONS_KEY,
+                getString(configuration, FLINK_STATE_BACKEND_ROCKSDB_PREDEFINED_OPTIONS_KEY, FLINK_STATE_BACKEND_ROCKSDB_PREDEFINED_OPTIONS_DEFAULT));
+        String compactionStyle = getString(configuration, FLINK_STATE_BACKEND_ROCKSDB_COMPACTION_STYLE_KEY, FLINK_STATE_BACKEND_ROCKSDB_COMPACTION_STYLE_DEFAULT);
+        optionsFactory = new RocksDBOptionsFactory(
+                getNonNegative(configuration.getLong(FLINK_STATE_BACKEND_ROCKSDB_BLOCK_CACHE_SIZE_MB_KEY, FLINK_STATE_BACKEND_ROCKSDB_BLOCK_CACHE_SIZE_MB_DEFAULT),
+                        FLINK_STATE_BACKEND_ROCKSDB_BLOCK_CACHE_SIZE_MB_KEY) * BYTES_PER_MB,
+                getNonNegative(configuration.getLong(FLINK_STATE_BACKEND_ROCKSDB_WRITE_BUFFER_SIZE_MB_KEY, FLINK_STATE_BACKEND_ROCKSDB_WRITE_BUFFER_SIZE_MB_DEFAULT),
+                        FLINK_STATE_BACKEND_ROCKSDB_WRITE_BUFFER_SIZE_MB_KEY) * BYTES_PER_MB,
+                (int) getNonNegative(configuration.getInteger(FLINK_STATE_BACKEND_ROCKSDB_MAX_WRITE_BUFFER_NUMBER_KEY, FLINK_STATE_BACKEND_ROCKSDB_MAX_WRITE_BUFFER_NUMBER_DEFAULT),
+                        FLINK_STATE_BACKEND_ROCKSDB_MAX_WRITE_BUFFER_NUMBER_KEY),
+                compactionStyle.isEmpty() ? null : parse(CompactionStyle.class, FLINK_STATE_BACKEND_ROCKSDB_COMPACTION_STYLE_KEY, compactionStyle));
+        ttlCompactionFilter = configuration.getBoolean(FLINK_STATE_BACKEND_ROCKSDB_TTL_COMPACTION_FILTER_ENABLE_KEY, FLINK_STATE_BACKEND_ROCKSDB_TTL_COMPACTION_FILTER_ENABLE_DEFAULT);
+        checkpointingMode = parse(CheckpointingMode.class, FLINK_CHECKPOINT_MODE_KEY,
+                getString(configuration, FLINK_CHECKPOINT_MODE_KEY, FLINK_CHECKPOINT_MODE_DEFAULT));
+        validate();
+        addTelemetry();
+    }
+
+    /**
+     * Set the state backend and the checkpointing mode on the execution environment.
+     *
+     * @param executionEnvironment the execution environment
+     */
+    public void apply(StreamExecutionEnvironment executionEnvironment) {
+        StateBackend backend = createStateBackend();
+        if (backend != null) {
+            executionEnvironment.setStateBackend(backend);
+        }
+        executionEnvironment.getCheckpointConfig().setCheckpointingMode(checkpointingMode);
+    }
+
+    /**
+     * Create the state backend.
+     *
+     * @return the state backend, null to keep the cluster default
+     */
+    public StateBackend createStateBackend() {
+        if (FILESYSTEM.equals(stateBackend)) {
+            return new FsStateBackend(checkpointPath);
+        }
+        if (!ROCKSDB.equals(stateBackend)) {
+            return null;
+        }
+        RocksDBStateBackend rocksDBStateBackend;
+        try {
+            rocksDBStateBackend = new RocksDBStateBackend(checkpointPath, incrementalCheckpoints);
+        } catch (IOException | IllegalArgumentException ex) {
+            throw new DaggerConfigurationException(String.format("Invalid %s '%s': %s", FLINK_STATE_BACKEND_CHECKPOINT_PATH_KEY, checkpointPath, ex.getMessage()));
+        }
+        rocksDBStateBackend.setPredefinedOptions(predefinedOptions);
+        if (!optionsFactory.isEmpty()) {
+            rocksDBStateBackend.setOptions(optionsFactory);
+        }
+        if (ttlCompactionFilter) {
+            rocksDBStateBackend.enableTtlCompactionFilter();
+        }
+        return rocksDBStateBackend;
+    }
+
+    /**
+     * Gets checkpointing mode.
+     *
+     * @return the checkpointing mode
+     */
+    public CheckpointingMode getCheckpointingMode() {
+        return checkpointingMode;
+    }
+
+    @Override
+    public Map<String, List<String>> getTelemetry() {
+        return metrics;
+    }
+
+    private void validate() {
+        if (!stateBackend.isEmpty() && !ROCKSDB.equals(stateBackend) && !FILESYSTEM.equals(stateBackend)) {
+            throw new DaggerConfigurationException(String.format("'%s' is not a valid %s, use either %s or %s", stateBackend, FLINK_STATE_BACKEND_KEY, ROCKSDB, FILESYSTEM));
+        }
+        if (!stateBackend.isEmpty() && checkpointPath.isEmpty()) {
+            throw new DaggerConfigurationException(String.format("%s is required for the %s state backend", FLINK_STATE_BACKEND_CHECKPOINT_PATH_KEY, stateBackend));
+        }
+    }
+
+    private void addTelemetry() {
+        addMetric(CHECKPOINT_MODE.getValue(), checkpointingMode.name().toLowerCase());
+        if (stateBackend.isEmpty()) {
+            addMetric(STATE_BACKEND.getValue(), CLUSTER_DEFAULT);
+            return;
+        }
+        addMetric(STATE_BACKEND.getValue(), stateBackend.toLowerCase());
+        if (!ROCKSDB.equals(stateBackend)) {
+            return;
+        }
+        addMetric(STATE_BACKEND_OPTIONS.getValue(), predefinedOptions.name().toLowerCase());
+        if (incrementalCheckpoints) {
+            addMetric(STATE_BACKEND_OPTIONS.getValue(), "incremental_checkpoints");
+        }
+        if (!optionsFactory.isEmpty()) {
+            addMetric(STATE_BACKEND_OPTIONS.getValue(), "custom_options");
+        }
+        if (ttlCompactionFilter) {
+            addMetric(STATE_BACKEND_OPTIONS.getValue(), "ttl_compaction_filter");
+        }
+    }
+
+    private void addMetric(String key, String value) {
+        metrics.computeIfAbsent(key, k -> new ArrayList<>()).add(value);
+    }
+
+    private static String getString(Configuration configuration, String key, String defaultValue) {
+        String value = configuration.getString(key, defaultValue);
+        return value == null ? defaultValue : value.trim();
+    }
+
+    private static long getNonNegative(long value, String key) {
+        if (value < 0) {
+            throw new DaggerConfigurationException(String.format("%s should not be negative, got %d", key, value));
+        }
+        return value;
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> enumClass, String key, String value) {
+        try {
+            return Enum.valueOf(enumClass, value.toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new DaggerConfigurationException(String.format("'%s' is not a valid %s, use one of %s", value, key, Arrays.toString(enumClass.getEnumConstants())));
+        }
+    }
+}
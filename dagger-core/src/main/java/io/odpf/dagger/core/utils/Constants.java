@@ -24,10 +24,43 @@ public class Constants {
     public static final String PROCESSOR_LONGBOW_GCP_TABLE_ID_KEY = "PROCESSOR_LONGBOW_GCP_TABLE_ID";
     public static final String LONGBOW_COLUMN_FAMILY_DEFAULT = "ts";
     public static final String LONGBOW_QUALIFIER_DEFAULT = "proto";
+    public static final String LONGBOW_PACKED_QUALIFIER = "longbow_packed";
     public static final Long PROCESSOR_LONGBOW_ASYNC_TIMEOUT_DEFAULT = 15000L;
     public static final String PROCESSOR_LONGBOW_ASYNC_TIMEOUT_KEY = "PROCESSOR_LONGBOW_ASYNC_TIMEOUT";
     public static final Integer PROCESSOR_LONGBOW_THREAD_CAPACITY_DEFAULT = 30;
     public static final String PROCESSOR_LONGBOW_THREAD_CAPACITY_KEY = "PROCESSOR_LONGBOW_THREAD_CAPACITY";
+    public static final String PROCESSOR_LONGBOW_CACHE_ENABLE_KEY = "PROCESSOR_LONGBOW_CACHE_ENABLE";
+    public static final boolean PROCESSOR_LONGBOW_CACHE_ENABLE_DEFAULT = false;
+    public static final String PROCESSOR_LONGBOW_CACHE_MAX_DOCUMENTS_KEY = "PROCESSOR_LONGBOW_CACHE_MAX_DOCUMENTS";
+    public static final int PROCESSOR_LONGBOW_CACHE_MAX_DOCUMENTS_DEFAULT = 100000;
+    public static final String PROCESSOR_LONGBOW_READ_COALESCE_ENABLE_KEY = "PROCESSOR_LONGBOW_READ_COALESCE_ENABLE";
+    public static final boolean PROCESSOR_LONGBOW_READ_COALESCE_ENABLE_DEFAULT = false;
+    public static final String PROCESSOR_LONGBOW_READ_COALESCE_LINGER_MS_KEY = "PROCESSOR_LONGBOW_READ_COALESCE_LINGER_MS";
+    public static final long PROCESSOR_LONGBOW_READ_COALESCE_LINGER_MS_DEFAULT = 5L;
+    public static final String PROCESSOR_LONGBOW_READ_MAX_ROWS_KEY = "PROCESSOR_LONGBOW_READ_MAX_ROWS";
+    public static final int PROCESSOR_LONGBOW_READ_MAX_ROWS_DEFAULT = 0;
+    public static final String PROCESSOR_LONGBOW_READ_MAX_BYTES_KEY = "PROCESSOR_LONGBOW_READ_MAX_BYTES";
+    public static final long PROCESSOR_LONGBOW_READ_MAX_BYTES_DEFAULT = 0L;
+    public static final String PROCESSOR_LONGBOW_WRITE_BATCH_ENABLE_KEY = "PROCESSOR_LONGBOW_WRITE_BATCH_ENABLE";
+    public static final boolean PROCESSOR_LONGBOW_WRITE_BATCH_ENABLE_DEFAULT = false;
+    public static final String PROCESSOR_LONGBOW_WRITE_BATCH_MAX_DOCUMENTS_KEY = "PROCESSOR_LONGBOW_WRITE_BATCH_MAX_DOCUMENTS";
+    public static final int PROCESSOR_LONGBOW_WRITE_BATCH_MAX_DOCUMENTS_DEFAULT = 100;
+    public static final String PROCESSOR_LONGBOW_WRITE_BATCH_MAX_BYTES_KEY = "PROCESSOR_LONGBOW_WRITE_BATCH_MAX_BYTES";
+    public static final long PROCESSOR_LONGBOW_WRITE_BATCH_MAX_BYTES_DEFAULT = 1048576L;
+    public static final String PROCESSOR_LONGBOW_WRITE_BATCH_LINGER_MS_KEY = "PROCESSOR_LONGBOW_WRITE_BATCH_LINGER_MS";
+    public static final long PROCESSOR_LONGBOW_WRITE_BATCH_LINGER_MS_DEFAULT = 20L;
+    public static final String PROCESSOR_LONGBOW_STORE_TYPE_KEY = "PROCESSOR_LONGBOW_STORE_TYPE";
+    public static final String PROCESSOR_LONGBOW_STORE_TYPE_BIGTABLE = "BIGTABLE";
+    public static final String PROCESSOR_LONGBOW_STORE_TYPE_LOCAL = "LOCAL";
+    public static final String PROCESSOR_LONGBOW_STORE_TYPE_DEFAULT = PROCESSOR_LONGBOW_STORE_TYPE_BIGTABLE;
+    public static final String PROCESSOR_LONGBOW_LOCAL_STORE_PATH_KEY = "PROCESSOR_LONGBOW_LOCAL_STORE_PATH";
+    public static final String PROCESSOR_LONGBOW_LOCAL_STORE_PATH_DEFAULT = "/tmp/dagger/longbow";
+    public static final String PROCESSOR_LONGBOW_DATA_ENCODING_KEY = "PROCESSOR_LONGBOW_DATA_ENCODING";
+    public static final String PROCESSOR_LONGBOW_DATA_ENCODING_DEFAULT = "STRING";
+    public static final String PROCESSOR_LONGBOW_KEY_FORMAT_KEY = "PROCESSOR_LONGBOW_KEY_FORMAT";
+    public static final String PROCESSOR_LONGBOW_KEY_FORMAT_DEFAULT = "STRING";
+    public static final String LONGBOW_KEY_FORMAT_FAMILY_PREFIX = "key_format_";
+    public static final String LONGBOW_KEY_FORMAT_FILE_SUFFIX = ".key_format";
     public static final String DAGGER_NAME_KEY = "FLINK_JOB_ID";
     public static final String DAGGER_NAME_DEFAULT = "SQL Flink Job";
     public static final String EVENT_TIMESTAMP = "event_timestamp";
@@ -37,6 +70,10 @@ public class Constants {
     public static final String DAY_UNIT = "d";
     public static final String FLINK_SQL_QUERY_KEY = "FLINK_SQL_QUERY";
     public static final String FLINK_SQL_QUERY_DEFAULT = "";
+    public static final String FLINK_SQL_QUERIES_KEY = "FLINK_SQL_QUERIES";
+    public static final String FLINK_SQL_QUERIES_DEFAULT = "";
+    public static final String FLINK_SQL_QUERY_NAME_KEY = "FLINK_SQL_QUERY_NAME";
+    public static final String FLINK_SQL_QUERY_NAME_DEFAULT = "";
 
     public static final int FLINK_PARALLELISM_DEFAULT = 1;
     public static final String FLINK_PARALLELISM_KEY = "FLINK_PARALLELISM";
@@ -44,6 +81,8 @@ public class Constants {
     public static final String FLINK_PARALLELISM_MAX_KEY = "FLINK_PARALLELISM_MAX";
     public static final int FLINK_WATERMARK_INTERVAL_MS_DEFAULT = 10000;
     public static final String FLINK_WATERMARK_INTERVAL_MS_KEY = "FLINK_WATERMARK_INTERVAL_MS";
+    public static final boolean FLINK_OBJECT_REUSE_ENABLE_DEFAULT = false;
+    public static final String FLINK_OBJECT_REUSE_ENABLE_KEY = "FLINK_OBJECT_REUSE_ENABLE";
     public static final long FLINK_CHECKPOINT_INTERVAL_MS_DEFAULT = 30000;
     public static final String FLINK_CHECKPOINT_INTERVAL_MS_KEY = "FLINK_CHECKPOINT_INTERVAL_MS";
     public static final long FLINK_CHECKPOINT_TIMEOUT_MS_DEFAULT = 900000;
@@ -52,6 +91,26 @@ public class Constants {
     public static final String FLINK_CHECKPOINT_MIN_PAUSE_MS_KEY = "FLINK_CHECKPOINT_MIN_PAUSE_MS";
     public static final int FLINK_CHECKPOINT_MAX_CONCURRENT_DEFAULT = 1;
     public static final String FLINK_CHECKPOINT_MAX_CONCURRENT_KEY = "FLINK_CHECKPOINT_MAX_CONCURRENT";
+    public static final String FLINK_CHECKPOINT_MODE_DEFAULT = "EXACTLY_ONCE";
+    public static final String FLINK_CHECKPOINT_MODE_KEY = "FLINK_CHECKPOINT_MODE";
+    public static final String FLINK_STATE_BACKEND_DEFAULT = "";
+    public static final String FLINK_STATE_BACKEND_KEY = "FLINK_STATE_BACKEND";
+    public static final String FLINK_STATE_BACKEND_CHECKPOINT_PATH_DEFAULT = "";
+    public static final String FLINK_STATE_BACKEND_CHECKPOINT_PATH_KEY = "FLINK_STATE_BACKEND_CHECKPOINT_PATH";
+    public static final boolean FLINK_STATE_BACKEND_ROCKSDB_INCREMENTAL_ENABLE_DEFAULT = true;
+    public static final String FLINK_STATE_BACKEND_ROCKSDB_INCREMENTAL_ENABLE_KEY = "FLINK_STATE_BACKEND_ROCKSDB_INCREMENTAL_ENABLE";
+    public static final String FLINK_STATE_BACKEND_ROCKSDB_PREDEFINED_OPTIONS_DEFAULT = "DEFAULT";
+    public static final String FLINK_STATE_BACKEND_ROCKSDB_PREDEFINED_OPTIONS_KEY = "FLINK_STATE_BACKEND_ROCKSDB_PREDEFINED_OPTIONS";
+    public static final long FLINK_STATE_BACKEND_ROCKSDB_BLOCK_CACHE_SIZE_MB_DEFAULT = 0;
+    public static final String FLINK_STATE_BACKEND_ROCKSDB_BLOCK_CACHE_SIZE_MB_KEY = "FLINK_STATE_BACKEND_ROCKSDB_BLOCK_CACHE_SIZE_MB";
+    public static final long FLINK_STATE_BACKEND_ROCKSDB_WRITE_BUFFER_SIZE_MB_DEFAULT = 0;
+    public static final String FLINK_STATE_BACKEND_ROCKSDB_WRITE_BUFFER_SIZE_MB_KEY = "FLINK_STATE_BACKEND_ROCKSDB_WRITE_BUFFER_SIZE_MB";
+    public static final int FLINK_STATE_BACKEND_ROCKSDB_MAX_WRITE_BUFFER_NUMBER_DEFAULT = 0;
+    public static final String FLINK_STATE_BACKEND_ROCKSDB_MAX_WRITE_BUFFER_NUMBER_KEY = "FLINK_STATE_BACKEND_ROCKSDB_MAX_WRITE_BUFFER_NUMBER";
+    public static final String FLINK_STATE_BACKEND_ROCKSDB_COMPACTION_STYLE_DEFAULT = "";
+    public static final String FLINK_STATE_BACKEND_ROCKSDB_COMPACTION_STYLE_KEY = "FLINK_STATE_BACKEND_ROCKSDB_COMPACTION_STYLE";
+    public static final boolean FLINK_STATE_BACKEND_ROCKSDB_TTL_COMPACTION_FILTER_ENABLE_DEFAULT = false;
+    public static final String FLINK_STATE_BACKEND_ROCKSDB_TTL_COMPACTION_FILTER_ENABLE_KEY = "FLINK_STATE_BACKEND_ROCKSDB_TTL_COMPACTION_FILTER_ENABLE";
     public static final int FLINK_RETENTION_MIN_IDLE_STATE_HOUR_DEFAULT = 8;
     public static final String FLINK_RETENTION_MIN_IDLE_STATE_HOUR_KEY = "FLINK_RETENTION_MIN_IDLE_STATE_HOUR";
     public static final int FLINK_RETENTION_MAX_IDLE_STATE_HOUR_DEFAULT = 9;
@@ -62,6 +121,10 @@ public class Constants {
     public static final String FLINK_ROWTIME_ATTRIBUTE_NAME_KEY = "FLINK_ROWTIME_ATTRIBUTE_NAME";
     public static final boolean FLINK_WATERMARK_PER_PARTITION_ENABLE_DEFAULT = false;
     public static final String FLINK_WATERMARK_PER_PARTITION_ENABLE_KEY = "FLINK_WATERMARK_PER_PARTITION_ENABLE";
+    public static final long FLINK_WATERMARK_PARTITION_IDLE_TIMEOUT_MS_DEFAULT = 0;
+    public static final String FLINK_WATERMARK_PARTITION_IDLE_TIMEOUT_MS_KEY = "FLINK_WATERMARK_PARTITION_IDLE_TIMEOUT_MS";
+    public static final long FLINK_WATERMARK_SOURCE_IDLE_TIMEOUT_MS_DEFAULT = 0;
+    public static final String FLINK_WATERMARK_SOURCE_IDLE_TIMEOUT_MS_KEY = "FLINK_WATERMARK_SOURCE_IDLE_TIMEOUT_MS";
     public static final String FLINK_JOB_ID_DEFAULT = "SQL Flink job";
     public static final String FLINK_JOB_ID_KEY = "FLINK_JOB_ID";
 
@@ -85,6 +148,8 @@ public class Constants {
     public static final String HTTP_TYPE = "HTTP";
     public static final String PG_TYPE = "PG";
     public static final String GRPC_TYPE = "GRPC";
+    public static final String LOOKUP_TYPE = "LOOKUP";
+    public static final String KEYED_LOOKUP_TYPE = "KEYED_LOOKUP";
     public static final String SQL_PATH_SELECT_ALL_CONFIG_VALUE = "*";
 
     public static final String LONGBOW_WRITER_PROCESSOR_KEY = "longbow_writer_processor";
@@ -95,11 +160,19 @@ public class Constants {
     public static final String STREAM_INPUT_SCHEMA_EVENT_TIMESTAMP_FIELD_INDEX_KEY = "INPUT_SCHEMA_EVENT_TIMESTAMP_FIELD_INDEX";
     public static final String STREAM_SOURCE_KAFKA_TOPIC_NAMES_KEY = "SOURCE_KAFKA_TOPIC_NAMES";
     public static final String INPUT_STREAM_NAME_KEY = "SOURCE_KAFKA_NAME";
+    public static final String STREAM_SOURCE_KAFKA_FILTER_KEY = "SOURCE_KAFKA_FILTER";
 
     public static final String METRIC_TELEMETRY_ENABLE_KEY = "METRIC_TELEMETRY_ENABLE";
     public static final boolean METRIC_TELEMETRY_ENABLE_VALUE_DEFAULT = true;
     public static final String METRIC_TELEMETRY_SHUTDOWN_PERIOD_MS_KEY = "METRIC_TELEMETRY_SHUTDOWN_PERIOD_MS";
     public static final long METRIC_TELEMETRY_SHUTDOWN_PERIOD_MS_DEFAULT = 10000;
+    public static final String METRIC_LATENCY_TRACKING_ENABLE_KEY = "METRIC_LATENCY_TRACKING_ENABLE";
+    public static final boolean METRIC_LATENCY_TRACKING_ENABLE_DEFAULT = false;
+    public static final String METRIC_LATENCY_TRACKING_SAMPLE_INTERVAL_KEY = "METRIC_LATENCY_TRACKING_SAMPLE_INTERVAL";
+    public static final int METRIC_LATENCY_TRACKING_SAMPLE_INTERVAL_DEFAULT = 100;
+    public static final String INGESTION_TIME_FIELD_KEY = "__ingestion_time__";
+    public static final String STAGE_ENTRY_TIME_FIELD_KEY = "__stage_entry_time__";
+    public static final String LATENCY_STAGE_METRIC_GROUP_KEY = "latency_stage";
     public static final String FATAL_EXCEPTION_METRIC_GROUP_KEY = "fatal.exception";
     public static final String NONFATAL_EXCEPTION_METRIC_GROUP_KEY = "non.fatal.exception";
 
@@ -107,6 +180,10 @@ public class Constants {
     public static final String FUNCTION_FACTORY_CLASSES_DEFAULT = "io.odpf.dagger.functions.udfs.factories.FunctionFactory";
 
     public static final String SINK_INFLUX_LATE_RECORDS_DROPPED_KEY = "influx.late.records.dropped";
+    public static final String SOURCE_KAFKA_FILTER_DROPPED_RECORDS_KEY = "source.filter.dropped.records";
+    public static final String SOURCE_PARTITION_EVENT_TIME_LAG_KEY = "source.partition.event.time.lag";
+    public static final String SOURCE_WATERMARK_LAG_KEY = "source.watermark.lag";
+    public static final String SOURCE_IDLE_KEY = "source.idle";
     public static final String SINK_INFLUX_DB_NAME_KEY = "SINK_INFLUX_DB_NAME";
     public static final String SINK_INFLUX_DB_NAME_DEFAULT = "";
     public static final String SINK_INFLUX_RETENTION_POLICY_KEY = "SINK_INFLUX_RETENTION_POLICY";
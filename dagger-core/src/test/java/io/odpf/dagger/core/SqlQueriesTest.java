@@ -0,0 +1,139 @@
+package io.odpf.dagger.core;
+
+import io.odpf.dagger.core.exception.DaggerConfigurationException;
+import org.apache.flink.configuration.Configuration;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class SqlQueriesTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    private Configuration configuration;
+
+    @Before
+    public void setUp() {
+        configuration = new Configuration();
+        configuration.setString("FLINK_SQL_QUERY", "SELECT * FROM data_stream");
+        configuration.setString("SINK_TYPE", "log");
+    }
+
+    @Test
+    public void shouldRunSingleQueryWithJobConfigurationByDefault() {
+        SqlQueries sqlQueries = new SqlQueries(configuration);
+
+        List<SqlQueries.SqlQuery> queries = sqlQueries.getQueries();
+        assertEquals(1, queries.size());
+        assertSame(configuration, queries.get(0).getConfiguration());
+        assertEquals("sql", queries.get(0).getStageName("sql"));
+        assertTrue(sqlQueries.getTelemetry().isEmpty());
+    }
+
+    @Test
+    public void shouldOverrideJobConfigurationForEachQuery() {
+        configuration.setString("FLINK_SQL_QUERIES", "["
+                + "{\"FLINK_SQL_QUERY_NAME\": \"bookings_per_area\", \"FLINK_SQL_QUERY\": \"SELECT service_area_id FROM data_stream\"},"
+                + "{\"FLINK_SQL_QUERY_NAME\": \"completed_bookings\", \"FLINK_SQL_QUERY\": \"SELECT order_number FROM data_stream\", \"SINK_TYPE\": \"kafka\", \"SINK_KAFKA_TOPIC\": \"completed\","
+                + " \"PROCESSOR_POSTPROCESSOR_ENABLE\": true, \"PROCESSOR_POSTPROCESSOR_CONFIG\": {\"internal_source\": []}}"
+                + "]");
+
+        SqlQueries sqlQueries = new SqlQueries(configuration);
+
+        List<SqlQueries.SqlQuery> queries = sqlQueries.getQueries();
+        assertEquals(2, queries.size());
+        assertEquals("bookings_per_area", queries.get(0).getName());
+        assertEquals("SELECT service_area_id FROM data_stream", queries.get(0).getConfiguration().getString("FLINK_SQL_QUERY", ""));
+        assertEquals("log", queries.get(0).getConfiguration().getString("SINK_TYPE", ""));
+        Configuration completedConfiguration = queries.get(1).getConfiguration();
+        assertEquals("kafka", completedConfiguration.getString("SINK_TYPE", ""));
+        assertEquals("completed", completedConfiguration.getString("SINK_KAFKA_TOPIC", ""));
+        assertTrue(completedConfiguration.getBoolean("PROCESSOR_POSTPROCESSOR_ENABLE", false));
+        assertEquals("{\"internal_source\":[]}", completedConfiguration.getString("PROCESSOR_POSTPROCESSOR_CONFIG", ""));
+        assertEquals("completed_bookings_sink", queries.get(1).getStageName("sink"));
+        assertEquals("log", configuration.getString("SINK_TYPE", ""));
+        assertEquals(Collections.singletonMap("output_query", Arrays.asList("bookings_per_area", "completed_bookings")), sqlQueries.getTelemetry());
+    }
+
+    @Test
+    public void shouldGetTheQueryNameOfEachQueryConfiguration() {
+        configuration.setString("FLINK_SQL_QUERIES", "["
+                + "{\"FLINK_SQL_QUERY_NAME\": \"bookings\", \"FLINK_SQL_QUERY\": \"SELECT * FROM data_stream\"},"
+                + "{\"FLINK_SQL_QUERY_NAME\": \"payments\", \"FLINK_SQL_QUERY\": \"SELECT * FROM data_stream\"}"
+                + "]");
+
+        List<SqlQueries.SqlQuery> queries = new SqlQueries(configuration).getQueries();
+
+        assertEquals("bookings", SqlQueries.getQueryName(queries.get(0).getConfiguration()));
+        assertEquals("payments", SqlQueries.getQueryName(queries.get(1).getConfiguration()));
+        assertEquals("", SqlQueries.getQueryName(configuration));
+    }
+
+    @Test(expected = DaggerConfigurationException.class)
+    public void shouldThrowExceptionForQueryWithoutName() {
+        configuration.setString("FLINK_SQL_QUERIES", "[{\"FLINK_SQL_QUERY\": \"SELECT * FROM data_stream\"}]");
+
+        new SqlQueries(configuration);
+    }
+
+    @Test(expected = DaggerConfigurationException.class)
+    public void shouldThrowExceptionForDuplicateQueryNames() {
+        configuration.setString("FLINK_SQL_QUERIES", "["
+                + "{\"FLINK_SQL_QUERY_NAME\": \"bookings\", \"FLINK_SQL_QUERY\": \"SELECT * FROM data_stream\"},"
+                + "{\"FLINK_SQL_QUERY_NAME\": \"bookings\", \"FLINK_SQL_QUERY\": \"SELECT * FROM data_stream\"}"
+                + "]");
+
+        new SqlQueries(configuration);
+    }
+
+    @Test(expected = DaggerConfigurationException.class)
+    public void shouldThrowExceptionForQueryWithoutSql() {
+        configuration.setString("FLINK_SQL_QUERIES", "[{\"FLINK_SQL_QUERY_NAME\": \"bookings\"}]");
+
+        new SqlQueries(configuration);
+    }
+
+    @Test
+    public void shouldThrowExceptionForNullQueries() {
+        expectedException.expect(DaggerConfigurationException.class);
+        expectedException.expectMessage("FLINK_SQL_QUERIES requires at least one query");
+        configuration.setString("FLINK_SQL_QUERIES", "null");
+
+        new SqlQueries(configuration);
+    }
+
+    @Test
+    public void shouldThrowExceptionForEmptyQueries() {
+        expectedException.expect(DaggerConfigurationException.class);
+        expectedException.expectMessage("FLINK_SQL_QUERIES requires at least one query");
+        configuration.setString("FLINK_SQL_QUERIES", "[]");
+
+        new SqlQueries(configuration);
+    }
+
+    @Test
+    public void shouldThrowExceptionForNullQuery() {
+        expectedException.expect(DaggerConfigurationException.class);
+        expectedException.expectMessage("FLINK_SQL_QUERIES");
+        configuration.setString("FLINK_SQL_QUERIES", "[null]");
+
+        new SqlQueries(configuration);
+    }
+
+    @Test(expected = DaggerConfigurationException.class)
+    public void shouldThrowExceptionForInvalidJson() {
+        configuration.setString("FLINK_SQL_QUERIES", "[{");
+
+        new SqlQueries(configuration);
+    }
+}
@@ -7,6 +7,7 @@ import org.apache.flink.configuration.Configuration;
 import org.apache.flink.streaming.api.CheckpointingMode;
 import org.apache.flink.streaming.api.TimeCharacteristic;
 import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.streaming.api.datastream.DataStreamSink;
 import org.apache.flink.streaming.api.datastream.DataStreamSource;
 import org.apache.flink.streaming.api.environment.CheckpointConfig;
 import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
@@ -17,6 +18,7 @@ import org.apache.flink.table.api.java.StreamTableEnvironment;
 import org.apache.flink.types.Row;
 
 
+import io.odpf.dagger.core.sink.log.LogSink;
 import io.odpf.dagger.core.source.CustomStreamingTableSource;
 import io.odpf.dagger.core.source.FlinkKafkaConsumerCustom;
 import org.junit.Before;
@@ -28,6 +30,7 @@ import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
@@ -78,6 +81,9 @@ public class StreamManagerTest {
     @Mock
     private DataStreamSource<Row> source;
 
+    @Mock
+    private DataStreamSink<Row> dataStreamSink;
+
     @Mock
     private TypeInformation<Row> typeInformation;
 
@@ -133,6 +139,40 @@ public class StreamManagerTest {
         verify(checkpointConfig, Mockito.times(1)).setMaxConcurrentCheckpoints(1);
     }
 
+    @Test
+    public void shouldEnableObjectReuseWhenConfigured() {
+        when(configuration.getBoolean("FLINK_OBJECT_REUSE_ENABLE", false)).thenReturn(true);
+
+        streamManager.registerConfigs();
+
+        verify(executionConfig, Mockito.times(1)).enableObjectReuse();
+    }
+
+    @Test
+    public void shouldNotEnableObjectReuseByDefault() {
+        streamManager.registerConfigs();
+
+        verify(executionConfig, Mockito.never()).enableObjectReuse();
+    }
+
+    @Test
+    public void shouldRegisterBlinkTableConfigs() {
+        Configuration tableConfiguration = new Configuration();
+        when(tableConfig.getConfiguration()).thenReturn(tableConfiguration);
+        when(configuration.getString("FLINK_TABLE_PLANNER", "OLD")).thenReturn("BLINK");
+        when(configuration.getBoolean("FLINK_TABLE_MINI_BATCH_ENABLE", false)).thenReturn(true);
+        when(configuration.getLong("FLINK_TABLE_MINI_BATCH_LATENCY_MS", 1000)).thenReturn(1000L);
+        when(configuration.getLong("FLINK_TABLE_MINI_BATCH_SIZE", 5000)).thenReturn(5000L);
+        when(configuration.getString("FLINK_TABLE_AGG_PHASE_STRATEGY", "AUTO")).thenReturn("TWO_PHASE");
+
+        streamManager.registerConfigs();
+
+        assertEquals("true", tableConfiguration.getString("table.exec.mini-batch.enabled", null));
+        assertEquals("1000 ms", tableConfiguration.getString("table.exec.mini-batch.allow-latency", null));
+        assertEquals(5000L, tableConfiguration.getLong("table.exec.mini-batch.size", 0L));
+        assertEquals("TWO_PHASE", tableConfiguration.getString("table.optimizer.agg-phase-strategy", null));
+    }
+
     @Test
     public void shouldRegisterSourceWithPreprocessors() {
         streamManager.registerConfigs();
@@ -149,6 +189,26 @@ public class StreamManagerTest {
         verify(tableEnvironment, Mockito.times(1)).sqlQuery("");
     }
 
+    @Test
+    public void shouldCreateOutputStreamForEachQuery() {
+        Configuration queriesConfiguration = new Configuration();
+        queriesConfiguration.setBoolean("METRIC_TELEMETRY_ENABLE", false);
+        queriesConfiguration.setString("FLINK_SQL_QUERIES", "["
+                + "{\"FLINK_SQL_QUERY_NAME\": \"first\", \"FLINK_SQL_QUERY\": \"SELECT order_number FROM data_stream\", \"SINK_TYPE\": \"log\"},"
+                + "{\"FLINK_SQL_QUERY_NAME\": \"second\", \"FLINK_SQL_QUERY\": \"SELECT customer_id FROM data_stream\", \"SINK_TYPE\": \"log\"}"
+                + "]");
+        when(dataStream.addSink(any(LogSink.class))).thenReturn(dataStreamSink);
+        StreamManagerStub streamManagerStub = new StreamManagerStub(queriesConfiguration, env, tableEnvironment, new StreamInfo(dataStream, new String[]{}));
+
+        streamManagerStub.registerOutputStream();
+
+        verify(tableEnvironment, Mockito.times(1)).sqlQuery("SELECT order_number FROM data_stream");
+        verify(tableEnvironment, Mockito.times(1)).sqlQuery("SELECT customer_id FROM data_stream");
+        verify(dataStream, Mockito.times(2)).addSink(any(LogSink.class));
+        verify(dataStreamSink, Mockito.times(1)).name("first_sink");
+        verify(dataStreamSink, Mockito.times(1)).name("second_sink");
+    }
+
     @Test
     public void shouldExecuteJob() throws Exception {
         streamManager.execute();
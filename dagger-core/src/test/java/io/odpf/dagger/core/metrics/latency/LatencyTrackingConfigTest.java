@@ -0,0 +1,98 @@
+package io.odpf.dagger.core.metrics.latency;
+
+import io.odpf.dagger.common.core.StencilClientOrchestrator;
+import io.odpf.dagger.common.core.StreamInfo;
+import io.odpf.dagger.core.metrics.telemetry.TelemetrySubscriber;
+import io.odpf.dagger.core.processors.ParentPostProcessor;
+import io.odpf.dagger.core.processors.PostProcessorConfig;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.types.Row;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class LatencyTrackingConfigTest {
+
+    @Mock
+    private DataStream<Row> dataStream;
+
+    @Mock
+    private PostProcessorConfig postProcessorConfig;
+
+    @Mock
+    private StencilClientOrchestrator stencilClientOrchestrator;
+
+    @Mock
+    private TelemetrySubscriber telemetrySubscriber;
+
+    @Before
+    public void setUp() {
+        initMocks(this);
+    }
+
+    @Test
+    public void shouldBeDisabledByDefault() {
+        LatencyTrackingConfig latencyTrackingConfig = new LatencyTrackingConfig(new Configuration());
+
+        assertFalse(latencyTrackingConfig.isEnabled());
+        assertEquals(100, latencyTrackingConfig.getSampleInterval());
+    }
+
+    @Test
+    public void shouldReadConfiguration() {
+        Configuration configuration = new Configuration();
+        configuration.setBoolean("METRIC_LATENCY_TRACKING_ENABLE", true);
+        configuration.setInteger("METRIC_LATENCY_TRACKING_SAMPLE_INTERVAL", 10);
+
+        LatencyTrackingConfig latencyTrackingConfig = new LatencyTrackingConfig(configuration);
+
+        assertTrue(latencyTrackingConfig.isEnabled());
+        assertEquals(10, latencyTrackingConfig.getSampleInterval());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowExceptionForNonPositiveSampleInterval() {
+        new LatencyTrackingConfig(true, 0, "rowtime");
+    }
+
+    @Test
+    public void shouldNotDecorateWhenDisabled() {
+        LatencyTrackingConfig latencyTrackingConfig = new LatencyTrackingConfig(false, 1, "rowtime");
+        StreamInfo streamInfo = new StreamInfo(dataStream, new String[]{"order_number", "__ingestion_time__"});
+
+        assertSame(streamInfo, latencyTrackingConfig.track(streamInfo, "sql"));
+        assertSame(streamInfo, latencyTrackingConfig.trackAndRemove(streamInfo, "sink"));
+    }
+
+    @Test
+    public void shouldNotDecorateWhenIngestionTimeIsNotSelected() {
+        LatencyTrackingConfig latencyTrackingConfig = new LatencyTrackingConfig(true, 1, "rowtime");
+        StreamInfo streamInfo = new StreamInfo(dataStream, new String[]{"order_number", "rowtime"});
+
+        assertSame(streamInfo, latencyTrackingConfig.track(streamInfo, "sql"));
+        assertSame(dataStream, latencyTrackingConfig.trackInputOutput(dataStream, streamInfo.getColumnNames(), "internal_post_processor"));
+    }
+
+    @Test
+    public void shouldDropIngestionTimeColumnBeforeSink() {
+        LatencyTrackingConfig latencyTrackingConfig = new LatencyTrackingConfig(true, 1, "rowtime");
+        StreamInfo streamInfo = new StreamInfo(dataStream, new String[]{"order_number", "__ingestion_time__", "__stage_entry_time__", "rowtime"});
+
+        StreamInfo result = latencyTrackingConfig.trackAndRemove(streamInfo, "sink");
+
+        assertArrayEquals(new String[]{"order_number", "rowtime"}, result.getColumnNames());
+    }
+
+    @Test
+    public void shouldDeriveStageNameFromProcessorClass() {
+        assertEquals("parent_post_processor", LatencyTrackingConfig.getStageName(new ParentPostProcessor(postProcessorConfig, new Configuration(), stencilClientOrchestrator, telemetrySubscriber)));
+    }
+}
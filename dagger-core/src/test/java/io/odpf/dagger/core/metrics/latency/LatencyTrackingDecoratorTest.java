@@ -0,0 +1,152 @@
+package io.odpf.dagger.core.metrics.latency;
+
+import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
+import io.odpf.dagger.core.metrics.aspects.LatencyAspects;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.types.Row;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import java.sql.Timestamp;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class LatencyTrackingDecoratorTest {
+
+    @Mock
+    private MeterStatsManager meterStatsManager;
+
+    @Before
+    public void setUp() {
+        initMocks(this);
+    }
+
+    @Test
+    public void shouldRegisterLatencyAspectsForStage() throws Exception {
+        LatencyTrackingDecorator decorator = new LatencyTrackingDecorator("sql", 1, -1, 2, 1, false, false, meterStatsManager);
+
+        decorator.open(new Configuration());
+
+        verify(meterStatsManager).register("latency_stage", "sql", LatencyAspects.values());
+    }
+
+    @Test
+    public void shouldRecordLatencySinceIngestionAndEventTimeLag() throws Exception {
+        LatencyTrackingDecorator decorator = new LatencyTrackingDecorator("sql", 1, -1, 2, 1, false, false, meterStatsManager);
+        decorator.open(new Configuration());
+        Row row = Row.of("order", System.currentTimeMillis(), new Timestamp(System.currentTimeMillis()));
+
+        Row output = decorator.map(row);
+
+        assertSame(row, output);
+        verify(meterStatsManager).updateHistogram(eq(LatencyAspects.LATENCY_SINCE_INGESTION), anyLong());
+        verify(meterStatsManager).updateHistogram(eq(LatencyAspects.EVENT_TIME_LAG), anyLong());
+    }
+
+    @Test
+    public void shouldNotRecordEventTimeLagWhenRowtimeIsNotAvailable() throws Exception {
+        LatencyTrackingDecorator decorator = new LatencyTrackingDecorator("sql", 1, -1, -1, 1, false, false, meterStatsManager);
+        decorator.open(new Configuration());
+
+        decorator.map(Row.of("order", System.currentTimeMillis()));
+
+        verify(meterStatsManager).updateHistogram(eq(LatencyAspects.LATENCY_SINCE_INGESTION), anyLong());
+        verify(meterStatsManager, never()).updateHistogram(eq(LatencyAspects.EVENT_TIME_LAG), anyLong());
+    }
+
+    @Test
+    public void shouldRecordOnlyOneOutOfEverySampleIntervalRows() throws Exception {
+        LatencyTrackingDecorator decorator = new LatencyTrackingDecorator("sql", 1, -1, -1, 10, false, false, meterStatsManager);
+        decorator.open(new Configuration());
+
+        for (int i = 0; i < 25; i++) {
+            decorator.map(Row.of("order", System.currentTimeMillis()));
+        }
+
+        verify(meterStatsManager, times(2)).updateHistogram(eq(LatencyAspects.LATENCY_SINCE_INGESTION), anyLong());
+    }
+
+    @Test
+    public void shouldReadIngestionTimeFromInputOfInputOutputRows() throws Exception {
+        LatencyTrackingDecorator decorator = new LatencyTrackingDecorator("external_http_0", 1, -1, -1, 1, true, false, meterStatsManager);
+        decorator.open(new Configuration());
+
+        decorator.map(Row.of(Row.of("order", System.currentTimeMillis()), new Row(1)));
+
+        verify(meterStatsManager).updateHistogram(eq(LatencyAspects.LATENCY_SINCE_INGESTION), anyLong());
+    }
+
+    @Test
+    public void shouldRemoveIngestionTimeWhenRequired() throws Exception {
+        LatencyTrackingDecorator decorator = new LatencyTrackingDecorator("sink", 1, -1, -1, 1, false, true, meterStatsManager);
+        decorator.open(new Configuration());
+
+        Row output = decorator.map(Row.of("order", System.currentTimeMillis(), 10));
+
+        assertEquals(Row.of("order", 10), output);
+    }
+
+    @Test
+    public void shouldRecordTimeSpentInStageAndStampEntryTimeOfNextStage() throws Exception {
+        LatencyTrackingDecorator decorator = new LatencyTrackingDecorator("sql", 1, 2, -1, 1, false, false, meterStatsManager);
+        decorator.open(new Configuration());
+        long stageEntryTime = System.currentTimeMillis() - 1000;
+        Row row = Row.of("order", stageEntryTime - 1000, stageEntryTime);
+
+        Row output = decorator.map(row);
+
+        verify(meterStatsManager).updateHistogram(eq(LatencyAspects.STAGE_LATENCY), longThat(latency -> latency >= 1000 && latency < 2000));
+        verify(meterStatsManager).updateHistogram(eq(LatencyAspects.LATENCY_SINCE_INGESTION), longThat(latency -> latency >= 2000));
+        assertSame(row, output);
+        assertTrue((Long) output.getField(2) > stageEntryTime);
+    }
+
+    @Test
+    public void shouldStampEntryTimeOnInputOfInputOutputRowsKeepingOutputRow() throws Exception {
+        LatencyTrackingDecorator decorator = new LatencyTrackingDecorator("external_http_0", 1, 2, -1, 1, true, false, meterStatsManager);
+        decorator.open(new Configuration());
+        long stageEntryTime = System.currentTimeMillis() - 1000;
+        Row inputRow = Row.of("order", stageEntryTime, stageEntryTime);
+        Row outputRow = new Row(1);
+
+        Row output = decorator.map(Row.of(inputRow, outputRow));
+
+        verify(meterStatsManager).updateHistogram(eq(LatencyAspects.STAGE_LATENCY), anyLong());
+        assertSame(inputRow, output.getField(0));
+        assertTrue((Long) inputRow.getField(2) > stageEntryTime);
+        assertSame(outputRow, output.getField(1));
+    }
+
+    @Test
+    public void shouldStampUnsampledRowsInPlace() throws Exception {
+        LatencyTrackingDecorator decorator = new LatencyTrackingDecorator("sql", 1, 2, -1, 10, false, false, meterStatsManager);
+        decorator.open(new Configuration());
+        Row row = Row.of("order", System.currentTimeMillis(), null);
+
+        Row output = decorator.map(row);
+
+        verify(meterStatsManager, never()).updateHistogram(eq(LatencyAspects.STAGE_LATENCY), anyLong());
+        assertSame(row, output);
+        assertTrue(output.getField(2) instanceof Long);
+    }
+
+    @Test
+    public void shouldRemoveIngestionTimeAndStageEntryTimeWhenRequired() throws Exception {
+        LatencyTrackingDecorator decorator = new LatencyTrackingDecorator("sink", 1, 2, -1, 1, false, true, meterStatsManager);
+        decorator.open(new Configuration());
+
+        Row output = decorator.map(Row.of("order", System.currentTimeMillis(), System.currentTimeMillis(), 10));
+
+        assertEquals(Row.of("order", 10), output);
+    }
+}
@@ -0,0 +1,56 @@
+package io.odpf.dagger.core.metrics.serialization;
+
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.api.java.typeutils.GenericTypeInfo;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
+import org.apache.flink.types.Row;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class GenericTypeReportTest {
+
+    @Test
+    public void shouldFindNoGenericFieldsInFullyTypedRows() {
+        RowTypeInfo nested = new RowTypeInfo(new TypeInformation<?>[]{Types.STRING, Types.PRIMITIVE_ARRAY(Types.BYTE)}, new String[]{"name", "payload"});
+        RowTypeInfo rowType = new RowTypeInfo(new TypeInformation<?>[]{Types.LONG, nested, Types.OBJECT_ARRAY(nested), Types.SQL_TIMESTAMP},
+                new String[]{"id", "customer", "items", "event_timestamp"});
+
+        assertEquals(Collections.emptyList(), GenericTypeReport.findGenericFields(rowType));
+    }
+
+    @Test
+    public void shouldFindTheNestedPathsOfGenericFields() {
+        RowTypeInfo nested = new RowTypeInfo(new TypeInformation<?>[]{Types.STRING, new GenericTypeInfo<>(Object.class)}, new String[]{"name", "metadata"});
+        RowTypeInfo rowType = new RowTypeInfo(new TypeInformation<?>[]{Types.LONG, nested, Types.OBJECT_ARRAY(nested), Types.MAP(Types.STRING, new GenericTypeInfo<>(Object.class)), Types.LIST(new GenericTypeInfo<>(Object.class))},
+                new String[]{"id", "customer", "items", "attributes", "tags"});
+
+        List<String> genericFields = GenericTypeReport.findGenericFields(rowType);
+
+        assertEquals(Arrays.asList("customer.metadata", "items[].metadata", "attributes{value}", "tags[]"), genericFields);
+    }
+
+    @Test
+    public void shouldReportAGenericRow() {
+        assertEquals(Collections.singletonList("row"), GenericTypeReport.findGenericFields(new GenericTypeInfo<>(Row.class)));
+    }
+
+    @Test
+    public void shouldAddTheGenericFieldsOfEveryStageToTheTelemetry() {
+        GenericTypeReport genericTypeReport = new GenericTypeReport();
+        RowTypeInfo typedRow = new RowTypeInfo(new TypeInformation<?>[]{Types.STRING}, new String[]{"name"});
+        RowTypeInfo genericRow = new RowTypeInfo(new TypeInformation<?>[]{Types.STRING, new GenericTypeInfo<>(Object.class)}, new String[]{"name", "features"});
+
+        genericTypeReport.check("source_booking", typedRow);
+        genericTypeReport.check("sql", genericRow);
+        genericTypeReport.check("post_processor_transformer", new GenericTypeInfo<>(Row.class));
+
+        assertEquals(Arrays.asList("sql.features", "post_processor_transformer.row"), genericTypeReport.getTelemetry().get("generic_type_field"));
+        assertEquals(1, genericTypeReport.getTelemetry().size());
+    }
+}
@@ -0,0 +1,43 @@
+package io.odpf.dagger.core.processors.external;
+
+import io.odpf.dagger.core.metrics.telemetry.TelemetrySubscriber;
+import org.apache.flink.configuration.Configuration;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class ExternalMetricConfigTest {
+
+    @Mock
+    private TelemetrySubscriber telemetrySubscriber;
+
+    private Configuration configuration;
+
+    @Before
+    public void setUp() {
+        initMocks(this);
+        configuration = new Configuration();
+    }
+
+    @Test
+    public void shouldKeepTheMetricIdOfTheSingleQuery() {
+        ExternalMetricConfig externalMetricConfig = new ExternalMetricConfig(configuration, telemetrySubscriber);
+
+        externalMetricConfig.setMetricId("0");
+
+        assertEquals("0", externalMetricConfig.getMetricId());
+    }
+
+    @Test
+    public void shouldPrefixTheMetricIdWithTheQueryName() {
+        configuration.setString("FLINK_SQL_QUERY_NAME", "bookings");
+        ExternalMetricConfig externalMetricConfig = new ExternalMetricConfig(configuration, telemetrySubscriber);
+
+        externalMetricConfig.setMetricId("0");
+
+        assertEquals("bookings_0", externalMetricConfig.getMetricId());
+    }
+}
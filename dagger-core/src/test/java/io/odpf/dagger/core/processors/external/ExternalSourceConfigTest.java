@@ -4,6 +4,8 @@ import io.odpf.dagger.core.processors.common.OutputMapping;
 import io.odpf.dagger.core.processors.external.es.EsSourceConfig;
 import io.odpf.dagger.core.processors.external.grpc.GrpcSourceConfig;
 import io.odpf.dagger.core.processors.external.http.HttpSourceConfig;
+import io.odpf.dagger.core.processors.external.lookup.KeyedLookupSourceConfig;
+import io.odpf.dagger.core.processors.external.lookup.LookupSourceConfig;
 import io.odpf.dagger.core.processors.external.pg.PgSourceConfig;
 import org.junit.Assert;
 import org.junit.Before;
@@ -80,6 +82,31 @@ public class ExternalSourceConfigTest {
         Assert.assertEquals(grpc, externalSourceConfig.getGrpcConfig());
     }
 
+    @Test
+    public void shouldGetLookupConfigAndItsOutputColumns() {
+        HashMap<String, String> lookupOutputMapping = new HashMap<>();
+        lookupOutputMapping.put("lookup_field_1", "status");
+        List<LookupSourceConfig> lookup = Collections.singletonList(new LookupSourceConfig("lookup-topic", "localhost:9092", "", "TestBookingLogMessage", "order_number", "", "order_number", lookupOutputMapping, false, "metricId_03"));
+        ExternalSourceConfig externalSourceConfig = new ExternalSourceConfig(null, null, pg, null, lookup);
+
+        Assert.assertEquals(lookup, externalSourceConfig.getLookupConfig());
+        Assert.assertFalse(externalSourceConfig.isEmpty());
+        Assert.assertEquals(Arrays.asList("pg_field_1", "lookup_field_1"), externalSourceConfig.getOutputColumnNames());
+    }
+
+    @Test
+    public void shouldGetKeyedLookupConfigAndItsOutputColumns() {
+        HashMap<String, String> keyedLookupOutputMapping = new HashMap<>();
+        keyedLookupOutputMapping.put("keyed_lookup_field_1", "status");
+        List<KeyedLookupSourceConfig> keyedLookup = Collections.singletonList(new KeyedLookupSourceConfig("keyed-lookup-topic", "localhost:9092", "", "TestBookingLogMessage", "order_number", "",
+                "order_number", keyedLookupOutputMapping, "5000", false, "metricId_04"));
+        ExternalSourceConfig externalSourceConfig = new ExternalSourceConfig(null, null, pg, null, null, keyedLookup);
+
+        Assert.assertEquals(keyedLookup, externalSourceConfig.getKeyedLookupConfig());
+        Assert.assertFalse(externalSourceConfig.isEmpty());
+        Assert.assertEquals(Arrays.asList("pg_field_1", "keyed_lookup_field_1"), externalSourceConfig.getOutputColumnNames());
+    }
+
     @Test
     public void shouldBeEmptyWhenAllConfigsAreEmpty() {
         ExternalSourceConfig externalSourceConfig = new ExternalSourceConfig(null, null, null, null);
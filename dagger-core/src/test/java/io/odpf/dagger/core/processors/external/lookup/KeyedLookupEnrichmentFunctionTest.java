@@ -0,0 +1,217 @@
+package io.odpf.dagger.core.processors.external.lookup;
+
+import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
+import io.odpf.dagger.core.metrics.aspects.LookupSourceAspects;
+import io.odpf.dagger.core.processors.ColumnNameManager;
+import io.odpf.dagger.core.processors.common.RowManager;
+import org.apache.flink.api.common.functions.RuntimeContext;
+import org.apache.flink.api.common.state.ListState;
+import org.apache.flink.api.common.state.ListStateDescriptor;
+import org.apache.flink.api.common.state.ValueState;
+import org.apache.flink.api.common.state.ValueStateDescriptor;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.streaming.api.TimerService;
+import org.apache.flink.streaming.api.functions.co.KeyedCoProcessFunction;
+import org.apache.flink.types.Row;
+import org.apache.flink.util.Collector;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class KeyedLookupEnrichmentFunctionTest {
+
+    @Mock
+    private MeterStatsManager meterStatsManager;
+
+    @Mock
+    private RuntimeContext runtimeContext;
+
+    @Mock
+    private KeyedCoProcessFunction<String, Row, Row, Row>.Context context;
+
+    @Mock
+    private KeyedCoProcessFunction<String, Row, Row, Row>.OnTimerContext onTimerContext;
+
+    @Mock
+    private TimerService timerService;
+
+    @Mock
+    private ValueState<Row> entry;
+
+    @Mock
+    private ListState<Row> waitingRows;
+
+    @Mock
+    private ValueState<Long> waitDeadline;
+
+    @Mock
+    private Collector<Row> collector;
+
+    private TypeInformation<Row> valuesType;
+    private TypeInformation<Row> rowType;
+    private ColumnNameManager columnNameManager;
+    private Map<String, String> outputMapping;
+
+    @Before
+    public void setUp() {
+        initMocks(this);
+        valuesType = Types.ROW(Types.STRING);
+        rowType = Types.ROW(Types.ROW(Types.STRING, Types.STRING), Types.ROW(Types.STRING, Types.STRING));
+        columnNameManager = new ColumnNameManager(new String[]{"order_number", "customer_id"}, Arrays.asList("order_number", "customer_segment"));
+        outputMapping = new HashMap<>();
+        outputMapping.put("customer_segment", "segment");
+        when(runtimeContext.getState(new ValueStateDescriptor<>("keyed_lookup_entry_metricId-keyed-01", valuesType))).thenReturn(entry);
+        when(runtimeContext.getListState(new ListStateDescriptor<>("keyed_lookup_waiting_rows_metricId-keyed-01", rowType))).thenReturn(waitingRows);
+        when(runtimeContext.getState(new ValueStateDescriptor<>("keyed_lookup_wait_deadline_metricId-keyed-01", Types.LONG))).thenReturn(waitDeadline);
+        when(context.timerService()).thenReturn(timerService);
+        when(timerService.currentProcessingTime()).thenReturn(1000L);
+    }
+
+    private KeyedLookupEnrichmentFunction openFunction(String waitTimeout) throws Exception {
+        KeyedLookupSourceConfig keyedLookupSourceConfig = new KeyedLookupSourceConfig("customer-segments", "localhost:9092", "", "io.odpf.CustomerSegment", "customer_id", "",
+                "customer_id", outputMapping, waitTimeout, false, "metricId-keyed-01");
+        KeyedLookupEnrichmentFunction keyedLookupEnrichmentFunction = new KeyedLookupEnrichmentFunction(keyedLookupSourceConfig, columnNameManager, valuesType, rowType,
+                "metricId-keyed-01", meterStatsManager);
+        keyedLookupEnrichmentFunction.setRuntimeContext(runtimeContext);
+        keyedLookupEnrichmentFunction.open(new Configuration());
+        return keyedLookupEnrichmentFunction;
+    }
+
+    private Row inputOutputRow(String customerId) {
+        Row inputRow = new Row(2);
+        inputRow.setField(0, "order-1");
+        inputRow.setField(1, customerId);
+        return new RowManager(inputRow, columnNameManager.getOutputSize()).getAll();
+    }
+
+    @Test
+    public void shouldRegisterLookupAspects() throws Exception {
+        openFunction("");
+
+        verify(meterStatsManager).register("source_metricId", "KEYED_LOOKUP.metricId-keyed-01", LookupSourceAspects.values());
+    }
+
+    @Test
+    public void shouldEnrichRowWithEntryOfItsKey() throws Exception {
+        KeyedLookupEnrichmentFunction keyedLookupEnrichmentFunction = openFunction("");
+        when(entry.value()).thenReturn(Row.of("PLATINUM"));
+        Row row = inputOutputRow("customer-1");
+
+        keyedLookupEnrichmentFunction.processElement1(row, context, collector);
+
+        assertEquals("PLATINUM", new RowManager(row).getOutputData().getField(1));
+        verify(meterStatsManager).markEvent(LookupSourceAspects.LOOKUP_HITS);
+        verify(collector).collect(row);
+    }
+
+    @Test
+    public void shouldPassRowThroughWhenEntryIsMissingAndRowsDoNotWait() throws Exception {
+        KeyedLookupEnrichmentFunction keyedLookupEnrichmentFunction = openFunction("");
+        Row row = inputOutputRow("customer-1");
+
+        keyedLookupEnrichmentFunction.processElement1(row, context, collector);
+
+        assertNull(new RowManager(row).getOutputData().getField(1));
+        verify(meterStatsManager).markEvent(LookupSourceAspects.LOOKUP_MISSES);
+        verify(collector).collect(row);
+        verify(waitingRows, never()).add(any(Row.class));
+    }
+
+    @Test
+    public void shouldNotLookUpRowsWithEmptyVariables() throws Exception {
+        KeyedLookupEnrichmentFunction keyedLookupEnrichmentFunction = openFunction("5000");
+        Row row = inputOutputRow(null);
+
+        keyedLookupEnrichmentFunction.processElement1(row, context, collector);
+
+        verify(meterStatsManager).markEvent(LookupSourceAspects.EMPTY_INPUT);
+        verify(entry, never()).value();
+        verify(collector).collect(row);
+    }
+
+    @Test
+    public void shouldHoldRowAndRegisterTimerWhenEntryIsMissing() throws Exception {
+        KeyedLookupEnrichmentFunction keyedLookupEnrichmentFunction = openFunction("5000");
+        Row row = inputOutputRow("customer-1");
+
+        keyedLookupEnrichmentFunction.processElement1(row, context, collector);
+
+        verify(waitingRows).add(row);
+        verify(timerService).registerProcessingTimeTimer(6000L);
+        verify(waitDeadline).update(6000L);
+        verify(meterStatsManager).markEvent(LookupSourceAspects.LOOKUP_WAITS);
+        verify(collector, never()).collect(row);
+    }
+
+    @Test
+    public void shouldNotRegisterAnotherTimerWhileRowsAreWaiting() throws Exception {
+        KeyedLookupEnrichmentFunction keyedLookupEnrichmentFunction = openFunction("5000");
+        when(waitDeadline.value()).thenReturn(3000L);
+        Row row = inputOutputRow("customer-1");
+
+        keyedLookupEnrichmentFunction.processElement1(row, context, collector);
+
+        verify(waitingRows).add(row);
+        verify(timerService, never()).registerProcessingTimeTimer(anyLong());
+    }
+
+    @Test
+    public void shouldUpdateEntryAndReleaseWaitingRows() throws Exception {
+        KeyedLookupEnrichmentFunction keyedLookupEnrichmentFunction = openFunction("5000");
+        Row values = Row.of("GOLD");
+        Row waitingRow = inputOutputRow("customer-1");
+        when(waitDeadline.value()).thenReturn(6000L);
+        when(waitingRows.get()).thenReturn(Collections.singletonList(waitingRow));
+
+        keyedLookupEnrichmentFunction.processElement2(Row.of("Y3VzdG9tZXItMQ==", "customer-1", values), context, collector);
+
+        verify(entry).update(values);
+        verify(meterStatsManager).markEvent(LookupSourceAspects.LOOKUP_UPDATES);
+        assertEquals("GOLD", new RowManager(waitingRow).getOutputData().getField(1));
+        verify(collector).collect(waitingRow);
+        verify(timerService).deleteProcessingTimeTimer(6000L);
+        verify(waitingRows).clear();
+        verify(waitDeadline).clear();
+    }
+
+    @Test
+    public void shouldClearEntryOnTombstone() throws Exception {
+        KeyedLookupEnrichmentFunction keyedLookupEnrichmentFunction = openFunction("");
+
+        keyedLookupEnrichmentFunction.processElement2(Row.of("Y3VzdG9tZXItMQ==", null, null), context, collector);
+
+        verify(entry).clear();
+        verify(meterStatsManager).markEvent(LookupSourceAspects.LOOKUP_DELETES);
+    }
+
+    @Test
+    public void shouldEmitWaitingRowsWithoutEnrichmentOnTimeout() throws Exception {
+        KeyedLookupEnrichmentFunction keyedLookupEnrichmentFunction = openFunction("5000");
+        Row waitingRow = inputOutputRow("customer-1");
+        when(waitingRows.get()).thenReturn(Collections.singletonList(waitingRow));
+
+        keyedLookupEnrichmentFunction.onTimer(6000L, onTimerContext, collector);
+
+        assertNull(new RowManager(waitingRow).getOutputData().getField(1));
+        verify(collector).collect(waitingRow);
+        verify(meterStatsManager).markEvent(LookupSourceAspects.LOOKUP_TIMEOUTS);
+        verify(waitingRows).clear();
+        verify(waitDeadline).clear();
+    }
+}
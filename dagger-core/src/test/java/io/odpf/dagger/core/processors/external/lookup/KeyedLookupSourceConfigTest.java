@@ -0,0 +1,44 @@
+package io.odpf.dagger.core.processors.external.lookup;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+public class KeyedLookupSourceConfigTest {
+
+    private Map<String, String> outputMapping;
+
+    @Before
+    public void setUp() {
+        outputMapping = new HashMap<>();
+        outputMapping.put("customer_segment", "segment");
+    }
+
+    @Test
+    public void shouldNotWaitWhenWaitTimeoutIsNotConfigured() {
+        KeyedLookupSourceConfig keyedLookupSourceConfig = new KeyedLookupSourceConfig("customer-segments", "localhost:9092", "", "io.odpf.CustomerSegment", "customer_id", "",
+                "customer_id", outputMapping, null, false, "metricId-keyed-01");
+
+        assertEquals(Integer.valueOf(0), keyedLookupSourceConfig.getWaitTimeout());
+    }
+
+    @Test
+    public void shouldGetWaitTimeout() {
+        KeyedLookupSourceConfig keyedLookupSourceConfig = new KeyedLookupSourceConfig("customer-segments", "localhost:9092", "", "io.odpf.CustomerSegment", "customer_id", "",
+                "customer_id", outputMapping, "5000", false, "metricId-keyed-01");
+
+        assertEquals(Integer.valueOf(5000), keyedLookupSourceConfig.getWaitTimeout());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldValidateMandatoryFieldsOfLookups() {
+        KeyedLookupSourceConfig keyedLookupSourceConfig = new KeyedLookupSourceConfig("", "localhost:9092", "", "io.odpf.CustomerSegment", "customer_id", "",
+                "customer_id", outputMapping, "5000", false, "metricId-keyed-01");
+
+        keyedLookupSourceConfig.validateFields();
+    }
+}
@@ -0,0 +1,101 @@
+package io.odpf.dagger.core.processors.external.lookup;
+
+import io.odpf.dagger.common.core.StencilClientOrchestrator;
+import io.odpf.dagger.consumer.TestBookingLogMessage;
+import io.odpf.dagger.consumer.TestBookingStatus;
+import io.odpf.dagger.core.exception.DaggerDeserializationException;
+import io.odpf.dagger.core.exception.InvalidConfigurationException;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.types.Row;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static io.odpf.dagger.common.core.Constants.*;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class LookupDeserializerTest {
+
+    private StencilClientOrchestrator stencilClientOrchestrator;
+    private Map<String, String> outputMapping;
+
+    @Before
+    public void setUp() {
+        Configuration configuration = new Configuration();
+        configuration.setString(SCHEMA_REGISTRY_STENCIL_REFRESH_CACHE_KEY, SCHEMA_REGISTRY_STENCIL_REFRESH_CACHE_DEFAULT);
+        configuration.setBoolean(SCHEMA_REGISTRY_STENCIL_ENABLE_KEY, SCHEMA_REGISTRY_STENCIL_ENABLE_DEFAULT);
+        configuration.setString(SCHEMA_REGISTRY_STENCIL_URLS_KEY, SCHEMA_REGISTRY_STENCIL_URLS_DEFAULT);
+        stencilClientOrchestrator = new StencilClientOrchestrator(configuration);
+        outputMapping = new LinkedHashMap<>();
+        outputMapping.put("booking_status", "status");
+        outputMapping.put("booking_customer", "customer_id");
+    }
+
+    private LookupSourceConfig lookupSourceConfig(String keyField) {
+        return lookupSourceConfig(keyField, false);
+    }
+
+    private LookupSourceConfig lookupSourceConfig(String keyField, boolean failOnErrors) {
+        return new LookupSourceConfig("bookings", "localhost:9092", "", TestBookingLogMessage.class.getName(), keyField, "", "order_number", outputMapping, failOnErrors, "metricId-lookup-01");
+    }
+
+    @Test
+    public void shouldDeserializeLookupKeyAndMappedValues() {
+        LookupDeserializer lookupDeserializer = new LookupDeserializer(lookupSourceConfig("order_number"), stencilClientOrchestrator);
+        byte[] value = TestBookingLogMessage.newBuilder().setOrderNumber("order-1").setStatus(TestBookingStatus.Enum.COMPLETED).setCustomerId("customer-1").build().toByteArray();
+
+        Row update = lookupDeserializer.deserialize(new ConsumerRecord<>("bookings", 0, 0, "key".getBytes(), value));
+
+        assertEquals(Base64.getEncoder().encodeToString("key".getBytes()), update.getField(LookupDeserializer.RECORD_KEY_INDEX));
+        assertEquals("order-1", update.getField(LookupDeserializer.LOOKUP_KEY_INDEX));
+        Row values = (Row) update.getField(LookupDeserializer.VALUES_INDEX);
+        assertEquals("COMPLETED", values.getField(0));
+        assertEquals("customer-1", values.getField(1));
+    }
+
+    @Test
+    public void shouldDeserializeTombstoneWithoutLookupKey() {
+        LookupDeserializer lookupDeserializer = new LookupDeserializer(lookupSourceConfig("order_number"), stencilClientOrchestrator);
+
+        Row update = lookupDeserializer.deserialize(new ConsumerRecord<>("bookings", 0, 0, "key".getBytes(), null));
+
+        assertEquals(Base64.getEncoder().encodeToString("key".getBytes()), update.getField(LookupDeserializer.RECORD_KEY_INDEX));
+        assertNull(update.getField(LookupDeserializer.LOOKUP_KEY_INDEX));
+        assertNull(update.getField(LookupDeserializer.VALUES_INDEX));
+    }
+
+    @Test
+    public void shouldSkipInvalidMessages() {
+        LookupDeserializer lookupDeserializer = new LookupDeserializer(lookupSourceConfig("order_number"), stencilClientOrchestrator);
+
+        assertNull(lookupDeserializer.deserialize(new ConsumerRecord<>("bookings", 0, 0, null, new byte[]{(byte) 0xFF})));
+    }
+
+    @Test(expected = DaggerDeserializationException.class)
+    public void shouldThrowExceptionForInvalidMessagesWhenFailingOnErrors() {
+        LookupDeserializer lookupDeserializer = new LookupDeserializer(lookupSourceConfig("order_number", true), stencilClientOrchestrator);
+
+        lookupDeserializer.deserialize(new ConsumerRecord<>("bookings", 0, 0, null, new byte[]{(byte) 0xFF}));
+    }
+
+    @Test
+    public void shouldTypeValuesWithMappedFieldTypes() {
+        LookupDeserializer lookupDeserializer = new LookupDeserializer(lookupSourceConfig("order_number"), stencilClientOrchestrator);
+
+        assertArrayEquals(new String[]{"booking_status", "booking_customer"}, lookupDeserializer.getValuesType().getFieldNames());
+        assertEquals(Types.STRING, lookupDeserializer.getValuesType().getTypeAt(0));
+        assertEquals(Types.STRING, lookupDeserializer.getValuesType().getTypeAt(1));
+    }
+
+    @Test(expected = InvalidConfigurationException.class)
+    public void shouldThrowExceptionForUnknownKeyField() {
+        new LookupDeserializer(lookupSourceConfig("unknown_field"), stencilClientOrchestrator);
+    }
+}
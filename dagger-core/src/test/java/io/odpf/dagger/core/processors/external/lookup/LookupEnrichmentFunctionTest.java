@@ -0,0 +1,173 @@
+package io.odpf.dagger.core.processors.external.lookup;
+
+import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
+import io.odpf.dagger.core.exception.InvalidConfigurationException;
+import io.odpf.dagger.core.metrics.aspects.LookupSourceAspects;
+import io.odpf.dagger.core.processors.ColumnNameManager;
+import io.odpf.dagger.core.processors.common.RowManager;
+import org.apache.flink.api.common.state.BroadcastState;
+import org.apache.flink.api.common.state.MapStateDescriptor;
+import org.apache.flink.api.common.state.ReadOnlyBroadcastState;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.streaming.api.functions.co.BroadcastProcessFunction;
+import org.apache.flink.types.Row;
+import org.apache.flink.util.Collector;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class LookupEnrichmentFunctionTest {
+
+    @Mock
+    private MeterStatsManager meterStatsManager;
+
+    @Mock
+    private BroadcastProcessFunction<Row, Row, Row>.ReadOnlyContext readOnlyContext;
+
+    @Mock
+    private BroadcastProcessFunction<Row, Row, Row>.Context context;
+
+    @Mock
+    private ReadOnlyBroadcastState<String, Row> readOnlyEntries;
+
+    @Mock
+    private BroadcastState<String, Row> entries;
+
+    @Mock
+    private BroadcastState<String, String> recordKeys;
+
+    @Mock
+    private Collector<Row> collector;
+
+    private MapStateDescriptor<String, Row> entriesDescriptor;
+    private MapStateDescriptor<String, String> recordKeysDescriptor;
+    private LookupSourceConfig lookupSourceConfig;
+    private ColumnNameManager columnNameManager;
+
+    @Before
+    public void setUp() {
+        initMocks(this);
+        entriesDescriptor = new MapStateDescriptor<>("lookup_entries_metricId-lookup-01", Types.STRING, Types.ROW(Types.STRING));
+        recordKeysDescriptor = new MapStateDescriptor<>("lookup_record_keys_metricId-lookup-01", Types.STRING, Types.STRING);
+        Map<String, String> outputMapping = new HashMap<>();
+        outputMapping.put("merchant_tier", "tier");
+        lookupSourceConfig = new LookupSourceConfig("merchant-tiers", "localhost:9092", "", "io.odpf.MerchantTier", "merchant_id", "merchant-%s", "merchant_id", outputMapping, false, "metricId-lookup-01");
+        columnNameManager = new ColumnNameManager(new String[]{"order_number", "merchant_id"}, Arrays.asList("order_number", "merchant_tier"));
+        when(readOnlyContext.getBroadcastState(entriesDescriptor)).thenReturn(readOnlyEntries);
+        when(context.getBroadcastState(entriesDescriptor)).thenReturn(entries);
+        when(context.getBroadcastState(recordKeysDescriptor)).thenReturn(recordKeys);
+    }
+
+    private LookupEnrichmentFunction openFunction() throws Exception {
+        LookupEnrichmentFunction lookupEnrichmentFunction = new LookupEnrichmentFunction(lookupSourceConfig, columnNameManager, entriesDescriptor, recordKeysDescriptor, "metricId-lookup-01", meterStatsManager);
+        lookupEnrichmentFunction.open(new Configuration());
+        return lookupEnrichmentFunction;
+    }
+
+    private Row inputOutputRow(String merchantId) {
+        Row inputRow = new Row(2);
+        inputRow.setField(0, "order-1");
+        inputRow.setField(1, merchantId);
+        return new RowManager(inputRow, columnNameManager.getOutputSize()).getAll();
+    }
+
+    @Test
+    public void shouldRegisterLookupAspects() throws Exception {
+        openFunction();
+
+        verify(meterStatsManager).register("source_metricId", "LOOKUP.metricId-lookup-01", LookupSourceAspects.values());
+    }
+
+    @Test
+    public void shouldEnrichRowWithMatchingEntry() throws Exception {
+        LookupEnrichmentFunction lookupEnrichmentFunction = openFunction();
+        Row values = Row.of("GOLD");
+        when(readOnlyEntries.get("merchant-m1")).thenReturn(values);
+        Row row = inputOutputRow("m1");
+
+        lookupEnrichmentFunction.processElement(row, readOnlyContext, collector);
+
+        assertEquals("GOLD", new RowManager(row).getOutputData().getField(1));
+        verify(meterStatsManager).markEvent(LookupSourceAspects.LOOKUP_HITS);
+        verify(collector).collect(row);
+    }
+
+    @Test
+    public void shouldPassRowThroughWhenEntryIsMissing() throws Exception {
+        LookupEnrichmentFunction lookupEnrichmentFunction = openFunction();
+        Row row = inputOutputRow("m2");
+
+        lookupEnrichmentFunction.processElement(row, readOnlyContext, collector);
+
+        assertNull(new RowManager(row).getOutputData().getField(1));
+        verify(meterStatsManager).markEvent(LookupSourceAspects.LOOKUP_MISSES);
+        verify(collector).collect(row);
+    }
+
+    @Test
+    public void shouldNotLookUpRowsWithEmptyVariables() throws Exception {
+        LookupEnrichmentFunction lookupEnrichmentFunction = openFunction();
+        Row row = inputOutputRow(null);
+
+        lookupEnrichmentFunction.processElement(row, readOnlyContext, collector);
+
+        verify(meterStatsManager).markEvent(LookupSourceAspects.EMPTY_INPUT);
+        verify(readOnlyContext, never()).getBroadcastState(entriesDescriptor);
+        verify(collector).collect(row);
+    }
+
+    @Test
+    public void shouldPutEntryAndRememberItsRecordKey() throws Exception {
+        LookupEnrichmentFunction lookupEnrichmentFunction = openFunction();
+        Row values = Row.of("GOLD");
+
+        lookupEnrichmentFunction.processBroadcastElement(Row.of("a2V5", "merchant-m1", values), context, collector);
+
+        verify(recordKeys).put("a2V5", "merchant-m1");
+        verify(entries).put("merchant-m1", values);
+        verify(meterStatsManager).markEvent(LookupSourceAspects.LOOKUP_UPDATES);
+    }
+
+    @Test
+    public void shouldRemovePreviousEntryWhenLookupKeyOfRecordChanges() throws Exception {
+        LookupEnrichmentFunction lookupEnrichmentFunction = openFunction();
+        when(recordKeys.get("a2V5")).thenReturn("merchant-m1");
+
+        lookupEnrichmentFunction.processBroadcastElement(Row.of("a2V5", "merchant-m2", Row.of("SILVER")), context, collector);
+
+        verify(entries).remove("merchant-m1");
+        verify(recordKeys).put("a2V5", "merchant-m2");
+    }
+
+    @Test
+    public void shouldDeleteEntryOnTombstone() throws Exception {
+        LookupEnrichmentFunction lookupEnrichmentFunction = openFunction();
+        when(recordKeys.get("a2V5")).thenReturn("merchant-m1");
+
+        lookupEnrichmentFunction.processBroadcastElement(Row.of("a2V5", null, null), context, collector);
+
+        verify(recordKeys).remove("a2V5");
+        verify(entries).remove("merchant-m1");
+        verify(meterStatsManager).markEvent(LookupSourceAspects.LOOKUP_DELETES);
+    }
+
+    @Test(expected = InvalidConfigurationException.class)
+    public void shouldThrowExceptionWhenVariableColumnIsMissing() throws Exception {
+        columnNameManager = new ColumnNameManager(new String[]{"order_number"}, Collections.singletonList("merchant_tier"));
+
+        openFunction();
+    }
+}
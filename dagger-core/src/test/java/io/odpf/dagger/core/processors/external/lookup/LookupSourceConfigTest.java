@@ -0,0 +1,62 @@
+package io.odpf.dagger.core.processors.external.lookup;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.Assert.assertEquals;
+
+public class LookupSourceConfigTest {
+
+    private Map<String, String> outputMapping;
+
+    @Before
+    public void setUp() {
+        outputMapping = new LinkedHashMap<>();
+        outputMapping.put("merchant_tier", "tier");
+    }
+
+    @Test
+    public void shouldGetOutputColumnsAndMappedFields() {
+        LookupSourceConfig lookupSourceConfig = new LookupSourceConfig("merchant-tiers", "localhost:9092", "", "io.odpf.MerchantTier", "merchant_id", "", "merchant_id", outputMapping, false, "metricId-lookup-01");
+
+        assertEquals(Collections.singletonList("merchant_tier"), lookupSourceConfig.getOutputColumns());
+        assertEquals("tier", lookupSourceConfig.getMappedField("merchant_tier"));
+    }
+
+    @Test
+    public void shouldDefaultPatternToSingleVariable() {
+        LookupSourceConfig lookupSourceConfig = new LookupSourceConfig("merchant-tiers", "localhost:9092", "", "io.odpf.MerchantTier", "merchant_id", null, "merchant_id", outputMapping, false, "metricId-lookup-01");
+
+        assertEquals("%s", lookupSourceConfig.getPattern());
+    }
+
+    @Test
+    public void shouldConsumeFromEarliestWithDefaultGroupId() {
+        LookupSourceConfig lookupSourceConfig = new LookupSourceConfig("merchant-tiers", "localhost:9092", "", "io.odpf.MerchantTier", "merchant_id", "", "merchant_id", outputMapping, false, "metricId-lookup-01");
+
+        Properties properties = lookupSourceConfig.getConsumerProperties();
+
+        assertEquals("localhost:9092", properties.getProperty("bootstrap.servers"));
+        assertEquals("dagger-lookup-merchant-tiers", properties.getProperty("group.id"));
+        assertEquals("earliest", properties.getProperty("auto.offset.reset"));
+    }
+
+    @Test
+    public void shouldUseConfiguredGroupId() {
+        LookupSourceConfig lookupSourceConfig = new LookupSourceConfig("merchant-tiers", "localhost:9092", "lookup-group", "io.odpf.MerchantTier", "merchant_id", "", "merchant_id", outputMapping, false, "metricId-lookup-01");
+
+        assertEquals("lookup-group", lookupSourceConfig.getConsumerProperties().getProperty("group.id"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowExceptionWhenMandatoryFieldsAreMissing() {
+        LookupSourceConfig lookupSourceConfig = new LookupSourceConfig("merchant-tiers", "", "", "io.odpf.MerchantTier", null, "", "merchant_id", outputMapping, false, "metricId-lookup-01");
+
+        lookupSourceConfig.validateFields();
+    }
+}
@@ -46,15 +46,32 @@ public class InternalDecoratorTest {
     @Test
     public void shouldUpdateRowWhenOutputRowSizeIsNotEqualToColumnSize() {
         columnNameManager = new ColumnNameManager(new String[]{}, Arrays.asList("output1", "output2"));
+        Row inputRow = new Row(1);
         Row dataStreamRow = new Row(2);
+        dataStreamRow.setField(0, inputRow);
         dataStreamRow.setField(1, new Row(1));
         InternalConfigProcessor processorMock = mock(InternalConfigProcessor.class);
         InternalDecorator internalDecorator = new InternalDecorator(null, processorMock, columnNameManager);
 
-        internalDecorator.map(dataStreamRow);
-        Row outputRow = (Row) dataStreamRow.getField(1);
+        Row result = internalDecorator.map(dataStreamRow);
+        Row outputRow = (Row) result.getField(1);
 
         Assert.assertEquals(columnNameManager.getOutputSize(), outputRow.getArity());
-        verify(processorMock).process(new RowManager(dataStreamRow));
+        Assert.assertSame(inputRow, result.getField(0));
+        verify(processorMock).process(new RowManager(result));
+    }
+
+    @Test
+    public void shouldNotModifyIncomingRowWhenOutputRowSizeIsNotEqualToColumnSize() {
+        columnNameManager = new ColumnNameManager(new String[]{}, Arrays.asList("output1", "output2"));
+        Row incomingOutputRow = new Row(1);
+        Row dataStreamRow = new Row(2);
+        dataStreamRow.setField(0, new Row(1));
+        dataStreamRow.setField(1, incomingOutputRow);
+        InternalDecorator internalDecorator = new InternalDecorator(null, mock(InternalConfigProcessor.class), columnNameManager);
+
+        internalDecorator.map(dataStreamRow);
+
+        Assert.assertSame(incomingOutputRow, dataStreamRow.getField(1));
     }
 }
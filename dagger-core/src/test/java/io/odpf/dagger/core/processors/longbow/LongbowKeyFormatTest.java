@@ -0,0 +1,105 @@
+package io.odpf.dagger.core.processors.longbow;
+
+import io.odpf.dagger.core.exception.DaggerConfigurationException;
+import io.odpf.dagger.core.processors.longbow.storage.LongbowStore;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class LongbowKeyFormatTest {
+
+    @Mock
+    private LongbowStore longbowStore;
+
+    private String tableId = "tableId";
+
+    @Before
+    public void setup() {
+        initMocks(this);
+    }
+
+    @Test
+    public void shouldEncodeStringKeyWithDecimalReversedTimestamp() {
+        byte[] rowKey = LongbowKeyFormat.STRING.encode("driver1", 1000L);
+
+        assertEquals("driver1#" + (Long.MAX_VALUE - 1000L), Bytes.toString(rowKey));
+    }
+
+    @Test
+    public void shouldEncodeBinaryKeyWithEightByteReversedTimestamp() {
+        byte[] rowKey = LongbowKeyFormat.BINARY.encode("driver1", 1000L);
+
+        assertEquals(16, rowKey.length);
+        assertEquals("driver1#", Bytes.toString(rowKey, 0, 8));
+        assertEquals(Long.MAX_VALUE - 1000L, Bytes.toLong(rowKey, 8));
+    }
+
+    @Test
+    public void shouldSortNewerDocumentsFirstInBothFormats() {
+        for (LongbowKeyFormat keyFormat : LongbowKeyFormat.values()) {
+            byte[] newer = keyFormat.encode("driver1", 2000L);
+            byte[] older = keyFormat.encode("driver1", 1000L);
+
+            assertTrue(Bytes.compareTo(newer, older) < 0);
+        }
+    }
+
+    @Test
+    public void shouldFallBackToStringFormatWhenNotConfigured() {
+        assertEquals(LongbowKeyFormat.STRING, LongbowKeyFormat.from(null));
+        assertEquals(LongbowKeyFormat.STRING, LongbowKeyFormat.from(""));
+    }
+
+    @Test
+    public void shouldParseConfiguredFormatIgnoringCase() {
+        assertEquals(LongbowKeyFormat.BINARY, LongbowKeyFormat.from("binary"));
+    }
+
+    @Test(expected = DaggerConfigurationException.class)
+    public void shouldThrowExceptionForInvalidFormat() {
+        LongbowKeyFormat.from("HEX");
+    }
+
+    @Test
+    public void shouldResolveConfiguredFormatForNewTable() throws Exception {
+        when(longbowStore.tableExists(tableId)).thenReturn(false);
+
+        assertEquals(LongbowKeyFormat.BINARY, LongbowKeyFormat.resolve(longbowStore, tableId, LongbowKeyFormat.BINARY));
+    }
+
+    @Test
+    public void shouldResolveStringFormatForExistingTableWithoutMarker() throws Exception {
+        when(longbowStore.tableExists(tableId)).thenReturn(true);
+        when(longbowStore.getKeyFormat(tableId)).thenReturn(null);
+
+        assertEquals(LongbowKeyFormat.STRING, LongbowKeyFormat.resolve(longbowStore, tableId, LongbowKeyFormat.BINARY));
+    }
+
+    @Test
+    public void shouldResolveMarkedFormatForConcurrentlyCreatedTable() throws Exception {
+        when(longbowStore.getKeyFormat(tableId)).thenReturn(LongbowKeyFormat.BINARY);
+
+        assertEquals(LongbowKeyFormat.BINARY, LongbowKeyFormat.resolveCreated(longbowStore, tableId));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldThrowExceptionForConcurrentlyCreatedTableWithoutMarker() throws Exception {
+        when(longbowStore.getKeyFormat(tableId)).thenReturn(null);
+
+        LongbowKeyFormat.resolveCreated(longbowStore, tableId);
+    }
+
+    @Test
+    public void shouldResolveMarkedFormatForExistingTable() throws Exception {
+        when(longbowStore.tableExists(tableId)).thenReturn(true);
+        when(longbowStore.getKeyFormat(tableId)).thenReturn(LongbowKeyFormat.BINARY);
+
+        assertEquals(LongbowKeyFormat.BINARY, LongbowKeyFormat.resolve(longbowStore, tableId, LongbowKeyFormat.STRING));
+    }
+}
@@ -1,8 +1,10 @@
 package io.odpf.dagger.core.processors.longbow;
 
 import io.odpf.dagger.core.processors.longbow.columnmodifier.ColumnModifier;
+import io.odpf.dagger.core.utils.Constants;
 import org.apache.flink.configuration.Configuration;
 import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.streaming.api.datastream.KeyedStream;
 import org.apache.flink.streaming.api.functions.async.RichAsyncFunction;
 import org.apache.flink.types.Row;
 
@@ -33,6 +35,9 @@ public class LongbowProcessorTest {
     @Mock
     private ColumnModifier columnModifier;
 
+    @Mock
+    private KeyedStream<Row, String> keyedStream;
+
     @Before
     public void setup() {
         initMocks(this);
@@ -51,4 +56,49 @@ public class LongbowProcessorTest {
         verify(asyncProcessor, times(2))
                 .orderedWait(any(), any(), anyLong(), any(TimeUnit.class), anyInt());
     }
+
+    @Test
+    public void shouldKeyByLongbowKeyWhenCacheIsEnabled() {
+        String[] columnNames = {"rowtime", "longbow_key", "event_timestamp"};
+        RichAsyncFunction asyncFunction = mock(RichAsyncFunction.class);
+        ArrayList<RichAsyncFunction<Row, Row>> richAsyncFunctions = new ArrayList<>();
+        richAsyncFunctions.add(asyncFunction);
+        when(configuration.getBoolean(Constants.PROCESSOR_LONGBOW_CACHE_ENABLE_KEY, Constants.PROCESSOR_LONGBOW_CACHE_ENABLE_DEFAULT)).thenReturn(true);
+        when(dataStream.keyBy(any(LongbowKeySelector.class))).thenReturn(keyedStream);
+        LongbowProcessor longbowProcessor = new LongbowProcessor(asyncProcessor, configuration, richAsyncFunctions, columnModifier);
+
+        longbowProcessor.process(new StreamInfo(dataStream, columnNames));
+
+        verify(asyncProcessor, times(1))
+                .orderedWait(eq(keyedStream), any(), anyLong(), any(TimeUnit.class), anyInt());
+    }
+
+    @Test
+    public void shouldKeyByLongbowKeyWhenStoreIsLocal() {
+        String[] columnNames = {"rowtime", "longbow_key", "event_timestamp"};
+        RichAsyncFunction asyncFunction = mock(RichAsyncFunction.class);
+        ArrayList<RichAsyncFunction<Row, Row>> richAsyncFunctions = new ArrayList<>();
+        richAsyncFunctions.add(asyncFunction);
+        when(configuration.getString(Constants.PROCESSOR_LONGBOW_STORE_TYPE_KEY, Constants.PROCESSOR_LONGBOW_STORE_TYPE_DEFAULT)).thenReturn("LOCAL");
+        when(dataStream.keyBy(any(LongbowKeySelector.class))).thenReturn(keyedStream);
+        LongbowProcessor longbowProcessor = new LongbowProcessor(asyncProcessor, configuration, richAsyncFunctions, columnModifier);
+
+        longbowProcessor.process(new StreamInfo(dataStream, columnNames));
+
+        verify(asyncProcessor, times(1))
+                .orderedWait(eq(keyedStream), any(), anyLong(), any(TimeUnit.class), anyInt());
+    }
+
+    @Test
+    public void shouldNotKeyByLongbowKeyWhenCacheIsDisabled() {
+        String[] columnNames = {"rowtime", "longbow_key", "event_timestamp"};
+        RichAsyncFunction asyncFunction = mock(RichAsyncFunction.class);
+        ArrayList<RichAsyncFunction<Row, Row>> richAsyncFunctions = new ArrayList<>();
+        richAsyncFunctions.add(asyncFunction);
+        LongbowProcessor longbowProcessor = new LongbowProcessor(asyncProcessor, configuration, richAsyncFunctions, columnModifier);
+
+        longbowProcessor.process(new StreamInfo(dataStream, columnNames));
+
+        verify(dataStream, never()).keyBy(any(LongbowKeySelector.class));
+    }
 }
@@ -2,6 +2,7 @@ package io.odpf.dagger.core.processors.longbow;
 
 import io.odpf.dagger.core.processors.longbow.validator.LongbowType;
 import org.apache.flink.types.Row;
+import org.apache.hadoop.hbase.util.Bytes;
 
 import io.odpf.dagger.core.exception.DaggerConfigurationException;
 import io.odpf.dagger.core.exception.InvalidLongbowDurationException;
@@ -57,6 +58,17 @@ public class LongbowSchemaTest {
         assertEquals("driver1#" + expectedTimestamp, new String(rowKey));
     }
 
+    @Test
+    public void shouldReturnBinaryKeyForGivenInputAndTimestampWhenKeyFormatIsBinary() {
+        longBowSchema.setKeyFormat(LongbowKeyFormat.BINARY);
+
+        byte[] rowKey = longBowSchema.getAbsoluteKey(defaultRow, 1000L);
+
+        assertEquals(LongbowKeyFormat.BINARY.encode("driver1", 1000L).length, rowKey.length);
+        assertEquals("driver1#", new String(rowKey, 0, 8));
+        assertEquals(Long.MAX_VALUE - 1000L, Bytes.toLong(rowKey, 8));
+    }
+
     @Test
     public void shouldGetTheColumnSize() {
         assertEquals((Integer) 4, longBowSchema.getColumnSize());
@@ -0,0 +1,111 @@
+package io.odpf.dagger.core.processors.longbow.cache;
+
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class LongbowCacheTest {
+
+    private static final byte[] NEWEST_ROW = Bytes.toBytes("driver0#0");
+
+    @Test
+    public void shouldMissWhenNothingIsCachedForTheKey() {
+        LongbowCache longbowCache = new LongbowCache(10);
+
+        LongbowCache.Lookup lookup = longbowCache.lookup("driver0", row(2), row(5), NEWEST_ROW);
+
+        assertFalse(lookup.isComplete());
+        assertTrue(lookup.isEmpty());
+        assertArrayEquals(NEWEST_ROW, lookup.getUncachedStartRow());
+    }
+
+    @Test
+    public void shouldServeRangeWithinTheCachedWindow() {
+        LongbowCache longbowCache = new LongbowCache(10);
+        longbowCache.putAll("driver0", Arrays.asList(document(2), document(4), document(6)), NEWEST_ROW, row(6), NEWEST_ROW);
+
+        LongbowCache.Lookup lookup = longbowCache.lookup("driver0", row(2), row(5), NEWEST_ROW);
+
+        assertTrue(lookup.isComplete());
+        assertEquals(Arrays.asList("driver0#2", "driver0#4"), rows(lookup.merge(Collections.emptyList())));
+    }
+
+    @Test
+    public void shouldOnlyRequireTheUncachedPartOfTheRange() {
+        LongbowCache longbowCache = new LongbowCache(10);
+        longbowCache.putAll("driver0", Arrays.asList(document(2), document(4)), NEWEST_ROW, row(5), NEWEST_ROW);
+
+        LongbowCache.Lookup lookup = longbowCache.lookup("driver0", row(2), row(8), NEWEST_ROW);
+
+        assertFalse(lookup.isComplete());
+        assertFalse(lookup.isEmpty());
+        assertArrayEquals(row(5), lookup.getUncachedStartRow());
+        assertEquals(Arrays.asList("driver0#2", "driver0#4", "driver0#7"), rows(lookup.merge(Collections.singletonList(document(7)))));
+    }
+
+    @Test
+    public void shouldExtendTheWindowWithContiguousScans() {
+        LongbowCache longbowCache = new LongbowCache(10);
+        longbowCache.putAll("driver0", Collections.singletonList(document(2)), NEWEST_ROW, row(5), NEWEST_ROW);
+        longbowCache.putAll("driver0", Collections.singletonList(document(7)), row(5), row(8), NEWEST_ROW);
+
+        assertTrue(longbowCache.lookup("driver0", row(1), row(8), NEWEST_ROW).isComplete());
+    }
+
+    @Test
+    public void shouldNotExtendTheWindowWithScansNotStartingFromTheNewestRow() {
+        LongbowCache longbowCache = new LongbowCache(10);
+        longbowCache.putAll("driver0", Collections.singletonList(document(2)), row(1), row(5), NEWEST_ROW);
+
+        assertFalse(longbowCache.lookup("driver0", row(1), row(5), NEWEST_ROW).isComplete());
+    }
+
+    @Test
+    public void shouldTrimDocumentsOlderThanTheRange() {
+        LongbowCache longbowCache = new LongbowCache(10);
+        longbowCache.putAll("driver0", Arrays.asList(document(2), document(4), document(6)), NEWEST_ROW, row(8), NEWEST_ROW);
+
+        longbowCache.trim("driver0", row(4));
+
+        assertEquals(2, longbowCache.size());
+        assertFalse(longbowCache.lookup("driver0", row(2), row(6), NEWEST_ROW).isComplete());
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedKeysWhenFull() {
+        LongbowCache longbowCache = new LongbowCache(2);
+        longbowCache.putAll("driver0", Arrays.asList(document(2), document(4)), NEWEST_ROW, row(5), NEWEST_ROW);
+
+        longbowCache.put("driver1", document(3));
+
+        assertEquals(1, longbowCache.size());
+        assertTrue(longbowCache.lookup("driver0", row(2), row(4), NEWEST_ROW).isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotAllowNonPositiveSize() {
+        new LongbowCache(0);
+    }
+
+    private byte[] row(int reversedTimestamp) {
+        return Bytes.toBytes("driver0#" + reversedTimestamp);
+    }
+
+    private Result document(int reversedTimestamp) {
+        Cell cell = new KeyValue(row(reversedTimestamp), Bytes.toBytes("ts"), Bytes.toBytes("longbow_data1"), Bytes.toBytes("order" + reversedTimestamp));
+        return Result.create(new Cell[]{cell});
+    }
+
+    private List<String> rows(List<Result> results) {
+        return results.stream().map(result -> Bytes.toString(result.getRow())).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,78 @@
+package io.odpf.dagger.core.processors.longbow.data;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LongbowDataPackerTest {
+
+    private Map<String, List<Object>> columnsData;
+
+    @Before
+    public void setup() {
+        columnsData = new HashMap<>();
+        columnsData.put("longbow_data1", new ArrayList<>());
+        columnsData.put("longbow_data2", new ArrayList<>());
+        columnsData.put("longbow_data3", new ArrayList<>());
+    }
+
+    @Test
+    public void shouldKeepTheTypesOfPackedValues() {
+        columnsData.put("longbow_data4", new ArrayList<>());
+        columnsData.put("longbow_data5", new ArrayList<>());
+        columnsData.put("longbow_data6", new ArrayList<>());
+        List<String> columnNames = Arrays.asList("longbow_data1", "longbow_data2", "longbow_data3", "longbow_data4", "longbow_data5", "longbow_data6");
+
+        byte[] packed = LongbowDataPacker.pack(columnNames, Arrays.asList("RB-123", 42L, 7, 1.5D, 2.5F, true));
+        LongbowDataPacker.unpack(packed, columnsData);
+
+        assertEquals(Collections.singletonList("RB-123"), columnsData.get("longbow_data1"));
+        assertEquals(Collections.singletonList(42L), columnsData.get("longbow_data2"));
+        assertEquals(Collections.singletonList(7), columnsData.get("longbow_data3"));
+        assertEquals(Collections.singletonList(1.5D), columnsData.get("longbow_data4"));
+        assertEquals(Collections.singletonList(2.5F), columnsData.get("longbow_data5"));
+        assertEquals(Collections.singletonList(true), columnsData.get("longbow_data6"));
+    }
+
+    @Test
+    public void shouldAppendNullForColumnsMissingInThePackedCell() {
+        byte[] packed = LongbowDataPacker.pack(Arrays.asList("longbow_data1", "longbow_data2", "longbow_data9"), Arrays.asList(1.0D, null, 3.0D));
+
+        LongbowDataPacker.unpack(packed, columnsData);
+
+        assertEquals(Collections.singletonList(1.0D), columnsData.get("longbow_data1"));
+        assertEquals(Collections.singletonList(null), columnsData.get("longbow_data2"));
+        assertEquals(Collections.singletonList(null), columnsData.get("longbow_data3"));
+    }
+
+    @Test
+    public void shouldCompressLargeCells() {
+        StringBuilder repeated = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            repeated.append("order-status-completed;");
+        }
+
+        byte[] packed = LongbowDataPacker.pack(Collections.singletonList("longbow_data1"), Collections.singletonList(repeated.toString()));
+        LongbowDataPacker.unpack(packed, columnsData);
+
+        assertTrue(packed.length < repeated.length());
+        assertEquals(Collections.singletonList(repeated.toString()), columnsData.get("longbow_data1"));
+    }
+
+    @Test
+    public void shouldStoreNumbersInFixedWidth() {
+        byte[] packedNumber = LongbowDataPacker.pack(Collections.singletonList("longbow_data1"), Collections.singletonList(123456789.123D));
+        byte[] packedString = LongbowDataPacker.pack(Collections.singletonList("longbow_data1"), Collections.singletonList("123456789.123"));
+
+        assertTrue(packedNumber.length < packedString.length);
+    }
+}
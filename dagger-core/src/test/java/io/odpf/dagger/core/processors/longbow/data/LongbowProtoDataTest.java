@@ -7,6 +7,8 @@ import org.junit.Test;
 import org.mockito.Mock;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 import static io.odpf.dagger.core.utils.Constants.LONGBOW_COLUMN_FAMILY_DEFAULT;
 import static io.odpf.dagger.core.utils.Constants.LONGBOW_QUALIFIER_DEFAULT;
@@ -35,4 +37,17 @@ public class LongbowProtoDataTest {
         LongbowProtoData longbowProtoData = new LongbowProtoData();
         assertEquals(mockResult, longbowProtoData.parse(results).get("proto_data").get(0));
     }
+
+    @Test
+    public void shouldBuildProtoByteDataIncrementally() {
+        byte[] mockResult = Bytes.toBytes("test");
+        when(scanResult.getValue(COLUMN_FAMILY_NAME, Bytes.toBytes(LONGBOW_QUALIFIER_DEFAULT))).thenReturn(mockResult);
+        LongbowDataBuilder longbowDataBuilder = new LongbowProtoData().newBuilder();
+
+        longbowDataBuilder.add(scanResult);
+
+        Map<String, List<byte[]>> longbowData = longbowDataBuilder.build();
+        assertEquals(1, longbowData.get("proto_data").size());
+        assertEquals(mockResult, longbowData.get("proto_data").get(0));
+    }
 }
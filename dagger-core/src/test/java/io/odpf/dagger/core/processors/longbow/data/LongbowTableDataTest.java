@@ -40,7 +40,7 @@ public class LongbowTableDataTest {
 
         LongbowSchema longbowSchema = new LongbowSchema(columnNames);
         LongbowTableData longbowTableData = new LongbowTableData(longbowSchema);
-        Map<String, List<String>> actualData = longbowTableData.parse(scanResult);
+        Map<String, List<Object>> actualData = longbowTableData.parse(scanResult);
         Assert.assertEquals(Collections.emptyList(), actualData.get("longbow_data1"));
     }
 
@@ -52,10 +52,43 @@ public class LongbowTableDataTest {
 
         LongbowSchema longbowSchema = new LongbowSchema(columnNames);
         LongbowTableData longbowTableData = new LongbowTableData(longbowSchema);
-        Map<String, List<String>> actualData = longbowTableData.parse(scanResult);
+        Map<String, List<Object>> actualData = longbowTableData.parse(scanResult);
         Assert.assertEquals(Collections.singletonList("RB-234"), actualData.get("longbow_data1"));
     }
 
+    @Test
+    public void shouldBuildTheSameDataIncrementally() {
+        String[] columnNames = {"longbow_key", "longbow_data1", "rowtime", "longbow_duration", "longbow_data2"};
+        LongbowTableData longbowTableData = new LongbowTableData(new LongbowSchema(columnNames));
+
+        LongbowDataBuilder longbowDataBuilder = longbowTableData.newBuilder();
+        longbowDataBuilder.add(result1);
+        longbowDataBuilder.add(result2);
+
+        Assert.assertEquals(longbowTableData.parse(Arrays.asList(result1, result2)), longbowDataBuilder.build());
+    }
+
+    @Test
+    public void shouldBuildEmptyDataWhenNothingIsAdded() {
+        String[] columnNames = {"longbow_key", "longbow_data1", "rowtime", "longbow_duration"};
+        LongbowTableData longbowTableData = new LongbowTableData(new LongbowSchema(columnNames));
+
+        Assert.assertEquals(longbowTableData.parse(new ArrayList<>()), longbowTableData.newBuilder().build());
+    }
+
+    @Test
+    public void shouldDecodePackedDocumentsWithTheirTypes() {
+        String[] columnNames = {"longbow_key", "longbow_data1", "rowtime", "longbow_duration", "longbow_data2"};
+        byte[] packed = LongbowDataPacker.pack(Arrays.asList("longbow_data1", "longbow_data2"), Arrays.asList("RB-234", 10.5D));
+        when(result2.getValue(COLUMN_FAMILY_NAME, Bytes.toBytes("longbow_packed"))).thenReturn(packed);
+        LongbowTableData longbowTableData = new LongbowTableData(new LongbowSchema(columnNames));
+
+        Map<String, List<Object>> actualData = longbowTableData.parse(Arrays.asList(result1, result2));
+
+        Assert.assertEquals(Arrays.asList("RB-234", "RB-234"), actualData.get("longbow_data1"));
+        Assert.assertEquals(Arrays.asList("RB-235", 10.5D), actualData.get("longbow_data2"));
+    }
+
     @Test
     public void shouldReturnMultipleListOfStringWhenLongbowDataMoreThanOne() {
         List<Result> scanResult = new ArrayList<>();
@@ -65,7 +98,7 @@ public class LongbowTableDataTest {
 
         LongbowSchema longbowSchema = new LongbowSchema(columnNames);
         LongbowTableData longbowTableData = new LongbowTableData(longbowSchema);
-        Map<String, List<String>> actualData = longbowTableData.parse(scanResult);
+        Map<String, List<Object>> actualData = longbowTableData.parse(scanResult);
         Assert.assertEquals(Arrays.asList("RB-234", "RB-224"), actualData.get("longbow_data1"));
         Assert.assertEquals(Arrays.asList("RB-235", "RB-225"), actualData.get("longbow_data2"));
     }
@@ -79,7 +112,7 @@ public class LongbowTableDataTest {
 
         LongbowSchema longbowSchema = new LongbowSchema(columnNames);
         LongbowTableData longbowTableData = new LongbowTableData(longbowSchema);
-        Map<String, List<String>> actualData = longbowTableData.parse(scanResult);
+        Map<String, List<Object>> actualData = longbowTableData.parse(scanResult);
         Assert.assertEquals(2, actualData.size());
     }
 }
@@ -4,19 +4,31 @@ import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
 import io.odpf.dagger.core.metrics.reporters.ErrorReporter;
 import io.odpf.dagger.core.metrics.telemetry.TelemetrySubscriber;
 import io.odpf.dagger.core.processors.longbow.LongbowSchema;
+import io.odpf.dagger.core.processors.longbow.cache.LongbowCache;
 import io.odpf.dagger.core.processors.longbow.data.LongbowData;
+import io.odpf.dagger.core.processors.longbow.data.LongbowDataBuilder;
 import io.odpf.dagger.core.processors.longbow.exceptions.LongbowReaderException;
 import io.odpf.dagger.core.processors.longbow.outputRow.ReaderOutputRow;
 import io.odpf.dagger.core.processors.longbow.range.LongbowAbsoluteRange;
+import io.odpf.dagger.core.processors.longbow.range.LongbowDurationRange;
 import io.odpf.dagger.core.processors.longbow.request.ScanRequestFactory;
+import io.odpf.dagger.core.processors.longbow.storage.LongbowScanCoalescer;
 import io.odpf.dagger.core.processors.longbow.storage.LongbowStore;
+import io.odpf.dagger.core.processors.longbow.storage.ScanLimit;
 import io.odpf.dagger.core.processors.longbow.storage.ScanRequest;
+import io.odpf.dagger.core.processors.longbow.storage.ScanSummary;
 import org.apache.flink.configuration.Configuration;
+import org.apache.flink.runtime.state.FunctionInitializationContext;
 import org.apache.flink.streaming.api.functions.async.ResultFuture;
 import org.apache.flink.types.Row;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.util.Bytes;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 
 import java.sql.Timestamp;
@@ -27,6 +39,8 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import static io.odpf.dagger.core.metrics.aspects.LongbowReaderAspects.*;
 import static io.odpf.dagger.core.utils.Constants.*;
@@ -54,6 +68,12 @@ public class LongbowReaderTest {
     private TelemetrySubscriber telemetrySubscriber;
     @Mock
     private ReaderOutputRow readerOutputRow;
+    @Mock
+    private LongbowDataBuilder longbowDataBuilder;
+    @Mock
+    private LongbowScanCoalescer scanCoalescer;
+    @Mock
+    private FunctionInitializationContext functionInitializationContext;
     private LongbowSchema defaultLongBowSchema;
     private Timestamp currentTimestamp;
     private ScanRequestFactory scanRequestFactory;
@@ -70,13 +90,14 @@ public class LongbowReaderTest {
         String[] columnNames = {"longbow_key", "longbow_data1", "rowtime", "longbow_duration"};
         defaultLongBowSchema = new LongbowSchema(columnNames);
         scanRequestFactory = new ScanRequestFactory(defaultLongBowSchema, tableId);
+        when(longbowData.newBuilder()).thenReturn(longbowDataBuilder);
     }
 
     @Test
     public void shouldCaptureExceptionWithStatsDManagerOnReadDocumentFailure() throws Exception {
         Row input = getRow("driver0", "order1", currentTimestamp, "24h");
         LongbowReader longBowReader = new LongbowReader(configuration, defaultLongBowSchema, longbowAbsoluteRow, longBowStore, meterStatsManager, errorReporter, longbowData, scanRequestFactory, readerOutputRow);
-        when(longBowStore.scanAll(any(ScanRequest.class))).thenReturn(CompletableFuture.supplyAsync(() -> {
+        when(longBowStore.scan(any(ScanRequest.class), any(ScanLimit.class), any())).thenReturn(CompletableFuture.supplyAsync(() -> {
             throw new RuntimeException();
         }));
 
@@ -157,6 +178,161 @@ public class LongbowReaderTest {
         verify(resultFuture, times(1)).completeExceptionally(any(TimeoutException.class));
     }
 
+    @Test
+    public void shouldServeReadsFromCacheOnceTheRangeIsCached() throws Exception {
+        LongbowReader longBowReader = new LongbowReader(configuration, defaultLongBowSchema, new LongbowDurationRange(defaultLongBowSchema), longBowStore, meterStatsManager, errorReporter, longbowData, scanRequestFactory, readerOutputRow, new LongbowCache(100));
+        when(longBowStore.scan(any(ScanRequest.class), any(ScanLimit.class), any())).thenReturn(CompletableFuture.completedFuture(ScanSummary.empty()));
+        Timestamp laterTimestamp = new Timestamp(currentTimestamp.getTime() + TimeUnit.MINUTES.toMillis(1));
+
+        longBowReader.open(configuration);
+        longBowReader.asyncInvoke(getRow("driver0", "order1", currentTimestamp, "1h"), resultFuture);
+        longBowReader.asyncInvoke(getRow("driver0", "order2", laterTimestamp, "1h"), resultFuture);
+
+        verify(longBowStore, times(1)).scan(any(ScanRequest.class), any(ScanLimit.class), any());
+        verify(meterStatsManager, times(1)).markEvent(CACHE_MISS_ON_READ_DOCUMENT);
+        verify(meterStatsManager, times(1)).markEvent(CACHE_HIT_ON_READ_DOCUMENT);
+        verify(resultFuture, times(2)).complete(any());
+    }
+
+    @Test
+    public void shouldOnlyScanTheUncachedPartOfTheRange() throws Exception {
+        LongbowReader longBowReader = new LongbowReader(configuration, defaultLongBowSchema, new LongbowDurationRange(defaultLongBowSchema), longBowStore, meterStatsManager, errorReporter, longbowData, scanRequestFactory, readerOutputRow, new LongbowCache(100));
+        when(longBowStore.scan(any(ScanRequest.class), any(ScanLimit.class), any())).thenReturn(CompletableFuture.completedFuture(ScanSummary.empty()));
+        Row firstInput = getRow("driver0", "order1", currentTimestamp, "1h");
+        Row secondInput = getRow("driver0", "order2", currentTimestamp, "24h");
+
+        longBowReader.open(configuration);
+        longBowReader.asyncInvoke(firstInput, resultFuture);
+        longBowReader.asyncInvoke(secondInput, resultFuture);
+
+        ArgumentCaptor<ScanRequest> scanRequestCaptor = ArgumentCaptor.forClass(ScanRequest.class);
+        verify(longBowStore, times(2)).scan(scanRequestCaptor.capture(), any(ScanLimit.class), any());
+        Assert.assertArrayEquals(defaultLongBowSchema.getKey(firstInput, TimeUnit.HOURS.toMillis(1)), scanRequestCaptor.getAllValues().get(1).get().getStartRow());
+        Assert.assertArrayEquals(defaultLongBowSchema.getKey(secondInput, TimeUnit.HOURS.toMillis(24)), scanRequestCaptor.getAllValues().get(1).get().getStopRow());
+        verify(meterStatsManager, times(1)).markEvent(CACHE_PARTIAL_HIT_ON_READ_DOCUMENT);
+    }
+
+    @Test
+    public void shouldNotUseCacheWhenNotEnabled() throws Exception {
+        LongbowReader longBowReader = new LongbowReader(configuration, defaultLongBowSchema, new LongbowDurationRange(defaultLongBowSchema), longBowStore, meterStatsManager, errorReporter, longbowData, scanRequestFactory, readerOutputRow);
+        when(longBowStore.scan(any(ScanRequest.class), any(ScanLimit.class), any())).thenReturn(CompletableFuture.completedFuture(ScanSummary.empty()));
+
+        longBowReader.open(configuration);
+        longBowReader.asyncInvoke(getRow("driver0", "order1", currentTimestamp, "1h"), resultFuture);
+        longBowReader.asyncInvoke(getRow("driver0", "order2", currentTimestamp, "1h"), resultFuture);
+
+        verify(longBowStore, times(2)).scan(any(ScanRequest.class), any(ScanLimit.class), any());
+        verify(meterStatsManager, never()).markEvent(CACHE_MISS_ON_READ_DOCUMENT);
+    }
+
+    @Test
+    public void shouldFeedScannedRowsIntoTheDataBuilder() throws Exception {
+        LongbowReader longBowReader = new LongbowReader(configuration, defaultLongBowSchema, new LongbowDurationRange(defaultLongBowSchema), longBowStore, meterStatsManager, errorReporter, longbowData, scanRequestFactory, readerOutputRow);
+        Row input = getRow("driver0", "order1", currentTimestamp, "1h");
+        Result result = Result.create(new Cell[]{new KeyValue(defaultLongBowSchema.getKey(input, 0), Bytes.toBytes("ts"), Bytes.toBytes("longbow_data1"), Bytes.toBytes("order1"))});
+        HashMap<String, List<String>> data = new HashMap<>();
+        when(longbowDataBuilder.build()).thenReturn(data);
+        when(longBowStore.scan(any(ScanRequest.class), any(ScanLimit.class), any())).thenAnswer(invocation -> {
+            Consumer<Result> consumer = invocation.getArgument(2);
+            consumer.accept(result);
+            return CompletableFuture.completedFuture(new ScanSummary(1, result.getRow(), result.getRow(), false));
+        });
+
+        longBowReader.open(configuration);
+        longBowReader.asyncInvoke(input, resultFuture);
+
+        verify(longbowDataBuilder, times(1)).add(result);
+        verify(longbowData, never()).parse(any());
+        verify(readerOutputRow, times(1)).get(data, input);
+        verify(meterStatsManager, times(1)).updateHistogram(DOCUMENTS_READ_PER_SCAN, 1);
+        verify(meterStatsManager, never()).markEvent(FAILED_TO_READ_LAST_RECORD);
+        verify(meterStatsManager, never()).markEvent(TRUNCATED_ON_READ_DOCUMENT);
+    }
+
+    @Test
+    public void shouldPassConfiguredLimitToTheScanAndMarkTruncatedReads() throws Exception {
+        when(configuration.getInteger(PROCESSOR_LONGBOW_READ_MAX_ROWS_KEY, PROCESSOR_LONGBOW_READ_MAX_ROWS_DEFAULT)).thenReturn(2);
+        LongbowReader longBowReader = new LongbowReader(configuration, defaultLongBowSchema, new LongbowDurationRange(defaultLongBowSchema), longBowStore, meterStatsManager, errorReporter, longbowData, scanRequestFactory, readerOutputRow);
+        when(longBowStore.scan(any(ScanRequest.class), any(ScanLimit.class), any()))
+                .thenReturn(CompletableFuture.completedFuture(new ScanSummary(2, new byte[0], new byte[0], true)));
+
+        longBowReader.open(configuration);
+        longBowReader.asyncInvoke(getRow("driver0", "order1", currentTimestamp, "1h"), resultFuture);
+
+        ArgumentCaptor<ScanLimit> scanLimitCaptor = ArgumentCaptor.forClass(ScanLimit.class);
+        verify(longBowStore, times(1)).scan(any(ScanRequest.class), scanLimitCaptor.capture(), any());
+        Assert.assertEquals(2, scanLimitCaptor.getValue().getMaxRows());
+        verify(meterStatsManager, times(1)).markEvent(TRUNCATED_ON_READ_DOCUMENT);
+        verify(resultFuture, times(1)).complete(any());
+    }
+
+    @Test
+    public void shouldLimitReadsServedFromCache() throws Exception {
+        when(configuration.getInteger(PROCESSOR_LONGBOW_READ_MAX_ROWS_KEY, PROCESSOR_LONGBOW_READ_MAX_ROWS_DEFAULT)).thenReturn(1);
+        LongbowReader longBowReader = new LongbowReader(configuration, defaultLongBowSchema, new LongbowDurationRange(defaultLongBowSchema), longBowStore, meterStatsManager, errorReporter, longbowData, scanRequestFactory, readerOutputRow, new LongbowCache(100));
+        when(longBowStore.scan(any(ScanRequest.class), any(ScanLimit.class), any())).thenReturn(CompletableFuture.completedFuture(ScanSummary.empty()));
+        Timestamp laterTimestamp = new Timestamp(currentTimestamp.getTime() + TimeUnit.MINUTES.toMillis(1));
+
+        longBowReader.open(configuration);
+        longBowReader.asyncInvoke(getRow("driver0", "order1", currentTimestamp, "1h"), resultFuture);
+        longBowReader.asyncInvoke(getRow("driver0", "order2", laterTimestamp, "1h"), resultFuture);
+
+        verify(meterStatsManager, times(1)).markEvent(CACHE_HIT_ON_READ_DOCUMENT);
+        verify(meterStatsManager, times(1)).markEvent(TRUNCATED_ON_READ_DOCUMENT);
+        verify(longbowData, times(1)).parse(argThat(scanResult -> scanResult.size() == 1 && Bytes.toString(scanResult.get(0).getValue(Bytes.toBytes("ts"), Bytes.toBytes("longbow_data1"))).equals("order2")));
+    }
+
+    @Test
+    public void shouldReadThroughTheScanCoalescerWhenGiven() throws Exception {
+        LongbowReader longBowReader = new LongbowReader(configuration, defaultLongBowSchema, new LongbowDurationRange(defaultLongBowSchema), longBowStore, meterStatsManager, errorReporter, longbowData, scanRequestFactory, readerOutputRow, scanCoalescer);
+        Row input = getRow("driver0", "order1", currentTimestamp, "1h");
+        when(scanCoalescer.scan(eq("driver0"), any(), any(), any())).thenReturn(CompletableFuture.completedFuture(new ArrayList<>()));
+
+        longBowReader.open(configuration);
+        longBowReader.asyncInvoke(input, resultFuture);
+        longBowReader.close();
+
+        verify(scanCoalescer, times(1)).scan(eq("driver0"), aryEq(defaultLongBowSchema.getKey(input, 0)), aryEq(defaultLongBowSchema.getKey(input, TimeUnit.HOURS.toMillis(1))), any());
+        verify(longBowStore, never()).scan(any(ScanRequest.class), any(ScanLimit.class), any());
+        verify(resultFuture, times(1)).complete(any());
+        verify(scanCoalescer, times(1)).close();
+    }
+
+    @Test
+    public void shouldMarkReadsMissingHistoryAfterRestoringOnLocalStore() throws Exception {
+        when(configuration.getString(PROCESSOR_LONGBOW_STORE_TYPE_KEY, PROCESSOR_LONGBOW_STORE_TYPE_DEFAULT)).thenReturn(PROCESSOR_LONGBOW_STORE_TYPE_LOCAL);
+        when(functionInitializationContext.isRestored()).thenReturn(true);
+        LongbowReader longBowReader = new LongbowReader(configuration, defaultLongBowSchema, new LongbowDurationRange(defaultLongBowSchema), longBowStore, meterStatsManager, errorReporter, longbowData, scanRequestFactory, readerOutputRow);
+        Row firstInput = getRow("driver0", "order1", currentTimestamp, "1h");
+        Row secondInput = getRow("driver0", "order2", new Timestamp(currentTimestamp.getTime() + TimeUnit.MINUTES.toMillis(1)), "1h");
+        byte[] currentRow = defaultLongBowSchema.getKey(firstInput, 0);
+        byte[] olderRow = defaultLongBowSchema.getKey(firstInput, TimeUnit.MINUTES.toMillis(10));
+        when(longBowStore.scan(any(ScanRequest.class), any(ScanLimit.class), any()))
+                .thenReturn(CompletableFuture.completedFuture(new ScanSummary(1, currentRow, currentRow, false)))
+                .thenReturn(CompletableFuture.completedFuture(new ScanSummary(2, currentRow, olderRow, false)));
+
+        longBowReader.initializeState(functionInitializationContext);
+        longBowReader.open(configuration);
+        longBowReader.asyncInvoke(firstInput, resultFuture);
+        longBowReader.asyncInvoke(secondInput, resultFuture);
+
+        verify(meterStatsManager, times(1)).markEvent(MISSING_HISTORY_AFTER_RESTORE);
+    }
+
+    @Test
+    public void shouldNotMarkMissingHistoryWhenNotRestored() throws Exception {
+        when(configuration.getString(PROCESSOR_LONGBOW_STORE_TYPE_KEY, PROCESSOR_LONGBOW_STORE_TYPE_DEFAULT)).thenReturn(PROCESSOR_LONGBOW_STORE_TYPE_LOCAL);
+        when(functionInitializationContext.isRestored()).thenReturn(false);
+        LongbowReader longBowReader = new LongbowReader(configuration, defaultLongBowSchema, new LongbowDurationRange(defaultLongBowSchema), longBowStore, meterStatsManager, errorReporter, longbowData, scanRequestFactory, readerOutputRow);
+        when(longBowStore.scan(any(ScanRequest.class), any(ScanLimit.class), any())).thenReturn(CompletableFuture.completedFuture(ScanSummary.empty()));
+
+        longBowReader.initializeState(functionInitializationContext);
+        longBowReader.open(configuration);
+        longBowReader.asyncInvoke(getRow("driver0", "order1", currentTimestamp, "1h"), resultFuture);
+
+        verify(meterStatsManager, never()).markEvent(MISSING_HISTORY_AFTER_RESTORE);
+    }
+
     private Row getRow(Object... dataList) {
         Row input = new Row(dataList.length);
         for (int i = 0; i < dataList.length; i++) {
@@ -4,6 +4,7 @@ import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
 import io.odpf.dagger.core.metrics.aspects.LongbowWriterAspects;
 import io.odpf.dagger.core.metrics.reporters.ErrorReporter;
 import io.odpf.dagger.core.metrics.telemetry.TelemetrySubscriber;
+import io.odpf.dagger.core.processors.longbow.LongbowKeyFormat;
 import io.odpf.dagger.core.processors.longbow.LongbowSchema;
 import io.odpf.dagger.core.processors.longbow.exceptions.LongbowWriterException;
 import io.odpf.dagger.core.processors.longbow.outputRow.OutputIdentity;
@@ -12,6 +13,7 @@ import io.odpf.dagger.core.processors.longbow.request.PutRequestFactory;
 import io.odpf.dagger.core.processors.longbow.storage.LongbowStore;
 import io.odpf.dagger.core.processors.longbow.storage.PutRequest;
 import io.odpf.dagger.core.sink.ProtoSerializer;
+import io.odpf.dagger.core.utils.Constants;
 import org.apache.flink.api.common.functions.RuntimeContext;
 import org.apache.flink.configuration.Configuration;
 import org.apache.flink.streaming.api.functions.async.ResultFuture;
@@ -95,7 +97,7 @@ public class LongbowWriterTest {
 
         long nintyDays = (long) 90 * 24 * 60 * 60 * 1000;
         verify(longBowStore, times(1)).tableExists(tableId);
-        verify(longBowStore, times(1)).createTable(Duration.ofMillis(nintyDays), "ts", tableId);
+        verify(longBowStore, times(1)).createTable(Duration.ofMillis(nintyDays), "ts", tableId, LongbowKeyFormat.STRING);
         verify(meterStatsManager, times(1)).markEvent(LongbowWriterAspects.SUCCESS_ON_CREATE_BIGTABLE);
         verify(meterStatsManager, times(1))
                 .updateHistogram(eq(LongbowWriterAspects.SUCCESS_ON_CREATE_BIGTABLE_RESPONSE_TIME), any(Long.class));
@@ -109,12 +111,67 @@ public class LongbowWriterTest {
 
         long nintyDays = (long) 90 * 24 * 60 * 60 * 1000;
         verify(longBowStore, times(1)).tableExists(tableId);
-        verify(longBowStore, times(0)).createTable(Duration.ofMillis(nintyDays), "ts", tableId);
+        verify(longBowStore, times(0)).createTable(Duration.ofMillis(nintyDays), "ts", tableId, LongbowKeyFormat.STRING);
         verify(meterStatsManager, times(0)).markEvent(LongbowWriterAspects.SUCCESS_ON_CREATE_BIGTABLE);
         verify(meterStatsManager, times(0))
                 .updateHistogram(eq(LongbowWriterAspects.SUCCESS_ON_CREATE_BIGTABLE_RESPONSE_TIME), any(Long.class));
     }
 
+    @Test
+    public void shouldMarkNewTableWithConfiguredKeyFormat() throws Exception {
+        when(configuration.getString(Constants.PROCESSOR_LONGBOW_KEY_FORMAT_KEY, Constants.PROCESSOR_LONGBOW_KEY_FORMAT_DEFAULT)).thenReturn("BINARY");
+        when(longBowStore.tableExists(tableId)).thenReturn(false);
+
+        defaultLongbowWriter.open(configuration);
+
+        verify(longBowStore, times(1)).createTable(any(Duration.class), eq("ts"), eq(tableId), eq(LongbowKeyFormat.BINARY));
+        Assert.assertEquals(LongbowKeyFormat.BINARY, defaultLongbowSchema.getKeyFormat());
+    }
+
+    @Test
+    public void shouldUseKeyFormatMarkerOfTableCreatedConcurrently() throws Exception {
+        when(configuration.getString(Constants.PROCESSOR_LONGBOW_KEY_FORMAT_KEY, Constants.PROCESSOR_LONGBOW_KEY_FORMAT_DEFAULT)).thenReturn("STRING");
+        when(longBowStore.tableExists(tableId)).thenReturn(false, true);
+        doThrow(new RuntimeException("table already exists")).when(longBowStore).createTable(any(Duration.class), eq("ts"), eq(tableId), eq(LongbowKeyFormat.STRING));
+        when(longBowStore.getKeyFormat(tableId)).thenReturn(LongbowKeyFormat.BINARY);
+
+        defaultLongbowWriter.open(configuration);
+
+        Assert.assertEquals(LongbowKeyFormat.BINARY, defaultLongbowSchema.getKeyFormat());
+        verify(meterStatsManager, never()).markEvent(LongbowWriterAspects.FAILURES_ON_CREATE_BIGTABLE);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldFailForTableCreatedConcurrentlyWithoutKeyFormatMarker() throws Exception {
+        when(longBowStore.tableExists(tableId)).thenReturn(false, true);
+        doThrow(new RuntimeException("table already exists")).when(longBowStore).createTable(any(Duration.class), eq("ts"), eq(tableId), eq(LongbowKeyFormat.STRING));
+        when(longBowStore.getKeyFormat(tableId)).thenReturn(null);
+
+        defaultLongbowWriter.open(configuration);
+    }
+
+    @Test
+    public void shouldUseStringKeyFormatForExistingTableWithoutMarker() throws Exception {
+        when(configuration.getString(Constants.PROCESSOR_LONGBOW_KEY_FORMAT_KEY, Constants.PROCESSOR_LONGBOW_KEY_FORMAT_DEFAULT)).thenReturn("BINARY");
+        when(longBowStore.tableExists(tableId)).thenReturn(true);
+        when(longBowStore.getKeyFormat(tableId)).thenReturn(null);
+
+        defaultLongbowWriter.open(configuration);
+
+        verify(longBowStore, never()).createTable(any(Duration.class), anyString(), anyString(), any(LongbowKeyFormat.class));
+        Assert.assertEquals(LongbowKeyFormat.STRING, defaultLongbowSchema.getKeyFormat());
+    }
+
+    @Test
+    public void shouldUseKeyFormatOfExistingTableMarker() throws Exception {
+        when(longBowStore.tableExists(tableId)).thenReturn(true);
+        when(longBowStore.getKeyFormat(tableId)).thenReturn(LongbowKeyFormat.BINARY);
+
+        defaultLongbowWriter.open(configuration);
+
+        Assert.assertEquals(LongbowKeyFormat.BINARY, defaultLongbowSchema.getKeyFormat());
+    }
+
     @Test
     public void shouldWriteToBigTable() throws Exception {
         Row input = new Row(4);
@@ -135,12 +192,48 @@ public class LongbowWriterTest {
                 .updateHistogram(eq(LongbowWriterAspects.SUCCESS_ON_WRITE_DOCUMENT_RESPONSE_TIME), any(Long.class));
     }
 
+    @Test
+    public void shouldWriteToBigTableInBatchesWhenEnabled() throws Exception {
+        enableBatching(2);
+        when(longBowStore.tableExists(tableId)).thenReturn(true);
+        when(longBowStore.putAll(eq(tableId), anyList())).thenReturn(CompletableFuture.completedFuture(null));
+        Row firstInput = getRow(longbowKey, longbowData1, longbowDuration, longbowRowtime);
+        Row secondInput = getRow(longbowKey, "RB-1234", longbowDuration, longbowRowtime);
+
+        defaultLongbowWriter.open(configuration);
+        defaultLongbowWriter.asyncInvoke(firstInput, resultFuture);
+        verify(longBowStore, never()).putAll(anyString(), anyList());
+        defaultLongbowWriter.asyncInvoke(secondInput, resultFuture);
+
+        verify(longBowStore, times(1)).putAll(eq(tableId), argThat(puts -> puts.size() == 2));
+        verify(longBowStore, never()).put(any(PutRequest.class));
+        verify(resultFuture, times(1)).complete(Collections.singletonList(firstInput));
+        verify(resultFuture, times(1)).complete(Collections.singletonList(secondInput));
+        verify(meterStatsManager, times(1)).updateHistogram(LongbowWriterAspects.DOCUMENTS_WRITTEN_PER_BATCH, 2L);
+    }
+
+    @Test
+    public void shouldFlushPendingBatchOnCheckpoint() throws Exception {
+        enableBatching(100);
+        when(longBowStore.tableExists(tableId)).thenReturn(true);
+        when(longBowStore.putAll(eq(tableId), anyList())).thenReturn(CompletableFuture.completedFuture(null));
+        Row input = getRow(longbowKey, longbowData1, longbowDuration, longbowRowtime);
+
+        defaultLongbowWriter.open(configuration);
+        defaultLongbowWriter.asyncInvoke(input, resultFuture);
+        verify(resultFuture, never()).complete(any());
+        defaultLongbowWriter.snapshotState(null);
+
+        verify(longBowStore, times(1)).putAll(eq(tableId), argThat(puts -> puts.size() == 1));
+        verify(resultFuture, times(1)).complete(Collections.singletonList(input));
+    }
+
     @Test(expected = RuntimeException.class)
     public void shouldCaptureExceptionWithStatsDManagerAndRethrowExceptionOnCreateTableFailure() throws Exception {
         long nintyDays = (long) 90 * 24 * 60 * 60 * 1000;
 
         when(longBowStore.tableExists(tableId)).thenReturn(false);
-        doThrow(new RuntimeException()).when(longBowStore).createTable(Duration.ofMillis(nintyDays), "ts", tableId);
+        doThrow(new RuntimeException()).when(longBowStore).createTable(Duration.ofMillis(nintyDays), "ts", tableId, LongbowKeyFormat.STRING);
 
         defaultLongbowWriter.open(configuration);
 
@@ -251,4 +344,19 @@ public class LongbowWriterTest {
         verify(longBowStore, times(1)).close();
         verify(meterStatsManager, times(1)).markEvent(LongbowWriterAspects.CLOSE_CONNECTION_ON_WRITER);
     }
+
+    private void enableBatching(int maxDocuments) {
+        when(configuration.getBoolean(Constants.PROCESSOR_LONGBOW_WRITE_BATCH_ENABLE_KEY, Constants.PROCESSOR_LONGBOW_WRITE_BATCH_ENABLE_DEFAULT)).thenReturn(true);
+        when(configuration.getInteger(Constants.PROCESSOR_LONGBOW_WRITE_BATCH_MAX_DOCUMENTS_KEY, Constants.PROCESSOR_LONGBOW_WRITE_BATCH_MAX_DOCUMENTS_DEFAULT)).thenReturn(maxDocuments);
+        when(configuration.getLong(Constants.PROCESSOR_LONGBOW_WRITE_BATCH_MAX_BYTES_KEY, Constants.PROCESSOR_LONGBOW_WRITE_BATCH_MAX_BYTES_DEFAULT)).thenReturn(Constants.PROCESSOR_LONGBOW_WRITE_BATCH_MAX_BYTES_DEFAULT);
+        when(configuration.getLong(Constants.PROCESSOR_LONGBOW_WRITE_BATCH_LINGER_MS_KEY, Constants.PROCESSOR_LONGBOW_WRITE_BATCH_LINGER_MS_DEFAULT)).thenReturn(60000L);
+    }
+
+    private Row getRow(Object... dataList) {
+        Row input = new Row(dataList.length);
+        for (int i = 0; i < dataList.length; i++) {
+            input.setField(i, dataList[i]);
+        }
+        return input;
+    }
 }
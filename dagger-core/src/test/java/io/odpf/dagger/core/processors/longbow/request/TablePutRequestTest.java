@@ -1,8 +1,11 @@
 package io.odpf.dagger.core.processors.longbow.request;
 
 import io.odpf.dagger.core.processors.longbow.LongbowSchema;
+import io.odpf.dagger.core.processors.longbow.data.LongbowDataEncoding;
+import io.odpf.dagger.core.processors.longbow.data.LongbowDataPacker;
 import org.apache.flink.types.Row;
 
+import org.apache.hadoop.hbase.CellUtil;
 import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.util.Bytes;
 import org.junit.Assert;
@@ -10,6 +13,11 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import static org.mockito.MockitoAnnotations.initMocks;
 
@@ -70,4 +78,28 @@ public class TablePutRequestTest {
         Assert.assertEquals(expectedPut.get(Bytes.toBytes("ts"), Bytes.toBytes("longbow_data2")),
                 tablePutRequest.get().get(Bytes.toBytes("ts"), Bytes.toBytes("longbow_data2")));
     }
+
+    @Test
+    public void shouldPackTypedDataColumnsIntoOneCellWhenEncodingIsPacked() {
+        final String[] columnNames = {"longbow_key", "longbow_data1", "longbow_duration", "rowtime", "longbow_data2"};
+        final Row input = new Row(5);
+        input.setField(0, longbowKey);
+        input.setField(1, longbowData1);
+        input.setField(2, longbowDuration);
+        input.setField(3, longbowRowtime);
+        input.setField(4, 12.5D);
+
+        final LongbowSchema longbowSchema = new LongbowSchema(columnNames);
+        final Put put = new TablePutRequest(longbowSchema, input, tableId, LongbowDataEncoding.PACKED).get();
+
+        Assert.assertEquals(1, put.size());
+        Assert.assertTrue(put.get(Bytes.toBytes("ts"), Bytes.toBytes("longbow_data1")).isEmpty());
+        byte[] packed = CellUtil.cloneValue(put.get(Bytes.toBytes("ts"), Bytes.toBytes("longbow_packed")).get(0));
+        Map<String, List<Object>> columnsData = new HashMap<>();
+        columnsData.put("longbow_data1", new ArrayList<>());
+        columnsData.put("longbow_data2", new ArrayList<>());
+        LongbowDataPacker.unpack(packed, columnsData);
+        Assert.assertEquals(Arrays.asList(longbowData1), columnsData.get("longbow_data1"));
+        Assert.assertEquals(Arrays.asList(12.5D), columnsData.get("longbow_data2"));
+    }
 }
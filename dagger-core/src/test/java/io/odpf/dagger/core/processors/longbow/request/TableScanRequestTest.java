@@ -48,6 +48,7 @@ public class TableScanRequestTest {
         expectedScan.withStartRow(startRow, true);
         expectedScan.withStopRow(endRow, true);
         expectedScan.addColumn(Bytes.toBytes("ts"), Bytes.toBytes("longbow_data1"));
+        expectedScan.addColumn(Bytes.toBytes("ts"), Bytes.toBytes("longbow_packed"));
         Assert.assertTrue(expectedScan.getFamilyMap().equals(actualTableScanRequest.get().getFamilyMap()));
     }
 
@@ -69,6 +70,7 @@ public class TableScanRequestTest {
         expectedScan.withStopRow(endRow, true);
         expectedScan.addColumn(Bytes.toBytes("ts"), Bytes.toBytes("longbow_data1"));
         expectedScan.addColumn(Bytes.toBytes("ts"), Bytes.toBytes("longbow_data2"));
+        expectedScan.addColumn(Bytes.toBytes("ts"), Bytes.toBytes("longbow_packed"));
         Assert.assertTrue(expectedScan.getFamilyMap().equals(actualTableScanRequest.get().getFamilyMap()));
     }
 }
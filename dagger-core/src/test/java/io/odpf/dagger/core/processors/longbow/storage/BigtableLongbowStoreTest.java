@@ -0,0 +1,123 @@
+package io.odpf.dagger.core.processors.longbow.storage;
+
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.AdvancedScanResultConsumer;
+import org.apache.hadoop.hbase.client.AsyncTable;
+import org.apache.hadoop.hbase.client.BigtableAsyncConnection;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class BigtableLongbowStoreTest {
+
+    @Mock
+    private BigtableAsyncConnection tableClient;
+
+    @Mock
+    private AsyncTable<AdvancedScanResultConsumer> table;
+
+    @Mock
+    private ResultScanner resultScanner;
+
+    private ExecutorService scanExecutor;
+    private BigtableLongbowStore longbowStore;
+    private List<Result> consumedResults;
+    private ScanRequest scanRequest;
+
+    @Before
+    public void setup() {
+        initMocks(this);
+        scanExecutor = Executors.newSingleThreadExecutor();
+        longbowStore = new BigtableLongbowStore(null, tableClient, scanExecutor);
+        consumedResults = new ArrayList<>();
+        scanRequest = new ScanRequest() {
+            @Override
+            public Scan get() {
+                return new Scan();
+            }
+
+            @Override
+            public String getTableId() {
+                return "tableId";
+            }
+        };
+        when(tableClient.getTable(TableName.valueOf("tableId"))).thenReturn(table);
+        when(table.getScanner(any(Scan.class))).thenReturn(resultScanner);
+    }
+
+    @After
+    public void tearDown() {
+        scanExecutor.shutdownNow();
+    }
+
+    @Test
+    public void shouldIterateTheScannerUntilItIsExhausted() throws Exception {
+        when(resultScanner.next()).thenReturn(result("driver0#1"), result("driver0#2"), null);
+
+        ScanSummary scanSummary = longbowStore.scan(scanRequest, ScanLimit.unbounded(), consumedResults::add).get();
+
+        assertEquals(2, consumedResults.size());
+        assertEquals("driver0#1", Bytes.toString(scanSummary.getFirstRow()));
+        assertEquals("driver0#2", Bytes.toString(scanSummary.getLastRow()));
+        assertFalse(scanSummary.isTruncated());
+        verify(resultScanner, times(1)).close();
+    }
+
+    @Test
+    public void shouldStopIteratingOnceTheRowLimitIsReached() throws Exception {
+        when(resultScanner.next()).thenReturn(result("driver0#1"), result("driver0#2"), result("driver0#3"), null);
+
+        ScanSummary scanSummary = longbowStore.scan(scanRequest, new ScanLimit(2, 0), consumedResults::add).get();
+
+        assertEquals(2, consumedResults.size());
+        assertEquals("driver0#2", Bytes.toString(scanSummary.getLastRow()));
+        assertTrue(scanSummary.isTruncated());
+        verify(resultScanner, times(3)).next();
+        verify(resultScanner, times(1)).close();
+    }
+
+    @Test
+    public void shouldStopIteratingOnceTheByteLimitIsReached() throws Exception {
+        Result result = result("driver0#1");
+        when(resultScanner.next()).thenReturn(result, result("driver0#2"), null);
+
+        ScanSummary scanSummary = longbowStore.scan(scanRequest, new ScanLimit(0, ScanLimit.sizeOf(result)), consumedResults::add).get();
+
+        assertEquals(1, consumedResults.size());
+        assertTrue(scanSummary.isTruncated());
+    }
+
+    @Test(expected = ExecutionException.class)
+    public void shouldFailTheFutureWhenTheScannerFails() throws Exception {
+        when(resultScanner.next()).thenThrow(new IOException("scan failed"));
+
+        longbowStore.scan(scanRequest, ScanLimit.unbounded(), consumedResults::add).get();
+    }
+
+    private Result result(String rowKey) {
+        return Result.create(new Cell[]{new KeyValue(Bytes.toBytes(rowKey), Bytes.toBytes("ts"), Bytes.toBytes("proto"), Bytes.toBytes("order"))});
+    }
+}
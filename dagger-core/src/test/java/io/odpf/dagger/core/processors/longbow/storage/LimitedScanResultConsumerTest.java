@@ -0,0 +1,91 @@
+package io.odpf.dagger.core.processors.longbow.storage;
+
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.client.AdvancedScanResultConsumer.ScanController;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class LimitedScanResultConsumerTest {
+
+    @Mock
+    private ScanController scanController;
+
+    private List<Result> consumedResults;
+
+    @Before
+    public void setup() {
+        initMocks(this);
+        consumedResults = new ArrayList<>();
+    }
+
+    @Test
+    public void shouldHandOverAllRowsWhenUnbounded() throws Exception {
+        LimitedScanResultConsumer consumer = new LimitedScanResultConsumer(ScanLimit.unbounded(), consumedResults::add);
+
+        consumer.onNext(new Result[]{result("driver0#1"), result("driver0#2")}, scanController);
+        consumer.onNext(new Result[]{result("driver0#3")}, scanController);
+        consumer.onComplete();
+
+        ScanSummary scanSummary = consumer.getFuture().get();
+        assertEquals(3, consumedResults.size());
+        assertEquals(3, scanSummary.getRows());
+        assertEquals("driver0#1", Bytes.toString(scanSummary.getFirstRow()));
+        assertEquals("driver0#3", Bytes.toString(scanSummary.getLastRow()));
+        assertFalse(scanSummary.isTruncated());
+        verify(scanController, never()).terminate();
+    }
+
+    @Test
+    public void shouldTerminateTheScanOnceTheRowLimitIsReached() throws Exception {
+        LimitedScanResultConsumer consumer = new LimitedScanResultConsumer(new ScanLimit(2, 0), consumedResults::add);
+
+        consumer.onNext(new Result[]{result("driver0#1"), result("driver0#2"), result("driver0#3")}, scanController);
+
+        ScanSummary scanSummary = consumer.getFuture().get();
+        assertEquals(2, consumedResults.size());
+        assertEquals("driver0#2", Bytes.toString(scanSummary.getLastRow()));
+        assertTrue(scanSummary.isTruncated());
+        verify(scanController, times(1)).terminate();
+    }
+
+    @Test
+    public void shouldTerminateTheScanOnceTheByteLimitIsReached() throws Exception {
+        Result result = result("driver0#1");
+        LimitedScanResultConsumer consumer = new LimitedScanResultConsumer(new ScanLimit(0, ScanLimit.sizeOf(result)), consumedResults::add);
+
+        consumer.onNext(new Result[]{result, result("driver0#2")}, scanController);
+
+        assertEquals(1, consumedResults.size());
+        assertTrue(consumer.getFuture().get().isTruncated());
+        verify(scanController, times(1)).terminate();
+    }
+
+    @Test(expected = ExecutionException.class)
+    public void shouldFailTheFutureOnScanError() throws Exception {
+        LimitedScanResultConsumer consumer = new LimitedScanResultConsumer(ScanLimit.unbounded(), consumedResults::add);
+
+        consumer.onError(new RuntimeException("scan failed"));
+
+        consumer.getFuture().get();
+    }
+
+    private Result result(String rowKey) {
+        return Result.create(new Cell[]{new KeyValue(Bytes.toBytes(rowKey), Bytes.toBytes("ts"), Bytes.toBytes("proto"), Bytes.toBytes("order"))});
+    }
+}
@@ -0,0 +1,183 @@
+package io.odpf.dagger.core.processors.longbow.storage;
+
+import io.odpf.dagger.core.exception.DaggerConfigurationException;
+import io.odpf.dagger.core.processors.longbow.LongbowKeyFormat;
+import io.odpf.dagger.core.processors.longbow.request.ProtoByteScanRequest;
+import io.odpf.dagger.core.utils.Constants;
+import org.apache.flink.configuration.Configuration;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.threeten.bp.Duration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class LocalLongbowStoreTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private static final byte[] COLUMN_FAMILY = Bytes.toBytes("ts");
+    private String tableId = "tableId";
+    private LocalLongbowStore localLongbowStore;
+
+    @Before
+    public void setup() {
+        localLongbowStore = new LocalLongbowStore(temporaryFolder.getRoot().getAbsolutePath(), Duration.ofDays(1));
+    }
+
+    @After
+    public void tearDown() {
+        localLongbowStore.close();
+    }
+
+    @Test
+    public void shouldCreateTable() throws Exception {
+        assertFalse(localLongbowStore.tableExists(tableId));
+
+        localLongbowStore.createTable(Duration.ofDays(90), "ts", tableId, LongbowKeyFormat.STRING);
+
+        assertTrue(localLongbowStore.tableExists(tableId));
+    }
+
+    @Test
+    public void shouldStoreTheKeyFormatMarkerWithTheTable() throws Exception {
+        localLongbowStore.createTable(Duration.ofDays(90), "ts", tableId, LongbowKeyFormat.BINARY);
+
+        assertEquals(LongbowKeyFormat.BINARY, localLongbowStore.getKeyFormat(tableId));
+    }
+
+    @Test
+    public void shouldNotHaveKeyFormatMarkerForTableCreatedWithoutIt() throws Exception {
+        localLongbowStore.put(putRequest("driver0#1", "proto", "order1")).get();
+
+        assertTrue(localLongbowStore.tableExists(tableId));
+        assertNull(localLongbowStore.getKeyFormat(tableId));
+    }
+
+    @Test
+    public void shouldScanRowsWithinTheRangeInclusive() throws Exception {
+        localLongbowStore.put(putRequest("driver0#1", "proto", "order1")).get();
+        localLongbowStore.put(putRequest("driver0#2", "proto", "order2")).get();
+        localLongbowStore.put(putRequest("driver0#3", "proto", "order3")).get();
+        localLongbowStore.put(putRequest("driver1#1", "proto", "order4")).get();
+
+        List<Result> results = localLongbowStore.scanAll(scanRequest("driver0#1", "driver0#2")).get();
+
+        assertEquals(Arrays.asList("driver0#1", "driver0#2"), rows(results));
+        assertEquals("order2", Bytes.toString(results.get(1).getValue(COLUMN_FAMILY, Bytes.toBytes("proto"))));
+    }
+
+    @Test
+    public void shouldStreamRowsUntilTheScanLimitIsReached() throws Exception {
+        localLongbowStore.put(putRequest("driver0#1", "proto", "order1")).get();
+        localLongbowStore.put(putRequest("driver0#2", "proto", "order2")).get();
+        localLongbowStore.put(putRequest("driver0#3", "proto", "order3")).get();
+        List<Result> results = new ArrayList<>();
+
+        ScanSummary scanSummary = localLongbowStore.scan(scanRequest("driver0#0", "driver0#9"), new ScanLimit(2, 0), results::add).get();
+
+        assertEquals(Arrays.asList("driver0#1", "driver0#2"), rows(results));
+        assertEquals(2, scanSummary.getRows());
+        assertEquals("driver0#1", Bytes.toString(scanSummary.getFirstRow()));
+        assertEquals("driver0#2", Bytes.toString(scanSummary.getLastRow()));
+        assertTrue(scanSummary.isTruncated());
+    }
+
+    @Test
+    public void shouldNotMarkScanAsTruncatedWhenTheRangeEndsAtTheLimit() throws Exception {
+        localLongbowStore.put(putRequest("driver0#1", "proto", "order1")).get();
+        localLongbowStore.put(putRequest("driver0#2", "proto", "order2")).get();
+        List<Result> results = new ArrayList<>();
+
+        ScanSummary scanSummary = localLongbowStore.scan(scanRequest("driver0#0", "driver0#9"), new ScanLimit(2, 0), results::add).get();
+
+        assertEquals(2, results.size());
+        assertFalse(scanSummary.isTruncated());
+    }
+
+    @Test
+    public void shouldOnlyReturnTheScannedColumns() throws Exception {
+        localLongbowStore.put(putRequest("driver0#1", "proto", "order1")).get();
+        localLongbowStore.put(putRequest("driver0#1", "longbow_data1", "order1")).get();
+
+        List<Result> results = localLongbowStore.scanAll(scanRequest("driver0#0", "driver0#9")).get();
+
+        assertEquals(1, results.size());
+        assertEquals(1, results.get(0).rawCells().length);
+        assertEquals("order1", Bytes.toString(results.get(0).getValue(COLUMN_FAMILY, Bytes.toBytes("proto"))));
+    }
+
+    @Test
+    public void shouldWriteBulkMutations() throws Exception {
+        localLongbowStore.putAll(tableId, Arrays.asList(putRequest("driver0#1", "proto", "order1").get(), putRequest("driver0#2", "proto", "order2").get())).get();
+
+        assertEquals(2, localLongbowStore.scanAll(scanRequest("driver0#0", "driver0#9")).get().size());
+    }
+
+    @Test
+    public void shouldShareTablesBetweenStoresOfTheSamePath() throws Exception {
+        LocalLongbowStore otherStore = new LocalLongbowStore(temporaryFolder.getRoot().getAbsolutePath(), Duration.ofDays(1));
+        localLongbowStore.put(putRequest("driver0#1", "proto", "order1")).get();
+
+        List<Result> results = otherStore.scanAll(scanRequest("driver0#0", "driver0#9")).get();
+        otherStore.close();
+
+        assertEquals(1, results.size());
+        assertEquals(1, localLongbowStore.scanAll(scanRequest("driver0#0", "driver0#9")).get().size());
+    }
+
+    @Test
+    public void shouldCreateLocalStoreFromConfiguration() throws Exception {
+        Configuration configuration = new Configuration();
+        configuration.setString(Constants.PROCESSOR_LONGBOW_STORE_TYPE_KEY, "local");
+        configuration.setString(Constants.PROCESSOR_LONGBOW_LOCAL_STORE_PATH_KEY, temporaryFolder.getRoot().getAbsolutePath());
+
+        LongbowStore longbowStore = LongbowStore.create(configuration);
+        longbowStore.close();
+
+        assertTrue(longbowStore instanceof LocalLongbowStore);
+    }
+
+    @Test(expected = DaggerConfigurationException.class)
+    public void shouldThrowForUnknownStoreType() throws Exception {
+        Configuration configuration = new Configuration();
+        configuration.setString(Constants.PROCESSOR_LONGBOW_STORE_TYPE_KEY, "cassandra");
+
+        LongbowStore.create(configuration);
+    }
+
+    private PutRequest putRequest(String rowKey, String qualifier, String value) {
+        Put put = new Put(Bytes.toBytes(rowKey));
+        put.addColumn(COLUMN_FAMILY, Bytes.toBytes(qualifier), 1000L, Bytes.toBytes(value));
+        return new PutRequest() {
+            @Override
+            public Put get() {
+                return put;
+            }
+
+            @Override
+            public String getTableId() {
+                return tableId;
+            }
+        };
+    }
+
+    private ScanRequest scanRequest(String startRow, String stopRow) {
+        return new ProtoByteScanRequest(Bytes.toBytes(startRow), Bytes.toBytes(stopRow), tableId);
+    }
+
+    private List<String> rows(List<Result> results) {
+        return results.stream().map(result -> Bytes.toString(result.getRow())).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,148 @@
+package io.odpf.dagger.core.processors.longbow.storage;
+
+import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
+import io.odpf.dagger.core.metrics.aspects.LongbowWriterAspects;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class LongbowPutBatcherTest {
+
+    @Mock
+    private LongbowStore longBowStore;
+
+    @Mock
+    private MeterStatsManager meterStatsManager;
+
+    @Mock
+    private ScheduledExecutorService scheduler;
+
+    @Mock
+    private ScheduledFuture lingerFlush;
+
+    private String tableId = "tableId";
+
+    @Before
+    public void setup() {
+        initMocks(this);
+        when(scheduler.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class))).thenReturn(lingerFlush);
+        when(longBowStore.putAll(anyString(), anyList())).thenReturn(CompletableFuture.completedFuture(null));
+    }
+
+    @Test
+    public void shouldFlushWhenBatchIsFull() {
+        LongbowPutBatcher putBatcher = new LongbowPutBatcher(longBowStore, meterStatsManager, 2, 1048576L, 100L, scheduler);
+
+        CompletableFuture<Void> firstFuture = putBatcher.add(putRequest("driver0#1"));
+        assertFalse(firstFuture.isDone());
+        CompletableFuture<Void> secondFuture = putBatcher.add(putRequest("driver0#2"));
+
+        verify(longBowStore, times(1)).putAll(eq(tableId), argThat(puts -> puts.size() == 2));
+        assertTrue(firstFuture.isDone());
+        assertTrue(secondFuture.isDone());
+        verify(meterStatsManager, times(1)).updateHistogram(LongbowWriterAspects.DOCUMENTS_WRITTEN_PER_BATCH, 2L);
+        verify(meterStatsManager, times(1)).updateHistogram(eq(LongbowWriterAspects.BATCH_WRITE_RESPONSE_TIME), anyLong());
+    }
+
+    @Test
+    public void shouldFlushWhenBatchExceedsMaxBytes() {
+        LongbowPutBatcher putBatcher = new LongbowPutBatcher(longBowStore, meterStatsManager, 100, 1L, 100L, scheduler);
+
+        CompletableFuture<Void> future = putBatcher.add(putRequest("driver0#1"));
+
+        verify(longBowStore, times(1)).putAll(eq(tableId), argThat(puts -> puts.size() == 1));
+        assertTrue(future.isDone());
+    }
+
+    @Test
+    public void shouldFlushAfterLingerTime() {
+        LongbowPutBatcher putBatcher = new LongbowPutBatcher(longBowStore, meterStatsManager, 100, 1048576L, 100L, scheduler);
+
+        CompletableFuture<Void> future = putBatcher.add(putRequest("driver0#1"));
+        putBatcher.add(putRequest("driver0#2"));
+
+        ArgumentCaptor<Runnable> lingerCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler, times(1)).schedule(lingerCaptor.capture(), eq(100L), eq(TimeUnit.MILLISECONDS));
+        verify(longBowStore, never()).putAll(anyString(), anyList());
+
+        lingerCaptor.getValue().run();
+
+        verify(longBowStore, times(1)).putAll(eq(tableId), argThat(puts -> puts.size() == 2));
+        assertTrue(future.isDone());
+    }
+
+    @Test
+    public void shouldCompleteEveryPutOfAFailedBatchExceptionally() {
+        CompletableFuture<Void> failedBatch = new CompletableFuture<>();
+        failedBatch.completeExceptionally(new RuntimeException("bigtable unavailable"));
+        when(longBowStore.putAll(anyString(), anyList())).thenReturn(failedBatch);
+        LongbowPutBatcher putBatcher = new LongbowPutBatcher(longBowStore, meterStatsManager, 2, 1048576L, 100L, scheduler);
+
+        CompletableFuture<Void> firstFuture = putBatcher.add(putRequest("driver0#1"));
+        CompletableFuture<Void> secondFuture = putBatcher.add(putRequest("driver0#2"));
+
+        assertTrue(firstFuture.isCompletedExceptionally());
+        assertTrue(secondFuture.isCompletedExceptionally());
+        verify(meterStatsManager, times(1)).markEvent(LongbowWriterAspects.FAILED_ON_WRITE_BATCH);
+    }
+
+    @Test
+    public void shouldFlushAndStopSchedulerOnClose() {
+        LongbowPutBatcher putBatcher = new LongbowPutBatcher(longBowStore, meterStatsManager, 100, 1048576L, 100L, scheduler);
+
+        CompletableFuture<Void> future = putBatcher.add(putRequest("driver0#1"));
+        putBatcher.close();
+
+        assertTrue(future.isDone());
+        verify(lingerFlush, times(1)).cancel(false);
+        verify(scheduler, times(1)).shutdown();
+    }
+
+    @Test
+    public void shouldNotWriteEmptyBatches() {
+        LongbowPutBatcher putBatcher = new LongbowPutBatcher(longBowStore, meterStatsManager, 100, 1048576L, 100L, scheduler);
+
+        putBatcher.flush();
+
+        verify(longBowStore, never()).putAll(anyString(), anyList());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotAllowNonPositiveBatchSize() {
+        new LongbowPutBatcher(longBowStore, meterStatsManager, 0, 1048576L, 100L, scheduler);
+    }
+
+    private PutRequest putRequest(String rowKey) {
+        Put put = new Put(Bytes.toBytes(rowKey));
+        put.addColumn(Bytes.toBytes("ts"), Bytes.toBytes("longbow_data1"), Bytes.toBytes("order"));
+        return new PutRequest() {
+            @Override
+            public Put get() {
+                return put;
+            }
+
+            @Override
+            public String getTableId() {
+                return tableId;
+            }
+        };
+    }
+}
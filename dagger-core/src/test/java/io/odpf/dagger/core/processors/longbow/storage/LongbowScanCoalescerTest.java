@@ -0,0 +1,187 @@
+package io.odpf.dagger.core.processors.longbow.storage;
+
+import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
+import io.odpf.dagger.core.metrics.aspects.LongbowReaderAspects;
+import io.odpf.dagger.core.processors.longbow.request.ProtoByteScanRequest;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class LongbowScanCoalescerTest {
+
+    @Mock
+    private LongbowStore longBowStore;
+
+    @Mock
+    private MeterStatsManager meterStatsManager;
+
+    @Mock
+    private ScheduledExecutorService scheduler;
+
+    private String tableId = "tableId";
+    private BiFunction<byte[], byte[], ScanRequest> scanRequestFactory = (startRow, stopRow) -> new ProtoByteScanRequest(startRow, stopRow, tableId);
+    private LongbowScanCoalescer scanCoalescer;
+
+    @Before
+    public void setup() {
+        initMocks(this);
+        scanCoalescer = new LongbowScanCoalescer(longBowStore, meterStatsManager, ScanLimit.unbounded(), 5L, scheduler);
+    }
+
+    @Test
+    public void shouldMergeReadsOfTheSameKeyIntoOneScanOfTheUnionRange() throws Exception {
+        stubScan(false, "driver0#1", "driver0#2", "driver0#3");
+
+        CompletableFuture<List<Result>> firstRead = scanCoalescer.scan("driver0", Bytes.toBytes("driver0#2"), Bytes.toBytes("driver0#3"), scanRequestFactory);
+        CompletableFuture<List<Result>> secondRead = scanCoalescer.scan("driver0", Bytes.toBytes("driver0#1"), Bytes.toBytes("driver0#2"), scanRequestFactory);
+        verify(longBowStore, never()).scan(any(ScanRequest.class), any(ScanLimit.class), any());
+        runScheduledScans(1);
+
+        ArgumentCaptor<ScanRequest> scanRequestCaptor = ArgumentCaptor.forClass(ScanRequest.class);
+        verify(longBowStore, times(1)).scan(scanRequestCaptor.capture(), any(ScanLimit.class), any());
+        assertEquals("driver0#1", Bytes.toString(scanRequestCaptor.getValue().get().getStartRow()));
+        assertEquals("driver0#3", Bytes.toString(scanRequestCaptor.getValue().get().getStopRow()));
+        assertEquals(Arrays.asList("driver0#2", "driver0#3"), rows(firstRead.get()));
+        assertEquals(Arrays.asList("driver0#1", "driver0#2"), rows(secondRead.get()));
+        verify(meterStatsManager, times(1)).updateHistogram(LongbowReaderAspects.READS_PER_COALESCED_SCAN, 2L);
+    }
+
+    @Test
+    public void shouldScanDifferentKeysSeparately() {
+        stubScan(false);
+
+        scanCoalescer.scan("driver0", Bytes.toBytes("driver0#1"), Bytes.toBytes("driver0#2"), scanRequestFactory);
+        scanCoalescer.scan("driver1", Bytes.toBytes("driver1#1"), Bytes.toBytes("driver1#2"), scanRequestFactory);
+        runScheduledScans(2);
+
+        verify(longBowStore, times(2)).scan(any(ScanRequest.class), any(ScanLimit.class), any());
+    }
+
+    @Test
+    public void shouldStartANewScanForReadsArrivingAfterTheScanIsIssued() {
+        when(longBowStore.scan(any(ScanRequest.class), any(ScanLimit.class), any())).thenReturn(new CompletableFuture<>());
+
+        scanCoalescer.scan("driver0", Bytes.toBytes("driver0#1"), Bytes.toBytes("driver0#2"), scanRequestFactory);
+        runScheduledScans(1);
+        scanCoalescer.scan("driver0", Bytes.toBytes("driver0#1"), Bytes.toBytes("driver0#2"), scanRequestFactory);
+
+        verify(scheduler, times(2)).schedule(any(Runnable.class), eq(5L), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test(expected = ExecutionException.class)
+    public void shouldFailAllReadsWhenTheScanFails() throws Exception {
+        CompletableFuture<ScanSummary> failedScan = new CompletableFuture<>();
+        failedScan.completeExceptionally(new RuntimeException("scan failed"));
+        when(longBowStore.scan(any(ScanRequest.class), any(ScanLimit.class), any())).thenReturn(failedScan);
+
+        CompletableFuture<List<Result>> read = scanCoalescer.scan("driver0", Bytes.toBytes("driver0#1"), Bytes.toBytes("driver0#2"), scanRequestFactory);
+        runScheduledScans(1);
+
+        read.get();
+    }
+
+    @Test
+    public void shouldIssuePendingScansOnClose() {
+        stubScan(false);
+
+        CompletableFuture<List<Result>> read = scanCoalescer.scan("driver0", Bytes.toBytes("driver0#1"), Bytes.toBytes("driver0#2"), scanRequestFactory);
+        scanCoalescer.close();
+
+        assertTrue(read.isDone());
+        verify(scheduler, times(1)).shutdown();
+    }
+
+    @Test
+    public void shouldBoundTheMergedScanByTheReadLimitTimesTheNumberOfReads() throws Exception {
+        scanCoalescer = new LongbowScanCoalescer(longBowStore, meterStatsManager, new ScanLimit(2, 100L), 5L, scheduler);
+        stubScan(false, "driver0#1", "driver0#2", "driver0#3");
+
+        scanCoalescer.scan("driver0", Bytes.toBytes("driver0#2"), Bytes.toBytes("driver0#3"), scanRequestFactory);
+        scanCoalescer.scan("driver0", Bytes.toBytes("driver0#1"), Bytes.toBytes("driver0#2"), scanRequestFactory);
+        scanCoalescer.scan("driver0", Bytes.toBytes("driver0#1"), Bytes.toBytes("driver0#3"), scanRequestFactory);
+        runScheduledScans(1);
+
+        ArgumentCaptor<ScanLimit> scanLimitCaptor = ArgumentCaptor.forClass(ScanLimit.class);
+        verify(longBowStore, times(1)).scan(any(ScanRequest.class), scanLimitCaptor.capture(), any());
+        assertEquals(6, scanLimitCaptor.getValue().getMaxRows());
+        assertFalse(scanLimitCaptor.getValue().isReached(5, 299L));
+        assertTrue(scanLimitCaptor.getValue().isReached(5, 300L));
+    }
+
+    @Test
+    public void shouldCompleteReadsCoveredByATruncatedMergedScan() throws Exception {
+        scanCoalescer = new LongbowScanCoalescer(longBowStore, meterStatsManager, new ScanLimit(1, 0L), 5L, scheduler);
+        stubScan(true, "driver0#1", "driver0#2");
+
+        CompletableFuture<List<Result>> firstRead = scanCoalescer.scan("driver0", Bytes.toBytes("driver0#1"), Bytes.toBytes("driver0#3"), scanRequestFactory);
+        CompletableFuture<List<Result>> secondRead = scanCoalescer.scan("driver0", Bytes.toBytes("driver0#1"), Bytes.toBytes("driver0#2"), scanRequestFactory);
+        runScheduledScans(1);
+
+        assertEquals(Arrays.asList("driver0#1", "driver0#2"), rows(firstRead.get()));
+        assertEquals(Arrays.asList("driver0#1", "driver0#2"), rows(secondRead.get()));
+        verify(longBowStore, times(1)).scan(any(ScanRequest.class), any(ScanLimit.class), any());
+    }
+
+    @Test
+    public void shouldScanAgainTheReadsATruncatedMergedScanDidNotReach() throws Exception {
+        scanCoalescer = new LongbowScanCoalescer(longBowStore, meterStatsManager, new ScanLimit(1, 0L), 5L, scheduler);
+        stubScan(true, "driver0#1", "driver0#2");
+
+        CompletableFuture<List<Result>> firstRead = scanCoalescer.scan("driver0", Bytes.toBytes("driver0#1"), Bytes.toBytes("driver0#2"), scanRequestFactory);
+        CompletableFuture<List<Result>> secondRead = scanCoalescer.scan("driver0", Bytes.toBytes("driver0#5"), Bytes.toBytes("driver0#6"), scanRequestFactory);
+        runScheduledScans(1);
+
+        assertEquals(Arrays.asList("driver0#1", "driver0#2"), rows(firstRead.get()));
+        assertTrue(secondRead.isDone());
+        ArgumentCaptor<ScanRequest> scanRequestCaptor = ArgumentCaptor.forClass(ScanRequest.class);
+        ArgumentCaptor<ScanLimit> scanLimitCaptor = ArgumentCaptor.forClass(ScanLimit.class);
+        verify(longBowStore, times(2)).scan(scanRequestCaptor.capture(), scanLimitCaptor.capture(), any());
+        assertEquals("driver0#5", Bytes.toString(scanRequestCaptor.getAllValues().get(1).get().getStartRow()));
+        assertEquals("driver0#6", Bytes.toString(scanRequestCaptor.getAllValues().get(1).get().getStopRow()));
+        assertEquals(1, scanLimitCaptor.getAllValues().get(1).getMaxRows());
+    }
+
+    private void stubScan(boolean truncated, String... rowKeys) {
+        when(longBowStore.scan(any(ScanRequest.class), any(ScanLimit.class), any())).thenAnswer(invocation -> {
+            Consumer<Result> consumer = invocation.getArgument(2);
+            Arrays.stream(rowKeys).map(this::result).forEach(consumer);
+            byte[] lastRow = rowKeys.length == 0 ? null : Bytes.toBytes(rowKeys[rowKeys.length - 1]);
+            return CompletableFuture.completedFuture(new ScanSummary(rowKeys.length, null, lastRow, truncated));
+        });
+    }
+
+    private void runScheduledScans(int expectedScans) {
+        ArgumentCaptor<Runnable> scheduledScans = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler, atLeast(expectedScans)).schedule(scheduledScans.capture(), anyLong(), any(TimeUnit.class));
+        scheduledScans.getAllValues().forEach(Runnable::run);
+    }
+
+    private Result result(String rowKey) {
+        return Result.create(new Cell[]{new KeyValue(Bytes.toBytes(rowKey), Bytes.toBytes("ts"), Bytes.toBytes("proto"), Bytes.toBytes("order"))});
+    }
+
+    private List<String> rows(List<Result> results) {
+        return results.stream().map(result -> Bytes.toString(result.getRow())).collect(Collectors.toList());
+    }
+}
@@ -3,7 +3,6 @@ package io.odpf.dagger.core.protohandler.typehandler;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.Descriptors;
 import io.odpf.dagger.consumer.TestMessageEnvelope;
-import org.apache.flink.api.common.typeinfo.TypeInformation;
 import org.apache.flink.api.common.typeinfo.Types;
 import org.junit.Test;
 
@@ -42,14 +41,14 @@ public class ByteStringPrimitiveTypeHandlerTest {
     public void shouldReturnTypeInformation() {
         Descriptors.FieldDescriptor fieldDescriptor = TestMessageEnvelope.getDescriptor().findFieldByName("log_key");
         ByteStringPrimitiveTypeHandler byteStringPrimitiveTypeHandler = new ByteStringPrimitiveTypeHandler(fieldDescriptor);
-        assertEquals(TypeInformation.of(ByteString.class), byteStringPrimitiveTypeHandler.getTypeInformation());
+        assertEquals(ByteStringTypeInfo.INSTANCE, byteStringPrimitiveTypeHandler.getTypeInformation());
     }
 
     @Test
     public void shouldReturnArrayTypeInformation() {
         Descriptors.FieldDescriptor fieldDescriptor = TestMessageEnvelope.getDescriptor().findFieldByName("log_key");
         ByteStringPrimitiveTypeHandler byteStringPrimitiveTypeHandler = new ByteStringPrimitiveTypeHandler(fieldDescriptor);
-        assertEquals(Types.OBJECT_ARRAY(TypeInformation.of(ByteString.class)), byteStringPrimitiveTypeHandler.getArrayType());
+        assertEquals(Types.OBJECT_ARRAY(ByteStringTypeInfo.INSTANCE), byteStringPrimitiveTypeHandler.getArrayType());
     }
 
     @Test
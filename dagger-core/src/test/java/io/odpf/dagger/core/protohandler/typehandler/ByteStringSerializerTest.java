@@ -0,0 +1,64 @@
+package io.odpf.dagger.core.protohandler.typehandler;
+
+import com.google.protobuf.ByteString;
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class ByteStringSerializerTest {
+
+    @Test
+    public void shouldSerializeAndDeserializeByteString() throws Exception {
+        ByteString value = ByteString.copyFromUtf8("test-bytes");
+        DataOutputSerializer output = new DataOutputSerializer(64);
+
+        ByteStringSerializer.INSTANCE.serialize(value, output);
+        ByteString result = ByteStringSerializer.INSTANCE.deserialize(new DataInputDeserializer(output.getCopyOfBuffer()));
+
+        assertEquals(value, result);
+    }
+
+    @Test
+    public void shouldCopySerializedByteString() throws Exception {
+        ByteString value = ByteString.copyFromUtf8("test-bytes");
+        DataOutputSerializer output = new DataOutputSerializer(64);
+        ByteStringSerializer.INSTANCE.serialize(value, output);
+        DataOutputSerializer copy = new DataOutputSerializer(64);
+
+        ByteStringSerializer.INSTANCE.copy(new DataInputDeserializer(output.getCopyOfBuffer()), copy);
+
+        assertArrayEquals(output.getCopyOfBuffer(), copy.getCopyOfBuffer());
+    }
+
+    @Test
+    public void shouldSerializeEmptyByteString() throws Exception {
+        DataOutputSerializer output = new DataOutputSerializer(8);
+
+        ByteStringSerializer.INSTANCE.serialize(ByteString.EMPTY, output);
+
+        assertEquals(ByteString.EMPTY, ByteStringSerializer.INSTANCE.deserialize(new DataInputDeserializer(output.getCopyOfBuffer())));
+    }
+
+    @Test
+    public void shouldSerializeRepeatedByteStringsWithoutKryo() throws Exception {
+        TypeSerializer<ByteString[]> serializer = Types.OBJECT_ARRAY(ByteStringTypeInfo.INSTANCE).createSerializer(new ExecutionConfig());
+        ByteString[] values = new ByteString[]{ByteString.copyFromUtf8("test1"), null, ByteString.copyFromUtf8("test2")};
+        DataOutputSerializer output = new DataOutputSerializer(64);
+
+        serializer.serialize(values, output);
+
+        assertArrayEquals(values, serializer.deserialize(new DataInputDeserializer(output.getCopyOfBuffer())));
+    }
+
+    @Test
+    public void shouldCreateByteStringSerializerFromTypeInfo() {
+        assertSame(ByteStringSerializer.INSTANCE, ByteStringTypeInfo.INSTANCE.createSerializer(new ExecutionConfig()));
+    }
+}
@@ -0,0 +1,129 @@
+package io.odpf.dagger.core.source;
+
+import org.apache.flink.streaming.api.functions.source.SourceFunction;
+import org.apache.flink.streaming.api.watermark.Watermark;
+import org.apache.flink.types.Row;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class IdleAwareSourceContextTest {
+
+    @Mock
+    private SourceFunction.SourceContext<Row> sourceContext;
+
+    private long currentTime = 100000L;
+
+    @Before
+    public void setUp() {
+        initMocks(this);
+        when(sourceContext.getCheckpointLock()).thenReturn(new Object());
+    }
+
+    private IdleAwareSourceContext idleAwareSourceContext(long idleTimeout) {
+        return new IdleAwareSourceContext(sourceContext, idleTimeout) {
+            @Override
+            protected long currentProcessingTime() {
+                return currentTime;
+            }
+        };
+    }
+
+    @Test
+    public void shouldForwardRowsAndWatermarks() {
+        IdleAwareSourceContext idleAwareSourceContext = idleAwareSourceContext(30000L);
+        Row row = new Row(1);
+        Watermark watermark = new Watermark(5000L);
+
+        idleAwareSourceContext.collectWithTimestamp(row, 6000L);
+        idleAwareSourceContext.emitWatermark(watermark);
+
+        verify(sourceContext).collectWithTimestamp(row, 6000L);
+        verify(sourceContext).emitWatermark(watermark);
+    }
+
+    @Test
+    public void shouldMarkSourceIdleAfterIdleTimeoutWithoutRows() {
+        IdleAwareSourceContext idleAwareSourceContext = idleAwareSourceContext(30000L);
+        idleAwareSourceContext.collect(new Row(1));
+        currentTime += 30000L;
+
+        idleAwareSourceContext.checkIdleness();
+
+        assertTrue(idleAwareSourceContext.isIdle());
+        verify(sourceContext).markAsTemporarilyIdle();
+    }
+
+    @Test
+    public void shouldNotMarkSourceIdleBeforeIdleTimeout() {
+        IdleAwareSourceContext idleAwareSourceContext = idleAwareSourceContext(30000L);
+        idleAwareSourceContext.collect(new Row(1));
+        currentTime += 29999L;
+
+        idleAwareSourceContext.checkIdleness();
+
+        assertFalse(idleAwareSourceContext.isIdle());
+        verify(sourceContext, never()).markAsTemporarilyIdle();
+    }
+
+    @Test
+    public void shouldNeverMarkSourceIdleWithoutIdleTimeout() {
+        IdleAwareSourceContext idleAwareSourceContext = idleAwareSourceContext(0);
+        currentTime += 3600000L;
+
+        idleAwareSourceContext.checkIdleness();
+
+        verify(sourceContext, never()).markAsTemporarilyIdle();
+    }
+
+    @Test
+    public void shouldHoldWatermarksWhileIdleAndEmitLatestOnceActive() {
+        IdleAwareSourceContext idleAwareSourceContext = idleAwareSourceContext(30000L);
+        idleAwareSourceContext.collect(new Row(1));
+        currentTime += 30000L;
+        idleAwareSourceContext.checkIdleness();
+        idleAwareSourceContext.emitWatermark(new Watermark(7000L));
+        verify(sourceContext, never()).emitWatermark(new Watermark(7000L));
+        Row row = new Row(1);
+
+        idleAwareSourceContext.collect(row);
+
+        assertFalse(idleAwareSourceContext.isIdle());
+        verify(sourceContext, times(1)).emitWatermark(new Watermark(7000L));
+        verify(sourceContext).collect(row);
+    }
+
+    @Test
+    public void shouldBecomeActiveAgainWhenTheConsumerMarkedItselfIdleWithoutIdleTimeout() {
+        IdleAwareSourceContext idleAwareSourceContext = idleAwareSourceContext(0);
+        idleAwareSourceContext.markAsTemporarilyIdle();
+        idleAwareSourceContext.emitWatermark(new Watermark(7000L));
+        verify(sourceContext, never()).emitWatermark(new Watermark(7000L));
+
+        idleAwareSourceContext.collectWithTimestamp(new Row(1), 8000L);
+        idleAwareSourceContext.emitWatermark(new Watermark(8000L));
+
+        assertFalse(idleAwareSourceContext.isIdle());
+        verify(sourceContext).emitWatermark(new Watermark(7000L));
+        verify(sourceContext).emitWatermark(new Watermark(8000L));
+    }
+
+    @Test
+    public void shouldReportLagOfLastWatermark() {
+        IdleAwareSourceContext idleAwareSourceContext = idleAwareSourceContext(30000L);
+        assertEquals(0L, idleAwareSourceContext.getWatermarkLag());
+
+        idleAwareSourceContext.emitWatermark(new Watermark(currentTime - 15000L));
+
+        assertEquals(15000L, idleAwareSourceContext.getWatermarkLag());
+    }
+}
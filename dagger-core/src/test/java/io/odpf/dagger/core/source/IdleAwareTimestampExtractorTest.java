@@ -0,0 +1,89 @@
+package io.odpf.dagger.core.source;
+
+import org.apache.flink.types.Row;
+import org.junit.Test;
+
+import java.sql.Timestamp;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class IdleAwareTimestampExtractorTest {
+
+    private long currentTime = 100000L;
+
+    private Row rowWithRowtime(long rowtime) {
+        Row row = new Row(2);
+        row.setField(0, "order-1");
+        row.setField(1, new Timestamp(rowtime));
+        return row;
+    }
+
+    private IdleAwareTimestampExtractor extractor(long idleTimeout) {
+        return new IdleAwareTimestampExtractor(1000L, idleTimeout) {
+            @Override
+            protected long currentProcessingTime() {
+                return currentTime;
+            }
+        };
+    }
+
+    @Test
+    public void shouldExtractRowtimeAsTimestamp() {
+        IdleAwareTimestampExtractor extractor = extractor(0);
+
+        assertEquals(5000L, extractor.extractTimestamp(rowWithRowtime(5000L), -1));
+    }
+
+    @Test
+    public void shouldLagHighestTimestampByDelay() {
+        IdleAwareTimestampExtractor extractor = extractor(0);
+        extractor.extractTimestamp(rowWithRowtime(5000L), -1);
+        extractor.extractTimestamp(rowWithRowtime(4000L), -1);
+
+        assertEquals(4000L, extractor.getCurrentWatermark().getTimestamp());
+    }
+
+    @Test
+    public void shouldNeverBeIdleWithoutIdleTimeout() {
+        IdleAwareTimestampExtractor extractor = extractor(0);
+        extractor.extractTimestamp(rowWithRowtime(5000L), -1);
+        currentTime += 3600000L;
+
+        assertFalse(extractor.isIdle());
+        assertEquals(4000L, extractor.getCurrentWatermark().getTimestamp());
+    }
+
+    @Test
+    public void shouldFollowProcessingTimeWhenIdle() {
+        IdleAwareTimestampExtractor extractor = extractor(30000L);
+        extractor.extractTimestamp(rowWithRowtime(5000L), -1);
+        currentTime += 30000L;
+
+        assertTrue(extractor.isIdle());
+        assertEquals(currentTime - 1000L, extractor.getCurrentWatermark().getTimestamp());
+    }
+
+    @Test
+    public void shouldBecomeIdleWhenNoRowWasEverRead() {
+        IdleAwareTimestampExtractor extractor = extractor(30000L);
+        assertFalse(extractor.isIdle());
+        currentTime += 30000L;
+
+        assertEquals(currentTime - 1000L, extractor.getCurrentWatermark().getTimestamp());
+    }
+
+    @Test
+    public void shouldNotMoveWatermarkBackWhenPartitionProducesAgain() {
+        IdleAwareTimestampExtractor extractor = extractor(30000L);
+        extractor.extractTimestamp(rowWithRowtime(5000L), -1);
+        currentTime += 30000L;
+        long idleWatermark = extractor.getCurrentWatermark().getTimestamp();
+
+        extractor.extractTimestamp(rowWithRowtime(6000L), -1);
+
+        assertFalse(extractor.isIdle());
+        assertEquals(idleWatermark, extractor.getCurrentWatermark().getTimestamp());
+    }
+}
@@ -0,0 +1,60 @@
+package io.odpf.dagger.core.source;
+
+import org.apache.flink.metrics.Gauge;
+import org.apache.flink.metrics.MetricGroup;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+
+import static io.odpf.dagger.core.utils.Constants.SOURCE_PARTITION_EVENT_TIME_LAG_KEY;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class PartitionEventTimeLagTest {
+
+    @Mock
+    private MetricGroup metricGroup;
+
+    @Mock
+    private MetricGroup partitionMetricGroup;
+
+    @Before
+    public void setUp() {
+        initMocks(this);
+        when(metricGroup.addGroup(eq(SOURCE_PARTITION_EVENT_TIME_LAG_KEY), any(String.class))).thenReturn(partitionMetricGroup);
+    }
+
+    @Test
+    public void shouldRegisterGaugeOncePerPartition() {
+        PartitionEventTimeLag partitionEventTimeLag = new PartitionEventTimeLag(metricGroup);
+
+        partitionEventTimeLag.update("bookings", 0, 1000L);
+        partitionEventTimeLag.update("bookings", 0, 2000L);
+        partitionEventTimeLag.update("bookings", 1, 1000L);
+
+        verify(metricGroup, times(1)).addGroup(SOURCE_PARTITION_EVENT_TIME_LAG_KEY, "bookings-0");
+        verify(metricGroup, times(1)).addGroup(SOURCE_PARTITION_EVENT_TIME_LAG_KEY, "bookings-1");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldReportLagOfHighestEventTime() {
+        PartitionEventTimeLag partitionEventTimeLag = new PartitionEventTimeLag(metricGroup);
+        long now = System.currentTimeMillis();
+
+        partitionEventTimeLag.update("bookings", 0, now - 60000L);
+        partitionEventTimeLag.update("bookings", 0, now - 10000L);
+        partitionEventTimeLag.update("bookings", 0, now - 30000L);
+
+        ArgumentCaptor<Gauge> gaugeCaptor = ArgumentCaptor.forClass(Gauge.class);
+        verify(partitionMetricGroup).gauge(eq("value"), gaugeCaptor.capture());
+        long lag = (Long) gaugeCaptor.getValue().getValue();
+        assertTrue(lag >= 10000L && lag < 30000L);
+    }
+}
@@ -6,6 +6,7 @@ import io.odpf.dagger.common.core.StencilClientOrchestrator;
 import io.odpf.dagger.consumer.*;
 import io.odpf.dagger.core.exception.DaggerDeserializationException;
 import io.odpf.dagger.common.exceptions.DescriptorNotFoundException;
+import io.odpf.dagger.core.source.filter.ProtoFilter;
 import org.apache.flink.api.common.typeinfo.TypeInformation;
 import org.apache.flink.api.java.typeutils.RowTypeInfo;
 import org.apache.flink.configuration.Configuration;
@@ -21,6 +22,8 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static io.odpf.dagger.common.core.Constants.*;
+import static io.odpf.dagger.core.utils.Constants.INGESTION_TIME_FIELD_KEY;
+import static io.odpf.dagger.core.utils.Constants.STAGE_ENTRY_TIME_FIELD_KEY;
 import static io.odpf.dagger.core.utils.Constants.INTERNAL_VALIDATION_FILED_KEY;
 import static org.apache.flink.api.common.typeinfo.Types.*;
 import static org.junit.Assert.*;
@@ -90,6 +93,36 @@ public class ProtoDeserializerTest {
         assertEquals(1595548800000L, ((java.sql.Timestamp) row.getField(size - 1)).getTime());
     }
 
+    @Test
+    public void shouldAddIngestionTimeBeforeExtraFieldsWhenEnabled() {
+        byte[] protoBytes = TestBookingLogMessage
+                .newBuilder()
+                .setOrderNumber("111")
+                .setEventTimestamp(Timestamp.newBuilder().setSeconds(1595548800L).setNanos(0).build())
+                .build()
+                .toByteArray();
+        ProtoDeserializer protoDeserializer = new ProtoDeserializer(TestBookingLogMessage.class.getTypeName(), 5, "rowtime", stencilClientOrchestrator, true);
+        long before = System.currentTimeMillis();
+
+        Row row = protoDeserializer.deserialize(new ConsumerRecord<>("test-topic", 0, 0, null, protoBytes));
+
+        int size = row.getArity();
+        assertEquals(53, size);
+        assertTrue((Long) row.getField(size - 4) >= before);
+        assertEquals(row.getField(size - 4), row.getField(size - 3));
+        assertTrue((Boolean) row.getField(size - 2));
+        assertEquals(1595548800000L, ((java.sql.Timestamp) row.getField(size - 1)).getTime());
+    }
+
+    @Test
+    public void shouldReturnProducedTypeWithIngestionTimeWhenEnabled() {
+        ProtoDeserializer protoDeserializer = new ProtoDeserializer(TestBookingLogKey.class.getTypeName(), 3, "rowtime", stencilClientOrchestrator, true);
+        TypeInformation<Row> producedType = protoDeserializer.getProducedType();
+        assertArrayEquals(
+                new String[]{"service_type", "order_number", "order_url", "status", "event_timestamp", INGESTION_TIME_FIELD_KEY, STAGE_ENTRY_TIME_FIELD_KEY, INTERNAL_VALIDATION_FILED_KEY, "rowtime"},
+                ((RowTypeInfo) producedType).getFieldNames());
+    }
+
     @Test
     public void shouldDeserializeEnumAsString() {
 
@@ -255,6 +288,24 @@ public class ProtoDeserializerTest {
         assertEquals(new java.sql.Timestamp(0), row.getField(row.getArity() - 1));
     }
 
+    @Test
+    public void shouldDropMessagesNotMatchingTheFilter() {
+        byte[] protoBytes = TestBookingLogMessage.newBuilder().setOrderNumber("111").setStatus(TestBookingStatus.Enum.CREATED).build().toByteArray();
+        ProtoDeserializer protoDeserializer = new ProtoDeserializer(TestBookingLogMessage.class.getTypeName(), 5, "rowtime", stencilClientOrchestrator, false, new ProtoFilter("status = 'COMPLETED'"));
+
+        assertNull(protoDeserializer.deserialize(new ConsumerRecord<>("test-topic", 0, 0, null, protoBytes)));
+    }
+
+    @Test
+    public void shouldDeserializeMessagesMatchingTheFilter() {
+        byte[] protoBytes = TestBookingLogMessage.newBuilder().setOrderNumber("111").setStatus(TestBookingStatus.Enum.COMPLETED).build().toByteArray();
+        ProtoDeserializer protoDeserializer = new ProtoDeserializer(TestBookingLogMessage.class.getTypeName(), 5, "rowtime", stencilClientOrchestrator, false, new ProtoFilter("status = 'COMPLETED'"));
+
+        Row row = protoDeserializer.deserialize(new ConsumerRecord<>("test-topic", 0, 0, null, protoBytes));
+
+        assertEquals("111", row.getField(bookingLogFieldIndex("order_number")));
+    }
+
     @Test(expected = DescriptorNotFoundException.class)
     public void shouldThrowDescriptorNotFoundException() {
         ProtoDeserializer protoDeserializer = new ProtoDeserializer(String.class.getTypeName(), 6, "rowtime", stencilClientOrchestrator);
@@ -0,0 +1,64 @@
+package io.odpf.dagger.core.source.filter;
+
+import io.odpf.dagger.core.exception.DaggerConfigurationException;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class ProtoFilterParserTest {
+
+    @Test
+    public void shouldParseConjunctionOfComparisons() {
+        List<ProtoPredicate> predicates = new ProtoFilterParser("status = 'COMPLETED' and cancel_reason_id>=10 AND driver_pickup_location.latitude < -6.2").parse();
+
+        assertEquals(3, predicates.size());
+        assertEquals("status", predicates.get(0).getFieldPath());
+        assertEquals(FilterOperator.EQUAL, predicates.get(0).getOperator());
+        assertEquals(Collections.singletonList("COMPLETED"), predicates.get(0).getLiterals());
+        assertEquals(FilterOperator.GREATER_THAN_OR_EQUAL, predicates.get(1).getOperator());
+        assertEquals(Collections.singletonList("10"), predicates.get(1).getLiterals());
+        assertEquals("driver_pickup_location.latitude", predicates.get(2).getFieldPath());
+        assertEquals(Collections.singletonList("-6.2"), predicates.get(2).getLiterals());
+    }
+
+    @Test
+    public void shouldParseInList() {
+        List<ProtoPredicate> predicates = new ProtoFilterParser("service_type IN ('GO_RIDE', 'GO_SEND')").parse();
+
+        assertEquals(FilterOperator.IN, predicates.get(0).getOperator());
+        assertEquals(Arrays.asList("GO_RIDE", "GO_SEND"), predicates.get(0).getLiterals());
+    }
+
+    @Test
+    public void shouldParseEscapedQuotesAndKeywordsInsideStringLiterals() {
+        List<ProtoPredicate> predicates = new ProtoFilterParser("customer_name <> 'O''Neil AND co'").parse();
+
+        assertEquals(1, predicates.size());
+        assertEquals(FilterOperator.NOT_EQUAL, predicates.get(0).getOperator());
+        assertEquals(Collections.singletonList("O'Neil AND co"), predicates.get(0).getLiterals());
+    }
+
+    @Test(expected = DaggerConfigurationException.class)
+    public void shouldThrowExceptionForDisjunction() {
+        new ProtoFilterParser("status = 'COMPLETED' OR status = 'CREATED'").parse();
+    }
+
+    @Test(expected = DaggerConfigurationException.class)
+    public void shouldThrowExceptionForUnsupportedOperator() {
+        new ProtoFilterParser("order_number LIKE 'abc%'").parse();
+    }
+
+    @Test(expected = DaggerConfigurationException.class)
+    public void shouldThrowExceptionForMissingLiteral() {
+        new ProtoFilterParser("status =").parse();
+    }
+
+    @Test(expected = DaggerConfigurationException.class)
+    public void shouldThrowExceptionForUnterminatedString() {
+        new ProtoFilterParser("status = 'COMPLETED").parse();
+    }
+}
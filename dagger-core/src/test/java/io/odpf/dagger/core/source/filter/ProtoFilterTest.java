@@ -0,0 +1,107 @@
+package io.odpf.dagger.core.source.filter;
+
+import com.google.protobuf.Descriptors;
+import io.odpf.dagger.consumer.TestBookingLogMessage;
+import io.odpf.dagger.consumer.TestBookingStatus;
+import io.odpf.dagger.consumer.TestLocation;
+import io.odpf.dagger.consumer.TestServiceType;
+import io.odpf.dagger.core.exception.DaggerConfigurationException;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ProtoFilterTest {
+
+    private Descriptors.Descriptor descriptor = TestBookingLogMessage.getDescriptor();
+
+    private byte[] booking(TestBookingStatus.Enum status, TestServiceType.Enum serviceType, int cancelReasonId) {
+        return TestBookingLogMessage.newBuilder()
+                .setOrderNumber("order-1")
+                .setStatus(status)
+                .setServiceType(serviceType)
+                .setCancelReasonId(cancelReasonId)
+                .build()
+                .toByteArray();
+    }
+
+    @Test
+    public void shouldMatchMessagesSatisfyingAllPredicates() {
+        ProtoFilter protoFilter = new ProtoFilter("status = 'COMPLETED' AND service_type IN ('GO_RIDE', 'GO_SEND') AND cancel_reason_id >= 10");
+
+        assertTrue(protoFilter.test(descriptor, booking(TestBookingStatus.Enum.COMPLETED, TestServiceType.Enum.GO_SEND, 10)));
+        assertFalse(protoFilter.test(descriptor, booking(TestBookingStatus.Enum.CREATED, TestServiceType.Enum.GO_SEND, 10)));
+        assertFalse(protoFilter.test(descriptor, booking(TestBookingStatus.Enum.COMPLETED, TestServiceType.Enum.GO_SHOP, 10)));
+        assertFalse(protoFilter.test(descriptor, booking(TestBookingStatus.Enum.COMPLETED, TestServiceType.Enum.GO_RIDE, 9)));
+    }
+
+    @Test
+    public void shouldCompareStringFields() {
+        ProtoFilter protoFilter = new ProtoFilter("order_number = 'order-1'");
+
+        assertTrue(protoFilter.test(descriptor, booking(TestBookingStatus.Enum.COMPLETED, TestServiceType.Enum.GO_RIDE, 0)));
+        assertFalse(new ProtoFilter("order_number != 'order-1'").test(descriptor, booking(TestBookingStatus.Enum.COMPLETED, TestServiceType.Enum.GO_RIDE, 0)));
+    }
+
+    @Test
+    public void shouldUseDefaultValuesForFieldsMissingFromTheMessage() {
+        byte[] message = TestBookingLogMessage.newBuilder().setOrderNumber("order-1").build().toByteArray();
+
+        assertTrue(new ProtoFilter("status = 'UNKNOWN' AND customer_id = '' AND cancel_reason_id = 0").test(descriptor, message));
+        assertFalse(new ProtoFilter("status = 'COMPLETED'").test(descriptor, message));
+    }
+
+    @Test
+    public void shouldCompareNestedFields() {
+        byte[] message = TestBookingLogMessage.newBuilder()
+                .setDriverPickupLocation(TestLocation.newBuilder().setName("home").setLatitude(-6.2).build())
+                .build()
+                .toByteArray();
+
+        assertTrue(new ProtoFilter("driver_pickup_location.latitude < -6 AND driver_pickup_location.name = 'home'").test(descriptor, message));
+        assertFalse(new ProtoFilter("driver_pickup_location.latitude > -6").test(descriptor, message));
+    }
+
+    @Test
+    public void shouldCompareFloatFieldsAtFloatPrecision() {
+        byte[] message = TestBookingLogMessage.newBuilder().setAmountPaidByCash(1.1f).build().toByteArray();
+
+        assertTrue(new ProtoFilter("amount_paid_by_cash = 1.1").test(descriptor, message));
+        assertTrue(new ProtoFilter("amount_paid_by_cash >= 1.1 AND amount_paid_by_cash <= 1.1").test(descriptor, message));
+        assertFalse(new ProtoFilter("amount_paid_by_cash > 1.1").test(descriptor, message));
+        assertFalse(new ProtoFilter("amount_paid_by_cash = 1.2").test(descriptor, message));
+    }
+
+    @Test
+    public void shouldLetThroughMessagesWhichCanNotBeRead() {
+        ProtoFilter protoFilter = new ProtoFilter("status = 'COMPLETED'");
+
+        assertTrue(protoFilter.test(descriptor, new byte[]{(byte) 0xFF}));
+        assertTrue(protoFilter.test(descriptor, null));
+    }
+
+    @Test(expected = DaggerConfigurationException.class)
+    public void shouldThrowExceptionForUnknownField() {
+        new ProtoFilter("unknown_field = 'x'").bind(descriptor);
+    }
+
+    @Test(expected = DaggerConfigurationException.class)
+    public void shouldThrowExceptionForUnknownEnumValue() {
+        new ProtoFilter("status = 'CANCELLED'").bind(descriptor);
+    }
+
+    @Test(expected = DaggerConfigurationException.class)
+    public void shouldThrowExceptionForRangeOnEnumField() {
+        new ProtoFilter("status > 'CREATED'").bind(descriptor);
+    }
+
+    @Test(expected = DaggerConfigurationException.class)
+    public void shouldThrowExceptionForMessageField() {
+        new ProtoFilter("driver_pickup_location = 'home'").bind(descriptor);
+    }
+
+    @Test(expected = DaggerConfigurationException.class)
+    public void shouldThrowExceptionForInvalidNumber() {
+        new ProtoFilter("cancel_reason_id = 'ten'").bind(descriptor);
+    }
+}
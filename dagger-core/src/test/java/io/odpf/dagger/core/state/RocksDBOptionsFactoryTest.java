@@ -0,0 +1,66 @@
+package io.odpf.dagger.core.state;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.CompactionStyle;
+import org.rocksdb.RocksDB;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class RocksDBOptionsFactoryTest {
+
+    @BeforeClass
+    public static void loadLibrary() {
+        RocksDB.loadLibrary();
+    }
+
+    @Test
+    public void shouldApplyConfiguredColumnOptions() {
+        RocksDBOptionsFactory optionsFactory = new RocksDBOptionsFactory(0, 64 * 1024 * 1024, 4, CompactionStyle.UNIVERSAL);
+
+        try (ColumnFamilyOptions options = optionsFactory.createColumnOptions(new ColumnFamilyOptions())) {
+            assertEquals(64 * 1024 * 1024, options.writeBufferSize());
+            assertEquals(4, options.maxWriteBufferNumber());
+            assertEquals(CompactionStyle.UNIVERSAL, options.compactionStyle());
+        }
+        assertFalse(optionsFactory.isEmpty());
+    }
+
+    @Test
+    public void shouldKeepThePredefinedTableConfigWhenSettingTheBlockCache() {
+        RocksDBOptionsFactory optionsFactory = new RocksDBOptionsFactory(8 * 1024 * 1024, 0, 0, null);
+        BlockBasedTableConfig predefinedTableConfig = new BlockBasedTableConfig().setBlockSize(32 * 1024).setCacheIndexAndFilterBlocks(true);
+
+        try (ColumnFamilyOptions options = new ColumnFamilyOptions().setTableFormatConfig(predefinedTableConfig)) {
+            BlockBasedTableConfig tableConfig = (BlockBasedTableConfig) optionsFactory.createColumnOptions(options).tableFormatConfig();
+
+            assertSame(predefinedTableConfig, tableConfig);
+            assertEquals(32 * 1024, tableConfig.blockSize());
+            assertTrue(tableConfig.cacheIndexAndFilterBlocks());
+        }
+    }
+
+    @Test
+    public void shouldSetABlockBasedTableConfigWhenNoneIsPredefined() {
+        RocksDBOptionsFactory optionsFactory = new RocksDBOptionsFactory(8 * 1024 * 1024, 0, 0, null);
+
+        try (ColumnFamilyOptions options = optionsFactory.createColumnOptions(new ColumnFamilyOptions())) {
+            assertTrue(options.tableFormatConfig() instanceof BlockBasedTableConfig);
+        }
+    }
+
+    @Test
+    public void shouldKeepCurrentOptionsWhenNothingIsConfigured() {
+        RocksDBOptionsFactory optionsFactory = new RocksDBOptionsFactory(0, 0, 0, null);
+
+        try (ColumnFamilyOptions options = new ColumnFamilyOptions().setWriteBufferSize(1024 * 1024)) {
+            assertEquals(1024 * 1024, optionsFactory.createColumnOptions(options).writeBufferSize());
+        }
+        assertTrue(optionsFactory.isEmpty());
+    }
+}
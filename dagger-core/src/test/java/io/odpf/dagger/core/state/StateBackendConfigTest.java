@@ -0,0 +1,151 @@
+package io.odpf.dagger.core.state;
+
+import io.odpf.dagger.core.exception.DaggerConfigurationException;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.contrib.streaming.state.PredefinedOptions;
+import org.apache.flink.contrib.streaming.state.RocksDBStateBackend;
+import org.apache.flink.runtime.state.StateBackend;
+import org.apache.flink.runtime.state.filesystem.FsStateBackend;
+import org.apache.flink.streaming.api.CheckpointingMode;
+import org.apache.flink.streaming.api.environment.CheckpointConfig;
+import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class StateBackendConfigTest {
+
+    @Mock
+    private StreamExecutionEnvironment executionEnvironment;
+
+    @Mock
+    private CheckpointConfig checkpointConfig;
+
+    private Configuration configuration;
+
+    @Before
+    public void setup() {
+        initMocks(this);
+        configuration = new Configuration();
+        when(executionEnvironment.getCheckpointConfig()).thenReturn(checkpointConfig);
+    }
+
+    @Test
+    public void shouldKeepClusterDefaultWhenStateBackendIsNotConfigured() {
+        StateBackendConfig stateBackendConfig = new StateBackendConfig(configuration);
+
+        stateBackendConfig.apply(executionEnvironment);
+
+        verify(executionEnvironment, never()).setStateBackend(any(StateBackend.class));
+        verify(checkpointConfig).setCheckpointingMode(CheckpointingMode.EXACTLY_ONCE);
+        assertEquals(Collections.singletonList("cluster_default"), stateBackendConfig.getTelemetry().get("state_backend"));
+        assertEquals(Collections.singletonList("exactly_once"), stateBackendConfig.getTelemetry().get("checkpoint_mode"));
+    }
+
+    @Test
+    public void shouldCreateIncrementalRocksDBStateBackend() {
+        configuration.setString("FLINK_STATE_BACKEND", "rocksdb");
+        configuration.setString("FLINK_STATE_BACKEND_CHECKPOINT_PATH", "file:///tmp/checkpoints");
+        configuration.setString("FLINK_STATE_BACKEND_ROCKSDB_PREDEFINED_OPTIONS", "SPINNING_DISK_OPTIMIZED");
+
+        RocksDBStateBackend stateBackend = (RocksDBStateBackend) new StateBackendConfig(configuration).createStateBackend();
+
+        assertTrue(stateBackend.isIncrementalCheckpointsEnabled());
+        assertEquals(PredefinedOptions.SPINNING_DISK_OPTIMIZED, stateBackend.getPredefinedOptions());
+        assertNull(stateBackend.getOptions());
+    }
+
+    @Test
+    public void shouldSetCustomRocksDBOptionsAndTtlCompactionFilter() {
+        configuration.setString("FLINK_STATE_BACKEND", "ROCKSDB");
+        configuration.setString("FLINK_STATE_BACKEND_CHECKPOINT_PATH", "file:///tmp/checkpoints");
+        configuration.setBoolean("FLINK_STATE_BACKEND_ROCKSDB_INCREMENTAL_ENABLE", false);
+        configuration.setLong("FLINK_STATE_BACKEND_ROCKSDB_BLOCK_CACHE_SIZE_MB", 256L);
+        configuration.setString("FLINK_STATE_BACKEND_ROCKSDB_COMPACTION_STYLE", "universal");
+        configuration.setBoolean("FLINK_STATE_BACKEND_ROCKSDB_TTL_COMPACTION_FILTER_ENABLE", true);
+
+        StateBackendConfig stateBackendConfig = new StateBackendConfig(configuration);
+        RocksDBStateBackend stateBackend = (RocksDBStateBackend) stateBackendConfig.createStateBackend();
+
+        assertFalse(stateBackend.isIncrementalCheckpointsEnabled());
+        assertTrue(stateBackend.getOptions() instanceof RocksDBOptionsFactory);
+        assertTrue(stateBackend.isTtlCompactionFilterEnabled());
+        assertEquals(Arrays.asList("default", "custom_options", "ttl_compaction_filter"), stateBackendConfig.getTelemetry().get("state_backend_options"));
+    }
+
+    @Test
+    public void shouldCreateFileSystemStateBackend() {
+        configuration.setString("FLINK_STATE_BACKEND", "FILESYSTEM");
+        configuration.setString("FLINK_STATE_BACKEND_CHECKPOINT_PATH", "file:///tmp/checkpoints");
+
+        StateBackendConfig stateBackendConfig = new StateBackendConfig(configuration);
+
+        assertTrue(stateBackendConfig.createStateBackend() instanceof FsStateBackend);
+        assertEquals(Collections.singletonList("filesystem"), stateBackendConfig.getTelemetry().get("state_backend"));
+    }
+
+    @Test
+    public void shouldSetConfiguredCheckpointingMode() {
+        configuration.setString("FLINK_CHECKPOINT_MODE", "at_least_once");
+
+        new StateBackendConfig(configuration).apply(executionEnvironment);
+
+        verify(checkpointConfig).setCheckpointingMode(CheckpointingMode.AT_LEAST_ONCE);
+    }
+
+    @Test(expected = DaggerConfigurationException.class)
+    public void shouldThrowExceptionForInvalidStateBackend() {
+        configuration.setString("FLINK_STATE_BACKEND", "MEMORY");
+        configuration.setString("FLINK_STATE_BACKEND_CHECKPOINT_PATH", "file:///tmp/checkpoints");
+
+        new StateBackendConfig(configuration);
+    }
+
+    @Test(expected = DaggerConfigurationException.class)
+    public void shouldThrowExceptionWhenCheckpointPathIsMissing() {
+        configuration.setString("FLINK_STATE_BACKEND", "ROCKSDB");
+
+        new StateBackendConfig(configuration);
+    }
+
+    @Test(expected = DaggerConfigurationException.class)
+    public void shouldThrowExceptionForInvalidPredefinedOptions() {
+        configuration.setString("FLINK_STATE_BACKEND_ROCKSDB_PREDEFINED_OPTIONS", "FAST");
+
+        new StateBackendConfig(configuration);
+    }
+
+    @Test(expected = DaggerConfigurationException.class)
+    public void shouldThrowExceptionForInvalidCompactionStyle() {
+        configuration.setString("FLINK_STATE_BACKEND_ROCKSDB_COMPACTION_STYLE", "TIERED");
+
+        new StateBackendConfig(configuration);
+    }
+
+    @Test(expected = DaggerConfigurationException.class)
+    public void shouldThrowExceptionForNegativeWriteBufferSize() {
+        configuration.setLong("FLINK_STATE_BACKEND_ROCKSDB_WRITE_BUFFER_SIZE_MB", -1L);
+
+        new StateBackendConfig(configuration);
+    }
+
+    @Test(expected = DaggerConfigurationException.class)
+    public void shouldThrowExceptionForInvalidCheckpointingMode() {
+        configuration.setString("FLINK_CHECKPOINT_MODE", "UNALIGNED");
+
+        new StateBackendConfig(configuration);
+    }
+}
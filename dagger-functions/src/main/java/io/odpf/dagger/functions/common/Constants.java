@@ -7,4 +7,6 @@ public class Constants {
     public static final String UDF_DART_GCS_PROJECT_ID_DEFAULT = "";
     public static final String UDF_DART_GCS_BUCKET_ID_KEY = "UDF_DART_GCS_BUCKET_ID";
     public static final String UDF_DART_GCS_BUCKET_ID_DEFAULT = "";
+    public static final String UDF_DART_LOCAL_PATH_KEY = "UDF_DART_LOCAL_PATH";
+    public static final String UDF_DART_LOCAL_PATH_DEFAULT = "";
 }
@@ -84,9 +84,9 @@ public class HashTransformer extends RichMapFunction<Row, Row> implements Serial
 
     @Override
     public Row map(Row inputRow) {
-        Row outPutRow = Row.copy(inputRow);
-        for (String fieldPath : rowHasherMap.keySet()) {
-            rowHasherMap.get(fieldPath).maskRow(outPutRow);
+        Row outPutRow = inputRow;
+        for (RowHasher rowHasher : rowHasherMap.values()) {
+            outPutRow = (Row) rowHasher.maskRow(outPutRow);
         }
         return outPutRow;
     }
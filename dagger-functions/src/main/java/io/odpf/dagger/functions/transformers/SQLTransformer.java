@@ -1,5 +1,6 @@
 package io.odpf.dagger.functions.transformers;
 
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
 import org.apache.flink.configuration.Configuration;
 import org.apache.flink.streaming.api.datastream.DataStream;
 import org.apache.flink.streaming.api.datastream.SingleOutputStreamOperator;
@@ -12,6 +13,8 @@ import org.apache.flink.types.Row;
 
 import io.odpf.dagger.common.core.Transformer;
 import io.odpf.dagger.common.core.StreamInfo;
+import io.odpf.dagger.common.core.TablePlanner;
+import io.odpf.dagger.common.core.TableRowType;
 
 import java.io.Serializable;
 import java.sql.Timestamp;
@@ -28,6 +31,7 @@ public class SQLTransformer implements Serializable, Transformer {
     private final String sqlQuery;
     private final String tableName;
     private final long allowedLatenessInMs;
+    private final Configuration configuration;
     private static final String ROWTIME = "rowtime";
 
     /**
@@ -42,6 +46,7 @@ public class SQLTransformer implements Serializable, Transformer {
         this.sqlQuery = transformationArguments.get("sqlQuery");
         this.tableName = transformationArguments.getOrDefault("tableName", "data_stream");
         this.allowedLatenessInMs = Long.parseLong(transformationArguments.getOrDefault("allowedLatenessInMs", "0"));
+        this.configuration = configuration;
     }
 
     @Override
@@ -60,10 +65,12 @@ public class SQLTransformer implements Serializable, Transformer {
         streamTableEnvironment.registerDataStream(tableName, inputStream, schema);
 
         Table table = streamTableEnvironment.sqlQuery(sqlQuery);
+        RowTypeInfo rowType = TableRowType.from(table.getSchema());
         SingleOutputStreamOperator<Row> outputStream = streamTableEnvironment
-                .toRetractStream(table, Row.class)
+                .toRetractStream(table, rowType)
                 .filter(value -> value.f0)
-                .map(value -> value.f1);
+                .map(value -> value.f1)
+                .returns(rowType);
         return new StreamInfo(outputStream, table.getSchema().getFieldNames());
     }
 
@@ -74,7 +81,7 @@ public class SQLTransformer implements Serializable, Transformer {
      * @return the stream table environment
      */
     protected StreamTableEnvironment getStreamTableEnvironment(StreamExecutionEnvironment streamExecutionEnvironment) {
-        return StreamTableEnvironment.create(streamExecutionEnvironment);
+        return TablePlanner.from(configuration).createTableEnvironment(streamExecutionEnvironment, configuration);
     }
 
     private SingleOutputStreamOperator<Row> assignTimeAttribute(DataStream<Row> inputStream) {
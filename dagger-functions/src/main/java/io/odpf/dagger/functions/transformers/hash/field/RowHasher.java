@@ -8,6 +8,8 @@ import java.util.Arrays;
 
 /**
  * The Row hasher.
+ * Rows are masked copy on write, the given row and its nested rows may be shared with the input
+ * and are never modified.
  */
 public class RowHasher implements FieldHasher {
 
@@ -37,7 +39,7 @@ public class RowHasher implements FieldHasher {
 
     @Override
     public Object maskRow(Object elem) {
-        Row currentRow = (Row) elem;
+        Row currentRow = Row.copy((Row) elem);
         currentRow.setField(childIndex, child.maskRow(currentRow.getField(this.childIndex)));
         return currentRow;
     }
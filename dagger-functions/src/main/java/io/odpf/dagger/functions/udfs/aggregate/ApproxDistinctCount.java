@@ -0,0 +1,63 @@
+package io.odpf.dagger.functions.udfs.aggregate;
+
+import io.odpf.dagger.common.udfs.AggregateUdf;
+import io.odpf.dagger.functions.udfs.aggregate.accumulator.ApproxDistinctCountAccumulator;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+
+/**
+ * User-defined aggregate function to get an approximate distinct count with a HyperLogLog sketch.
+ * Unlike DistinctCount the accumulator does not grow with the number of distinct items.
+ */
+public class ApproxDistinctCount extends AggregateUdf<Long, ApproxDistinctCountAccumulator> {
+
+    @Override
+    public ApproxDistinctCountAccumulator createAccumulator() {
+        return new ApproxDistinctCountAccumulator();
+    }
+
+    @Override
+    public Long getValue(ApproxDistinctCountAccumulator accumulator) {
+        return accumulator.count();
+    }
+
+    /**
+     * Returns the approximate distinct count of a field in input stream, with the default precision.
+     *
+     * @param accumulator the accumulator
+     * @param item        the item
+     */
+    public void accumulate(ApproxDistinctCountAccumulator accumulator, String item) {
+        accumulate(accumulator, item, ApproxDistinctCountAccumulator.DEFAULT_PRECISION);
+    }
+
+    /**
+     * Returns the approximate distinct count of a field in input stream.
+     *
+     * @param accumulator the accumulator
+     * @param item        the item
+     * @param precision   the precision, between 4 and 18, the sketch takes 2^precision bytes
+     */
+    public void accumulate(ApproxDistinctCountAccumulator accumulator, String item, int precision) {
+        if (item == null) {
+            return;
+        }
+        accumulator.add(item, precision);
+    }
+
+    /**
+     * Merge the sketches of other groups or windows.
+     *
+     * @param accumulator the accumulator
+     * @param others      the accumulators to merge
+     */
+    public void merge(ApproxDistinctCountAccumulator accumulator, Iterable<ApproxDistinctCountAccumulator> others) {
+        for (ApproxDistinctCountAccumulator other : others) {
+            accumulator.merge(other);
+        }
+    }
+
+    @Override
+    public TypeInformation<ApproxDistinctCountAccumulator> getAccumulatorType() {
+        return ApproxDistinctCountAccumulator.getTypeInformation();
+    }
+}
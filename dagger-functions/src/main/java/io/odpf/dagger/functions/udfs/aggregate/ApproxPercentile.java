@@ -0,0 +1,73 @@
+package io.odpf.dagger.functions.udfs.aggregate;
+
+import io.odpf.dagger.common.udfs.AggregateUdf;
+import io.odpf.dagger.functions.udfs.aggregate.accumulator.PercentileSketchAccumulator;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+
+import java.math.BigDecimal;
+
+/**
+ * User-defined aggregate function to get an approximate percentile with a t-digest sketch.
+ * Unlike PercentileAggregator the accumulator does not grow with the number of values.
+ */
+public class ApproxPercentile extends AggregateUdf<Double, PercentileSketchAccumulator> {
+
+    @Override
+    public PercentileSketchAccumulator createAccumulator() {
+        return new PercentileSketchAccumulator();
+    }
+
+    @Override
+    public Double getValue(PercentileSketchAccumulator accumulator) {
+        if (accumulator.count() == 0) {
+            return null;
+        }
+        return accumulator.getPercentileValue(accumulator.getPercentiles()[0]);
+    }
+
+    /**
+     * Returns the approximate percentile of a field in input stream, with the default compression.
+     *
+     * @param accumulator the accumulator
+     * @param percentile  the percentile, between 0 and 100
+     * @param value       the value
+     */
+    public void accumulate(PercentileSketchAccumulator accumulator, BigDecimal percentile, BigDecimal value) {
+        accumulate(accumulator, percentile, value, PercentileSketchAccumulator.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Returns the approximate percentile of a field in input stream.
+     *
+     * @param accumulator the accumulator
+     * @param percentile  the percentile, between 0 and 100
+     * @param value       the value
+     * @param compression the compression, between 10 and 1000, higher is more accurate and keeps more centroids
+     */
+    public void accumulate(PercentileSketchAccumulator accumulator, BigDecimal percentile, BigDecimal value, int compression) {
+        if (value == null) {
+            return;
+        }
+        if (accumulator.getPercentiles() == null) {
+            accumulator.setPercentiles(new double[]{percentile.doubleValue()});
+        }
+        accumulator.add(value.doubleValue(), compression);
+    }
+
+    /**
+     * Merge the sketches of other groups or windows.
+     *
+     * @param accumulator the accumulator
+     * @param others      the accumulators to merge
+     */
+    public void merge(PercentileSketchAccumulator accumulator, Iterable<PercentileSketchAccumulator> others) {
+        for (PercentileSketchAccumulator other : others) {
+            accumulator.merge(other);
+        }
+    }
+
+    @Override
+    public TypeInformation<PercentileSketchAccumulator> getAccumulatorType() {
+        return PercentileSketchAccumulator.getTypeInformation();
+    }
+}
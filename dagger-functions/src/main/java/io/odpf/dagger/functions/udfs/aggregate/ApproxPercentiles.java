@@ -0,0 +1,78 @@
+package io.odpf.dagger.functions.udfs.aggregate;
+
+import io.odpf.dagger.common.udfs.AggregateUdf;
+import io.odpf.dagger.functions.udfs.aggregate.accumulator.PercentileSketchAccumulator;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * User-defined aggregate function to get several approximate percentiles from a single t-digest sketch.
+ */
+public class ApproxPercentiles extends AggregateUdf<Double[], PercentileSketchAccumulator> {
+
+    @Override
+    public PercentileSketchAccumulator createAccumulator() {
+        return new PercentileSketchAccumulator();
+    }
+
+    @Override
+    public Double[] getValue(PercentileSketchAccumulator accumulator) {
+        if (accumulator.count() == 0) {
+            return null;
+        }
+        return Arrays.stream(accumulator.getPercentiles())
+                .mapToObj(accumulator::getPercentileValue)
+                .toArray(Double[]::new);
+    }
+
+    /**
+     * Returns the approximate percentiles of a field in input stream, with the default compression.
+     *
+     * @param accumulator the accumulator
+     * @param percentiles the comma separated percentiles, each between 0 and 100
+     * @param value       the value
+     */
+    public void accumulate(PercentileSketchAccumulator accumulator, String percentiles, BigDecimal value) {
+        accumulate(accumulator, percentiles, value, PercentileSketchAccumulator.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Returns the approximate percentiles of a field in input stream.
+     *
+     * @param accumulator the accumulator
+     * @param percentiles the comma separated percentiles, each between 0 and 100
+     * @param value       the value
+     * @param compression the compression, between 10 and 1000, higher is more accurate and keeps more centroids
+     */
+    public void accumulate(PercentileSketchAccumulator accumulator, String percentiles, BigDecimal value, int compression) {
+        if (value == null) {
+            return;
+        }
+        if (accumulator.getPercentiles() == null) {
+            accumulator.setPercentiles(Arrays.stream(percentiles.split(","))
+                    .map(String::trim)
+                    .mapToDouble(Double::parseDouble)
+                    .toArray());
+        }
+        accumulator.add(value.doubleValue(), compression);
+    }
+
+    /**
+     * Merge the sketches of other groups or windows.
+     *
+     * @param accumulator the accumulator
+     * @param others      the accumulators to merge
+     */
+    public void merge(PercentileSketchAccumulator accumulator, Iterable<PercentileSketchAccumulator> others) {
+        for (PercentileSketchAccumulator other : others) {
+            accumulator.merge(other);
+        }
+    }
+
+    @Override
+    public TypeInformation<PercentileSketchAccumulator> getAccumulatorType() {
+        return PercentileSketchAccumulator.getTypeInformation();
+    }
+}
@@ -2,6 +2,7 @@ package io.odpf.dagger.functions.udfs.aggregate;
 
 import io.odpf.dagger.common.udfs.AggregateUdf;
 import io.odpf.dagger.functions.udfs.aggregate.accumulator.ArrayAccumulator;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
 
 import java.util.ArrayList;
 
@@ -30,4 +31,31 @@ public class CollectArray extends AggregateUdf<ArrayList<Object>, ArrayAccumulat
     public ArrayList<Object> getValue(ArrayAccumulator arrayAccumulator) {
         return arrayAccumulator.emit();
     }
+
+    /**
+     * Remove one occurrence of a retracted object.
+     *
+     * @param arrayAccumulator the array accumulator
+     * @param obj              the obj
+     */
+    public void retract(ArrayAccumulator arrayAccumulator, Object obj) {
+        arrayAccumulator.remove(obj);
+    }
+
+    /**
+     * Merge the accumulators of other groups or windows.
+     *
+     * @param arrayAccumulator the array accumulator
+     * @param others           the accumulators to merge
+     */
+    public void merge(ArrayAccumulator arrayAccumulator, Iterable<ArrayAccumulator> others) {
+        for (ArrayAccumulator other : others) {
+            arrayAccumulator.merge(other);
+        }
+    }
+
+    @Override
+    public TypeInformation<ArrayAccumulator> getAccumulatorType() {
+        return ArrayAccumulator.getTypeInformation();
+    }
 }
@@ -3,6 +3,7 @@ package io.odpf.dagger.functions.udfs.aggregate;
 import io.odpf.dagger.common.udfs.AggregateUdf;
 
 import io.odpf.dagger.functions.udfs.aggregate.accumulator.DistinctCountAccumulator;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
 
 /**
  * User-defined aggregate function to get Distinct count.
@@ -32,4 +33,34 @@ public class DistinctCount extends AggregateUdf<Integer, DistinctCountAccumulato
         }
         distinctCountAccumulator.add(item);
     }
+
+    /**
+     * Remove one occurrence of a retracted item.
+     *
+     * @param distinctCountAccumulator the distinct count accumulator
+     * @param item                     fieldName
+     */
+    public void retract(DistinctCountAccumulator distinctCountAccumulator, String item) {
+        if (item == null) {
+            return;
+        }
+        distinctCountAccumulator.remove(item);
+    }
+
+    /**
+     * Merge the accumulators of other groups or windows.
+     *
+     * @param distinctCountAccumulator the distinct count accumulator
+     * @param others                   the accumulators to merge
+     */
+    public void merge(DistinctCountAccumulator distinctCountAccumulator, Iterable<DistinctCountAccumulator> others) {
+        for (DistinctCountAccumulator other : others) {
+            distinctCountAccumulator.merge(other);
+        }
+    }
+
+    @Override
+    public TypeInformation<DistinctCountAccumulator> getAccumulatorType() {
+        return DistinctCountAccumulator.getTypeInformation();
+    }
 }
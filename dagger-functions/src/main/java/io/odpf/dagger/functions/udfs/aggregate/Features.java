@@ -3,6 +3,7 @@ package io.odpf.dagger.functions.udfs.aggregate;
 import io.odpf.dagger.common.udfs.AggregateUdf;
 import io.odpf.dagger.functions.exceptions.OddNumberOfArgumentsException;
 import io.odpf.dagger.functions.udfs.aggregate.accumulator.FeatureAccumulator;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
 import org.apache.flink.types.Row;
 
 /**
@@ -38,4 +39,36 @@ public class Features extends AggregateUdf<Row[], FeatureAccumulator> {
             featureAccumulator.add(String.valueOf(objects[elementIndex]), objects[elementIndex + 1]);
         }
     }
+
+    /**
+     * Retract.
+     *
+     * @param featureAccumulator the feature accumulator
+     * @param objects            the objects as arguments
+     */
+    public void retract(FeatureAccumulator featureAccumulator, Object... objects) {
+        if (objects.length % 2 != 0) {
+            throw new OddNumberOfArgumentsException();
+        }
+        for (int elementIndex = 0; elementIndex < objects.length; elementIndex += 2) {
+            featureAccumulator.remove(String.valueOf(objects[elementIndex]), objects[elementIndex + 1]);
+        }
+    }
+
+    /**
+     * Merge the accumulators of other groups or windows.
+     *
+     * @param featureAccumulator the feature accumulator
+     * @param others             the accumulators to merge
+     */
+    public void merge(FeatureAccumulator featureAccumulator, Iterable<FeatureAccumulator> others) {
+        for (FeatureAccumulator other : others) {
+            featureAccumulator.merge(other);
+        }
+    }
+
+    @Override
+    public TypeInformation<FeatureAccumulator> getAccumulatorType() {
+        return FeatureAccumulator.getTypeInformation();
+    }
 }
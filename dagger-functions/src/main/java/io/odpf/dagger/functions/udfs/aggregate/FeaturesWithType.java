@@ -4,6 +4,7 @@ import io.odpf.dagger.common.udfs.AggregateUdf;
 import io.odpf.dagger.functions.exceptions.InvalidNumberOfArgumentsException;
 import io.odpf.dagger.functions.udfs.aggregate.accumulator.FeatureWithTypeAccumulator;
 import io.odpf.dagger.functions.udfs.aggregate.feast.handler.ValueEnum;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
 import org.apache.flink.types.Row;
 
 import static io.odpf.dagger.functions.common.Constants.NUMBER_OF_ARGUMENTS_IN_FEATURE_ACCUMULATOR;
@@ -53,6 +54,23 @@ public class FeaturesWithType extends AggregateUdf<Row[], FeatureWithTypeAccumul
         }
     }
 
+    /**
+     * Merge the accumulators of other groups or windows.
+     *
+     * @param featureAccumulator the feature accumulator
+     * @param others             the accumulators to merge
+     */
+    public void merge(FeatureWithTypeAccumulator featureAccumulator, Iterable<FeatureWithTypeAccumulator> others) {
+        for (FeatureWithTypeAccumulator other : others) {
+            featureAccumulator.merge(other);
+        }
+    }
+
+    @Override
+    public TypeInformation<FeatureWithTypeAccumulator> getAccumulatorType() {
+        return FeatureWithTypeAccumulator.getTypeInformation();
+    }
+
     private void validate(Object[] objects) {
         if (objects.length % NUMBER_OF_ARGUMENTS_IN_FEATURE_ACCUMULATOR != 0) {
             throw new InvalidNumberOfArgumentsException();
@@ -3,12 +3,13 @@ package io.odpf.dagger.functions.udfs.aggregate;
 
 import io.odpf.dagger.common.udfs.AggregateUdf;
 import io.odpf.dagger.functions.udfs.aggregate.accumulator.PercentileAccumulator;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
 
 import java.math.BigDecimal;
 
 
 /**
- * User-defined aggregate function to get Percentile.
+ * User-defined aggregate function to get the exact Percentile, see ApproxPercentile for a bounded memory estimate.
  *
  * @author lavkesh.lahngir
  * @team lens @go-jek.com
@@ -35,5 +36,33 @@ public class PercentileAggregator extends AggregateUdf<Double, PercentileAccumul
     public void accumulate(PercentileAccumulator acc, BigDecimal percentile, BigDecimal dValue) {
         acc.add(percentile.doubleValue(), dValue.doubleValue());
     }
+
+    /**
+     * Retract.
+     *
+     * @param acc        the acc
+     * @param percentile the percentile
+     * @param dValue     the d value
+     */
+    public void retract(PercentileAccumulator acc, BigDecimal percentile, BigDecimal dValue) {
+        acc.remove(dValue.doubleValue());
+    }
+
+    /**
+     * Merge the accumulators of other groups or windows.
+     *
+     * @param acc    the acc
+     * @param others the accumulators to merge
+     */
+    public void merge(PercentileAccumulator acc, Iterable<PercentileAccumulator> others) {
+        for (PercentileAccumulator other : others) {
+            acc.merge(other);
+        }
+    }
+
+    @Override
+    public TypeInformation<PercentileAccumulator> getAccumulatorType() {
+        return PercentileAccumulator.getTypeInformation();
+    }
 }
 
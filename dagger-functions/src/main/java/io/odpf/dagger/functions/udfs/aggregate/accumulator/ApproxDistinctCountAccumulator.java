@@ -0,0 +1,178 @@
+package io.odpf.dagger.functions.udfs.aggregate.accumulator;
+
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The accumulator for ApproxDistinctCount udf, a HyperLogLog sketch.
+ * Items are hashed to 64 bits, the first precision bits pick one of 2^precision registers which keeps the
+ * longest run of leading zeros seen in the remaining bits. The size is fixed at 2^precision bytes whatever the
+ * number of items, the standard error of the estimate is 1.04 / sqrt(2^precision).
+ */
+public class ApproxDistinctCountAccumulator implements Serializable {
+    /**
+     * The lowest supported precision.
+     */
+    public static final int MIN_PRECISION = 4;
+    /**
+     * The highest supported precision.
+     */
+    public static final int MAX_PRECISION = 18;
+    /**
+     * The default precision, 4KB of registers and a standard error of 1.6%.
+     */
+    public static final int DEFAULT_PRECISION = 12;
+
+    private static final int REGISTERS_16 = 16;
+    private static final int REGISTERS_32 = 32;
+    private static final int REGISTERS_64 = 64;
+    private static final double ALPHA_16 = 0.673;
+    private static final double ALPHA_32 = 0.697;
+    private static final double ALPHA_64 = 0.709;
+    private static final double ALPHA_BASE = 0.7213;
+    private static final double ALPHA_CORRECTION = 1.079;
+    private static final double LINEAR_COUNTING_THRESHOLD = 2.5;
+    private static final long MURMUR_SEED = 0x9747b28cL;
+    private static final long MURMUR_MULTIPLIER = 0xc6a4a7935bd1e995L;
+    private static final int MURMUR_SHIFT = 47;
+    private static final int BYTE_MASK = 0xff;
+
+    private int precision;
+    private byte[] registers;
+
+    /**
+     * Add an item.
+     *
+     * @param item          the item
+     * @param itemPrecision the precision of the sketch, used when it is created by the first item
+     */
+    public void add(String item, int itemPrecision) {
+        if (registers == null) {
+            if (itemPrecision < MIN_PRECISION || itemPrecision > MAX_PRECISION) {
+                throw new IllegalArgumentException("ApproxDistinctCount precision should be between " + MIN_PRECISION + " and " + MAX_PRECISION + ", got " + itemPrecision);
+            }
+            precision = itemPrecision;
+            registers = new byte[1 << precision];
+        }
+        long hash = hash(item.getBytes(StandardCharsets.UTF_8));
+        int index = (int) (hash >>> (Long.SIZE - precision));
+        byte rank = (byte) (Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+
+    /**
+     * Merge another sketch into this one, both should have the same precision.
+     *
+     * @param other the other sketch
+     */
+    public void merge(ApproxDistinctCountAccumulator other) {
+        if (other.registers == null) {
+            return;
+        }
+        if (registers == null) {
+            precision = other.precision;
+            registers = other.registers.clone();
+            return;
+        }
+        if (precision != other.precision) {
+            throw new IllegalArgumentException("Can not merge ApproxDistinctCount sketches of precision " + precision + " and " + other.precision);
+        }
+        for (int i = 0; i < registers.length; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    /**
+     * Estimate the number of distinct items added.
+     *
+     * @return the estimated count
+     */
+    public long count() {
+        if (registers == null) {
+            return 0;
+        }
+        int registerCount = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += Math.scalb(1.0, -register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double estimate = alpha(registerCount) * registerCount * registerCount / sum;
+        if (estimate <= LINEAR_COUNTING_THRESHOLD * registerCount && zeros > 0) {
+            estimate = registerCount * Math.log((double) registerCount / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    /**
+     * Gets the precision, 0 before the first item.
+     *
+     * @return the precision
+     */
+    public int getPrecision() {
+        return precision;
+    }
+
+    /**
+     * Gets the type information of the accumulator, so it is serialized as a POJO rather than with Kryo.
+     *
+     * @return the type information
+     */
+    public static TypeInformation<ApproxDistinctCountAccumulator> getTypeInformation() {
+        Map<String, TypeInformation<?>> fields = new HashMap<>();
+        fields.put("precision", Types.INT);
+        fields.put("registers", Types.PRIMITIVE_ARRAY(Types.BYTE));
+        return Types.POJO(ApproxDistinctCountAccumulator.class, fields);
+    }
+
+    private static double alpha(int registerCount) {
+        switch (registerCount) {
+            case REGISTERS_16:
+                return ALPHA_16;
+            case REGISTERS_32:
+                return ALPHA_32;
+            case REGISTERS_64:
+                return ALPHA_64;
+            default:
+                return ALPHA_BASE / (1 + ALPHA_CORRECTION / registerCount);
+        }
+    }
+
+    private static long hash(byte[] data) {
+        long hash = MURMUR_SEED ^ (data.length * MURMUR_MULTIPLIER);
+        int blockEnd = data.length - data.length % Long.BYTES;
+        for (int offset = 0; offset < blockEnd; offset += Long.BYTES) {
+            long block = 0;
+            for (int i = Long.BYTES - 1; i >= 0; i--) {
+                block = (block << Byte.SIZE) | (data[offset + i] & BYTE_MASK);
+            }
+            block *= MURMUR_MULTIPLIER;
+            block ^= block >>> MURMUR_SHIFT;
+            block *= MURMUR_MULTIPLIER;
+            hash ^= block;
+            hash *= MURMUR_MULTIPLIER;
+        }
+        if (blockEnd < data.length) {
+            for (int i = data.length - 1; i >= blockEnd; i--) {
+                hash ^= (long) (data[i] & BYTE_MASK) << (Byte.SIZE * (i - blockEnd));
+            }
+            hash *= MURMUR_MULTIPLIER;
+        }
+        hash ^= hash >>> MURMUR_SHIFT;
+        hash *= MURMUR_MULTIPLIER;
+        hash ^= hash >>> MURMUR_SHIFT;
+        return hash;
+    }
+}
@@ -1,7 +1,11 @@
 package io.odpf.dagger.functions.udfs.aggregate.accumulator;
 
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
+
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 
 /**
  * The accumulator for CollectArray udf.
@@ -19,6 +23,24 @@ public class ArrayAccumulator implements Serializable {
         arrayList.add(object);
     }
 
+    /**
+     * Remove one occurrence of an object from array list.
+     *
+     * @param object the object
+     */
+    public void remove(Object object) {
+        arrayList.remove(object);
+    }
+
+    /**
+     * Merge another accumulator into this one.
+     *
+     * @param other the other accumulator
+     */
+    public void merge(ArrayAccumulator other) {
+        arrayList.addAll(other.arrayList);
+    }
+
     /**
      * Emit array list.
      *
@@ -27,4 +49,13 @@ public class ArrayAccumulator implements Serializable {
     public ArrayList<Object> emit() {
         return arrayList;
     }
+
+    /**
+     * Gets the type information of the accumulator, so it is serialized as a POJO rather than with Kryo.
+     *
+     * @return the type information
+     */
+    public static TypeInformation<ArrayAccumulator> getTypeInformation() {
+        return Types.POJO(ArrayAccumulator.class, Collections.singletonMap("arrayList", Types.LIST(Types.GENERIC(Object.class))));
+    }
 }
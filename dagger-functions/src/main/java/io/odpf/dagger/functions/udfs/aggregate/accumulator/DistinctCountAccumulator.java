@@ -1,13 +1,17 @@
 package io.odpf.dagger.functions.udfs.aggregate.accumulator;
 
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
+
 import java.io.Serializable;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.HashMap;
 
 /**
- * The accumulator for DistinctCount udf.
+ * The accumulator for DistinctCount udf, keeps the number of occurrences of every item so items can be retracted.
  */
 public class DistinctCountAccumulator implements Serializable {
-    private HashSet<String> distinctItems = new HashSet<>();
+    private HashMap<String, Integer> distinctItems = new HashMap<>();
 
     /**
      * Count size of the distinct items.
@@ -24,6 +28,33 @@ public class DistinctCountAccumulator implements Serializable {
      * @param item the item
      */
     public void add(String item) {
-        distinctItems.add(item);
+        distinctItems.merge(item, 1, Integer::sum);
+    }
+
+    /**
+     * Remove one occurrence of an item.
+     *
+     * @param item the item
+     */
+    public void remove(String item) {
+        distinctItems.computeIfPresent(item, (key, occurrences) -> occurrences == 1 ? null : occurrences - 1);
+    }
+
+    /**
+     * Merge another accumulator into this one.
+     *
+     * @param other the other accumulator
+     */
+    public void merge(DistinctCountAccumulator other) {
+        other.distinctItems.forEach((item, occurrences) -> distinctItems.merge(item, occurrences, Integer::sum));
+    }
+
+    /**
+     * Gets the type information of the accumulator, so it is serialized as a POJO rather than with Kryo.
+     *
+     * @return the type information
+     */
+    public static TypeInformation<DistinctCountAccumulator> getTypeInformation() {
+        return Types.POJO(DistinctCountAccumulator.class, Collections.singletonMap("distinctItems", Types.MAP(Types.STRING, Types.INT)));
     }
 }
@@ -1,11 +1,14 @@
 package io.odpf.dagger.functions.udfs.aggregate.accumulator;
 
 import io.odpf.dagger.functions.udfs.aggregate.feast.FeatureUtils;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.types.Row;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -25,6 +28,25 @@ public class FeatureAccumulator implements Serializable {
         features.add(new Tuple2<>(key, value));
     }
 
+    /**
+     * Remove one occurrence of a feature.
+     *
+     * @param key   the key
+     * @param value the value
+     */
+    public void remove(String key, Object value) {
+        features.remove(new Tuple2<>(key, value));
+    }
+
+    /**
+     * Merge another accumulator into this one.
+     *
+     * @param other the other accumulator
+     */
+    public void merge(FeatureAccumulator other) {
+        features.addAll(other.features);
+    }
+
     /**
      * Get features rows.
      *
@@ -39,4 +61,14 @@ public class FeatureAccumulator implements Serializable {
         }
         return featureRows.toArray(new Row[0]);
     }
+
+    /**
+     * Gets the type information of the accumulator, so it is serialized as a POJO rather than with Kryo.
+     *
+     * @return the type information
+     */
+    public static TypeInformation<FeatureAccumulator> getTypeInformation() {
+        return Types.POJO(FeatureAccumulator.class, Collections.singletonMap("features",
+                Types.LIST(Types.TUPLE(Types.STRING, Types.GENERIC(Object.class)))));
+    }
 }
@@ -2,11 +2,14 @@ package io.odpf.dagger.functions.udfs.aggregate.accumulator;
 
 import io.odpf.dagger.functions.udfs.aggregate.feast.FeatureUtils;
 import io.odpf.dagger.functions.udfs.aggregate.feast.handler.ValueEnum;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
 import org.apache.flink.api.java.tuple.Tuple3;
 import org.apache.flink.types.Row;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 
 /**
@@ -56,6 +59,25 @@ public class FeatureWithTypeAccumulator implements Serializable {
         features.remove(getMapKey(key, featureTuple.hashCode()));
     }
 
+    /**
+     * Merge another accumulator into this one.
+     *
+     * @param other the other accumulator
+     */
+    public void merge(FeatureWithTypeAccumulator other) {
+        features.putAll(other.features);
+    }
+
+    /**
+     * Gets the type information of the accumulator, so it is serialized as a POJO rather than with Kryo.
+     *
+     * @return the type information
+     */
+    public static TypeInformation<FeatureWithTypeAccumulator> getTypeInformation() {
+        return Types.POJO(FeatureWithTypeAccumulator.class, Collections.singletonMap("features",
+                Types.MAP(Types.STRING, Types.TUPLE(Types.STRING, Types.GENERIC(Object.class), Types.ENUM(ValueEnum.class)))));
+    }
+
     private String getMapKey(String key, Integer hashcode) {
         return String.format("%s-%d", key, hashcode);
     }
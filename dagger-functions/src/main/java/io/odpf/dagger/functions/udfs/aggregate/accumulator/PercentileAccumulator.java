@@ -1,13 +1,17 @@
 package io.odpf.dagger.functions.udfs.aggregate.accumulator;
 
 import org.apache.commons.math3.stat.descriptive.rank.Percentile;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
- * The accumulator for Percentile udf.
+ * The accumulator for Percentile udf, keeps every value to compute the exact percentile.
  */
 public class PercentileAccumulator implements Serializable {
     private List<Double> dValueList = new ArrayList<>();
@@ -24,6 +28,27 @@ public class PercentileAccumulator implements Serializable {
         dValueList.add(dValue);
     }
 
+    /**
+     * Remove one occurrence of a value.
+     *
+     * @param dValue the double value
+     */
+    public void remove(double dValue) {
+        dValueList.remove(Double.valueOf(dValue));
+    }
+
+    /**
+     * Merge another accumulator into this one.
+     *
+     * @param other the other accumulator
+     */
+    public void merge(PercentileAccumulator other) {
+        if (dValueList.isEmpty()) {
+            percentile = other.percentile;
+        }
+        dValueList.addAll(other.dValueList);
+    }
+
     /**
      * Gets percentile value.
      *
@@ -31,7 +56,19 @@ public class PercentileAccumulator implements Serializable {
      */
     public double getPercentileValue() {
         return new Percentile(this.percentile).
-                evaluate(dValueList.stream().sorted().mapToDouble(Double::doubleValue).toArray(), 0, dValueList.size());
+                evaluate(dValueList.stream().mapToDouble(Double::doubleValue).toArray());
+    }
+
+    /**
+     * Gets the type information of the accumulator, so it is serialized as a POJO rather than with Kryo.
+     *
+     * @return the type information
+     */
+    public static TypeInformation<PercentileAccumulator> getTypeInformation() {
+        Map<String, TypeInformation<?>> fields = new HashMap<>();
+        fields.put("dValueList", Types.LIST(Types.DOUBLE));
+        fields.put("percentile", Types.DOUBLE);
+        return Types.POJO(PercentileAccumulator.class, fields);
     }
 }
 
@@ -0,0 +1,264 @@
+package io.odpf.dagger.functions.udfs.aggregate.accumulator;
+
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The accumulator for ApproxPercentile and ApproxPercentiles udfs, a merging t-digest.
+ * Values are buffered and periodically merged into a bounded number of weighted centroids, kept small near the
+ * extremes and larger around the median so that tail percentiles stay accurate. The memory used depends on the
+ * compression only, never on the number of values.
+ */
+public class PercentileSketchAccumulator implements Serializable {
+    /**
+     * The default compression, about a hundred centroids.
+     */
+    public static final int DEFAULT_COMPRESSION = 100;
+    /**
+     * The lowest supported compression.
+     */
+    public static final int MIN_COMPRESSION = 10;
+    /**
+     * The highest supported compression.
+     */
+    public static final int MAX_COMPRESSION = 1000;
+    private static final int BUFFER_FACTOR = 5;
+    private static final double PERCENT = 100.0;
+    private static final double MAX_SCALE_FRACTION = 0.25;
+
+    private int compression;
+    private double[] percentiles;
+    private double[] means = new double[0];
+    private double[] weights = new double[0];
+    private int centroidCount;
+    private double[] bufferedValues = new double[0];
+    private double[] bufferedWeights = new double[0];
+    private int bufferedCount;
+    private double totalWeight;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Add a value.
+     *
+     * @param value             the value
+     * @param sketchCompression the compression of the sketch, used when it is created by the first value
+     */
+    public void add(double value, int sketchCompression) {
+        initialize(sketchCompression);
+        addWeighted(value, 1);
+    }
+
+    /**
+     * Merge another sketch into this one.
+     *
+     * @param other the other sketch
+     */
+    public void merge(PercentileSketchAccumulator other) {
+        if (percentiles == null) {
+            percentiles = other.percentiles;
+        }
+        if (other.totalWeight == 0) {
+            return;
+        }
+        initialize(other.compression);
+        for (int i = 0; i < other.centroidCount; i++) {
+            addWeighted(other.means[i], other.weights[i]);
+        }
+        for (int i = 0; i < other.bufferedCount; i++) {
+            addWeighted(other.bufferedValues[i], other.bufferedWeights[i]);
+        }
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Estimate the value at a percentile.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the value, NaN if no value was added
+     */
+    public double getPercentileValue(double percentile) {
+        if (percentile < 0 || percentile > PERCENT) {
+            throw new IllegalArgumentException("Percentile should be between 0 and 100, got " + percentile);
+        }
+        if (totalWeight == 0) {
+            return Double.NaN;
+        }
+        compress();
+        if (centroidCount == 1) {
+            return means[0];
+        }
+        double index = percentile / PERCENT * totalWeight;
+        double firstCenter = weights[0] / 2;
+        if (index <= firstCenter) {
+            return min + (means[0] - min) * index / firstCenter;
+        }
+        double center = firstCenter;
+        for (int i = 0; i < centroidCount - 1; i++) {
+            double nextCenter = center + (weights[i] + weights[i + 1]) / 2;
+            if (index <= nextCenter) {
+                return means[i] + (means[i + 1] - means[i]) * (index - center) / (nextCenter - center);
+            }
+            center = nextCenter;
+        }
+        double lastMean = means[centroidCount - 1];
+        return lastMean + (max - lastMean) * (index - center) / (totalWeight - center);
+    }
+
+    /**
+     * Gets the number of values added.
+     *
+     * @return the count
+     */
+    public long count() {
+        return Math.round(totalWeight);
+    }
+
+    /**
+     * Gets the percentiles to report.
+     *
+     * @return the percentiles, null until set
+     */
+    public double[] getPercentiles() {
+        return percentiles;
+    }
+
+    /**
+     * Sets the percentiles to report.
+     *
+     * @param percentiles the percentiles
+     */
+    public void setPercentiles(double[] percentiles) {
+        this.percentiles = percentiles;
+    }
+
+    /**
+     * Gets the number of centroids held once merged.
+     *
+     * @return the centroid count
+     */
+    int getCentroidCount() {
+        compress();
+        return centroidCount;
+    }
+
+    /**
+     * Gets the type information of the accumulator, so it is serialized as a POJO rather than with Kryo.
+     *
+     * @return the type information
+     */
+    public static TypeInformation<PercentileSketchAccumulator> getTypeInformation() {
+        Map<String, TypeInformation<?>> fields = new HashMap<>();
+        fields.put("compression", Types.INT);
+        fields.put("percentiles", Types.PRIMITIVE_ARRAY(Types.DOUBLE));
+        fields.put("means", Types.PRIMITIVE_ARRAY(Types.DOUBLE));
+        fields.put("weights", Types.PRIMITIVE_ARRAY(Types.DOUBLE));
+        fields.put("centroidCount", Types.INT);
+        fields.put("bufferedValues", Types.PRIMITIVE_ARRAY(Types.DOUBLE));
+        fields.put("bufferedWeights", Types.PRIMITIVE_ARRAY(Types.DOUBLE));
+        fields.put("bufferedCount", Types.INT);
+        fields.put("totalWeight", Types.DOUBLE);
+        fields.put("min", Types.DOUBLE);
+        fields.put("max", Types.DOUBLE);
+        return Types.POJO(PercentileSketchAccumulator.class, fields);
+    }
+
+    private void initialize(int sketchCompression) {
+        if (compression != 0) {
+            return;
+        }
+        if (sketchCompression < MIN_COMPRESSION || sketchCompression > MAX_COMPRESSION) {
+            throw new IllegalArgumentException("Percentile sketch compression should be between " + MIN_COMPRESSION + " and " + MAX_COMPRESSION + ", got " + sketchCompression);
+        }
+        compression = sketchCompression;
+        bufferedValues = new double[BUFFER_FACTOR * compression];
+        bufferedWeights = new double[BUFFER_FACTOR * compression];
+    }
+
+    private void addWeighted(double value, double weight) {
+        if (bufferedCount == bufferedValues.length) {
+            compress();
+        }
+        bufferedValues[bufferedCount] = value;
+        bufferedWeights[bufferedCount] = weight;
+        bufferedCount++;
+        totalWeight += weight;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    private void compress() {
+        if (bufferedCount == 0) {
+            return;
+        }
+        int count = centroidCount + bufferedCount;
+        double[] allMeans = Arrays.copyOf(means, count);
+        double[] allWeights = Arrays.copyOf(weights, count);
+        System.arraycopy(bufferedValues, 0, allMeans, centroidCount, bufferedCount);
+        System.arraycopy(bufferedWeights, 0, allWeights, centroidCount, bufferedCount);
+        int[] order = new int[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        sort(order, new int[count], allMeans, 0, count);
+
+        double[] mergedMeans = new double[count];
+        double[] mergedWeights = new double[count];
+        int merged = 0;
+        double weightSoFar = 0;
+        double weightLimit = totalWeight * maxQuantile(0);
+        mergedMeans[0] = allMeans[order[0]];
+        mergedWeights[0] = allWeights[order[0]];
+        for (int i = 1; i < count; i++) {
+            double mean = allMeans[order[i]];
+            double weight = allWeights[order[i]];
+            if (weightSoFar + mergedWeights[merged] + weight <= weightLimit) {
+                mergedWeights[merged] += weight;
+                mergedMeans[merged] += (mean - mergedMeans[merged]) * weight / mergedWeights[merged];
+            } else {
+                weightSoFar += mergedWeights[merged];
+                weightLimit = totalWeight * maxQuantile(weightSoFar / totalWeight);
+                merged++;
+                mergedMeans[merged] = mean;
+                mergedWeights[merged] = weight;
+            }
+        }
+        centroidCount = merged + 1;
+        means = Arrays.copyOf(mergedMeans, centroidCount);
+        weights = Arrays.copyOf(mergedWeights, centroidCount);
+        bufferedCount = 0;
+    }
+
+    private double maxQuantile(double quantile) {
+        double scale = compression / (2 * Math.PI) * Math.asin(2 * quantile - 1);
+        return (Math.sin(Math.min(scale + 1, compression * MAX_SCALE_FRACTION) * 2 * Math.PI / compression) + 1) / 2;
+    }
+
+    private static void sort(int[] order, int[] scratch, double[] keys, int from, int to) {
+        if (to - from < 2) {
+            return;
+        }
+        int middle = (from + to) / 2;
+        sort(order, scratch, keys, from, middle);
+        sort(order, scratch, keys, middle, to);
+        if (keys[order[middle - 1]] <= keys[order[middle]]) {
+            return;
+        }
+        System.arraycopy(order, from, scratch, from, to - from);
+        int left = from;
+        int right = middle;
+        for (int i = from; i < to; i++) {
+            if (right == to || (left < middle && keys[scratch[left]] <= keys[scratch[right]])) {
+                order[i] = scratch[left++];
+            } else {
+                order[i] = scratch[right++];
+            }
+        }
+    }
+}
@@ -6,6 +6,9 @@ import io.odpf.dagger.common.udfs.AggregateUdf;
 import io.odpf.dagger.common.udfs.ScalarUdf;
 import io.odpf.dagger.common.udfs.TableUdf;
 import io.odpf.dagger.common.udfs.UdfFactory;
+import io.odpf.dagger.functions.udfs.aggregate.ApproxDistinctCount;
+import io.odpf.dagger.functions.udfs.aggregate.ApproxPercentile;
+import io.odpf.dagger.functions.udfs.aggregate.ApproxPercentiles;
 import io.odpf.dagger.functions.udfs.aggregate.CollectArray;
 import io.odpf.dagger.functions.udfs.aggregate.DistinctCount;
 import io.odpf.dagger.functions.udfs.aggregate.Features;
@@ -73,8 +76,14 @@ public class FunctionFactory extends UdfFactory {
     @Override
     public HashSet<ScalarUdf> getScalarUdfs() {
         HashSet<ScalarUdf> scalarUdfs = new HashSet<>();
-        scalarUdfs.add(DartContains.withGcsDataStore(getGcsProjectId(), getGcsBucketId()));
-        scalarUdfs.add(DartGet.withGcsDataStore(getGcsProjectId(), getGcsBucketId()));
+        String dartLocalPath = getDartLocalPath();
+        if (dartLocalPath == null || dartLocalPath.isEmpty()) {
+            scalarUdfs.add(DartContains.withGcsDataStore(getGcsProjectId(), getGcsBucketId()));
+            scalarUdfs.add(DartGet.withGcsDataStore(getGcsProjectId(), getGcsBucketId()));
+        } else {
+            scalarUdfs.add(DartContains.withLocalDataStore(dartLocalPath));
+            scalarUdfs.add(DartGet.withLocalDataStore(dartLocalPath));
+        }
         scalarUdfs.add(new Distance());
         scalarUdfs.add(new ElementAt(getProtosInInputStreams(), stencilClientOrchestrator));
         scalarUdfs.add(new EndOfMonth());
@@ -113,6 +122,9 @@ public class FunctionFactory extends UdfFactory {
     @Override
     public HashSet<AggregateUdf> getAggregateUdfs() {
         HashSet<AggregateUdf> aggregateUdfs = new HashSet<>();
+        aggregateUdfs.add(new ApproxDistinctCount());
+        aggregateUdfs.add(new ApproxPercentile());
+        aggregateUdfs.add(new ApproxPercentiles());
         aggregateUdfs.add(new CollectArray());
         aggregateUdfs.add(new DistinctCount());
         aggregateUdfs.add(new Features());
@@ -129,6 +141,10 @@ public class FunctionFactory extends UdfFactory {
         return getConfiguration().getString(UDF_DART_GCS_BUCKET_ID_KEY, UDF_DART_GCS_BUCKET_ID_DEFAULT);
     }
 
+    private String getDartLocalPath() {
+        return getConfiguration().getString(UDF_DART_LOCAL_PATH_KEY, UDF_DART_LOCAL_PATH_DEFAULT);
+    }
+
     private LinkedHashMap<String, String> getProtosInInputStreams() {
         LinkedHashMap<String, String> protoClassForTable = new LinkedHashMap<>();
         String jsonArrayString = getConfiguration().getString(INPUT_STREAMS, "");
@@ -3,7 +3,11 @@ package io.odpf.dagger.functions.udfs.scalar;
 import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
 import io.odpf.dagger.common.udfs.ScalarUdf;
 import io.odpf.dagger.functions.udfs.scalar.dart.DartAspects;
+import io.odpf.dagger.functions.udfs.scalar.dart.DartRegistry;
+import io.odpf.dagger.functions.udfs.scalar.dart.SharedDart;
+import io.odpf.dagger.functions.udfs.scalar.dart.store.DataStore;
 import io.odpf.dagger.functions.udfs.scalar.dart.store.gcs.GcsDataStore;
+import io.odpf.dagger.functions.udfs.scalar.dart.store.local.LocalDataStore;
 import io.odpf.dagger.functions.udfs.scalar.dart.types.SetCache;
 import org.apache.flink.table.functions.FunctionContext;
 
@@ -14,18 +18,32 @@ import static io.odpf.dagger.common.core.Constants.UDF_TELEMETRY_GROUP_KEY;
 
 /**
  * The DartContains udf.
+ * Lists are shared with the other instances of the task manager through the {@link DartRegistry}.
  */
 public class DartContains extends ScalarUdf {
-    private final GcsDataStore dataStore;
-    private final Map<String, SetCache> setCache;
+    private static final String DART_PATH_PREFIX = "dart-contains/";
+    private final DataStore dataStore;
+    private transient DartRegistry dartRegistry;
+    private transient Map<String, SharedDart<SetCache>> setCache;
 
     /**
      * Instantiates a new Dart contains.
      *
      * @param dataStore the data store
      */
-    DartContains(GcsDataStore dataStore) {
+    DartContains(DataStore dataStore) {
+        this(dataStore, DartRegistry.getInstance());
+    }
+
+    /**
+     * Instantiates a new Dart contains with specified dart registry.
+     *
+     * @param dataStore    the data store
+     * @param dartRegistry the dart registry
+     */
+    DartContains(DataStore dataStore, DartRegistry dartRegistry) {
         this.dataStore = dataStore;
+        this.dartRegistry = dartRegistry;
         setCache = new HashMap<>();
     }
 
@@ -40,6 +58,16 @@ public class DartContains extends ScalarUdf {
         return new DartContains(new GcsDataStore(projectId, bucketId));
     }
 
+    /**
+     * With local data store dart contains.
+     *
+     * @param path the directory holding the darts
+     * @return the dart contains
+     */
+    public static DartContains withLocalDataStore(String path) {
+        return new DartContains(new LocalDataStore(path));
+    }
+
     @Override
     public void open(FunctionContext context) throws Exception {
         super.open(context);
@@ -47,7 +75,19 @@ public class DartContains extends ScalarUdf {
         meterStatsManager.register(UDF_TELEMETRY_GROUP_KEY, this.getName(), DartAspects.values());
         this.dataStore.setMeterStatsManager(meterStatsManager);
         this.dataStore.setGaugeStatsManager(getGaugeStatsManager());
+        if (dartRegistry == null) {
+            dartRegistry = DartRegistry.getInstance();
+            setCache = new HashMap<>();
+        }
+    }
 
+    @Override
+    public void close() throws Exception {
+        if (setCache != null) {
+            setCache.values().forEach(dartRegistry::release);
+            setCache.clear();
+        }
+        super.close();
     }
 
     /**
@@ -107,11 +147,21 @@ public class DartContains extends ScalarUdf {
     }
 
     private SetCache getListData(String listName, String field, int refreshRateInHours) {
-        if (setCache.isEmpty() || !setCache.containsKey(listName) || setCache.get(listName).hasExpired(refreshRateInHours) || setCache.get(listName).isEmpty()) {
-            setCache.put(listName, dataStore.getSet(listName));
-            dataStore.getMeterStatsManager().markEvent(DartAspects.DART_GCS_FETCH_SUCCESS);
+        SharedDart<SetCache> dart = setCache.get(listName);
+        if (dart == null) {
+            dart = dartRegistry.acquire(dataStore, DART_PATH_PREFIX + listName, () -> fetch(listName));
+            if (getGaugeStatsManager() != null) {
+                dart.registerMetrics(getGaugeStatsManager(), dataStore.getMeterStatsManager());
+            }
+            setCache.put(listName, dart);
         }
-        return setCache.get(listName);
+        return dart.get(refreshRateInHours);
+    }
+
+    private SetCache fetch(String listName) {
+        SetCache listData = dataStore.getSet(listName);
+        dataStore.getMeterStatsManager().markEvent(DartAspects.DART_GCS_FETCH_SUCCESS);
+        return listData;
     }
 
     private void updateMetrics(boolean isPresent) {
@@ -4,7 +4,11 @@ import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
 import io.odpf.dagger.common.udfs.ScalarUdf;
 import io.odpf.dagger.functions.exceptions.KeyDoesNotExistException;
 import io.odpf.dagger.functions.udfs.scalar.dart.DartAspects;
+import io.odpf.dagger.functions.udfs.scalar.dart.DartRegistry;
+import io.odpf.dagger.functions.udfs.scalar.dart.SharedDart;
+import io.odpf.dagger.functions.udfs.scalar.dart.store.DataStore;
 import io.odpf.dagger.functions.udfs.scalar.dart.store.gcs.GcsDataStore;
+import io.odpf.dagger.functions.udfs.scalar.dart.store.local.LocalDataStore;
 import io.odpf.dagger.functions.udfs.scalar.dart.types.MapCache;
 import org.apache.flink.table.functions.FunctionContext;
 
@@ -15,18 +19,32 @@ import static io.odpf.dagger.common.core.Constants.UDF_TELEMETRY_GROUP_KEY;
 
 /**
  * The DartGet udf.
+ * Maps are shared with the other instances of the task manager through the {@link DartRegistry}.
  */
 public class DartGet extends ScalarUdf {
-    private final GcsDataStore dataStore;
-    private final Map<String, MapCache> cache;
+    private static final String DART_PATH_PREFIX = "dart-get/";
+    private final DataStore dataStore;
+    private transient DartRegistry dartRegistry;
+    private transient Map<String, SharedDart<MapCache>> cache;
 
     /**
      * Instantiates a new Dart get.
      *
      * @param dataStore the data store
      */
-    public DartGet(GcsDataStore dataStore) {
+    public DartGet(DataStore dataStore) {
+        this(dataStore, DartRegistry.getInstance());
+    }
+
+    /**
+     * Instantiates a new Dart get with specified dart registry.
+     *
+     * @param dataStore    the data store
+     * @param dartRegistry the dart registry
+     */
+    DartGet(DataStore dataStore, DartRegistry dartRegistry) {
         this.dataStore = dataStore;
+        this.dartRegistry = dartRegistry;
         cache = new HashMap<>();
     }
 
@@ -41,6 +59,16 @@ public class DartGet extends ScalarUdf {
         return new DartGet(new GcsDataStore(projectId, bucketId));
     }
 
+    /**
+     * With local data store dart get.
+     *
+     * @param path the directory holding the darts
+     * @return the dart get
+     */
+    public static DartGet withLocalDataStore(String path) {
+        return new DartGet(new LocalDataStore(path));
+    }
+
     @Override
     public void open(FunctionContext context) throws Exception {
         super.open(context);
@@ -48,6 +76,19 @@ public class DartGet extends ScalarUdf {
         meterStatsManager.register(UDF_TELEMETRY_GROUP_KEY, this.getName(), DartAspects.values());
         dataStore.setMeterStatsManager(meterStatsManager);
         dataStore.setGaugeStatsManager(getGaugeStatsManager());
+        if (dartRegistry == null) {
+            dartRegistry = DartRegistry.getInstance();
+            cache = new HashMap<>();
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (cache != null) {
+            cache.values().forEach(dartRegistry::release);
+            cache.clear();
+        }
+        super.close();
     }
 
     /**
@@ -61,12 +102,9 @@ public class DartGet extends ScalarUdf {
      * @team DE
      */
     public String eval(String collectionName, String key, int refreshRateInHours) {
-        if (cache.isEmpty() || !cache.containsKey(collectionName) || cache.get(collectionName).hasExpired(refreshRateInHours) || cache.get(collectionName).isEmpty()) {
-            cache.put(collectionName, dataStore.getMap(collectionName));
-            dataStore.getMeterStatsManager().markEvent(DartAspects.DART_GCS_FETCH_SUCCESS);
-        }
+        MapCache mapCache = getMapData(collectionName, refreshRateInHours);
         dataStore.getMeterStatsManager().markEvent(DartAspects.DART_CACHE_HIT);
-        return cache.get(collectionName).get(key);
+        return mapCache.get(key);
     }
 
     /**
@@ -87,4 +125,21 @@ public class DartGet extends ScalarUdf {
         }
     }
 
+    private MapCache getMapData(String collectionName, int refreshRateInHours) {
+        SharedDart<MapCache> dart = cache.get(collectionName);
+        if (dart == null) {
+            dart = dartRegistry.acquire(dataStore, DART_PATH_PREFIX + collectionName, () -> fetch(collectionName));
+            if (getGaugeStatsManager() != null) {
+                dart.registerMetrics(getGaugeStatsManager(), dataStore.getMeterStatsManager());
+            }
+            cache.put(collectionName, dart);
+        }
+        return dart.get(refreshRateInHours);
+    }
+
+    private MapCache fetch(String collectionName) {
+        MapCache mapCache = dataStore.getMap(collectionName);
+        dataStore.getMeterStatsManager().markEvent(DartAspects.DART_GCS_FETCH_SUCCESS);
+        return mapCache;
+    }
 }
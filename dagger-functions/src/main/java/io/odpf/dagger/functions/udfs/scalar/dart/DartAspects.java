@@ -34,7 +34,19 @@ public enum DartAspects implements Aspects {
     /**
      * Dart gcs file size dart aspects.
      */
-    DART_GCS_FILE_SIZE("dart_gcs_file_size", Gauge);
+    DART_GCS_FILE_SIZE("dart_gcs_file_size", Gauge),
+    /**
+     * Dart last refresh time dart aspects.
+     */
+    DART_LAST_REFRESH_TIME("dart_last_refresh_time", Gauge),
+    /**
+     * Dart size dart aspects.
+     */
+    DART_SIZE("dart_size", Gauge),
+    /**
+     * Dart refresh failures dart aspects.
+     */
+    DART_REFRESH_FAILURES("dart_refresh_failure", Metric);
 
     private String value;
     private AspectType aspectType;
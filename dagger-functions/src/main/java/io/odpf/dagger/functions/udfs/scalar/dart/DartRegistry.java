@@ -0,0 +1,88 @@
+package io.odpf.dagger.functions.udfs.scalar.dart;
+
+import io.odpf.dagger.functions.udfs.scalar.dart.store.DataStore;
+import io.odpf.dagger.functions.udfs.scalar.dart.types.Cache;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Darts shared by all the udf instances of a task manager.
+ * Every dart is loaded once per data store and path and kept as long as an udf instance refers to it.
+ * Expired darts are reloaded on the refresh executor, see {@link SharedDart}.
+ */
+public class DartRegistry {
+    private static final DartRegistry INSTANCE = new DartRegistry(Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "dart-refresh");
+        thread.setDaemon(true);
+        return thread;
+    }));
+
+    private final Executor refreshExecutor;
+    private final Map<List<Object>, SharedDart<?>> darts = new HashMap<>();
+
+    /**
+     * Instantiates a new Dart registry with specified refresh executor.
+     *
+     * @param refreshExecutor the executor reloading expired darts
+     */
+    public DartRegistry(Executor refreshExecutor) {
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    /**
+     * Gets the dart registry of the task manager.
+     *
+     * @return the dart registry
+     */
+    public static DartRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Acquire a dart, creating it when no udf instance refers to it yet.
+     * Every acquire should be paired with a {@link #release(SharedDart)}.
+     *
+     * @param <T>       the type of the dart
+     * @param dataStore the data store the dart is loaded from
+     * @param dartPath  the path of the dart in the data store
+     * @param loader    loads the dart from the data store
+     * @return the shared dart
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized <T extends Cache> SharedDart<T> acquire(DataStore dataStore, String dartPath, Supplier<T> loader) {
+        List<Object> key = Arrays.asList(dataStore, dartPath);
+        SharedDart<T> dart = (SharedDart<T>) darts.get(key);
+        if (dart == null) {
+            dart = new SharedDart<>(key, dartPath, loader, refreshExecutor);
+            darts.put(key, dart);
+        }
+        dart.retain();
+        return dart;
+    }
+
+    /**
+     * Release a dart, it is dropped once no udf instance refers to it anymore.
+     *
+     * @param dart the dart
+     */
+    public synchronized void release(SharedDart<?> dart) {
+        if (dart.release() <= 0) {
+            darts.remove(dart.getKey(), dart);
+        }
+    }
+
+    /**
+     * Gets the number of darts held.
+     *
+     * @return the count
+     */
+    public synchronized int size() {
+        return darts.size();
+    }
+}
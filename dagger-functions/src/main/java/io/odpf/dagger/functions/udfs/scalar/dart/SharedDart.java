@@ -0,0 +1,141 @@
+package io.odpf.dagger.functions.udfs.scalar.dart;
+
+import io.odpf.dagger.common.metrics.managers.GaugeStatsManager;
+import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
+import io.odpf.dagger.functions.udfs.scalar.dart.types.Cache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * A dart held by the {@link DartRegistry}.
+ * The first read loads the dart. Afterwards reads never block: an expired or empty dart keeps being served
+ * while it is reloaded in the background, and the reloaded version replaces it at once when ready.
+ * A failed reload keeps the current version.
+ *
+ * @param <T> the type of the dart
+ */
+public class SharedDart<T extends Cache> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SharedDart.class.getName());
+    private static final String DART_PATH_GROUP_KEY = "dartpath";
+
+    private final List<Object> key;
+    private final String dartPath;
+    private final Supplier<T> loader;
+    private final Executor refreshExecutor;
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+    private volatile T data;
+    private volatile long lastRefreshTime;
+    private volatile MeterStatsManager meterStatsManager;
+    private int references;
+
+    /**
+     * Instantiates a new Shared dart.
+     *
+     * @param key             the key of the dart in the registry
+     * @param dartPath        the path of the dart in the data store
+     * @param loader          loads the dart from the data store
+     * @param refreshExecutor the executor reloading the dart
+     */
+    SharedDart(List<Object> key, String dartPath, Supplier<T> loader, Executor refreshExecutor) {
+        this.key = key;
+        this.dartPath = dartPath;
+        this.loader = loader;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    /**
+     * Gets the dart, loading it on the first call and triggering a background reload once it has expired.
+     *
+     * @param refreshRateInHours the refresh rate in hours
+     * @return the dart
+     */
+    public T get(int refreshRateInHours) {
+        T current = data;
+        if (current == null) {
+            return load();
+        }
+        if ((current.hasExpired(refreshRateInHours) || current.isEmpty()) && refreshing.compareAndSet(false, true)) {
+            refreshExecutor.execute(this::refresh);
+        }
+        return current;
+    }
+
+    /**
+     * Register the last refresh time and size gauges of the dart.
+     *
+     * @param gaugeStatsManager the gauge stats manager
+     * @param meterManager      the meter stats manager counting failed reloads
+     */
+    public void registerMetrics(GaugeStatsManager gaugeStatsManager, MeterStatsManager meterManager) {
+        gaugeStatsManager.registerGauge(DART_PATH_GROUP_KEY, dartPath, DartAspects.DART_LAST_REFRESH_TIME.getValue(), () -> lastRefreshTime);
+        gaugeStatsManager.registerGauge(DART_PATH_GROUP_KEY, dartPath, DartAspects.DART_SIZE.getValue(), () -> {
+            T current = data;
+            return current == null ? 0 : current.size();
+        });
+        this.meterStatsManager = meterManager;
+    }
+
+    /**
+     * Gets the time of the last successful load in epoch millis, 0 if not loaded yet.
+     *
+     * @return the last refresh time
+     */
+    public long getLastRefreshTime() {
+        return lastRefreshTime;
+    }
+
+    /**
+     * Gets the key of the dart in the registry.
+     *
+     * @return the key
+     */
+    List<Object> getKey() {
+        return key;
+    }
+
+    /**
+     * Count a new reference to the dart.
+     */
+    void retain() {
+        references++;
+    }
+
+    /**
+     * Drop a reference to the dart.
+     *
+     * @return the number of references left
+     */
+    int release() {
+        return --references;
+    }
+
+    private synchronized T load() {
+        if (data == null) {
+            swap(loader.get());
+        }
+        return data;
+    }
+
+    private void refresh() {
+        try {
+            swap(loader.get());
+        } catch (RuntimeException ex) {
+            LOGGER.warn("Failed to reload dart " + dartPath + ", serving the version loaded at " + lastRefreshTime, ex);
+            if (meterStatsManager != null) {
+                meterStatsManager.markEvent(DartAspects.DART_REFRESH_FAILURES);
+            }
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    private void swap(T loaded) {
+        data = loaded;
+        lastRefreshTime = System.currentTimeMillis();
+    }
+}
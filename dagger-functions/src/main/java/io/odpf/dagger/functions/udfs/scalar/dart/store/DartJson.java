@@ -0,0 +1,50 @@
+package io.odpf.dagger.functions.udfs.scalar.dart.store;
+
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.type.TypeReference;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Parses darts kept in the JSON layout, a JSON object for maps and a JSON object with a {@code data} array for sets.
+ */
+public class DartJson {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private DartJson() {
+    }
+
+    /**
+     * Parse a map dart.
+     *
+     * @param jsonData the json data
+     * @return the map
+     * @throws IOException if the data is not a JSON object
+     */
+    public static Map<String, String> parseMap(String jsonData) throws IOException {
+        return MAPPER.readValue(jsonData, Map.class);
+    }
+
+    /**
+     * Parse a set dart.
+     *
+     * @param jsonData the json data
+     * @return the set
+     * @throws IOException if the data is not a JSON object with a data array
+     */
+    public static Set<String> parseSet(String jsonData) throws IOException {
+        ObjectNode node = (ObjectNode) MAPPER.readTree(jsonData);
+        JsonNode arrayNode = node.get("data");
+        List<String> list = MAPPER.readValue(arrayNode.traverse(),
+                new TypeReference<ArrayList<String>>() {
+                });
+        return new HashSet<>(list);
+    }
+}
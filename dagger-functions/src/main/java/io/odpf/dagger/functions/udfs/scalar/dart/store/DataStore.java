@@ -1,12 +1,16 @@
 package io.odpf.dagger.functions.udfs.scalar.dart.store;
 
+import io.odpf.dagger.common.metrics.managers.GaugeStatsManager;
+import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
 import io.odpf.dagger.functions.udfs.scalar.dart.types.MapCache;
 import io.odpf.dagger.functions.udfs.scalar.dart.types.SetCache;
 
+import java.io.Serializable;
+
 /**
  * The interface Data store.
  */
-public interface DataStore {
+public interface DataStore extends Serializable {
     /**
      * Gets set.
      *
@@ -22,4 +26,32 @@ public interface DataStore {
      * @return the map
      */
     MapCache getMap(String mapName);
+
+    /**
+     * Sets meter stats manager.
+     *
+     * @param meterStatsManager the meter stats manager
+     */
+    void setMeterStatsManager(MeterStatsManager meterStatsManager);
+
+    /**
+     * Gets meter stats manager.
+     *
+     * @return the meter stats manager
+     */
+    MeterStatsManager getMeterStatsManager();
+
+    /**
+     * Sets gauge stats manager.
+     *
+     * @param gaugeStatsManager the gauge stats manager
+     */
+    void setGaugeStatsManager(GaugeStatsManager gaugeStatsManager);
+
+    /**
+     * Gets gauge stats manager.
+     *
+     * @return the gauge stats manager
+     */
+    GaugeStatsManager getGaugeStatsManager();
 }
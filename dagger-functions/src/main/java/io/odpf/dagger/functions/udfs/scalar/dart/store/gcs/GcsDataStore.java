@@ -5,20 +5,16 @@ import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
 import io.odpf.dagger.functions.udfs.scalar.DartContains;
 import io.odpf.dagger.functions.udfs.scalar.DartGet;
 import io.odpf.dagger.functions.udfs.scalar.dart.DartAspects;
+import io.odpf.dagger.functions.udfs.scalar.dart.store.DartJson;
 import io.odpf.dagger.functions.udfs.scalar.dart.store.DataStore;
 import io.odpf.dagger.functions.udfs.scalar.dart.types.MapCache;
 import io.odpf.dagger.functions.udfs.scalar.dart.types.SetCache;
-import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.type.TypeReference;
-import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.JsonNode;
-import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.ObjectMapper;
-import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.node.ObjectNode;
 
 import java.io.IOException;
 import java.io.Serializable;
-import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 
@@ -59,38 +55,22 @@ public class GcsDataStore implements DataStore, Serializable {
         return new MapCache(mapOfObjects);
     }
 
-    /**
-     * Sets meter stats manager.
-     *
-     * @param meterStatsManager the meter stats manager
-     */
+    @Override
     public void setMeterStatsManager(MeterStatsManager meterStatsManager) {
         this.meterStatsManager = meterStatsManager;
     }
 
-    /**
-     * Gets meter stats manager.
-     *
-     * @return the meter stats manager
-     */
+    @Override
     public MeterStatsManager getMeterStatsManager() {
         return this.meterStatsManager;
     }
 
-    /**
-     * Sets gauge stats manager.
-     *
-     * @param gaugeStatsManager the gauge stats manager
-     */
+    @Override
     public void setGaugeStatsManager(GaugeStatsManager gaugeStatsManager) {
         this.gaugeStatsManager = gaugeStatsManager;
     }
 
-    /**
-     * Gets gauge stats manager.
-     *
-     * @return the gauge stats manager
-     */
+    @Override
     public GaugeStatsManager getGaugeStatsManager() {
         return gaugeStatsManager;
     }
@@ -99,11 +79,9 @@ public class GcsDataStore implements DataStore, Serializable {
 
         String jsonData = getGcsClient().fetchJsonData(DartGet.class.getSimpleName(), getGaugeStatsManager(), this.bucketId, "dart-get/" + dartName);
 
-        ObjectMapper mapper = new ObjectMapper();
-
         Map<String, String> map = null;
         try {
-            map = mapper.readValue(jsonData, Map.class);
+            map = DartJson.parseMap(jsonData);
         } catch (IOException e) {
             getMeterStatsManager().markEvent(DartAspects.DART_GCS_FETCH_FAILURES);
             e.printStackTrace();
@@ -114,15 +92,8 @@ public class GcsDataStore implements DataStore, Serializable {
     private Set<String> getSetOfObjects(String dartName) {
 
         String jsonData = getGcsClient().fetchJsonData(DartContains.class.getSimpleName(), getGaugeStatsManager(), this.bucketId, "dart-contains/" + dartName);
-        ObjectMapper mapper = new ObjectMapper();
         try {
-            ObjectNode node = (ObjectNode) mapper.readTree(jsonData);
-            JsonNode arrayNode = node.get("data");
-            List<String> list = mapper.readValue(arrayNode.traverse(),
-                    new TypeReference<ArrayList<String>>() {
-                    });
-
-            return new HashSet<>(list);
+            return DartJson.parseSet(jsonData);
         } catch (Exception e) {
             getMeterStatsManager().markEvent(DartAspects.DART_GCS_FETCH_FAILURES);
             e.printStackTrace();
@@ -131,6 +102,23 @@ public class GcsDataStore implements DataStore, Serializable {
         return new HashSet<>();
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        GcsDataStore that = (GcsDataStore) o;
+        return Objects.equals(projectId, that.projectId) && Objects.equals(bucketId, that.bucketId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(projectId, bucketId);
+    }
+
     /**
      * Gets gcs client.
      *
@@ -0,0 +1,70 @@
+package io.odpf.dagger.functions.udfs.scalar.dart.store.local;
+
+import io.odpf.dagger.functions.udfs.scalar.dart.store.DartJson;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Converts darts from the JSON layout used in GCS to the compact format memory-mapped by {@link LocalDataStore}.
+ * Usage: {@code DartConverter <get|contains> <json file> <output file>}.
+ */
+public class DartConverter {
+    private static final int ARGUMENT_COUNT = 3;
+
+    private DartConverter() {
+    }
+
+    /**
+     * Convert a dart given on the command line.
+     *
+     * @param args the dart type (get or contains), the json file and the output file
+     * @throws IOException if the dart can not be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != ARGUMENT_COUNT) {
+            throw new IllegalArgumentException("Usage: DartConverter <get|contains> <json file> <output file>");
+        }
+        Path input = Paths.get(args[1]);
+        Path output = Paths.get(args[2]);
+        switch (args[0]) {
+            case "get":
+                convertMap(input, output);
+                break;
+            case "contains":
+                convertSet(input, output);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown dart type " + args[0] + ", expected get or contains");
+        }
+    }
+
+    /**
+     * Convert a DartGet map.
+     *
+     * @param input  the json file
+     * @param output the compact file to write
+     * @throws IOException if the dart can not be read or written
+     */
+    public static void convertMap(Path input, Path output) throws IOException {
+        MappedDartWriter.writeMap(DartJson.parseMap(read(input)), output);
+    }
+
+    /**
+     * Convert a DartContains set.
+     *
+     * @param input  the json file
+     * @param output the compact file to write
+     * @throws IOException if the dart can not be read or written
+     */
+    public static void convertSet(Path input, Path output) throws IOException {
+        MappedDartWriter.writeSet(DartJson.parseSet(read(input)), output);
+    }
+
+    private static String read(Path input) throws IOException {
+        return new String(Files.readAllBytes(input), StandardCharsets.UTF_8);
+    }
+}
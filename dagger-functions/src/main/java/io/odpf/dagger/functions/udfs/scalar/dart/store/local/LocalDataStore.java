@@ -0,0 +1,129 @@
+package io.odpf.dagger.functions.udfs.scalar.dart.store.local;
+
+import io.odpf.dagger.common.metrics.managers.GaugeStatsManager;
+import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
+import io.odpf.dagger.functions.exceptions.TagDoesNotExistException;
+import io.odpf.dagger.functions.udfs.scalar.dart.DartAspects;
+import io.odpf.dagger.functions.udfs.scalar.dart.store.DartJson;
+import io.odpf.dagger.functions.udfs.scalar.dart.store.DataStore;
+import io.odpf.dagger.functions.udfs.scalar.dart.types.MapCache;
+import io.odpf.dagger.functions.udfs.scalar.dart.types.SetCache;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Objects;
+
+/**
+ * A data store reading darts from a local directory, laid out as the GCS bucket:
+ * {@code dart-get/<name>} for maps and {@code dart-contains/<name>} for sets.
+ * Darts in the compact format written by {@link DartConverter} are memory-mapped and looked up off-heap,
+ * darts in the JSON layout are parsed into the heap.
+ */
+public class LocalDataStore implements DataStore {
+    private static final String DART_GET_DIRECTORY = "dart-get";
+    private static final String DART_CONTAINS_DIRECTORY = "dart-contains";
+
+    private final String path;
+
+    private MeterStatsManager meterStatsManager;
+    private GaugeStatsManager gaugeStatsManager;
+
+    /**
+     * Instantiates a new Local data store.
+     *
+     * @param path the directory holding the darts
+     */
+    public LocalDataStore(String path) {
+        this.path = path;
+    }
+
+    @Override
+    public SetCache getSet(String setName) {
+        Path dartPath = resolve(DART_CONTAINS_DIRECTORY, setName);
+        try {
+            if (MappedDart.isCompact(dartPath)) {
+                MappedDart mappedDart = MappedDart.open(dartPath);
+                if (mappedDart.isMap()) {
+                    throw new IOException("Compact dart " + dartPath + " is a map, not a set");
+                }
+                return new SetCache(mappedDart.asSet());
+            }
+            return new SetCache(DartJson.parseSet(new String(Files.readAllBytes(dartPath), StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            throw failure(dartPath, e);
+        }
+    }
+
+    @Override
+    public MapCache getMap(String mapName) {
+        Path dartPath = resolve(DART_GET_DIRECTORY, mapName);
+        try {
+            if (MappedDart.isCompact(dartPath)) {
+                MappedDart mappedDart = MappedDart.open(dartPath);
+                if (!mappedDart.isMap()) {
+                    throw new IOException("Compact dart " + dartPath + " is a set, not a map");
+                }
+                return new MapCache(mappedDart.asMap());
+            }
+            return new MapCache(DartJson.parseMap(new String(Files.readAllBytes(dartPath), StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            throw failure(dartPath, e);
+        }
+    }
+
+    @Override
+    public void setMeterStatsManager(MeterStatsManager meterStatsManager) {
+        this.meterStatsManager = meterStatsManager;
+    }
+
+    @Override
+    public MeterStatsManager getMeterStatsManager() {
+        return meterStatsManager;
+    }
+
+    @Override
+    public void setGaugeStatsManager(GaugeStatsManager gaugeStatsManager) {
+        this.gaugeStatsManager = gaugeStatsManager;
+    }
+
+    @Override
+    public GaugeStatsManager getGaugeStatsManager() {
+        return gaugeStatsManager;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        LocalDataStore that = (LocalDataStore) o;
+        return Objects.equals(path, that.path);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(path);
+    }
+
+    private Path resolve(String directory, String dartName) {
+        Path dartPath = Paths.get(path, directory, dartName);
+        if (!Files.isRegularFile(dartPath)) {
+            throw new TagDoesNotExistException(String.format("Could not find the content in %s for %s/%s", path, directory, dartName));
+        }
+        return dartPath;
+    }
+
+    private UncheckedIOException failure(Path dartPath, IOException e) {
+        if (meterStatsManager != null) {
+            meterStatsManager.markEvent(DartAspects.DART_GCS_FETCH_FAILURES);
+        }
+        return new UncheckedIOException("Failed to read dart " + dartPath, e);
+    }
+}
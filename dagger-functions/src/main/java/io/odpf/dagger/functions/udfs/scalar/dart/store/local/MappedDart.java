@@ -0,0 +1,291 @@
+package io.odpf.dagger.functions.udfs.scalar.dart.store.local;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A dart in the compact format, memory-mapped off-heap.
+ * The file starts with a header (magic, version, kind and entry count), followed by the offsets of the entries
+ * sorted by the UTF-8 bytes of their keys, and the entries themselves: the length-prefixed key and, for maps,
+ * the length-prefixed value. Lookups binary search the offsets and compare the bytes in place.
+ */
+public class MappedDart {
+    /**
+     * The magic number a compact dart starts with, "DART" in ASCII.
+     */
+    static final int MAGIC = 0x44415254;
+    /**
+     * The version of the format.
+     */
+    static final byte VERSION = 1;
+    /**
+     * The kind of a set dart.
+     */
+    static final byte KIND_SET = 0;
+    /**
+     * The kind of a map dart.
+     */
+    static final byte KIND_MAP = 1;
+    /**
+     * The size of the header.
+     */
+    static final int HEADER_SIZE = Integer.BYTES + 2 + Integer.BYTES;
+    private static final int KIND_POSITION = Integer.BYTES + 1;
+    private static final int COUNT_POSITION = Integer.BYTES + 2;
+    private static final int UNSIGNED_MASK = 0xff;
+
+    private final ByteBuffer buffer;
+    private final byte kind;
+    private final int count;
+
+    /**
+     * Instantiates a new Mapped dart.
+     *
+     * @param buffer the buffer holding the dart
+     */
+    MappedDart(ByteBuffer buffer) {
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a compact dart");
+        }
+        if (buffer.get(Integer.BYTES) != VERSION) {
+            throw new IllegalArgumentException("Unsupported compact dart version " + buffer.get(Integer.BYTES));
+        }
+        this.buffer = buffer;
+        this.kind = buffer.get(KIND_POSITION);
+        this.count = buffer.getInt(COUNT_POSITION);
+    }
+
+    /**
+     * Memory-map a compact dart file.
+     *
+     * @param path the path of the file
+     * @return the mapped dart
+     * @throws IOException if the file can not be read or is not a compact dart
+     */
+    public static MappedDart open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Compact dart " + path + " is larger than 2GB");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            try {
+                return new MappedDart(buffer);
+            } catch (IllegalArgumentException e) {
+                throw new IOException(path + ": " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Check if a file is in the compact format.
+     *
+     * @param path the path of the file
+     * @return the boolean
+     * @throws IOException if the file can not be read
+     */
+    public static boolean isCompact(Path path) throws IOException {
+        if (Files.size(path) < HEADER_SIZE) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer magic = ByteBuffer.allocate(Integer.BYTES);
+            channel.read(magic, 0);
+            return magic.getInt(0) == MAGIC;
+        }
+    }
+
+    /**
+     * Check if the dart is a map.
+     *
+     * @return the boolean
+     */
+    public boolean isMap() {
+        return kind == KIND_MAP;
+    }
+
+    /**
+     * Gets the number of entries.
+     *
+     * @return the size
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Check if the dart contains a key.
+     *
+     * @param key the key
+     * @return the boolean
+     */
+    public boolean contains(String key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * Gets the value of a key.
+     *
+     * @param key the key
+     * @return the value, null if the key is missing or the dart is a set
+     */
+    public String get(String key) {
+        int entry = find(key);
+        if (entry < 0 || !isMap()) {
+            return null;
+        }
+        return readString(valuePosition(entry));
+    }
+
+    /**
+     * A read-only set view of the keys.
+     *
+     * @return the set
+     */
+    public Set<String> asSet() {
+        return new AbstractSet<String>() {
+            @Override
+            public boolean contains(Object key) {
+                return key instanceof String && MappedDart.this.contains((String) key);
+            }
+
+            @Override
+            public Iterator<String> iterator() {
+                return new EntryIterator<String>() {
+                    @Override
+                    String read(int entryOffset) {
+                        return readString(entryOffset);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return count;
+            }
+        };
+    }
+
+    /**
+     * A read-only map view of the entries.
+     *
+     * @return the map
+     */
+    public Map<String, String> asMap() {
+        return new AbstractMap<String, String>() {
+            @Override
+            public String get(Object key) {
+                return key instanceof String ? MappedDart.this.get((String) key) : null;
+            }
+
+            @Override
+            public boolean containsKey(Object key) {
+                return key instanceof String && MappedDart.this.contains((String) key);
+            }
+
+            @Override
+            public int size() {
+                return count;
+            }
+
+            @Override
+            public Set<Entry<String, String>> entrySet() {
+                return new AbstractSet<Entry<String, String>>() {
+                    @Override
+                    public Iterator<Entry<String, String>> iterator() {
+                        return new EntryIterator<Entry<String, String>>() {
+                            @Override
+                            Entry<String, String> read(int entryOffset) {
+                                return new SimpleImmutableEntry<>(readString(entryOffset), readString(valuePosition(entryOffset)));
+                            }
+                        };
+                    }
+
+                    @Override
+                    public int size() {
+                        return count;
+                    }
+                };
+            }
+        };
+    }
+
+    private int find(String key) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int entryOffset = entryOffset(middle);
+            int comparison = compare(entryOffset, keyBytes);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return entryOffset;
+            }
+        }
+        return -1;
+    }
+
+    private int compare(int entryOffset, byte[] keyBytes) {
+        int length = buffer.getInt(entryOffset);
+        int start = entryOffset + Integer.BYTES;
+        int common = Math.min(length, keyBytes.length);
+        for (int i = 0; i < common; i++) {
+            int difference = (buffer.get(start + i) & UNSIGNED_MASK) - (keyBytes[i] & UNSIGNED_MASK);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return length - keyBytes.length;
+    }
+
+    private int entryOffset(int index) {
+        return buffer.getInt(HEADER_SIZE + index * Integer.BYTES);
+    }
+
+    private int valuePosition(int entryOffset) {
+        return entryOffset + Integer.BYTES + buffer.getInt(entryOffset);
+    }
+
+    private String readString(int position) {
+        int length = buffer.getInt(position);
+        byte[] bytes = new byte[length];
+        ByteBuffer view = buffer.duplicate();
+        view.position(position + Integer.BYTES);
+        view.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private abstract class EntryIterator<T> implements Iterator<T> {
+        private int index;
+
+        @Override
+        public boolean hasNext() {
+            return index < count;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return read(entryOffset(index++));
+        }
+
+        abstract T read(int entryOffset);
+    }
+}
@@ -0,0 +1,111 @@
+package io.odpf.dagger.functions.udfs.scalar.dart.store.local;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes darts in the compact format read by {@link MappedDart}.
+ * A dart is written to a temporary file next to it and moved into place, so a file which may be mapped is never truncated.
+ */
+public class MappedDartWriter {
+    private static final int UNSIGNED_MASK = 0xff;
+
+    private MappedDartWriter() {
+    }
+
+    /**
+     * Write a set dart.
+     *
+     * @param set  the set
+     * @param path the path of the file to write
+     * @throws IOException if the file can not be written
+     */
+    public static void writeSet(Set<String> set, Path path) throws IOException {
+        List<byte[][]> entries = new ArrayList<>();
+        set.forEach(key -> entries.add(new byte[][]{key.getBytes(StandardCharsets.UTF_8)}));
+        write(MappedDart.KIND_SET, entries, path);
+    }
+
+    /**
+     * Write a map dart.
+     *
+     * @param map  the map
+     * @param path the path of the file to write
+     * @throws IOException if the file can not be written
+     */
+    public static void writeMap(Map<String, String> map, Path path) throws IOException {
+        List<byte[][]> entries = new ArrayList<>();
+        map.forEach((key, value) -> entries.add(new byte[][]{key.getBytes(StandardCharsets.UTF_8), value.getBytes(StandardCharsets.UTF_8)}));
+        write(MappedDart.KIND_MAP, entries, path);
+    }
+
+    private static void write(byte kind, List<byte[][]> entries, Path path) throws IOException {
+        entries.sort((first, second) -> compare(first[0], second[0]));
+        long offset = MappedDart.HEADER_SIZE + (long) entries.size() * Integer.BYTES;
+        List<Integer> offsets = new ArrayList<>(entries.size());
+        for (byte[][] entry : entries) {
+            if (offset > Integer.MAX_VALUE) {
+                throw new IOException("Compact dart " + path + " would be larger than 2GB");
+            }
+            offsets.add((int) offset);
+            offset += size(entry);
+        }
+        if (offset > Integer.MAX_VALUE) {
+            throw new IOException("Compact dart " + path + " would be larger than 2GB");
+        }
+        Path directory = path.toAbsolutePath().getParent();
+        Path temporaryPath = Files.createTempFile(directory, "." + path.getFileName(), ".tmp");
+        try {
+            writeEntries(kind, entries, offsets, temporaryPath);
+            Files.move(temporaryPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporaryPath);
+        }
+    }
+
+    private static void writeEntries(byte kind, List<byte[][]> entries, List<Integer> offsets, Path path) throws IOException {
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            output.writeInt(MappedDart.MAGIC);
+            output.writeByte(MappedDart.VERSION);
+            output.writeByte(kind);
+            output.writeInt(entries.size());
+            for (int entryOffset : offsets) {
+                output.writeInt(entryOffset);
+            }
+            for (byte[][] entry : entries) {
+                for (byte[] part : entry) {
+                    output.writeInt(part.length);
+                    output.write(part);
+                }
+            }
+        }
+    }
+
+    private static long size(byte[][] entry) {
+        long size = 0;
+        for (byte[] part : entry) {
+            size += Integer.BYTES + part.length;
+        }
+        return size;
+    }
+
+    private static int compare(byte[] first, byte[] second) {
+        int common = Math.min(first.length, second.length);
+        for (int i = 0; i < common; i++) {
+            int difference = (first[i] & UNSIGNED_MASK) - (second[i] & UNSIGNED_MASK);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return first.length - second.length;
+    }
+}
@@ -0,0 +1,98 @@
+package io.odpf.dagger.functions.udfs.scalar.dart.types;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * An Aho-Corasick automaton telling if a text contains any of a set of keywords in a single pass over the text.
+ */
+class AhoCorasick {
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+    private final List<Integer> failures = new ArrayList<>();
+    private final List<Boolean> terminals = new ArrayList<>();
+
+    /**
+     * Instantiates a new Aho corasick automaton.
+     *
+     * @param keywords the keywords
+     */
+    AhoCorasick(Collection<String> keywords) {
+        addState();
+        keywords.forEach(this::addKeyword);
+        buildFailures();
+    }
+
+    /**
+     * Check if the text contains any of the keywords.
+     *
+     * @param text the text
+     * @return the boolean
+     */
+    boolean containsAny(String text) {
+        int state = 0;
+        if (terminals.get(state)) {
+            return true;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, text.charAt(i));
+            if (terminals.get(state)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void addKeyword(String keyword) {
+        int state = 0;
+        for (int i = 0; i < keyword.length(); i++) {
+            Integer target = transitions.get(state).get(keyword.charAt(i));
+            if (target == null) {
+                target = addState();
+                transitions.get(state).put(keyword.charAt(i), target);
+            }
+            state = target;
+        }
+        terminals.set(state, true);
+    }
+
+    private void buildFailures() {
+        Queue<Integer> queue = new ArrayDeque<>();
+        transitions.get(0).values().forEach(queue::add);
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (Map.Entry<Character, Integer> transition : transitions.get(state).entrySet()) {
+                int target = transition.getValue();
+                int failure = next(failures.get(state), transition.getKey());
+                failures.set(target, failure);
+                terminals.set(target, terminals.get(target) || terminals.get(failure));
+                queue.add(target);
+            }
+        }
+    }
+
+    private int next(int state, char character) {
+        int current = state;
+        while (true) {
+            Integer target = transitions.get(current).get(character);
+            if (target != null) {
+                return target;
+            }
+            if (current == 0) {
+                return 0;
+            }
+            current = failures.get(current);
+        }
+    }
+
+    private int addState() {
+        transitions.add(new HashMap<>());
+        failures.add(0);
+        terminals.add(false);
+        return transitions.size() - 1;
+    }
+}
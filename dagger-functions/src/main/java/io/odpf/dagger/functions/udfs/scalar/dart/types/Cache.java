@@ -31,9 +31,22 @@ public abstract class Cache implements Serializable {
         if (timeOfCaching == null) {
             return true;
         }
-        Date currentTime = new Date();
-        Date timeOfExpire = DateUtils.addHours(currentTime, refreshIntervalInHours);
-        return timeOfCaching.after(timeOfExpire);
+        Date timeOfExpire = DateUtils.addHours(timeOfCaching, refreshIntervalInHours);
+        return !new Date().before(timeOfExpire);
     }
 
+    /**
+     * Is empty boolean.
+     *
+     * @return the boolean
+     */
+    public abstract boolean isEmpty();
+
+    /**
+     * Gets the number of entries.
+     *
+     * @return the size
+     */
+    public abstract int size();
+
 }
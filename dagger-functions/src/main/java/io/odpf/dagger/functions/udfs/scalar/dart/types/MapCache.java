@@ -54,15 +54,16 @@ public class MapCache extends Cache implements Serializable {
         return value;
     }
 
-    /**
-     * Is empty boolean.
-     *
-     * @return the boolean
-     */
+    @Override
     public boolean isEmpty() {
         return cache.isEmpty();
     }
 
+    @Override
+    public int size() {
+        return cache.size();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
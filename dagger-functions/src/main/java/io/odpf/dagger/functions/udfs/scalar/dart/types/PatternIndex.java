@@ -0,0 +1,130 @@
+package io.odpf.dagger.functions.udfs.scalar.dart.types;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Matches a field against a regex template formatted with each element of a set, built once per set and template.
+ * When the template looks for an element as the whole field, a prefix, a suffix or a substring, elements without
+ * regex metacharacters are answered with hash lookups or an {@link AhoCorasick} automaton. Every other element is
+ * formatted and compiled once.
+ */
+class PatternIndex {
+    private static final String META_CHARACTERS = "\\^$.|?*+()[]{}";
+    private static final String LINE_TERMINATORS = "\n\r\u0085\u2028\u2029";
+
+    private final String regex;
+    private final Template template;
+    private final Set<String> elements;
+    private final Set<String> literals = new HashSet<>();
+    private final List<Pattern> patterns = new ArrayList<>();
+    private final AhoCorasick automaton;
+
+    /**
+     * Instantiates a new Pattern index.
+     *
+     * @param elements the elements of the set
+     * @param regex    the regex template, with a %s placeholder for the element
+     */
+    PatternIndex(Set<String> elements, String regex) {
+        this.regex = regex;
+        this.elements = elements;
+        this.template = Template.of(regex);
+        for (String element : elements) {
+            if (template != Template.OTHER && isLiteral(element)) {
+                literals.add(element);
+            } else {
+                patterns.add(Pattern.compile(String.format(regex, element)));
+            }
+        }
+        this.automaton = template == Template.SUBSTRING ? new AhoCorasick(literals) : null;
+    }
+
+    /**
+     * Check if the field matches the template formatted with any of the elements.
+     *
+     * @param field the field
+     * @return the boolean
+     */
+    boolean matches(String field) {
+        if (template.isDotted() && hasLineTerminator(field)) {
+            return elements.stream().anyMatch(element -> Pattern.matches(String.format(regex, element), field));
+        }
+        return matchesLiteral(field) || patterns.stream().anyMatch(pattern -> pattern.matcher(field).matches());
+    }
+
+    private boolean matchesLiteral(String field) {
+        switch (template) {
+            case WHOLE:
+                return literals.contains(field);
+            case PREFIX:
+                for (int end = 0; end <= field.length(); end++) {
+                    if (literals.contains(field.substring(0, end))) {
+                        return true;
+                    }
+                }
+                return false;
+            case SUFFIX:
+                for (int start = 0; start <= field.length(); start++) {
+                    if (literals.contains(field.substring(start))) {
+                        return true;
+                    }
+                }
+                return false;
+            case SUBSTRING:
+                return automaton.containsAny(field);
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isLiteral(String element) {
+        for (int i = 0; i < element.length(); i++) {
+            if (META_CHARACTERS.indexOf(element.charAt(i)) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasLineTerminator(String field) {
+        for (int i = 0; i < field.length(); i++) {
+            if (LINE_TERMINATORS.indexOf(field.charAt(i)) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private enum Template {
+        WHOLE("%s", false),
+        PREFIX("%s.*", true),
+        SUFFIX(".*%s", true),
+        SUBSTRING(".*%s.*", true),
+        OTHER(null, false);
+
+        private final String regex;
+        private final boolean dotted;
+
+        Template(String regex, boolean dotted) {
+            this.regex = regex;
+            this.dotted = dotted;
+        }
+
+        boolean isDotted() {
+            return dotted;
+        }
+
+        static Template of(String regex) {
+            for (Template template : values()) {
+                if (regex.equals(template.regex)) {
+                    return template;
+                }
+            }
+            return OTHER;
+        }
+    }
+}
@@ -3,8 +3,9 @@ package io.odpf.dagger.functions.udfs.scalar.dart.types;
 import java.io.Serializable;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The type Set cache.
@@ -15,6 +16,7 @@ public class SetCache extends Cache implements Serializable {
      */
     public static final SetCache NULL_CACHE = new SetCache(new HashSet<>(), null);
     private Set<String> cache;
+    private transient volatile Map<String, PatternIndex> patternIndexes;
 
     /**
      * Instantiates a new Set cache.
@@ -40,15 +42,16 @@ public class SetCache extends Cache implements Serializable {
         return cache.contains(data);
     }
 
-    /**
-     * Is empty boolean.
-     *
-     * @return the boolean
-     */
+    @Override
     public boolean isEmpty() {
         return cache.isEmpty();
     }
 
+    @Override
+    public int size() {
+        return cache.size();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -70,14 +73,18 @@ public class SetCache extends Cache implements Serializable {
 
     /**
      * Matches boolean.
+     * The patterns of a regex are compiled on its first use and kept along with this set.
      *
      * @param field the field
      * @param regex the regex
      * @return the boolean
      */
     public boolean matches(String field, String regex) {
-        return cache
-                .stream()
-                .anyMatch(s -> Pattern.matches(String.format(regex, s), field));
+        Map<String, PatternIndex> indexes = patternIndexes;
+        if (indexes == null) {
+            indexes = new ConcurrentHashMap<>();
+            patternIndexes = indexes;
+        }
+        return indexes.computeIfAbsent(regex, template -> new PatternIndex(cache, template)).matches(field);
     }
 }
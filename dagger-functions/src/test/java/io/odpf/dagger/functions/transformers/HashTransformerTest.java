@@ -177,6 +177,40 @@ public class HashTransformerTest {
         Assert.assertEquals(-1176347385, ((Row) ((Row) outputRow.getField(0)).getField(4)).getField(1));
     }
 
+    @Test
+    public void shouldNotModifyNestedRowsOfInputRow() throws Exception {
+        when(configuration.getString("SINK_KAFKA_PROTO_MESSAGE", ""))
+                .thenReturn("io.odpf.dagger.consumer.TestEnrichedBookingLogMessage");
+        HashMap<String, Object> transformationArguments = new HashMap<>();
+
+        ArrayList<String> fieldsToEncrypt = new ArrayList<>();
+        fieldsToEncrypt.add("booking_log.event_timestamp.seconds");
+        fieldsToEncrypt.add("booking_log.order_number");
+
+        transformationArguments.put("maskColumns", fieldsToEncrypt);
+        String[] columnNames = {"booking_log"};
+
+        Row inputRow = new Row(3);
+        Row bookingLogRow = new Row(TestBookingLogMessage.getDescriptor().getFields().size());
+        Row eventTimestampRow = new Row(Timestamp.getDescriptor().getFields().size());
+        eventTimestampRow.setField(0, 10L);
+        bookingLogRow.setField(1, "test_order_number");
+        bookingLogRow.setField(4, eventTimestampRow);
+        inputRow.setField(0, bookingLogRow);
+
+        HashTransformer hashTransformer = new HashTransformer(transformationArguments, columnNames, configuration);
+        hashTransformer.open(configuration);
+
+        Row outputRow = hashTransformer.map(inputRow);
+
+        Assert.assertSame(bookingLogRow, inputRow.getField(0));
+        Assert.assertEquals("test_order_number", bookingLogRow.getField(1));
+        Assert.assertSame(eventTimestampRow, bookingLogRow.getField(4));
+        Assert.assertEquals(10L, eventTimestampRow.getField(0));
+        Assert.assertNotEquals("test_order_number", ((Row) outputRow.getField(0)).getField(1));
+        Assert.assertNotEquals(10L, ((Row) ((Row) outputRow.getField(0)).getField(4)).getField(0));
+    }
+
     @Test
     public void shouldCreateRowHasherMapInOpen() throws Exception {
         HashMap<String, Object> transformationArguments = new HashMap<>();
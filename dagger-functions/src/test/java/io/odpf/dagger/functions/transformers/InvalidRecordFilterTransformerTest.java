@@ -21,6 +21,8 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import static io.odpf.dagger.functions.transformers.filter.FilterAspects.FILTERED_INVALID_RECORDS;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
@@ -83,7 +85,7 @@ public class InvalidRecordFilterTransformerTest {
         filter.setRuntimeContext(runtimeContext);
         when(runtimeContext.getMetricGroup()).thenReturn(metricGroup);
         when(metricGroup.addGroup("per_table", "test")).thenReturn(metricGroup);
-        when(metricGroup.counter(FILTERED_INVALID_RECORDS.getValue())).thenReturn(counter);
+        when(metricGroup.counter(eq(FILTERED_INVALID_RECORDS.getValue()), any(Counter.class))).thenReturn(counter);
         StubCounter ct = new StubCounter();
         doAnswer(ct).when(counter).inc();
         Row invalidRow = createDefaultInvalidRow(DynamicMessage.getDefaultInstance(TestBookingLogMessage.getDescriptor()));
@@ -105,7 +107,7 @@ public class InvalidRecordFilterTransformerTest {
         filter.setRuntimeContext(runtimeContext);
         when(runtimeContext.getMetricGroup()).thenReturn(metricGroup);
         when(metricGroup.addGroup("per_table", "test")).thenReturn(metricGroup);
-        when(metricGroup.counter(FILTERED_INVALID_RECORDS.getValue())).thenReturn(counter);
+        when(metricGroup.counter(eq(FILTERED_INVALID_RECORDS.getValue()), any(Counter.class))).thenReturn(counter);
         StubCounter ct = new StubCounter();
         doAnswer(ct).when(counter).inc();
         Row validRow = createDefaultValidRow(DynamicMessage.getDefaultInstance(TestBookingLogMessage.getDescriptor()));
@@ -1,7 +1,10 @@
 package io.odpf.dagger.functions.transformers;
 
 import io.odpf.dagger.common.core.StreamInfo;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
 import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
 import org.apache.flink.configuration.Configuration;
 import org.apache.flink.streaming.api.datastream.DataStream;
 import org.apache.flink.streaming.api.datastream.SingleOutputStreamOperator;
@@ -15,6 +18,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -72,9 +76,11 @@ public class SQLTransformerTest {
         when(streamTableEnvironment.sqlQuery(sqlQuery)).thenReturn(table);
         when(table.getSchema()).thenReturn(tableSchema);
         when(tableSchema.getFieldNames()).thenReturn(columnNames);
-        when(streamTableEnvironment.toRetractStream(table, Row.class)).thenReturn(retractStream);
+        when(tableSchema.getFieldTypes()).thenReturn(stringTypes(columnNames.length));
+        when(streamTableEnvironment.toRetractStream(eq(table), any(RowTypeInfo.class))).thenReturn(retractStream);
         when(retractStream.filter(any())).thenReturn(filteredRetractStream);
         when(filteredRetractStream.map(any())).thenReturn(outputStream);
+        when(outputStream.returns(any(TypeInformation.class))).thenReturn(outputStream);
         SQLTransformer sqlTransformer = new SQLTransformerStub(transformationArguments, columnNames);
         StreamInfo inputStreamInfo = new StreamInfo(inputStream, columnNames);
         StreamInfo outputStreamInfo = sqlTransformer.transform(inputStreamInfo);
@@ -95,9 +101,11 @@ public class SQLTransformerTest {
         when(table.getSchema()).thenReturn(tableSchema);
         String[] outputColumns = {"order_number", "service_type"};
         when(tableSchema.getFieldNames()).thenReturn(outputColumns);
-        when(streamTableEnvironment.toRetractStream(table, Row.class)).thenReturn(retractStream);
+        when(tableSchema.getFieldTypes()).thenReturn(stringTypes(outputColumns.length));
+        when(streamTableEnvironment.toRetractStream(eq(table), any(RowTypeInfo.class))).thenReturn(retractStream);
         when(retractStream.filter(any())).thenReturn(filteredRetractStream);
         when(filteredRetractStream.map(any())).thenReturn(outputStream);
+        when(outputStream.returns(any(TypeInformation.class))).thenReturn(outputStream);
         SQLTransformer sqlTransformer = new SQLTransformerStub(transformationArguments, columnNames);
         StreamInfo inputStreamInfo = new StreamInfo(inputStream, columnNames);
         StreamInfo outputStreamInfo = sqlTransformer.transform(inputStreamInfo);
@@ -116,9 +124,11 @@ public class SQLTransformerTest {
         when(streamTableEnvironment.sqlQuery(sqlQuery)).thenReturn(table);
         when(table.getSchema()).thenReturn(tableSchema);
         when(tableSchema.getFieldNames()).thenReturn(columnNames);
-        when(streamTableEnvironment.toRetractStream(table, Row.class)).thenReturn(retractStream);
+        when(tableSchema.getFieldTypes()).thenReturn(stringTypes(columnNames.length));
+        when(streamTableEnvironment.toRetractStream(eq(table), any(RowTypeInfo.class))).thenReturn(retractStream);
         when(retractStream.filter(any())).thenReturn(filteredRetractStream);
         when(filteredRetractStream.map(any())).thenReturn(outputStream);
+        when(outputStream.returns(any(TypeInformation.class))).thenReturn(outputStream);
         when(inputStream.assignTimestampsAndWatermarks(any(BoundedOutOfOrdernessTimestampExtractor.class))).thenReturn(watermarkedStream);
         SQLTransformer sqlTransformer = new SQLTransformerStub(transformationArguments, columnNames);
         StreamInfo inputStreamInfo = new StreamInfo(inputStream, columnNames);
@@ -141,9 +151,11 @@ public class SQLTransformerTest {
         when(streamTableEnvironment.sqlQuery(sqlQuery)).thenReturn(table);
         when(table.getSchema()).thenReturn(tableSchema);
         when(tableSchema.getFieldNames()).thenReturn(columnNames);
-        when(streamTableEnvironment.toRetractStream(table, Row.class)).thenReturn(retractStream);
+        when(tableSchema.getFieldTypes()).thenReturn(stringTypes(columnNames.length));
+        when(streamTableEnvironment.toRetractStream(eq(table), any(RowTypeInfo.class))).thenReturn(retractStream);
         when(retractStream.filter(any())).thenReturn(filteredRetractStream);
         when(filteredRetractStream.map(any())).thenReturn(outputStream);
+        when(outputStream.returns(any(TypeInformation.class))).thenReturn(outputStream);
         SQLTransformer sqlTransformer = new SQLTransformerStub(transformationArguments, columnNames);
         StreamInfo inputStreamInfo = new StreamInfo(inputStream, columnNames);
         StreamInfo outputStreamInfo = sqlTransformer.transform(inputStreamInfo);
@@ -166,9 +178,11 @@ public class SQLTransformerTest {
         when(streamTableEnvironment.sqlQuery(sqlQuery)).thenReturn(table);
         when(table.getSchema()).thenReturn(tableSchema);
         when(tableSchema.getFieldNames()).thenReturn(columnNames);
-        when(streamTableEnvironment.toRetractStream(table, Row.class)).thenReturn(retractStream);
+        when(tableSchema.getFieldTypes()).thenReturn(stringTypes(columnNames.length));
+        when(streamTableEnvironment.toRetractStream(eq(table), any(RowTypeInfo.class))).thenReturn(retractStream);
         when(retractStream.filter(any())).thenReturn(filteredRetractStream);
         when(filteredRetractStream.map(any())).thenReturn(outputStream);
+        when(outputStream.returns(any(TypeInformation.class))).thenReturn(outputStream);
         SQLTransformer sqlTransformer = new SQLTransformerStub(transformationArguments, columnNames);
         StreamInfo inputStreamInfo = new StreamInfo(inputStream, columnNames);
         StreamInfo outputStreamInfo = sqlTransformer.transform(inputStreamInfo);
@@ -187,6 +201,12 @@ public class SQLTransformerTest {
         sqlTransformer.transform(inputStreamInfo);
     }
 
+    private TypeInformation<?>[] stringTypes(int arity) {
+        TypeInformation<?>[] fieldTypes = new TypeInformation<?>[arity];
+        Arrays.fill(fieldTypes, Types.STRING);
+        return fieldTypes;
+    }
+
     class SQLTransformerStub extends SQLTransformer {
 
         SQLTransformerStub(Map<String, String> transformationArguments, String[] columnNames) {
@@ -0,0 +1,85 @@
+package io.odpf.dagger.functions.udfs.aggregate;
+
+import io.odpf.dagger.functions.udfs.aggregate.accumulator.ApproxDistinctCountAccumulator;
+import org.apache.flink.metrics.Gauge;
+import org.apache.flink.metrics.MetricGroup;
+import org.apache.flink.table.functions.FunctionContext;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class ApproxDistinctCountTest {
+
+    @Mock
+    private FunctionContext functionContext;
+
+    @Mock
+    private MetricGroup metricGroup;
+
+    @Before
+    public void setup() {
+        initMocks(this);
+        when(functionContext.getMetricGroup()).thenReturn(metricGroup);
+        when(metricGroup.addGroup("udf", "ApproxDistinctCount")).thenReturn(metricGroup);
+    }
+
+    @Test
+    public void shouldCountDistinctItems() {
+        ApproxDistinctCount approxDistinctCount = new ApproxDistinctCount();
+        ApproxDistinctCountAccumulator accumulator = approxDistinctCount.createAccumulator();
+        approxDistinctCount.accumulate(accumulator, "1234");
+        approxDistinctCount.accumulate(accumulator, "1234");
+        approxDistinctCount.accumulate(accumulator, "1233");
+
+        assertEquals(Long.valueOf(2), approxDistinctCount.getValue(accumulator));
+        assertEquals(ApproxDistinctCountAccumulator.DEFAULT_PRECISION, accumulator.getPrecision());
+    }
+
+    @Test
+    public void shouldNotAddNull() {
+        ApproxDistinctCount approxDistinctCount = new ApproxDistinctCount();
+        ApproxDistinctCountAccumulator accumulator = approxDistinctCount.createAccumulator();
+        approxDistinctCount.accumulate(accumulator, null);
+
+        assertEquals(Long.valueOf(0), approxDistinctCount.getValue(accumulator));
+    }
+
+    @Test
+    public void shouldUseGivenPrecision() {
+        ApproxDistinctCount approxDistinctCount = new ApproxDistinctCount();
+        ApproxDistinctCountAccumulator accumulator = approxDistinctCount.createAccumulator();
+        approxDistinctCount.accumulate(accumulator, "1234", 16);
+
+        assertEquals(16, accumulator.getPrecision());
+    }
+
+    @Test
+    public void shouldMergeAccumulators() {
+        ApproxDistinctCount approxDistinctCount = new ApproxDistinctCount();
+        ApproxDistinctCountAccumulator accumulator = approxDistinctCount.createAccumulator();
+        ApproxDistinctCountAccumulator first = approxDistinctCount.createAccumulator();
+        ApproxDistinctCountAccumulator second = approxDistinctCount.createAccumulator();
+        approxDistinctCount.accumulate(accumulator, "111");
+        approxDistinctCount.accumulate(first, "111");
+        approxDistinctCount.accumulate(first, "222");
+        approxDistinctCount.accumulate(second, "333");
+
+        approxDistinctCount.merge(accumulator, Arrays.asList(first, second));
+
+        assertEquals(Long.valueOf(3), approxDistinctCount.getValue(accumulator));
+    }
+
+    @Test
+    public void shouldRegisterGauge() throws Exception {
+        ApproxDistinctCount approxDistinctCount = new ApproxDistinctCount();
+        approxDistinctCount.open(functionContext);
+        verify(metricGroup, times(1)).gauge(any(String.class), any(Gauge.class));
+    }
+}
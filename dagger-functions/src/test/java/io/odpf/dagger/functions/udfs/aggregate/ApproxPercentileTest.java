@@ -0,0 +1,83 @@
+package io.odpf.dagger.functions.udfs.aggregate;
+
+import io.odpf.dagger.functions.udfs.aggregate.accumulator.PercentileSketchAccumulator;
+import org.apache.flink.metrics.Gauge;
+import org.apache.flink.metrics.MetricGroup;
+import org.apache.flink.table.functions.FunctionContext;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class ApproxPercentileTest {
+
+    @Mock
+    private FunctionContext functionContext;
+
+    @Mock
+    private MetricGroup metricGroup;
+
+    @Before
+    public void setup() {
+        initMocks(this);
+        when(functionContext.getMetricGroup()).thenReturn(metricGroup);
+        when(metricGroup.addGroup("udf", "ApproxPercentile")).thenReturn(metricGroup);
+    }
+
+    @Test
+    public void shouldReturn90Percentile() {
+        ApproxPercentile approxPercentile = new ApproxPercentile();
+        PercentileSketchAccumulator accumulator = approxPercentile.createAccumulator();
+        for (int i = 1; i <= 1000; i++) {
+            approxPercentile.accumulate(accumulator, BigDecimal.valueOf(90), BigDecimal.valueOf(i));
+        }
+
+        assertEquals(900, approxPercentile.getValue(accumulator), 1);
+    }
+
+    @Test
+    public void shouldReturnNullWhenNoValueIsAccumulated() {
+        ApproxPercentile approxPercentile = new ApproxPercentile();
+        PercentileSketchAccumulator accumulator = approxPercentile.createAccumulator();
+        approxPercentile.accumulate(accumulator, BigDecimal.valueOf(90), null);
+
+        assertNull(approxPercentile.getValue(accumulator));
+    }
+
+    @Test
+    public void shouldMergeAccumulators() {
+        ApproxPercentile approxPercentile = new ApproxPercentile();
+        PercentileSketchAccumulator accumulator = approxPercentile.createAccumulator();
+        PercentileSketchAccumulator first = approxPercentile.createAccumulator();
+        PercentileSketchAccumulator second = approxPercentile.createAccumulator();
+        for (int i = 1; i <= 1000; i++) {
+            approxPercentile.accumulate(i % 2 == 0 ? first : second, BigDecimal.valueOf(50), BigDecimal.valueOf(i));
+        }
+
+        approxPercentile.merge(accumulator, Arrays.asList(first, second));
+
+        assertEquals(500, approxPercentile.getValue(accumulator), 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowExceptionForInvalidCompression() {
+        ApproxPercentile approxPercentile = new ApproxPercentile();
+        PercentileSketchAccumulator accumulator = approxPercentile.createAccumulator();
+        approxPercentile.accumulate(accumulator, BigDecimal.valueOf(90), BigDecimal.ONE, 1);
+    }
+
+    @Test
+    public void shouldRegisterGauge() throws Exception {
+        ApproxPercentile approxPercentile = new ApproxPercentile();
+        approxPercentile.open(functionContext);
+        verify(metricGroup, times(1)).gauge(any(String.class), any(Gauge.class));
+    }
+}
@@ -0,0 +1,79 @@
+package io.odpf.dagger.functions.udfs.aggregate;
+
+import io.odpf.dagger.functions.udfs.aggregate.accumulator.PercentileSketchAccumulator;
+import org.apache.flink.metrics.Gauge;
+import org.apache.flink.metrics.MetricGroup;
+import org.apache.flink.table.functions.FunctionContext;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class ApproxPercentilesTest {
+
+    @Mock
+    private FunctionContext functionContext;
+
+    @Mock
+    private MetricGroup metricGroup;
+
+    @Before
+    public void setup() {
+        initMocks(this);
+        when(functionContext.getMetricGroup()).thenReturn(metricGroup);
+        when(metricGroup.addGroup("udf", "ApproxPercentiles")).thenReturn(metricGroup);
+    }
+
+    @Test
+    public void shouldReturnAllPercentilesFromOneAccumulator() {
+        ApproxPercentiles approxPercentiles = new ApproxPercentiles();
+        PercentileSketchAccumulator accumulator = approxPercentiles.createAccumulator();
+        for (int i = 1; i <= 1000; i++) {
+            approxPercentiles.accumulate(accumulator, "50, 95,99", BigDecimal.valueOf(i));
+        }
+
+        Double[] percentiles = approxPercentiles.getValue(accumulator);
+
+        assertEquals(3, percentiles.length);
+        assertEquals(500, percentiles[0], 1);
+        assertEquals(950, percentiles[1], 1);
+        assertEquals(990, percentiles[2], 1);
+    }
+
+    @Test
+    public void shouldReturnNullWhenNoValueIsAccumulated() {
+        ApproxPercentiles approxPercentiles = new ApproxPercentiles();
+        PercentileSketchAccumulator accumulator = approxPercentiles.createAccumulator();
+
+        assertNull(approxPercentiles.getValue(accumulator));
+    }
+
+    @Test
+    public void shouldKeepPercentilesWhenMergingIntoEmptyAccumulator() {
+        ApproxPercentiles approxPercentiles = new ApproxPercentiles();
+        PercentileSketchAccumulator accumulator = approxPercentiles.createAccumulator();
+        PercentileSketchAccumulator other = approxPercentiles.createAccumulator();
+        approxPercentiles.accumulate(other, "50,99", BigDecimal.TEN);
+
+        approxPercentiles.merge(accumulator, Collections.singletonList(other));
+
+        Double[] percentiles = approxPercentiles.getValue(accumulator);
+        assertEquals(2, percentiles.length);
+        assertEquals(10, percentiles[1], 0);
+    }
+
+    @Test
+    public void shouldRegisterGauge() throws Exception {
+        ApproxPercentiles approxPercentiles = new ApproxPercentiles();
+        approxPercentiles.open(functionContext);
+        verify(metricGroup, times(1)).gauge(any(String.class), any(Gauge.class));
+    }
+}
@@ -1,12 +1,16 @@
 package io.odpf.dagger.functions.udfs.aggregate;
 
 import io.odpf.dagger.functions.udfs.aggregate.accumulator.ArrayAccumulator;
+import org.apache.flink.api.java.typeutils.PojoTypeInfo;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 
+import java.util.Collections;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -47,4 +51,26 @@ public class CollectArrayTest {
 
         verify(arrayaccumulator, times(1)).emit();
     }
+
+    @Test
+    public void shouldRemoveRetractedEntriesFromAccumulator() {
+        CollectArray collectArray = new CollectArray();
+        collectArray.retract(arrayaccumulator, "value1");
+
+        verify(arrayaccumulator, times(1)).remove("value1");
+    }
+
+    @Test
+    public void shouldMergeAccumulators() {
+        CollectArray collectArray = new CollectArray();
+        ArrayAccumulator other = new ArrayAccumulator();
+        collectArray.merge(arrayaccumulator, Collections.singletonList(other));
+
+        verify(arrayaccumulator, times(1)).merge(other);
+    }
+
+    @Test
+    public void shouldDeclarePojoAccumulatorType() {
+        assertTrue(new CollectArray().getAccumulatorType() instanceof PojoTypeInfo);
+    }
 }
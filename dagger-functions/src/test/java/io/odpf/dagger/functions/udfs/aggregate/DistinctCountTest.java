@@ -8,6 +8,8 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 
+import java.util.Arrays;
+
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -70,4 +72,36 @@ public class DistinctCountTest {
         distinctCount.open(functionContext);
         verify(metricGroup, times(1)).gauge(any(String.class), any(Gauge.class));
     }
+
+    @Test
+    public void shouldCountItemUntilAllOccurrencesAreRetracted() {
+        DistinctCount distinctCount = new DistinctCount();
+        DistinctCountAccumulator accumulator = distinctCount.createAccumulator();
+        distinctCount.accumulate(accumulator, "1234");
+        distinctCount.accumulate(accumulator, "1234");
+        distinctCount.accumulate(accumulator, "1233");
+
+        distinctCount.retract(accumulator, "1234");
+        distinctCount.retract(accumulator, null);
+        assertEquals(new Integer(2), distinctCount.getValue(accumulator));
+
+        distinctCount.retract(accumulator, "1234");
+        assertEquals(new Integer(1), distinctCount.getValue(accumulator));
+    }
+
+    @Test
+    public void shouldMergeAccumulators() {
+        DistinctCount distinctCount = new DistinctCount();
+        DistinctCountAccumulator accumulator = distinctCount.createAccumulator();
+        DistinctCountAccumulator first = distinctCount.createAccumulator();
+        DistinctCountAccumulator second = distinctCount.createAccumulator();
+        distinctCount.accumulate(accumulator, "111");
+        distinctCount.accumulate(first, "111");
+        distinctCount.accumulate(first, "222");
+        distinctCount.accumulate(second, "333");
+
+        distinctCount.merge(accumulator, Arrays.asList(first, second));
+
+        assertEquals(new Integer(3), distinctCount.getValue(accumulator));
+    }
 }
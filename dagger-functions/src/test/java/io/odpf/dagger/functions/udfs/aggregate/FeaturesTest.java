@@ -1,10 +1,13 @@
 package io.odpf.dagger.functions.udfs.aggregate;
 
+import io.odpf.dagger.functions.exceptions.OddNumberOfArgumentsException;
 import io.odpf.dagger.functions.udfs.aggregate.accumulator.FeatureAccumulator;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 
+import java.util.Collections;
+
 import static junit.framework.TestCase.assertEquals;
 import static junit.framework.TestCase.assertNotNull;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -55,4 +58,27 @@ public class FeaturesTest {
 
         verify(featureAccumulator, times(1)).getFeatures();
     }
+
+    @Test
+    public void shouldRemoveRetractedEntriesFromAccumulator() {
+        Features features = new Features();
+        features.retract(featureAccumulator, "key1", "value1", "key2", "value2");
+
+        verify(featureAccumulator, times(2)).remove(anyString(), anyString());
+    }
+
+    @Test(expected = OddNumberOfArgumentsException.class)
+    public void shouldThrowExceptionWhenNumberOfArgumentIsOddForRetract() {
+        Features features = new Features();
+        features.retract(featureAccumulator, "key1");
+    }
+
+    @Test
+    public void shouldMergeAccumulators() {
+        Features features = new Features();
+        FeatureAccumulator other = new FeatureAccumulator();
+        features.merge(featureAccumulator, Collections.singletonList(other));
+
+        verify(featureAccumulator, times(1)).merge(other);
+    }
 }
@@ -7,6 +7,8 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 
+import java.util.Collections;
+
 import static org.gradle.internal.impldep.org.testng.AssertJUnit.assertNotNull;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
@@ -118,4 +120,12 @@ public class FeaturesWithTypeTest {
         features.retract(featureAccumulator, "one", "two", "three", "four");
     }
 
+    @Test
+    public void shouldMergeAccumulators() {
+        FeaturesWithType featuresWithType = new FeaturesWithType();
+        FeatureWithTypeAccumulator other = new FeatureWithTypeAccumulator();
+        featuresWithType.merge(featureAccumulator, Collections.singletonList(other));
+
+        verify(featureAccumulator, times(1)).merge(other);
+    }
 }
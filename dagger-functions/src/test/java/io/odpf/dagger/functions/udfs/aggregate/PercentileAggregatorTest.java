@@ -4,6 +4,9 @@ import io.odpf.dagger.functions.udfs.aggregate.accumulator.PercentileAccumulator
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.math.BigDecimal;
+import java.util.Collections;
+
 public class PercentileAggregatorTest {
 
     @Test
@@ -15,4 +18,30 @@ public class PercentileAggregatorTest {
         }
         Assert.assertEquals(900, pa.getValue(acc), 1);
     }
+
+    @Test
+    public void shouldMergeAccumulators() {
+        PercentileAggregator pa = new PercentileAggregator();
+        PercentileAccumulator acc = pa.createAccumulator();
+        PercentileAccumulator other = pa.createAccumulator();
+        for (int i = 1; i <= 500; i++) {
+            acc.add(90, i);
+            other.add(90, 500 + i);
+        }
+        pa.merge(acc, Collections.singletonList(other));
+        Assert.assertEquals(900, pa.getValue(acc), 1);
+    }
+
+    @Test
+    public void shouldIgnoreRetractedValues() {
+        PercentileAggregator pa = new PercentileAggregator();
+        PercentileAccumulator acc = pa.createAccumulator();
+        for (int i = 1; i <= 1000; i++) {
+            pa.accumulate(acc, BigDecimal.valueOf(90), BigDecimal.valueOf(i));
+        }
+        for (int i = 501; i <= 1000; i++) {
+            pa.retract(acc, BigDecimal.valueOf(90), BigDecimal.valueOf(i));
+        }
+        Assert.assertEquals(450, pa.getValue(acc), 1);
+    }
 }
@@ -0,0 +1,122 @@
+package io.odpf.dagger.functions.udfs.aggregate.accumulator;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.junit.Test;
+
+import java.io.*;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ApproxDistinctCountAccumulatorTest {
+
+    @Test
+    public void shouldGiveExactCountForFewItems() {
+        ApproxDistinctCountAccumulator accumulator = new ApproxDistinctCountAccumulator();
+        accumulator.add("First", 12);
+        accumulator.add("Second", 12);
+        accumulator.add("First", 12);
+        accumulator.add("Third", 12);
+        accumulator.add("Second", 12);
+
+        assertEquals(3, accumulator.count());
+    }
+
+    @Test
+    public void shouldEstimateLargeCountsWithinStandardError() {
+        ApproxDistinctCountAccumulator accumulator = new ApproxDistinctCountAccumulator();
+        for (int i = 0; i < 1000000; i++) {
+            accumulator.add("device-" + i, 12);
+            accumulator.add("device-" + i, 12);
+        }
+
+        assertTrue(Math.abs(accumulator.count() - 1000000) < 1000000 * 0.05);
+    }
+
+    @Test
+    public void shouldGiveZeroWhenEmpty() {
+        assertEquals(0, new ApproxDistinctCountAccumulator().count());
+    }
+
+    @Test
+    public void shouldMergeSketches() {
+        ApproxDistinctCountAccumulator first = new ApproxDistinctCountAccumulator();
+        ApproxDistinctCountAccumulator second = new ApproxDistinctCountAccumulator();
+        ApproxDistinctCountAccumulator union = new ApproxDistinctCountAccumulator();
+        for (int i = 0; i < 20000; i++) {
+            first.add("item-" + i, 14);
+            union.add("item-" + i, 14);
+        }
+        for (int i = 10000; i < 30000; i++) {
+            second.add("item-" + i, 14);
+            union.add("item-" + i, 14);
+        }
+
+        first.merge(second);
+
+        assertEquals(union.count(), first.count());
+    }
+
+    @Test
+    public void shouldMergeIntoEmptySketch() {
+        ApproxDistinctCountAccumulator empty = new ApproxDistinctCountAccumulator();
+        ApproxDistinctCountAccumulator other = new ApproxDistinctCountAccumulator();
+        other.add("First", 10);
+
+        empty.merge(other);
+        other.add("Second", 10);
+
+        assertEquals(10, empty.getPrecision());
+        assertEquals(1, empty.count());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotMergeSketchesOfDifferentPrecision() {
+        ApproxDistinctCountAccumulator first = new ApproxDistinctCountAccumulator();
+        ApproxDistinctCountAccumulator second = new ApproxDistinctCountAccumulator();
+        first.add("First", 10);
+        second.add("First", 12);
+
+        first.merge(second);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotAcceptPrecisionOutOfRange() {
+        new ApproxDistinctCountAccumulator().add("First", 20);
+    }
+
+    @Test
+    public void shouldBeSerializable() throws IOException, ClassNotFoundException {
+        ApproxDistinctCountAccumulator accumulator = new ApproxDistinctCountAccumulator();
+        accumulator.add("First", 12);
+        accumulator.add("Second", 12);
+        accumulator.add("First", 12);
+
+        ByteArrayOutputStream serializedAccumulatorStream = new ByteArrayOutputStream();
+        new ObjectOutputStream(serializedAccumulatorStream).writeObject(accumulator);
+
+        ObjectInputStream deserializedAccStream = new ObjectInputStream(new ByteArrayInputStream(serializedAccumulatorStream.toByteArray()));
+
+        ApproxDistinctCountAccumulator deserializedAccumulator = (ApproxDistinctCountAccumulator) deserializedAccStream.readObject();
+
+        assertEquals(accumulator.count(), deserializedAccumulator.count());
+        assertTrue(serializedAccumulatorStream.size() < 5000);
+    }
+
+    @Test
+    public void shouldBeSerializableWithPojoSerializer() throws IOException {
+        ApproxDistinctCountAccumulator accumulator = new ApproxDistinctCountAccumulator();
+        accumulator.add("First", ApproxDistinctCountAccumulator.DEFAULT_PRECISION);
+        accumulator.add("Second", ApproxDistinctCountAccumulator.DEFAULT_PRECISION);
+        TypeSerializer<ApproxDistinctCountAccumulator> serializer = ApproxDistinctCountAccumulator.getTypeInformation().createSerializer(new ExecutionConfig());
+        DataOutputSerializer output = new DataOutputSerializer(64);
+
+        serializer.serialize(accumulator, output);
+        ApproxDistinctCountAccumulator deserializedAccumulator = serializer.deserialize(new DataInputDeserializer(output.getCopyOfBuffer()));
+
+        assertEquals(2, deserializedAccumulator.count());
+    }
+}
@@ -1,8 +1,14 @@
 package io.odpf.dagger.functions.udfs.aggregate.accumulator;
 
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
 import org.junit.Test;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 
 import static org.junit.Assert.assertEquals;
 
@@ -21,4 +27,42 @@ public class ArrayAccumulatorTest {
         assertEquals("first", (String) values.get(0));
         assertEquals("second", (String) values.get(1));
     }
+
+    @Test
+    public void shouldRemoveOneOccurrenceOfValue() {
+        ArrayAccumulator arrayAccumulator = new ArrayAccumulator();
+        arrayAccumulator.add("first");
+        arrayAccumulator.add("second");
+        arrayAccumulator.add("first");
+
+        arrayAccumulator.remove("first");
+
+        assertEquals(Arrays.asList("second", "first"), arrayAccumulator.emit());
+    }
+
+    @Test
+    public void shouldMergeValuesOfOtherAccumulator() {
+        ArrayAccumulator arrayAccumulator = new ArrayAccumulator();
+        ArrayAccumulator other = new ArrayAccumulator();
+        arrayAccumulator.add("first");
+        other.add("second");
+
+        arrayAccumulator.merge(other);
+
+        assertEquals(Arrays.asList("first", "second"), arrayAccumulator.emit());
+    }
+
+    @Test
+    public void shouldBeSerializableWithPojoSerializer() throws IOException {
+        ArrayAccumulator arrayAccumulator = new ArrayAccumulator();
+        arrayAccumulator.add("first");
+        arrayAccumulator.add(2L);
+        TypeSerializer<ArrayAccumulator> serializer = ArrayAccumulator.getTypeInformation().createSerializer(new ExecutionConfig());
+        DataOutputSerializer output = new DataOutputSerializer(64);
+
+        serializer.serialize(arrayAccumulator, output);
+        ArrayAccumulator deserializedAccumulator = serializer.deserialize(new DataInputDeserializer(output.getCopyOfBuffer()));
+
+        assertEquals(arrayAccumulator.emit(), deserializedAccumulator.emit());
+    }
 }
@@ -1,10 +1,16 @@
 package io.odpf.dagger.functions.udfs.aggregate.accumulator;
 
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.java.typeutils.PojoTypeInfo;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
 import org.junit.Test;
 
 import java.io.*;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 public class DistinctCountAccumulatorTest {
 
@@ -36,4 +42,48 @@ public class DistinctCountAccumulatorTest {
 
         assertEquals(deserializedAccumulator.count(), accumulator.count());
     }
+
+    @Test
+    public void shouldKeepItemUntilAllOccurrencesAreRemoved() {
+        DistinctCountAccumulator accumulator = new DistinctCountAccumulator();
+        accumulator.add("First");
+        accumulator.add("First");
+        accumulator.add("Second");
+
+        accumulator.remove("First");
+        assertEquals(2, accumulator.count());
+
+        accumulator.remove("First");
+        accumulator.remove("Third");
+        assertEquals(1, accumulator.count());
+    }
+
+    @Test
+    public void shouldMergeOccurrences() {
+        DistinctCountAccumulator accumulator = new DistinctCountAccumulator();
+        DistinctCountAccumulator other = new DistinctCountAccumulator();
+        accumulator.add("First");
+        other.add("First");
+        other.add("Second");
+
+        accumulator.merge(other);
+        accumulator.remove("First");
+
+        assertEquals(2, accumulator.count());
+    }
+
+    @Test
+    public void shouldBeSerializableWithPojoSerializer() throws IOException {
+        DistinctCountAccumulator accumulator = new DistinctCountAccumulator();
+        accumulator.add("First");
+        accumulator.add("Second");
+        TypeSerializer<DistinctCountAccumulator> serializer = DistinctCountAccumulator.getTypeInformation().createSerializer(new ExecutionConfig());
+        DataOutputSerializer output = new DataOutputSerializer(64);
+
+        serializer.serialize(accumulator, output);
+        DistinctCountAccumulator deserializedAccumulator = serializer.deserialize(new DataInputDeserializer(output.getCopyOfBuffer()));
+
+        assertTrue(DistinctCountAccumulator.getTypeInformation() instanceof PojoTypeInfo);
+        assertEquals(2, deserializedAccumulator.count());
+    }
 }
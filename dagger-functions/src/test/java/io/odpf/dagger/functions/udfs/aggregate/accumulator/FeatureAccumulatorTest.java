@@ -1,6 +1,10 @@
 package io.odpf.dagger.functions.udfs.aggregate.accumulator;
 
 import com.google.protobuf.ByteString;
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
 import org.apache.flink.types.Row;
 import org.junit.Test;
 
@@ -105,4 +109,35 @@ public class FeatureAccumulatorTest {
         timestamp1.setField(1, nanos);
         return timestamp1;
     }
+
+    @Test
+    public void shouldRemoveAndMergeFeatures() {
+        FeatureAccumulator featureAccumulator = new FeatureAccumulator();
+        FeatureAccumulator other = new FeatureAccumulator();
+        featureAccumulator.add("key1", "value1");
+        featureAccumulator.add("key2", "value2");
+        other.add("key3", "value3");
+
+        featureAccumulator.remove("key2", "value2");
+        featureAccumulator.merge(other);
+
+        Row[] features = featureAccumulator.getFeatures();
+        assertEquals(2, features.length);
+        assertEquals("key1", features[0].getField(0));
+        assertEquals("key3", features[1].getField(0));
+    }
+
+    @Test
+    public void shouldBeSerializableWithPojoSerializer() throws IOException {
+        FeatureAccumulator featureAccumulator = new FeatureAccumulator();
+        featureAccumulator.add("key1", "value1");
+        featureAccumulator.add("key2", 2L);
+        TypeSerializer<FeatureAccumulator> serializer = FeatureAccumulator.getTypeInformation().createSerializer(new ExecutionConfig());
+        DataOutputSerializer output = new DataOutputSerializer(64);
+
+        serializer.serialize(featureAccumulator, output);
+        FeatureAccumulator deserializedAccumulator = serializer.deserialize(new DataInputDeserializer(output.getCopyOfBuffer()));
+
+        assertEquals(featureAccumulator.getFeatures(), deserializedAccumulator.getFeatures());
+    }
 }
@@ -2,10 +2,15 @@ package io.odpf.dagger.functions.udfs.aggregate.accumulator;
 
 import com.google.protobuf.ByteString;
 import io.odpf.dagger.functions.udfs.aggregate.feast.handler.ValueEnum;
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.types.Row;
 import org.junit.Test;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -117,4 +122,30 @@ public class FeatureWithTypeAccumulatorTest {
         timestamp1.setField(1, nanos);
         return timestamp1;
     }
+
+    @Test
+    public void shouldMergeFeaturesOfOtherAccumulator() {
+        FeatureWithTypeAccumulator featureAccumulator = new FeatureWithTypeAccumulator();
+        FeatureWithTypeAccumulator other = new FeatureWithTypeAccumulator();
+        featureAccumulator.add("FloatKey", 1.0F, FloatType);
+        other.add("FloatKey", 1.0F, FloatType);
+        other.add("StringKey", "stringValue", StringType);
+
+        featureAccumulator.merge(other);
+
+        assertEquals(2, featureAccumulator.getFeatures().length);
+    }
+
+    @Test
+    public void shouldBeSerializableWithPojoSerializer() throws IOException {
+        FeatureWithTypeAccumulator featureAccumulator = new FeatureWithTypeAccumulator();
+        featureAccumulator.add("StringKey", "stringValue", StringType);
+        TypeSerializer<FeatureWithTypeAccumulator> serializer = FeatureWithTypeAccumulator.getTypeInformation().createSerializer(new ExecutionConfig());
+        DataOutputSerializer output = new DataOutputSerializer(64);
+
+        serializer.serialize(featureAccumulator, output);
+        FeatureWithTypeAccumulator deserializedAccumulator = serializer.deserialize(new DataInputDeserializer(output.getCopyOfBuffer()));
+
+        assertEquals(featureAccumulator.getFeatures(), deserializedAccumulator.getFeatures());
+    }
 }
@@ -1,8 +1,14 @@
 package io.odpf.dagger.functions.udfs.aggregate.accumulator;
 
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.IOException;
+
 public class PercentileAccumulatorTest {
 
     // Just calling apache commons so not many tests are needed.
@@ -21,4 +27,28 @@ public class PercentileAccumulatorTest {
         accumulator.add(90, 60);
         Assert.assertEquals(99.0, accumulator.getPercentileValue(), 0.001);
     }
+
+    @Test
+    public void shouldIgnoreRemovedValues() {
+        PercentileAccumulator accumulator = new PercentileAccumulator();
+        accumulator.add(50, 10);
+        accumulator.add(50, 20);
+        accumulator.add(50, 1000);
+        accumulator.remove(1000);
+        Assert.assertEquals(15.0, accumulator.getPercentileValue(), 0.001);
+    }
+
+    @Test
+    public void shouldBeSerializableWithPojoSerializer() throws IOException {
+        PercentileAccumulator accumulator = new PercentileAccumulator();
+        accumulator.add(50, 10);
+        accumulator.add(50, 20);
+        TypeSerializer<PercentileAccumulator> serializer = PercentileAccumulator.getTypeInformation().createSerializer(new ExecutionConfig());
+        DataOutputSerializer output = new DataOutputSerializer(64);
+
+        serializer.serialize(accumulator, output);
+        PercentileAccumulator deserializedAccumulator = serializer.deserialize(new DataInputDeserializer(output.getCopyOfBuffer()));
+
+        Assert.assertEquals(15.0, deserializedAccumulator.getPercentileValue(), 0.001);
+    }
 }
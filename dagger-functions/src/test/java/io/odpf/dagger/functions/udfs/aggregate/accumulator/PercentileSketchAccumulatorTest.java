@@ -0,0 +1,101 @@
+package io.odpf.dagger.functions.udfs.aggregate.accumulator;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PercentileSketchAccumulatorTest {
+
+    @Test
+    public void shouldReturnExactValuesForFewValues() {
+        PercentileSketchAccumulator accumulator = new PercentileSketchAccumulator();
+        accumulator.add(3, PercentileSketchAccumulator.DEFAULT_COMPRESSION);
+        accumulator.add(1, PercentileSketchAccumulator.DEFAULT_COMPRESSION);
+        accumulator.add(2, PercentileSketchAccumulator.DEFAULT_COMPRESSION);
+
+        assertEquals(1, accumulator.getPercentileValue(0), 0);
+        assertEquals(2, accumulator.getPercentileValue(50), 0);
+        assertEquals(3, accumulator.getPercentileValue(100), 0);
+        assertEquals(3, accumulator.count());
+    }
+
+    @Test
+    public void shouldReturnNaNWhenEmpty() {
+        PercentileSketchAccumulator accumulator = new PercentileSketchAccumulator();
+
+        assertTrue(Double.isNaN(accumulator.getPercentileValue(50)));
+    }
+
+    @Test
+    public void shouldBoundCentroidsAndKeepRankErrorSmall() {
+        Random random = new Random(1);
+        int count = 200000;
+        double[] values = new double[count];
+        PercentileSketchAccumulator accumulator = new PercentileSketchAccumulator();
+        PercentileSketchAccumulator other = new PercentileSketchAccumulator();
+        for (int i = 0; i < count; i++) {
+            values[i] = Math.exp(random.nextGaussian());
+            (i % 2 == 0 ? accumulator : other).add(values[i], PercentileSketchAccumulator.DEFAULT_COMPRESSION);
+        }
+        accumulator.merge(other);
+        Arrays.sort(values);
+
+        for (double percentile : new double[]{1, 50, 95, 99, 99.9}) {
+            int rank = Arrays.binarySearch(values, accumulator.getPercentileValue(percentile));
+            rank = rank < 0 ? -rank - 1 : rank;
+            assertEquals(percentile / 100, rank / (double) count, 0.005);
+        }
+        assertEquals(count, accumulator.count());
+        assertTrue(accumulator.getCentroidCount() <= PercentileSketchAccumulator.DEFAULT_COMPRESSION);
+    }
+
+    @Test
+    public void shouldKeepCentroidsBoundedByCompressionForMillionsOfValues() {
+        for (int compression : new int[]{PercentileSketchAccumulator.MIN_COMPRESSION, PercentileSketchAccumulator.DEFAULT_COMPRESSION, PercentileSketchAccumulator.MAX_COMPRESSION}) {
+            PercentileSketchAccumulator ascending = new PercentileSketchAccumulator();
+            PercentileSketchAccumulator descending = new PercentileSketchAccumulator();
+            for (int i = 0; i < 2000000; i++) {
+                ascending.add(i, compression);
+                descending.add(-i, compression);
+            }
+
+            assertTrue(ascending.getCentroidCount() <= compression);
+            assertTrue(descending.getCentroidCount() <= compression);
+            assertEquals(1990000, ascending.getPercentileValue(99.5), 10);
+            assertEquals(-10000, descending.getPercentileValue(99.5), 10);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowExceptionForInvalidPercentile() {
+        PercentileSketchAccumulator accumulator = new PercentileSketchAccumulator();
+        accumulator.add(1, PercentileSketchAccumulator.DEFAULT_COMPRESSION);
+        accumulator.getPercentileValue(101);
+    }
+
+    @Test
+    public void shouldBeSerializableWithPojoSerializer() throws IOException {
+        PercentileSketchAccumulator accumulator = new PercentileSketchAccumulator();
+        accumulator.setPercentiles(new double[]{50});
+        for (int i = 1; i <= 1000; i++) {
+            accumulator.add(i, PercentileSketchAccumulator.DEFAULT_COMPRESSION);
+        }
+        TypeSerializer<PercentileSketchAccumulator> serializer = PercentileSketchAccumulator.getTypeInformation().createSerializer(new ExecutionConfig());
+        DataOutputSerializer output = new DataOutputSerializer(64);
+
+        serializer.serialize(accumulator, output);
+        PercentileSketchAccumulator deserializedAccumulator = serializer.deserialize(new DataInputDeserializer(output.getCopyOfBuffer()));
+
+        assertEquals(accumulator.getPercentileValue(50), deserializedAccumulator.getPercentileValue(50), 0);
+        assertEquals(1000, deserializedAccumulator.count());
+    }
+}
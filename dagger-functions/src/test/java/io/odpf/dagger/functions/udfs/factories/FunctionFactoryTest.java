@@ -3,6 +3,9 @@ package io.odpf.dagger.functions.udfs.factories;
 import io.odpf.dagger.common.udfs.AggregateUdf;
 import io.odpf.dagger.common.udfs.ScalarUdf;
 import io.odpf.dagger.common.udfs.TableUdf;
+import io.odpf.dagger.functions.udfs.aggregate.ApproxDistinctCount;
+import io.odpf.dagger.functions.udfs.aggregate.ApproxPercentile;
+import io.odpf.dagger.functions.udfs.aggregate.ApproxPercentiles;
 import io.odpf.dagger.functions.udfs.aggregate.CollectArray;
 import io.odpf.dagger.functions.udfs.aggregate.DistinctCount;
 import io.odpf.dagger.functions.udfs.aggregate.Features;
@@ -142,6 +145,9 @@ public class FunctionFactoryTest {
     public void shouldRegisterAggregateUdfs() {
         FunctionFactory functionFactory = new FunctionFactory(streamTableEnvironment, configuration);
         functionFactory.registerFunctions();
+        verify(streamTableEnvironment, times(1)).registerFunction(eq("ApproxDistinctCount"), any(ApproxDistinctCount.class));
+        verify(streamTableEnvironment, times(1)).registerFunction(eq("ApproxPercentile"), any(ApproxPercentile.class));
+        verify(streamTableEnvironment, times(1)).registerFunction(eq("ApproxPercentiles"), any(ApproxPercentiles.class));
         verify(streamTableEnvironment, times(1)).registerFunction(eq("CollectArray"), any(CollectArray.class));
         verify(streamTableEnvironment, times(1)).registerFunction(eq("DistinctCount"), any(DistinctCount.class));
         verify(streamTableEnvironment, times(1)).registerFunction(eq("Features"), any(Features.class));
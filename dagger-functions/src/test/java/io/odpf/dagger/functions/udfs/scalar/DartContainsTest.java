@@ -3,6 +3,7 @@ package io.odpf.dagger.functions.udfs.scalar;
 
 import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
 import io.odpf.dagger.functions.exceptions.TagDoesNotExistException;
+import io.odpf.dagger.functions.udfs.scalar.dart.DartRegistry;
 import io.odpf.dagger.functions.udfs.scalar.dart.store.gcs.GcsDataStore;
 import io.odpf.dagger.functions.udfs.scalar.dart.types.SetCache;
 import org.apache.flink.metrics.Gauge;
@@ -13,6 +14,9 @@ import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static java.util.Collections.singleton;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.*;
@@ -94,7 +98,7 @@ public class DartContainsTest {
     public void shouldInvokeDataSourceWhenExceededRefreshRate() {
         when(dataStore.getSet("someList")).thenReturn(new SetCache(singleton("someField")));
 
-        DartContains dartContains = new DartContains(dataStore);
+        DartContains dartContains = new DartContains(dataStore, new DartRegistry(Runnable::run));
         dartContains.eval("someList", "someField", -1);
         dartContains.eval("someList", "otherField", -1);
 
@@ -188,13 +192,56 @@ public class DartContainsTest {
     public void shouldInvokeDataSourceWhenExceededRefreshRateWithARegex() {
         when(dataStore.getSet("someList")).thenReturn(new SetCache(singleton("someField")));
 
-        DartContains dartContains = new DartContains(dataStore);
+        DartContains dartContains = new DartContains(dataStore, new DartRegistry(Runnable::run));
         dartContains.eval("someList", "someField", ".*%s.*", -1);
         dartContains.eval("someList", "otherField", ".*%s.*", -1);
 
         verify(dataStore, times(2)).getSet("someList");
     }
 
+    @Test
+    public void shouldServeLoadedListWhileReloadingInBackground() {
+        when(dataStore.getSet("someList")).thenReturn(new SetCache(singleton("someField")), new SetCache(singleton("otherField")));
+        List<Runnable> refreshes = new ArrayList<>();
+
+        DartContains dartContains = new DartContains(dataStore, new DartRegistry(refreshes::add));
+        dartContains.eval("someList", "someField", -1);
+
+        assertEquals(true, dartContains.eval("someList", "someField", -1));
+        assertEquals(1, refreshes.size());
+        verify(dataStore, times(1)).getSet("someList");
+
+        refreshes.get(0).run();
+
+        assertEquals(true, dartContains.eval("someList", "otherField", 1));
+        verify(dataStore, times(2)).getSet("someList");
+    }
+
+    @Test
+    public void shouldLoadListOnceForAllInstancesSharingTheRegistry() {
+        when(dataStore.getSet("someList")).thenReturn(new SetCache(singleton("someField")));
+        DartRegistry dartRegistry = new DartRegistry(Runnable::run);
+
+        DartContains dartContains = new DartContains(dataStore, dartRegistry);
+        DartContains otherDartContains = new DartContains(dataStore, dartRegistry);
+        dartContains.eval("someList", "someField", 1);
+        otherDartContains.eval("someList", "someField", 1);
+
+        verify(dataStore, times(1)).getSet("someList");
+    }
+
+    @Test
+    public void shouldReleaseListsOnClose() throws Exception {
+        when(dataStore.getSet("someList")).thenReturn(new SetCache(singleton("someField")));
+        DartRegistry dartRegistry = new DartRegistry(Runnable::run);
+
+        DartContains dartContains = new DartContains(dataStore, dartRegistry);
+        dartContains.eval("someList", "someField", 1);
+        dartContains.close();
+
+        assertEquals(0, dartRegistry.size());
+    }
+
     @Test
     public void shouldRegisterGauge() throws Exception {
         DartContains dartContains = new DartContains(dataStore);
@@ -3,6 +3,7 @@ package io.odpf.dagger.functions.udfs.scalar;
 import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
 import io.odpf.dagger.functions.exceptions.KeyDoesNotExistException;
 import io.odpf.dagger.functions.exceptions.TagDoesNotExistException;
+import io.odpf.dagger.functions.udfs.scalar.dart.DartRegistry;
 import io.odpf.dagger.functions.udfs.scalar.dart.store.gcs.GcsDataStore;
 import io.odpf.dagger.functions.udfs.scalar.dart.types.MapCache;
 import org.apache.flink.metrics.Gauge;
@@ -12,6 +13,9 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static java.util.Collections.singletonMap;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.*;
@@ -123,6 +127,31 @@ public class DartGetTest {
         verify(dataStore, times(1)).getMap("someMap");
     }
 
+    @Test
+    public void shouldReloadExpiredMapWithoutBlockingTheRead() {
+        MapCache mapCache = new MapCache(singletonMap("some-key", "expected-value"));
+        when(dataStore.getMap("someMap")).thenReturn(mapCache);
+        List<Runnable> refreshes = new ArrayList<>();
+
+        DartGet dartGet = new DartGet(dataStore, new DartRegistry(refreshes::add));
+        dartGet.eval("someMap", "some-key", -1);
+
+        assertEquals("expected-value", dartGet.eval("someMap", "some-key", -1));
+        assertEquals(1, refreshes.size());
+        verify(dataStore, times(1)).getMap("someMap");
+    }
+
+    @Test
+    public void shouldLoadMapOnceForAllInstancesSharingTheRegistry() {
+        when(dataStore.getMap("someMap")).thenReturn(new MapCache(singletonMap("some-key", "expected-value")));
+        DartRegistry dartRegistry = new DartRegistry(Runnable::run);
+
+        new DartGet(dataStore, dartRegistry).eval("someMap", "some-key", 1);
+        new DartGet(dataStore, dartRegistry).eval("someMap", "some-key", 1);
+
+        verify(dataStore, times(1)).getMap("someMap");
+    }
+
     @Test
     public void shouldRegisterGauge() throws Exception {
         DartGet dartGet = new DartGet(dataStore);
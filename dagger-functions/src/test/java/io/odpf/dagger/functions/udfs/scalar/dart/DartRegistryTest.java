@@ -0,0 +1,54 @@
+package io.odpf.dagger.functions.udfs.scalar.dart;
+
+import io.odpf.dagger.functions.udfs.scalar.dart.store.gcs.GcsDataStore;
+import io.odpf.dagger.functions.udfs.scalar.dart.types.SetCache;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.function.Supplier;
+
+import static java.util.Collections.singleton;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class DartRegistryTest {
+    private DartRegistry dartRegistry;
+    private Supplier<SetCache> loader = () -> new SetCache(singleton("someField"));
+
+    @Before
+    public void setup() {
+        dartRegistry = new DartRegistry(Runnable::run);
+    }
+
+    @Test
+    public void shouldShareDartOfTheSameStoreAndPath() {
+        SharedDart<SetCache> dart = dartRegistry.acquire(new GcsDataStore("project", "bucket"), "dart-contains/someList", loader);
+        SharedDart<SetCache> otherDart = dartRegistry.acquire(new GcsDataStore("project", "bucket"), "dart-contains/someList", loader);
+
+        assertSame(dart, otherDart);
+        assertEquals(1, dartRegistry.size());
+    }
+
+    @Test
+    public void shouldNotShareDartsOfDifferentStoresOrPaths() {
+        SharedDart<SetCache> dart = dartRegistry.acquire(new GcsDataStore("project", "bucket"), "dart-contains/someList", loader);
+
+        assertNotSame(dart, dartRegistry.acquire(new GcsDataStore("project", "otherBucket"), "dart-contains/someList", loader));
+        assertNotSame(dart, dartRegistry.acquire(new GcsDataStore("project", "bucket"), "dart-contains/otherList", loader));
+        assertEquals(3, dartRegistry.size());
+    }
+
+    @Test
+    public void shouldDropDartOnceAllReferencesAreReleased() {
+        GcsDataStore dataStore = new GcsDataStore("project", "bucket");
+        SharedDart<SetCache> dart = dartRegistry.acquire(dataStore, "dart-contains/someList", loader);
+        dartRegistry.acquire(dataStore, "dart-contains/someList", loader);
+
+        dartRegistry.release(dart);
+        assertEquals(1, dartRegistry.size());
+
+        dartRegistry.release(dart);
+        assertEquals(0, dartRegistry.size());
+    }
+}
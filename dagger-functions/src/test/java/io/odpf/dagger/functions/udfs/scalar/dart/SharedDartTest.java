@@ -0,0 +1,111 @@
+package io.odpf.dagger.functions.udfs.scalar.dart;
+
+import io.odpf.dagger.common.metrics.managers.GaugeStatsManager;
+import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
+import io.odpf.dagger.functions.exceptions.TagDoesNotExistException;
+import io.odpf.dagger.functions.udfs.scalar.dart.types.SetCache;
+import org.apache.flink.metrics.Gauge;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static java.util.Collections.singleton;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class SharedDartTest {
+
+    @Mock
+    private Supplier<SetCache> loader;
+
+    @Mock
+    private GaugeStatsManager gaugeStatsManager;
+
+    @Mock
+    private MeterStatsManager meterStatsManager;
+
+    private List<Runnable> refreshes;
+    private SharedDart<SetCache> sharedDart;
+
+    @Before
+    public void setup() {
+        initMocks(this);
+        refreshes = new ArrayList<>();
+        sharedDart = new SharedDart<>(Arrays.asList("store", "dart-contains/someList"), "dart-contains/someList", loader, refreshes::add);
+    }
+
+    @Test
+    public void shouldLoadOnFirstRead() {
+        SetCache setCache = new SetCache(singleton("someField"));
+        when(loader.get()).thenReturn(setCache);
+
+        assertEquals(setCache, sharedDart.get(1));
+        assertTrue(sharedDart.getLastRefreshTime() > 0);
+        assertTrue(refreshes.isEmpty());
+    }
+
+    @Test
+    public void shouldTriggerASingleBackgroundReloadWhenExpired() {
+        SetCache setCache = new SetCache(singleton("someField"));
+        SetCache reloaded = new SetCache(singleton("otherField"));
+        when(loader.get()).thenReturn(setCache, reloaded);
+        sharedDart.get(-1);
+
+        assertEquals(setCache, sharedDart.get(-1));
+        assertEquals(setCache, sharedDart.get(-1));
+        assertEquals(1, refreshes.size());
+
+        refreshes.get(0).run();
+
+        assertEquals(reloaded, sharedDart.get(1));
+    }
+
+    @Test
+    public void shouldReloadEmptyDart() {
+        when(loader.get()).thenReturn(new SetCache(new HashSet<>()));
+        sharedDart.get(1);
+
+        sharedDart.get(1);
+
+        assertEquals(1, refreshes.size());
+    }
+
+    @Test
+    public void shouldKeepServingLoadedDartWhenReloadFails() {
+        SetCache setCache = new SetCache(singleton("someField"));
+        when(loader.get()).thenReturn(setCache).thenThrow(new TagDoesNotExistException("not found"));
+        sharedDart.registerMetrics(gaugeStatsManager, meterStatsManager);
+        sharedDart.get(-1);
+        sharedDart.get(-1);
+
+        refreshes.get(0).run();
+
+        assertEquals(setCache, sharedDart.get(1));
+        verify(meterStatsManager, times(1)).markEvent(DartAspects.DART_REFRESH_FAILURES);
+    }
+
+    @Test(expected = TagDoesNotExistException.class)
+    public void shouldThrowWhenFirstLoadFails() {
+        when(loader.get()).thenThrow(new TagDoesNotExistException("not found"));
+
+        sharedDart.get(1);
+    }
+
+    @Test
+    public void shouldRegisterLastRefreshTimeAndSizeGauges() {
+        sharedDart.registerMetrics(gaugeStatsManager, meterStatsManager);
+
+        verify(gaugeStatsManager, times(1)).registerGauge(eq("dartpath"), eq("dart-contains/someList"), eq(DartAspects.DART_LAST_REFRESH_TIME.getValue()), any(Gauge.class));
+        verify(gaugeStatsManager, times(1)).registerGauge(eq("dartpath"), eq("dart-contains/someList"), eq(DartAspects.DART_SIZE.getValue()), any(Gauge.class));
+    }
+}
@@ -0,0 +1,130 @@
+package io.odpf.dagger.functions.udfs.scalar.dart.store.local;
+
+import io.odpf.dagger.common.metrics.managers.MeterStatsManager;
+import io.odpf.dagger.functions.exceptions.KeyDoesNotExistException;
+import io.odpf.dagger.functions.exceptions.TagDoesNotExistException;
+import io.odpf.dagger.functions.udfs.scalar.dart.DartAspects;
+import io.odpf.dagger.functions.udfs.scalar.dart.types.MapCache;
+import io.odpf.dagger.functions.udfs.scalar.dart.types.SetCache;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mock;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.verify;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class LocalDataStoreTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Mock
+    private MeterStatsManager meterStatsManager;
+
+    private LocalDataStore localDataStore;
+
+    @Before
+    public void setUp() throws IOException {
+        initMocks(this);
+        temporaryFolder.newFolder("dart-get");
+        temporaryFolder.newFolder("dart-contains");
+        localDataStore = new LocalDataStore(temporaryFolder.getRoot().getPath());
+        localDataStore.setMeterStatsManager(meterStatsManager);
+    }
+
+    @Test
+    public void shouldGetMapFromJsonDart() throws IOException {
+        write("dart-get/someMap", "{ \"key\" : \"value\" }");
+
+        MapCache mapCache = localDataStore.getMap("someMap");
+
+        assertEquals("value", mapCache.get("key"));
+    }
+
+    @Test
+    public void shouldGetSetFromJsonDart() throws IOException {
+        write("dart-contains/someList", "{ \"data\" : [ \"someField\" ] }");
+
+        SetCache setCache = localDataStore.getSet("someList");
+
+        assertEquals(true, setCache.contains("someField"));
+    }
+
+    @Test
+    public void shouldGetMapAndSetFromCompactDarts() throws IOException {
+        Path jsonMap = write("someMap.json", "{ \"key\" : \"value\" }");
+        Path jsonList = write("someList.json", "{ \"data\" : [ \"someField\" ] }");
+        DartConverter.main(new String[]{"get", jsonMap.toString(), temporaryFolder.getRoot().toPath().resolve("dart-get/someMap").toString()});
+        DartConverter.main(new String[]{"contains", jsonList.toString(), temporaryFolder.getRoot().toPath().resolve("dart-contains/someList").toString()});
+
+        MapCache mapCache = localDataStore.getMap("someMap");
+        SetCache setCache = localDataStore.getSet("someList");
+
+        assertEquals("value", mapCache.get("key"));
+        assertEquals(1, mapCache.size());
+        assertEquals(true, setCache.contains("someField"));
+        assertEquals(false, setCache.contains("otherField"));
+        assertEquals(true, setCache.matches("a someField here", ".*%s.*"));
+    }
+
+    @Test(expected = KeyDoesNotExistException.class)
+    public void shouldThrowErrorWhenKeyIsMissingFromCompactDart() throws IOException {
+        Path jsonMap = write("someMap.json", "{ \"key\" : \"value\" }");
+        DartConverter.convertMap(jsonMap, temporaryFolder.getRoot().toPath().resolve("dart-get/someMap"));
+
+        localDataStore.getMap("someMap").get("otherKey");
+    }
+
+    @Test
+    public void shouldMarkFailureWhenCompactDartIsAMapReadAsASet() throws IOException {
+        Path jsonMap = write("someMap.json", "{ \"key\" : \"value\" }");
+        DartConverter.convertMap(jsonMap, temporaryFolder.getRoot().toPath().resolve("dart-contains/someList"));
+
+        try {
+            localDataStore.getSet("someList");
+            fail("expected an UncheckedIOException");
+        } catch (UncheckedIOException e) {
+            verify(meterStatsManager).markEvent(DartAspects.DART_GCS_FETCH_FAILURES);
+        }
+    }
+
+    @Test(expected = TagDoesNotExistException.class)
+    public void shouldThrowErrorWhenDartDoesNotExist() {
+        localDataStore.getSet("nonExistingList");
+    }
+
+    @Test
+    public void shouldMarkFailureWhenDartCanNotBeParsed() throws IOException {
+        write("dart-contains/someList", "not json");
+
+        try {
+            localDataStore.getSet("someList");
+            fail("expected an UncheckedIOException");
+        } catch (UncheckedIOException e) {
+            verify(meterStatsManager).markEvent(DartAspects.DART_GCS_FETCH_FAILURES);
+        }
+    }
+
+    @Test
+    public void shouldBeEqualForTheSamePath() {
+        assertEquals(localDataStore, new LocalDataStore(temporaryFolder.getRoot().getPath()));
+        assertNotEquals(localDataStore, new LocalDataStore("/other/path"));
+    }
+
+    private Path write(String name, String content) throws IOException {
+        Path path = temporaryFolder.getRoot().toPath().resolve(name);
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+        return path;
+    }
+}
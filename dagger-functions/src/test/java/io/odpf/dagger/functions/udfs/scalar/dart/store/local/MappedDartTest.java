@@ -0,0 +1,106 @@
+package io.odpf.dagger.functions.udfs.scalar.dart.store.local;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class MappedDartTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldLookUpEveryKeyOfAMap() throws IOException {
+        Map<String, String> map = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            map.put("key" + i, "value" + i);
+        }
+        map.put("ünïcödé", "välüé");
+        map.put("", "empty");
+        Path path = temporaryFolder.newFile().toPath();
+        MappedDartWriter.writeMap(map, path);
+
+        MappedDart mappedDart = MappedDart.open(path);
+
+        assertTrue(mappedDart.isMap());
+        assertEquals(map.size(), mappedDart.size());
+        map.forEach((key, value) -> assertEquals(value, mappedDart.get(key)));
+        assertNull(mappedDart.get("key1000"));
+        assertEquals(map, mappedDart.asMap());
+    }
+
+    @Test
+    public void shouldLookUpEveryElementOfASet() throws IOException {
+        Set<String> set = new HashSet<>(Arrays.asList("b", "a", "ab", "ba", "😀", "�"));
+        Path path = temporaryFolder.newFile().toPath();
+        MappedDartWriter.writeSet(set, path);
+
+        MappedDart mappedDart = MappedDart.open(path);
+
+        assertFalse(mappedDart.isMap());
+        set.forEach(element -> assertTrue(mappedDart.contains(element)));
+        assertFalse(mappedDart.contains("c"));
+        assertFalse(mappedDart.contains("aa"));
+        assertEquals(set, mappedDart.asSet());
+    }
+
+    @Test
+    public void shouldKeepOpenDartsReadableWhenTheFileIsRewritten() throws IOException {
+        Path path = temporaryFolder.newFile().toPath();
+        MappedDartWriter.writeSet(new HashSet<>(Arrays.asList("a", "b")), path);
+        MappedDart mappedDart = MappedDart.open(path);
+
+        MappedDartWriter.writeSet(new HashSet<>(Arrays.asList("c")), path);
+
+        assertTrue(mappedDart.contains("a"));
+        assertTrue(mappedDart.contains("b"));
+        assertTrue(MappedDart.open(path).contains("c"));
+        assertEquals(1, temporaryFolder.getRoot().list().length);
+    }
+
+    @Test
+    public void shouldHandleEmptyDarts() throws IOException {
+        Path path = temporaryFolder.newFile().toPath();
+        MappedDartWriter.writeSet(new HashSet<>(), path);
+
+        MappedDart mappedDart = MappedDart.open(path);
+
+        assertEquals(0, mappedDart.size());
+        assertFalse(mappedDart.contains("a"));
+        assertTrue(mappedDart.asSet().isEmpty());
+    }
+
+    @Test
+    public void shouldDetectCompactFormat() throws IOException {
+        Path compact = temporaryFolder.newFile().toPath();
+        MappedDartWriter.writeSet(new HashSet<>(Arrays.asList("a")), compact);
+        Path json = temporaryFolder.newFile().toPath();
+        Files.write(json, "{ \"data\" : [ \"a\" ] }".getBytes(StandardCharsets.UTF_8));
+
+        assertTrue(MappedDart.isCompact(compact));
+        assertFalse(MappedDart.isCompact(json));
+    }
+
+    @Test(expected = IOException.class)
+    public void shouldNotOpenFilesInOtherFormats() throws IOException {
+        Path json = temporaryFolder.newFile().toPath();
+        Files.write(json, "{ \"data\" : [ \"a\" ] }".getBytes(StandardCharsets.UTF_8));
+
+        MappedDart.open(json);
+    }
+}
@@ -0,0 +1,45 @@
+package io.odpf.dagger.functions.udfs.scalar.dart.types;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class AhoCorasickTest {
+
+    @Test
+    public void shouldFindKeywordsAnywhereInText() {
+        AhoCorasick automaton = new AhoCorasick(Arrays.asList("he", "she", "his", "hers"));
+
+        assertTrue(automaton.containsAny("ushers"));
+        assertTrue(automaton.containsAny("this"));
+        assertTrue(automaton.containsAny("he"));
+        assertFalse(automaton.containsAny("hi"));
+    }
+
+    @Test
+    public void shouldFollowFailureLinksToShorterKeywords() {
+        AhoCorasick automaton = new AhoCorasick(Arrays.asList("abcd", "bc"));
+
+        assertTrue(automaton.containsAny("abce"));
+        assertFalse(automaton.containsAny("abd"));
+    }
+
+    @Test
+    public void shouldMatchEverythingWithAnEmptyKeyword() {
+        AhoCorasick automaton = new AhoCorasick(Collections.singletonList(""));
+
+        assertTrue(automaton.containsAny(""));
+        assertTrue(automaton.containsAny("anything"));
+    }
+
+    @Test
+    public void shouldMatchNothingWithoutKeywords() {
+        AhoCorasick automaton = new AhoCorasick(Collections.emptyList());
+
+        assertFalse(automaton.containsAny("anything"));
+    }
+}
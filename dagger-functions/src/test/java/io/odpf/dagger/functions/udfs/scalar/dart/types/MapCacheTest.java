@@ -5,6 +5,7 @@ import org.apache.commons.collections.map.SingletonMap;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -54,4 +55,19 @@ public class MapCacheTest {
 
         assertEquals(false, mapCache.hasExpired(1));
     }
+
+    @Test
+    public void shouldExpireContentCachedLongerAgoThanRefreshInterval() {
+        MapCache mapCache = new MapCache(someContent, new Date(System.currentTimeMillis() - 2 * 60 * 60 * 1000L));
+
+        assertEquals(true, mapCache.hasExpired(1));
+        assertEquals(false, mapCache.hasExpired(3));
+    }
+
+    @Test
+    public void shouldReturnSizeOfContent() {
+        MapCache mapCache = new MapCache(someContent);
+
+        assertEquals(1, mapCache.size());
+    }
 }
@@ -51,4 +51,70 @@ public class SetCacheTest {
 
         assertEquals(false, setCache.hasExpired(1));
     }
+
+    @Test
+    public void shouldMatchElementAsWholeField() {
+        SetCache setCache = new SetCache(someContent);
+
+        assertEquals(true, setCache.matches("item1", "%s"));
+        assertEquals(false, setCache.matches("item12", "%s"));
+    }
+
+    @Test
+    public void shouldMatchElementAsPrefix() {
+        SetCache setCache = new SetCache(someContent);
+
+        assertEquals(true, setCache.matches("item2 and more", "%s.*"));
+        assertEquals(false, setCache.matches("an item2", "%s.*"));
+    }
+
+    @Test
+    public void shouldMatchElementAsSuffix() {
+        SetCache setCache = new SetCache(someContent);
+
+        assertEquals(true, setCache.matches("this is item1", ".*%s"));
+        assertEquals(false, setCache.matches("item1 is this", ".*%s"));
+    }
+
+    @Test
+    public void shouldMatchElementAsSubstring() {
+        SetCache setCache = new SetCache(new HashSet<>(Arrays.asList("she", "hers", "his")));
+
+        assertEquals(true, setCache.matches("ushers", ".*%s.*"));
+        assertEquals(true, setCache.matches("this", ".*%s.*"));
+        assertEquals(false, setCache.matches("hero", ".*%s.*"));
+    }
+
+    @Test
+    public void shouldMatchElementsContainingRegexMetacharacters() {
+        SetCache setCache = new SetCache(new HashSet<>(Arrays.asList("item[0-9]+", "a.c")));
+
+        assertEquals(true, setCache.matches("some item42 here", ".*%s.*"));
+        assertEquals(true, setCache.matches("abc", "%s"));
+        assertEquals(false, setCache.matches("some item here", ".*%s.*"));
+    }
+
+    @Test
+    public void shouldMatchWithAnyOtherTemplate() {
+        SetCache setCache = new SetCache(someContent);
+
+        assertEquals(true, setCache.matches("ITEM1", "(?i)%s"));
+        assertEquals(true, setCache.matches("x-item2-y", "[a-z]-%s-[a-z]"));
+        assertEquals(false, setCache.matches("x-item3-y", "[a-z]-%s-[a-z]"));
+    }
+
+    @Test
+    public void shouldNotMatchAcrossLineTerminatorsLikeTheRegex() {
+        SetCache setCache = new SetCache(someContent);
+
+        assertEquals(false, setCache.matches("first line\nitem1", ".*%s.*"));
+        assertEquals(true, setCache.matches("first line\nitem1", "(?s).*%s.*"));
+    }
+
+    @Test
+    public void shouldReturnSizeOfContent() {
+        SetCache setCache = new SetCache(someContent);
+
+        assertEquals(2, setCache.size());
+    }
 }
@@ -0,0 +1,137 @@
+package io.odpf.dagger.integrationtest;
+
+import io.odpf.dagger.common.core.StencilClientOrchestrator;
+import io.odpf.dagger.common.core.StreamInfo;
+import io.odpf.dagger.consumer.TestBookingLogMessage;
+import io.odpf.dagger.core.processors.PostProcessorFactory;
+import io.odpf.dagger.core.processors.telemetry.processor.MetricsTelemetryExporter;
+import io.odpf.dagger.core.processors.types.PostProcessor;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.runtime.testutils.MiniClusterResourceConfiguration;
+import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
+import org.apache.flink.streaming.api.functions.sink.SinkFunction;
+import org.apache.flink.test.util.MiniClusterWithClientResource;
+import org.apache.flink.types.Row;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.odpf.dagger.common.core.Constants.INPUT_STREAMS;
+import static io.odpf.dagger.core.utils.Constants.PROCESSOR_POSTPROCESSOR_CONFIG_KEY;
+import static io.odpf.dagger.core.utils.Constants.PROCESSOR_POSTPROCESSOR_ENABLE_KEY;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ObjectReuseIntegrationTest {
+
+    private StencilClientOrchestrator stencilClientOrchestrator;
+    private MetricsTelemetryExporter telemetryExporter = new MetricsTelemetryExporter();
+    private Configuration configuration = new Configuration();
+
+    @ClassRule
+    public static MiniClusterWithClientResource flinkCluster =
+            new MiniClusterWithClientResource(
+                    new MiniClusterResourceConfiguration.Builder()
+                            .setNumberSlotsPerTaskManager(1)
+                            .setNumberTaskManagers(1)
+                            .build());
+
+    @Before
+    public void setUp() {
+        String streams = "[{\"SOURCE_KAFKA_TOPIC_NAMES\":\"dummy-topic\",\"INPUT_SCHEMA_TABLE\":\"testbooking\",\"INPUT_SCHEMA_PROTO_CLASS\":\"io.odpf.dagger.consumer.TestBookingLogMessage\",\"INPUT_SCHEMA_EVENT_TIMESTAMP_FIELD_INDEX\":\"41\",\"SOURCE_KAFKA_CONSUMER_CONFIG_BOOTSTRAP_SERVERS\":\"localhost:6668\",\"SOURCE_KAFKA_CONSUMER_CONFIG_AUTO_COMMIT_ENABLE\":\"\",\"SOURCE_KAFKA_CONSUMER_CONFIG_AUTO_OFFSET_RESET\":\"latest\",\"SOURCE_KAFKA_CONSUMER_CONFIG_GROUP_ID\":\"test-consumer\",\"SOURCE_KAFKA_NAME\":\"localkafka\"}]";
+
+        configuration.setString(PROCESSOR_POSTPROCESSOR_ENABLE_KEY, "true");
+        configuration.setString(INPUT_STREAMS, streams);
+        configuration.setString("SINK_KAFKA_PROTO_MESSAGE", "io.odpf.dagger.consumer.TestEnrichedBookingLogMessage");
+    }
+
+    @Test
+    public void shouldPostProcessWithObjectReuseWithoutModifyingSharedInputRows() throws Exception {
+        String postProcessorConfigString =
+                "{\n"
+                + "  \"internal_source\": [\n"
+                + "    {\n"
+                + "      \"output_field\": \"booking_log\",\n"
+                + "      \"type\": \"sql\",\n"
+                + "      \"value\": \"booking_log\"\n"
+                + "    },\n"
+                + "    {\n"
+                + "      \"output_field\": \"event_timestamp\",\n"
+                + "      \"type\": \"function\",\n"
+                + "      \"value\": \"CURRENT_TIMESTAMP\"\n"
+                + "    }\n"
+                + "  ],\n"
+                + "  \"transformers\": [\n"
+                + "    {\n"
+                + "      \"transformation_class\": \"io.odpf.dagger.functions.transformers.HashTransformer\",\n"
+                + "      \"transformation_arguments\": {\n"
+                + "        \"maskColumns\": [\"booking_log.order_number\"]\n"
+                + "      }\n"
+                + "    }\n"
+                + "  ]\n"
+                + "}";
+        configuration.setString(PROCESSOR_POSTPROCESSOR_CONFIG_KEY, postProcessorConfigString);
+        stencilClientOrchestrator = new StencilClientOrchestrator(configuration);
+
+        StreamExecutionEnvironment env = StreamExecutionEnvironment.getExecutionEnvironment();
+        env.setParallelism(1);
+        env.getConfig().enableObjectReuse();
+        InputSink.VALUES.clear();
+        OutputSink.VALUES.clear();
+
+        Row bookingLogRow = new Row(TestBookingLogMessage.getDescriptor().getFields().size());
+        bookingLogRow.setField(1, "dummy-order-number");
+        Row inputData = new Row(2);
+        inputData.setField(0, bookingLogRow);
+        inputData.setField(1, "dummy-customer-id");
+
+        DataStream<Row> dataStream = env.fromElements(Row.class, inputData);
+        dataStream.addSink(new InputSink());
+        StreamInfo postProcessedStreamInfo = addPostProcessor(new StreamInfo(dataStream, new String[]{"booking_log", "customer_id"}));
+        postProcessedStreamInfo.getDataStream().addSink(new OutputSink());
+
+        env.execute();
+
+        Row output = OutputSink.VALUES.get(0);
+        assertNotEquals("dummy-order-number", ((Row) output.getField(0)).getField(1));
+        assertTrue(output.getField(1) instanceof Timestamp);
+        Row input = InputSink.VALUES.get(0);
+        assertEquals("dummy-order-number", ((Row) input.getField(0)).getField(1));
+        assertEquals("dummy-customer-id", input.getField(1));
+    }
+
+    private StreamInfo addPostProcessor(StreamInfo streamInfo) {
+        List<PostProcessor> postProcessors = PostProcessorFactory.getPostProcessors(configuration, stencilClientOrchestrator, streamInfo.getColumnNames(), telemetryExporter);
+        StreamInfo postProcessedStream = streamInfo;
+        for (PostProcessor postProcessor : postProcessors) {
+            postProcessedStream = postProcessor.process(postProcessedStream);
+        }
+        return postProcessedStream;
+    }
+
+    private static class InputSink implements SinkFunction<Row> {
+
+        static final List<Row> VALUES = new ArrayList<>();
+
+        @Override
+        public synchronized void invoke(Row inputRow, Context context) {
+            VALUES.add(inputRow);
+        }
+    }
+
+    private static class OutputSink implements SinkFunction<Row> {
+
+        static final List<Row> VALUES = new ArrayList<>();
+
+        @Override
+        public synchronized void invoke(Row inputRow, Context context) {
+            VALUES.add(inputRow);
+        }
+    }
+}